@@ -0,0 +1,81 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.api.FeedbackQuestionsDb;
+
+/**
+ * Script to fill in the {@code questionTextSummary} field of existing feedback questions.
+ *
+ * <p>The field is set whenever a question is created or updated, and is used to list the questions
+ * an instructor can copy. Questions saved before the field was introduced do not have it,
+ * and are not listed until they are saved again.</p>
+ *
+ * <p>This script saves every question again, keeping its last update timestamp.
+ * Running it more than once is harmless.</p>
+ */
+public class DataMigrationForQuestionTextSummaryInFeedbackQuestions
+        extends DataMigrationBaseScript<FeedbackQuestionAttributes> {
+
+    private FeedbackQuestionsDb feedbackQuestionsDb = new FeedbackQuestionsDb();
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForQuestionTextSummaryInFeedbackQuestions().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    protected List<FeedbackQuestionAttributes> getEntities() {
+        return feedbackQuestionsDb.getAllFeedbackQuestions();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(FeedbackQuestionAttributes question) {
+        // whether the summary is stored cannot be seen from the attributes, so every question is saved again
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(FeedbackQuestionAttributes question) {
+        println(question.getIdentificationString() + " -> " + question.getQuestionTextSummary());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(FeedbackQuestionAttributes question)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        feedbackQuestionsDb.updateFeedbackQuestion(question, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+
+}
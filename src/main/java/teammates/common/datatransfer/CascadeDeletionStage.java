@@ -0,0 +1,29 @@
+package teammates.common.datatransfer;
+
+/**
+ * The kinds of entities left behind by a deleted course or feedback question, in the order they are deleted
+ * when the deletion is continued in batches.
+ * <br> A stage serves as the checkpoint from which such a deletion is resumed.
+ */
+public enum CascadeDeletionStage {
+    STUDENTS,
+    FEEDBACK_RESPONSE_COMMENTS,
+    FEEDBACK_RESPONSES,
+    FEEDBACK_QUESTIONS;
+
+    /**
+     * Returns the stage from which a deletion starts.
+     */
+    public static CascadeDeletionStage first() {
+        return values()[0];
+    }
+
+    /**
+     * Returns the stage after this one, or null if this is the last stage.
+     */
+    public CascadeDeletionStage next() {
+        int nextOrdinal = ordinal() + 1;
+        return nextOrdinal < values().length ? values()[nextOrdinal] : null;
+    }
+
+}
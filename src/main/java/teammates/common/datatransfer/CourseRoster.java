@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -64,6 +66,30 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns the students in the team named {@code teamName}, or an empty list if there are none.
+     */
+    public List<StudentAttributes> getStudentsForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = new ArrayList<>();
+        for (StudentAttributes student : studentListByEmail.values()) {
+            if (student.team.equals(teamName)) {
+                teamMembers.add(student);
+            }
+        }
+        return teamMembers;
+    }
+
+    /**
+     * Returns the names of the teams in the course, i.e. of the teams which have students, sorted.
+     */
+    public List<String> getTeamNames() {
+        Set<String> teamNames = new TreeSet<>();
+        for (StudentAttributes student : studentListByEmail.values()) {
+            teamNames.add(student.team);
+        }
+        return new ArrayList<>(teamNames);
+    }
+
     private void populateStudentListByEmail(List<StudentAttributes> students) {
 
         if (students == null) {
@@ -0,0 +1,124 @@
+package teammates.common.datatransfer;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * A lightweight description of a feedback question, enough to list the question without reading its details.
+ * Used to list the questions an instructor can copy.
+ */
+public class FeedbackQuestionSummary {
+
+    /**
+     * The orders in which question summaries can be sorted.
+     * Ties are broken by course, session, question type and question text, in that order.
+     * Question types are sorted by their names as stored, rather than by their display names,
+     * so that the questions of a course can be read from the datastore in the same order.
+     */
+    public enum SortOrder {
+        COURSE(Comparator.comparing(FeedbackQuestionSummary::getCourseId)),
+        SESSION(Comparator.comparing(FeedbackQuestionSummary::getFeedbackSessionName)),
+        TYPE(Comparator.comparing(FeedbackQuestionSummary::getQuestionTypeName)),
+        TEXT(Comparator.comparing(FeedbackQuestionSummary::getQuestionTextSummary));
+
+        private final Comparator<FeedbackQuestionSummary> comparator;
+
+        SortOrder(Comparator<FeedbackQuestionSummary> primaryComparator) {
+            this.comparator = primaryComparator.thenComparing(TIE_BREAKER);
+        }
+
+        public Comparator<FeedbackQuestionSummary> getComparator() {
+            return comparator;
+        }
+
+        /**
+         * Returns the sort order with the given name (case-insensitive), or {@link #COURSE} if there is none.
+         */
+        public static SortOrder fromString(String name) {
+            if (name != null) {
+                for (SortOrder sortOrder : values()) {
+                    if (sortOrder.name().equalsIgnoreCase(name)) {
+                        return sortOrder;
+                    }
+                }
+            }
+            return COURSE;
+        }
+    }
+
+    private static final Comparator<FeedbackQuestionSummary> TIE_BREAKER =
+            Comparator.comparing(FeedbackQuestionSummary::getCourseId)
+                    .thenComparing(FeedbackQuestionSummary::getFeedbackSessionName)
+                    .thenComparing(FeedbackQuestionSummary::getQuestionTypeName)
+                    .thenComparing(FeedbackQuestionSummary::getQuestionTextSummary);
+
+    private static final Map<FeedbackQuestionType, String> QUESTION_TYPE_DISPLAY_NAMES =
+            new EnumMap<>(FeedbackQuestionType.class);
+
+    static {
+        for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+            QUESTION_TYPE_DISPLAY_NAMES.put(questionType,
+                    questionType.getFeedbackQuestionDetailsInstance().getQuestionTypeDisplayName());
+        }
+    }
+
+    private final String feedbackQuestionId;
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final FeedbackQuestionType questionType;
+    private final String questionTextSummary;
+
+    public FeedbackQuestionSummary(String feedbackQuestionId, String courseId, String feedbackSessionName,
+                                   FeedbackQuestionType questionType, String questionTextSummary) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.questionType = questionType;
+        this.questionTextSummary = questionTextSummary == null ? "" : questionTextSummary;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public FeedbackQuestionType getQuestionType() {
+        return questionType;
+    }
+
+    private String getQuestionTypeName() {
+        return questionType.name();
+    }
+
+    public String getQuestionTypeDisplayName() {
+        return QUESTION_TYPE_DISPLAY_NAMES.get(questionType);
+    }
+
+    public String getQuestionTextSummary() {
+        return questionTextSummary;
+    }
+
+    /**
+     * Returns true if the course ID, session name, question type or question text of the question
+     * contains {@code lowerCaseFilter}, ignoring case.
+     *
+     * @param lowerCaseFilter the text to look for, in lower case
+     */
+    public boolean matches(String lowerCaseFilter) {
+        return courseId.toLowerCase().contains(lowerCaseFilter)
+                || feedbackSessionName.toLowerCase().contains(lowerCaseFilter)
+                || getQuestionTypeDisplayName().toLowerCase().contains(lowerCaseFilter)
+                || questionTextSummary.toLowerCase().contains(lowerCaseFilter);
+    }
+
+}
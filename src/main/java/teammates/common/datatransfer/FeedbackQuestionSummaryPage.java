@@ -0,0 +1,34 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+/**
+ * A page of {@link FeedbackQuestionSummary}, with the cursor from which the next page is read.
+ */
+public class FeedbackQuestionSummaryPage {
+
+    private final List<FeedbackQuestionSummary> summaries;
+    private final String nextPageCursor;
+
+    /**
+     * Creates a page of summaries.
+     *
+     * @param nextPageCursor the cursor to read the next page from, or null if this is the last page
+     */
+    public FeedbackQuestionSummaryPage(List<FeedbackQuestionSummary> summaries, String nextPageCursor) {
+        this.summaries = summaries;
+        this.nextPageCursor = nextPageCursor;
+    }
+
+    public List<FeedbackQuestionSummary> getSummaries() {
+        return summaries;
+    }
+
+    /**
+     * Returns the cursor to read the next page from, or null if this is the last page.
+     */
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.Set;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
 
 public class FeedbackSessionQuestionsBundle {
 
@@ -18,12 +19,33 @@ public class FeedbackSessionQuestionsBundle {
     public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseBundle;
     public Map<String, Map<String, String>> recipientList;
 
+    /**
+     * The roster of the course the bundle was assembled from, or null if it was not loaded as a whole.
+     * Can be used to look up recipients without reading them from the database again.
+     */
+    public CourseRoster roster;
+
+    /**
+     * Resolves the options of questions whose options are generated from the roster of the course,
+     * or null if the bundle was not assembled with one.
+     */
+    public FeedbackGeneratedOptionsResolver generatedOptionsResolver;
+
     public FeedbackSessionQuestionsBundle(FeedbackSessionAttributes feedbackSession,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseBundle,
             Map<String, Map<String, String>> recipientList) {
+        this(feedbackSession, questionResponseBundle, recipientList, null, null);
+    }
+
+    public FeedbackSessionQuestionsBundle(FeedbackSessionAttributes feedbackSession,
+            Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseBundle,
+            Map<String, Map<String, String>> recipientList, CourseRoster roster,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         this.feedbackSession = feedbackSession;
         this.questionResponseBundle = questionResponseBundle;
         this.recipientList = recipientList;
+        this.roster = roster;
+        this.generatedOptionsResolver = generatedOptionsResolver;
     }
 
     public Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> getQuestionResponseBundle() {
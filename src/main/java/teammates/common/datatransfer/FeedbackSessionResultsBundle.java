@@ -52,6 +52,9 @@ public class FeedbackSessionResultsBundle {
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
     public boolean isComplete;
 
+    // Key is questionId, value is the largest number of comments on a response to the question
+    private Map<String, Integer> maxResponseCommentCountByQuestion;
+
     /**
      * Responses with identities of giver/recipients NOT hidden.
      * To be used for anonymous result calculation only, and identities hidden before showing to users.
@@ -63,6 +66,10 @@ public class FeedbackSessionResultsBundle {
     public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
     // Key is questionId, value is a map of team name to TeamEvalResult
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
+    // Key is questionId, value is a map of team name to the TeamEvalResult computed for the team
+    public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamResults = new HashMap<>();
+    // Key is questionId, value is the actual responses to the question sorted by giver, recipient and question
+    public Map<String, List<FeedbackResponseAttributes>> contributionQuestionActualResponses = new HashMap<>();
 
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
@@ -1663,6 +1670,32 @@ public class FeedbackSessionResultsBundle {
         return responseComments;
     }
 
+    /**
+     * Returns the number of comments on the response with ID {@code responseId} that are visible to the user.
+     */
+    public int getResponseCommentCount(String responseId) {
+        List<FeedbackResponseCommentAttributes> frcList = responseComments.get(responseId);
+        return frcList == null ? 0 : frcList.size();
+    }
+
+    /**
+     * Returns the largest number of comments visible to the user on a response to the question
+     * with ID {@code questionId}. The counts of all the questions are summarised once, on the first call.
+     */
+    public int getMaxResponseCommentCount(String questionId) {
+        if (maxResponseCommentCountByQuestion == null) {
+            maxResponseCommentCountByQuestion = new HashMap<>();
+            for (FeedbackResponseAttributes response : responses) {
+                int commentCount = getResponseCommentCount(response.getId());
+                if (commentCount > 0) {
+                    maxResponseCommentCountByQuestion.merge(response.feedbackQuestionId, commentCount, Math::max);
+                }
+            }
+        }
+        Integer maxCommentCount = maxResponseCommentCountByQuestion.get(questionId);
+        return maxCommentCount == null ? 0 : maxCommentCount;
+    }
+
     public boolean isComplete() {
         return isComplete;
     }
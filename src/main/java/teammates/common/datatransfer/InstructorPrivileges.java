@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -91,10 +92,27 @@ public final class InstructorPrivileges {
     private static final Set<String> SESSION_LEVEL_ONLY_PRIVILEGES =
             new LinkedHashSet<>(Arrays.asList(SESSION_LEVEL_ONLY_LIST));
 
+    /**
+     * The bit position of each privilege in the privileges compiled to bitsets.
+     */
+    private static final Map<String, Integer> PRIVILEGE_BITS = new HashMap<>();
+
+    static {
+        for (String privilegeName : PRIVILEGES_COOWNER.keySet()) {
+            PRIVILEGE_BITS.put(privilegeName, PRIVILEGE_BITS.size());
+        }
+    }
+
     private Map<String, Boolean> courseLevel;
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /**
+     * The privileges compiled for permission checks, built at the first check after the privileges are
+     * loaded or changed. Not stored, as it is derived from the privileges above.
+     */
+    private transient CompiledPrivileges compiledPrivileges;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<>();
         this.sectionLevel = new LinkedHashMap<>();
@@ -162,6 +180,7 @@ public final class InstructorPrivileges {
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
         defaultPrivileges.forEach((key, value) -> courseLevel.put(key, value));
+        compiledPrivileges = null;
     }
 
     public Map<String, Boolean> getOverallPrivilegesForSections() {
@@ -220,6 +239,7 @@ public final class InstructorPrivileges {
             return;
         }
         this.courseLevel.put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegeInSectionLevel(String sectionName, String privilegeName, boolean isAllowed) {
@@ -228,6 +248,7 @@ public final class InstructorPrivileges {
         }
         this.sectionLevel.computeIfAbsent(sectionName, key -> new LinkedHashMap<>())
                          .put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegeInSessionLevel(String sectionName, String sessionName,
@@ -238,6 +259,7 @@ public final class InstructorPrivileges {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new LinkedHashMap<>())
                                           .put(privilegeName, isAllowed);
+        compiledPrivileges = null;
     }
 
     public void updatePrivileges(String sectionName, Map<String, Boolean> privileges) {
@@ -255,6 +277,7 @@ public final class InstructorPrivileges {
             }
         }
         sectionLevel.put(sectionName, new LinkedHashMap<>(privileges));
+        compiledPrivileges = null;
     }
 
     private void updatePrivilegesInSessionLevel(String sectionName, String sessionName,
@@ -266,23 +289,27 @@ public final class InstructorPrivileges {
         }
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<>(privileges));
+        compiledPrivileges = null;
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
         if (!this.sessionLevel.containsKey(sectionName)) {
             addSectionWithDefaultPrivileges(sectionName);
             this.sessionLevel.put(sectionName, new LinkedHashMap<String, Map<String, Boolean>>());
+            compiledPrivileges = null;
         }
     }
 
     public void addSectionWithDefaultPrivileges(String sectionName) {
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
+        compiledPrivileges = null;
     }
 
     public void addSessionWithDefaultPrivileges(String sectionName, String sessionName) {
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName)
                 .putIfAbsent(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
+        compiledPrivileges = null;
     }
 
     /**
@@ -371,6 +398,7 @@ public final class InstructorPrivileges {
             this.sectionLevel.remove(sectionName);
         }
         this.removeSessionsPrivilegesForSection(sectionName);
+        compiledPrivileges = null;
     }
 
     /**
@@ -380,6 +408,7 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
+        compiledPrivileges = null;
     }
 
     /**
@@ -389,50 +418,40 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
+        compiledPrivileges = null;
     }
 
     private boolean isAllowedInCourseLevel(String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        return this.courseLevel.getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowedInCourseLevel(getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowedInSectionLevel(sectionName, getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).getOrDefault(privilegeName, false);
+        return getCompiledPrivileges().isAllowedInSessionLevel(sectionName, sessionName, getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        return getCompiledPrivileges().isAllowedInSessionLevelAnySection(sessionName, getPrivilegeBit(privilegeName));
+    }
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+    private static int getPrivilegeBit(String privilegeName) {
+        Integer privilegeBit = PRIVILEGE_BITS.get(privilegeName);
 
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+        Assumption.assertNotNull(privilegeBit);
+
+        return 1 << privilegeBit;
+    }
+
+    private CompiledPrivileges getCompiledPrivileges() {
+        CompiledPrivileges compiled = compiledPrivileges;
+        if (compiled == null) {
+            compiled = new CompiledPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiledPrivileges = compiled;
         }
-        return false;
+        return compiled;
     }
 
     /**
@@ -460,6 +479,7 @@ public final class InstructorPrivileges {
                 }
             }
         }
+        compiledPrivileges = null;
     }
 
     public Map<String, Boolean> getCourseLevelPrivileges() {
@@ -510,4 +530,79 @@ public final class InstructorPrivileges {
         return result;
     }
 
+    /**
+     * The privileges compiled to bitsets, in which the bit of each allowed privilege is set,
+     * so that a permission check takes a bit test and at most two map lookups.
+     */
+    private static final class CompiledPrivileges {
+
+        private final int courseLevelBits;
+        private final boolean hasSectionOrSessionLevelPrivileges;
+        private final Map<String, Integer> sectionLevelBits = new HashMap<>();
+        private final Map<String, Map<String, Integer>> sessionLevelBits = new HashMap<>();
+        private final Set<String> specialSections = new LinkedHashSet<>();
+
+        CompiledPrivileges(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+                Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+            courseLevelBits = toBits(courseLevel);
+            hasSectionOrSessionLevelPrivileges = !sectionLevel.isEmpty() || !sessionLevel.isEmpty();
+            sectionLevel.forEach((sectionName, privileges) -> sectionLevelBits.put(sectionName, toBits(privileges)));
+            sessionLevel.forEach((sectionName, sessions) -> {
+                Map<String, Integer> sessionBits = new HashMap<>();
+                sessions.forEach((sessionName, privileges) -> sessionBits.put(sessionName, toBits(privileges)));
+                sessionLevelBits.put(sectionName, sessionBits);
+            });
+            specialSections.addAll(sessionLevel.keySet());
+            specialSections.addAll(sectionLevel.keySet());
+        }
+
+        private static int toBits(Map<String, Boolean> privileges) {
+            int bits = 0;
+            for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+                Integer privilegeBit = PRIVILEGE_BITS.get(privilege.getKey());
+                if (privilegeBit != null && Boolean.TRUE.equals(privilege.getValue())) {
+                    bits |= 1 << privilegeBit;
+                }
+            }
+            return bits;
+        }
+
+        boolean isAllowedInCourseLevel(int privilegeBit) {
+            return (courseLevelBits & privilegeBit) != 0;
+        }
+
+        boolean isAllowedInSectionLevel(String sectionName, int privilegeBit) {
+            if (!hasSectionOrSessionLevelPrivileges) {
+                return isAllowedInCourseLevel(privilegeBit);
+            }
+            Integer bits = sectionLevelBits.get(sectionName);
+            if (bits == null) {
+                return isAllowedInCourseLevel(privilegeBit);
+            }
+            return (bits & privilegeBit) != 0;
+        }
+
+        boolean isAllowedInSessionLevel(String sectionName, String sessionName, int privilegeBit) {
+            if (!hasSectionOrSessionLevelPrivileges) {
+                return isAllowedInCourseLevel(privilegeBit);
+            }
+            Map<String, Integer> sessionBits = sessionLevelBits.get(sectionName);
+            Integer bits = sessionBits == null ? null : sessionBits.get(sessionName);
+            if (bits == null) {
+                return isAllowedInSectionLevel(sectionName, privilegeBit);
+            }
+            return (bits & privilegeBit) != 0;
+        }
+
+        boolean isAllowedInSessionLevelAnySection(String sessionName, int privilegeBit) {
+            for (String sectionName : specialSections) {
+                if (isAllowedInSessionLevel(sectionName, sessionName, privilegeBit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
 }
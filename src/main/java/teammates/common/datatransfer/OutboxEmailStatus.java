@@ -0,0 +1,13 @@
+package teammates.common.datatransfer;
+
+/**
+ * The send status of an email in the email outbox.
+ */
+public enum OutboxEmailStatus {
+    /** The email has not been sent yet. */
+    PENDING,
+    /** The email has been accepted by the email sending service and will not be sent again. */
+    SENT,
+    /** The latest attempt to send the email failed; it is sent again when its task is retried. */
+    FAILED
+}
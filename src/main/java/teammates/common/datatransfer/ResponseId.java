@@ -0,0 +1,106 @@
+package teammates.common.datatransfer;
+
+import teammates.common.util.Assumption;
+
+/**
+ * The ID of a feedback response, made of the question, the giver and the recipient of the response.
+ *
+ * <p>The ID is stored as {@code feedbackQuestionId%giver%recipient}, which is what {@link #toString()} returns
+ * and what {@link #parse(String)} reads. The components are interned, as the same questions, givers and
+ * recipients recur across many responses, and the hash code is computed once.
+ */
+public final class ResponseId {
+
+    private static final char SEPARATOR = '%';
+
+    private final String feedbackQuestionId;
+    private final String giver;
+    private final String recipient;
+    private final String id;
+    private final int hash;
+
+    private ResponseId(String feedbackQuestionId, String giver, String recipient) {
+        this.feedbackQuestionId = feedbackQuestionId.intern();
+        this.giver = giver.intern();
+        this.recipient = recipient.intern();
+        this.id = feedbackQuestionId + SEPARATOR + giver + SEPARATOR + recipient;
+        this.hash = id.hashCode();
+    }
+
+    /**
+     * Returns the ID of the response given by {@code giver} to {@code recipient} for the question.
+     */
+    public static ResponseId of(String feedbackQuestionId, String giver, String recipient) {
+        Assumption.assertNotNull(feedbackQuestionId);
+        Assumption.assertNotNull(giver);
+        Assumption.assertNotNull(recipient);
+        return new ResponseId(feedbackQuestionId, giver, recipient);
+    }
+
+    /**
+     * Reads a response ID stored as {@code feedbackQuestionId%giver%recipient}.
+     *
+     * <p>Question IDs never contain the separator, and recipients may, e.g. {@code %GENERAL%}.
+     * The ID is therefore split at its first two separators, which is ambiguous only for the rare givers
+     * whose email address contains the separator.
+     *
+     * @return null if {@code id} is not a response ID
+     */
+    public static ResponseId parse(String id) {
+        if (id == null) {
+            return null;
+        }
+        int endOfQuestionId = id.indexOf(SEPARATOR);
+        int endOfGiver = endOfQuestionId < 0 ? -1 : id.indexOf(SEPARATOR, endOfQuestionId + 1);
+        if (endOfGiver < 0) {
+            return null;
+        }
+        return new ResponseId(id.substring(0, endOfQuestionId), id.substring(endOfQuestionId + 1, endOfGiver),
+                id.substring(endOfGiver + 1));
+    }
+
+    /**
+     * Returns the ID of the response with the same giver and recipient for another question.
+     */
+    public ResponseId withFeedbackQuestionId(String newFeedbackQuestionId) {
+        return of(newFeedbackQuestionId, giver, recipient);
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getGiver() {
+        return giver;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        ResponseId otherId = (ResponseId) other;
+        return hash == otherId.hash && id.equals(otherId.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the ID as stored, i.e. {@code feedbackQuestionId%giver%recipient}.
+     */
+    @Override
+    public String toString() {
+        return id;
+    }
+
+}
@@ -7,6 +7,11 @@ public class SearchResultBundle {
 
     public int numberOfResults;
 
+    /**
+     * The web-safe cursor to the matching results that were not retrieved, or null if all of them were retrieved.
+     */
+    public String cursor;
+
     protected SearchResultBundle() {
         // prevents instantiation; to be instantiated as children classes
     }
@@ -0,0 +1,172 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.log.AppLogLine;
+import com.google.appengine.api.log.LogService.LogLevel;
+
+/**
+ * Represents the severe logs compiled over a time range.
+ * <br> Identical messages of the same level are aggregated into one {@link SevereLogEntry}
+ * together with their number of occurrences and the time they were first and last seen.
+ * <br> The number of distinct entries kept is bounded; lines that do not fit are only counted.
+ */
+public class SevereLogsCompilation {
+
+    private static final String TRUNCATION_SUFFIX = "... (truncated)";
+
+    private final long startTimeMillis;
+    private final long endTimeMillis;
+    private final int maxDistinctEntries;
+    private final int maxMessageLength;
+
+    private final Map<String, SevereLogEntry> entries = new LinkedHashMap<>();
+
+    private int totalCount;
+    private int omittedCount;
+    private String resumeOffset;
+
+    public SevereLogsCompilation(long startTimeMillis, long endTimeMillis, int maxDistinctEntries, int maxMessageLength) {
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+        this.maxDistinctEntries = maxDistinctEntries;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    /**
+     * Adds {@code logLine} to the compilation, merging it with an existing entry if one with
+     * the same level and message has been added before.
+     */
+    public void add(AppLogLine logLine) {
+        totalCount++;
+
+        String message = truncate(logLine.getLogMessage());
+        String key = logLine.getLogLevel() + "|" + message;
+        long timeMillis = logLine.getTimeUsec() / 1000;
+
+        SevereLogEntry entry = entries.get(key);
+        if (entry != null) {
+            entry.addOccurrence(timeMillis);
+            return;
+        }
+
+        if (entries.size() >= maxDistinctEntries) {
+            omittedCount++;
+            return;
+        }
+
+        entries.put(key, new SevereLogEntry(logLine.getLogLevel(), message, timeMillis));
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return "";
+        }
+        if (message.length() <= maxMessageLength) {
+            return message;
+        }
+        return message.substring(0, maxMessageLength) + TRUNCATION_SUFFIX;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public long getEndTimeMillis() {
+        return endTimeMillis;
+    }
+
+    /**
+     * Returns the total number of severe log lines seen, including those omitted from the entries.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of severe log lines not kept because the limit of distinct entries was reached.
+     */
+    public int getOmittedCount() {
+        return omittedCount;
+    }
+
+    /**
+     * Returns the aggregated entries, ordered by the time they were first seen.
+     */
+    public List<SevereLogEntry> getEntries() {
+        List<SevereLogEntry> sortedEntries = new ArrayList<>(entries.values());
+        sortedEntries.sort(Comparator.comparingLong(SevereLogEntry::getFirstSeenMillis));
+        return sortedEntries;
+    }
+
+    /**
+     * Returns the offset of the next request log to be compiled within the same time range,
+     * or null if the whole time range has been compiled.
+     */
+    public String getResumeOffset() {
+        return resumeOffset;
+    }
+
+    public void setResumeOffset(String resumeOffset) {
+        this.resumeOffset = resumeOffset;
+    }
+
+    public boolean isComplete() {
+        return resumeOffset == null;
+    }
+
+    /**
+     * Represents a group of identical severe log lines.
+     */
+    public static class SevereLogEntry {
+
+        private final LogLevel logLevel;
+        private final String message;
+        private int count;
+        private long firstSeenMillis;
+        private long lastSeenMillis;
+
+        SevereLogEntry(LogLevel logLevel, String message, long timeMillis) {
+            this.logLevel = logLevel;
+            this.message = message;
+            this.count = 1;
+            this.firstSeenMillis = timeMillis;
+            this.lastSeenMillis = timeMillis;
+        }
+
+        void addOccurrence(long timeMillis) {
+            count++;
+            firstSeenMillis = Math.min(firstSeenMillis, timeMillis);
+            lastSeenMillis = Math.max(lastSeenMillis, timeMillis);
+        }
+
+        public LogLevel getLogLevel() {
+            return logLevel;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getFirstSeenMillis() {
+            return firstSeenMillis;
+        }
+
+        public long getLastSeenMillis() {
+            return lastSeenMillis;
+        }
+    }
+
+}
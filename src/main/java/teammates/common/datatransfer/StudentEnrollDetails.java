@@ -29,4 +29,18 @@ public class StudentEnrollDetails {
         this.oldSection = oldSection;
         this.newSection = newSection;
     }
+
+    /**
+     * Returns true if the student has been moved from one team to another.
+     */
+    public boolean isTeamChanged() {
+        return oldTeam != null && newTeam != null && !oldTeam.equals(newTeam);
+    }
+
+    /**
+     * Returns true if the student has been moved from one section to another.
+     */
+    public boolean isSectionChanged() {
+        return oldSection != null && newSection != null && !oldSection.equals(newSection);
+    }
 }
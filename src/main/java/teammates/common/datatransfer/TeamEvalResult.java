@@ -42,55 +42,87 @@ public class TeamEvalResult {
     public TeamEvalResult(int[][] submissionValues) {
         /*This is the only method that should be public. However, many of the
          * other methods are set as public for the ease of testing.
+         *
+         * The peer contribution ratios are normalized and adjusted in place,
+         * so each intermediate value is logged as soon as it is computed.
          */
 
-        log.fine("==================\n" + "starting result calculation for\n"
-                + pointsToString(submissionValues));
+        boolean isLogged = log.isFineLoggable();
+        if (isLogged) {
+            log.fine("==================\n" + "starting result calculation for\n"
+                    + pointsToString(submissionValues));
+        }
 
         claimed = submissionValues;
 
         normalizedClaimed = normalizeValues(claimed);
 
         int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
-                + pointsToString(claimedSanitized));
+        if (isLogged) {
+            log.fine("claimed values sanitized :\n"
+                    + pointsToString(claimedSanitized));
+        }
 
-        double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
-                + pointsToString(claimedSanitizedNormalized));
+        int teamSize = claimedSanitized.length;
+        double[][] peerContributionRatio = new double[teamSize][];
+        for (int i = 0; i < teamSize; i++) {
+            // claimed values sanitized and normalized, then with the self rating removed and normalized again
+            double[] ratios = intToDouble(claimedSanitized[i]);
+            multiplyByFactorInPlace(calculateFactor(ratios), ratios);
+            ratios[i] = NA;
+            multiplyByFactorInPlace(calculateFactor(ratios), ratios);
+            peerContributionRatio[i] = ratios;
+        }
+        if (isLogged) {
+            log.fine("peerContributionRatio as double :\n"
+                    + pointsToString(peerContributionRatio));
+        }
 
-        double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
+        double[] averagePerceivedAsDouble = averageColumns(peerContributionRatio);
+        if (isLogged) {
+            log.fine("averagePerceived as double:\n"
+                    + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
+        }
 
-        double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
-                + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
+        // the factor that normalizes the average perception also adjusts the peer contribution ratios to tally it
+        double factor = calculateFactor(averagePerceivedAsDouble);
 
-        double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
-                + replaceMagicNumbers(Arrays
-                        .toString(normalizedAveragePerceivedAsDouble)));
+        double[] normalizedAveragePerceivedAsDouble = averagePerceivedAsDouble;
+        multiplyByFactorInPlace(factor, normalizedAveragePerceivedAsDouble);
+        if (isLogged) {
+            log.fine("normalizedAveragePerceivedAsDouble as double:\n"
+                    + replaceMagicNumbers(Arrays
+                            .toString(normalizedAveragePerceivedAsDouble)));
+        }
 
-        double[][] normalizedPeerContributionRatioAsDouble =
-                adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
+        for (double[] ratios : peerContributionRatio) {
+            multiplyByFactorInPlace(factor, ratios);
+        }
+        if (isLogged) {
+            log.fine("normalizedPeerContributionRatio as double :\n"
+                    + pointsToString(peerContributionRatio));
+        }
 
-        normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
-                + pointsToString(normalizedPeerContributionRatio));
+        normalizedPeerContributionRatio = doubleToInt(peerContributionRatio);
+        if (isLogged) {
+            log.fine("normalizedUnbiasedClaimed as int :\n"
+                    + pointsToString(normalizedPeerContributionRatio));
+        }
 
         denormalizedAveragePerceived = calculatePerceivedForStudents(
                 claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
-                + pointsToString(denormalizedAveragePerceived));
+        if (isLogged) {
+            log.fine("perceived to students :\n"
+                    + pointsToString(denormalizedAveragePerceived));
+        }
 
         normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
 
-        log.fine("Final result:\n" + this.toString());
+        if (isLogged) {
+            log.fine("Final result:\n" + this.toString());
 
-        log.fine("==================");
+            log.fine("==================");
+        }
     }
 
     /**
@@ -111,27 +143,6 @@ public class TeamEvalResult {
         return output;
     }
 
-    private static double[][] calculatePeerContributionRatio(double[][] input) {
-
-        int teamSize = input.length;
-
-        double[][] selfRatingsRemoved = removeSelfRatings(input);
-
-        double[][] selfRatingRemovedAndNormalized = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            selfRatingRemovedAndNormalized[i] = normalizeValues(selfRatingsRemoved[i]);
-        }
-
-        return selfRatingRemovedAndNormalized;
-    }
-
-    private static double[][] adjustPeerContributionRatioToTallyNormalizedAveragePerceived(
-            double[][] peerContributionRatio) {
-        double[] columnsAveraged = averageColumns(peerContributionRatio);
-        double factor = calculateFactor(columnsAveraged);
-        return multiplyByFactor(factor, peerContributionRatio);
-    }
-
     private int[][] calculatePerceivedForStudents(int[][] claimedSanitized,
             double[] normalizedAveragePerceivedAsDouble) {
         int teamSize = claimedSanitized.length;
@@ -179,6 +190,15 @@ public class TeamEvalResult {
         return true;
     }
 
+    private static boolean isSanitized(double[] array) {
+        for (double value : array) {
+            if (!isSanitized((int) Math.round(value))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean isSanitized(int i) {
         return i != NSB && i != NSU;
     }
@@ -187,27 +207,22 @@ public class TeamEvalResult {
         return value == NA || value == NSU || value == NSB;
     }
 
-    private static double[][] multiplyByFactor(double factor, double[][] input) {
-        int teamSize = input.length;
-        double[][] output = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            output[i] = multiplyByFactor(factor, input[i]);
-        }
+    private static double[] multiplyByFactor(double factor, double[] input) {
+        double[] output = Arrays.copyOf(input, input.length);
+        multiplyByFactorInPlace(factor, output);
         return output;
     }
 
-    private static double[] multiplyByFactor(double factor, double[] input) {
-        int teamSize = input.length;
-        double[] output = new double[teamSize];
-        for (int j = 0; j < teamSize; j++) {
-            double value = input[j];
-            if (isSpecialValue((int) value)) {
-                output[j] = value;
-            } else {
-                output[j] = factor == 0 ? value : value * factor;
+    private static void multiplyByFactorInPlace(double factor, double[] values) {
+        if (factor == 0) {
+            return;
+        }
+        for (int j = 0; j < values.length; j++) {
+            double value = values[j];
+            if (!isSpecialValue((int) value)) {
+                values[j] = value * factor;
             }
         }
-        return output;
     }
 
     public static double[] purgeValuesCorrespondingToSpecialValuesInFilter(
@@ -227,8 +242,9 @@ public class TeamEvalResult {
             return 0;
         }
 
-        verify("Unsanitized value in " + Arrays.toString(input),
-                isSanitized(doubleToInt(input)));
+        if (!isSanitized(input)) {
+            verify("Unsanitized value in " + Arrays.toString(input), false);
+        }
 
         double sum = NA;
         for (double value : input) {
@@ -291,7 +307,9 @@ public class TeamEvalResult {
 
         double idealSum = count * 100.0;
         double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        if (log.isFineLoggable()) {
+            log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        }
         return factor;
     }
 
@@ -333,23 +351,24 @@ public class TeamEvalResult {
         double[] output = new double[input.length];
 
         for (int i = 0; i < input.length; i++) {
-            verify("Unsanitized value in " + Arrays.toString(input[i]),
-                    isSanitized(doubleToInt(input[i])));
+            if (!isSanitized(input[i])) {
+                verify("Unsanitized value in " + Arrays.toString(input[i]), false);
+            }
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
-                + replaceMagicNumbers(Arrays.toString(output)));
+        if (log.isFineLoggable()) {
+            log.fine("Column averages: "
+                    + replaceMagicNumbers(Arrays.toString(output)));
+        }
         return output;
     }
 
     private static double averageColumn(double[][] arrayOfArrays, int columnIndex) {
         double sum = 0;
         int count = 0;
-        StringBuilder values = new StringBuilder();
         for (double[] array : arrayOfArrays) {
             double value = array[columnIndex];
 
-            values.append(value).append(' ');
             if (value == NA) {
                 continue;
             }
@@ -359,8 +378,14 @@ public class TeamEvalResult {
         // omit calculation if no data points
         double average = count == 0 ? NA : (double) (sum / count);
 
-        String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        if (log.isFineLoggable()) {
+            StringBuilder values = new StringBuilder();
+            for (double[] array : arrayOfArrays) {
+                values.append(array[columnIndex]).append(' ');
+            }
+            String logMessage = "Average(" + values.toString().trim() + ") = " + average;
+            log.fine(replaceMagicNumbers(logMessage));
+        }
 
         return average;
     }
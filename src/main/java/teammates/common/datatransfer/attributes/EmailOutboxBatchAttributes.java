@@ -0,0 +1,197 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.EmailOutboxBatch;
+
+/**
+ * The attributes of a batch of emails in the email outbox.
+ *
+ * @see OutboxEmailAttributes
+ */
+public class EmailOutboxBatchAttributes extends EntityAttributes<EmailOutboxBatch> {
+
+    // Required fields
+    private String batchId;
+    private String senderEmail;
+    private int numberOfEmails;
+    private List<Integer> chunkStartPositions;
+
+    // Optional fields
+    private String senderName;
+    private String replyTo;
+    private String description;
+    private Date createdAt;
+
+    EmailOutboxBatchAttributes() {
+        createdAt = new Date();
+    }
+
+    /**
+     * Creates a new EmailOutboxBatchAttributes with default values for optional fields.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code null} for {@code senderName}, {@code replyTo} and {@code description}</li>
+     * <li>the current time for {@code createdAt}</li>
+     * </ul>
+     */
+    public static Builder builder(String batchId, String senderEmail, int numberOfEmails,
+                                  List<Integer> chunkStartPositions) {
+        return new Builder(batchId, senderEmail, numberOfEmails, chunkStartPositions);
+    }
+
+    public static EmailOutboxBatchAttributes valueOf(EmailOutboxBatch batch) {
+        return builder(batch.getBatchId(), batch.getSenderEmail(), batch.getNumberOfEmails(),
+                       batch.getChunkStartPositions())
+                .withSenderName(batch.getSenderName())
+                .withReplyTo(batch.getReplyTo())
+                .withDescription(batch.getDescription())
+                .withCreatedAt(batch.getCreatedAt())
+                .build();
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // the emails are generated by the system and validated when they are generated
+        return new ArrayList<>();
+    }
+
+    @Override
+    public EmailOutboxBatch toEntity() {
+        return new EmailOutboxBatch(batchId, senderEmail, senderName, replyTo, description,
+                                    numberOfEmails, chunkStartPositions, createdAt);
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return batchId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Email Outbox Batch";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Email Outbox Batch";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, EmailOutboxBatchAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the emails are sent as generated, thus must not be changed
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public String getSenderEmail() {
+        return senderEmail;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getReplyTo() {
+        return replyTo;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getNumberOfEmails() {
+        return numberOfEmails;
+    }
+
+    public int getNumberOfChunks() {
+        return chunkStartPositions.size();
+    }
+
+    /**
+     * Returns the position in the batch of the first email of chunk {@code chunk}.
+     */
+    public int getChunkStartPosition(int chunk) {
+        return chunkStartPositions.get(chunk);
+    }
+
+    /**
+     * Returns the position in the batch following the last email of chunk {@code chunk}.
+     */
+    public int getChunkEndPosition(int chunk) {
+        return chunk + 1 < chunkStartPositions.size() ? chunkStartPositions.get(chunk + 1) : numberOfEmails;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getCreatedAtForDisplay() {
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(createdAt);
+        cal = TimeHelper.convertToUserTimeZone(cal, Const.SystemParams.ADMIN_TIME_ZONE_DOUBLE);
+
+        return TimeHelper.formatTime12H(cal.getTime());
+    }
+
+    /**
+     * A Builder class for {@link EmailOutboxBatchAttributes}.
+     */
+    public static class Builder {
+        private final EmailOutboxBatchAttributes batchAttributes;
+
+        public Builder(String batchId, String senderEmail, int numberOfEmails, List<Integer> chunkStartPositions) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, batchId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, senderEmail);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, chunkStartPositions);
+
+            batchAttributes = new EmailOutboxBatchAttributes();
+            batchAttributes.batchId = batchId;
+            batchAttributes.senderEmail = senderEmail;
+            batchAttributes.numberOfEmails = numberOfEmails;
+            batchAttributes.chunkStartPositions = chunkStartPositions;
+        }
+
+        public Builder withSenderName(String senderName) {
+            batchAttributes.senderName = senderName;
+            return this;
+        }
+
+        public Builder withReplyTo(String replyTo) {
+            batchAttributes.replyTo = replyTo;
+            return this;
+        }
+
+        public Builder withDescription(String description) {
+            batchAttributes.description = description;
+            return this;
+        }
+
+        public Builder withCreatedAt(Date createdAt) {
+            if (createdAt != null) {
+                batchAttributes.createdAt = createdAt;
+            }
+            return this;
+        }
+
+        public EmailOutboxBatchAttributes build() {
+            return batchAttributes;
+        }
+    }
+
+}
@@ -17,10 +17,15 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.StringHelper;
 import teammates.storage.entity.FeedbackQuestion;
 
 public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestion>
         implements Comparable<FeedbackQuestionAttributes> {
+
+    /** Maximum length of the question text kept in the summary of a question. */
+    public static final int QUESTION_TEXT_SUMMARY_MAX_LENGTH = 200;
+
     public String feedbackSessionName;
     public String courseId;
     public String creatorEmail;
@@ -43,6 +48,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Date createdAt;
     protected transient Date updatedAt;
     private String feedbackQuestionId;
+    private transient volatile ParsedQuestionDetails parsedQuestionDetails;
 
     public FeedbackQuestionAttributes() {
         // attributes to be set after construction
@@ -76,6 +82,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.courseId = other.getCourseId();
         this.creatorEmail = other.getCreatorEmail();
         this.questionMetaData = other.getQuestionMetaData();
+        this.questionDescription = other.getQuestionDescription();
         this.questionNumber = other.getQuestionNumber();
         this.questionType = other.getQuestionType();
         this.giverType = other.getGiverType();
@@ -114,10 +121,12 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
 
     @Override
     public FeedbackQuestion toEntity() {
-        return new FeedbackQuestion(feedbackSessionName, courseId, creatorEmail,
+        FeedbackQuestion question = new FeedbackQuestion(feedbackSessionName, courseId, creatorEmail,
                                     questionMetaData, questionDescription, questionNumber, questionType, giverType,
                                     recipientType, numberOfEntitiesToGiveFeedbackTo,
                                     showResponsesTo, showGiverNameTo, showRecipientNameTo);
+        question.setQuestionTextSummary(getQuestionTextSummary());
+        return question;
     }
 
     @Override
@@ -553,12 +562,33 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         questionMetaData = new Text(JsonUtils.toJson(questionDetails, getFeedbackQuestionDetailsClass()));
     }
 
+    /**
+     * Returns the question text, truncated to {@link #QUESTION_TEXT_SUMMARY_MAX_LENGTH} characters.
+     * This is stored with the question so that questions can be listed without parsing their details.
+     */
+    public String getQuestionTextSummary() {
+        String questionText = getQuestionDetails().getQuestionText();
+        return questionText == null ? null : StringHelper.truncate(questionText, QUESTION_TEXT_SUMMARY_MAX_LENGTH);
+    }
+
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
+     * The details are parsed once, until {@link #questionMetaData} or {@link #questionType} is changed.
+     * Copies of this question parse their own details, so that no two questions share the same details.
+     * The details should not be modified; use {@link #setQuestionDetails(FeedbackQuestionDetails)} to change them.
      *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        ParsedQuestionDetails parsed = parsedQuestionDetails;
+        if (parsed == null || parsed.questionMetaData != questionMetaData || parsed.questionType != questionType) {
+            parsed = new ParsedQuestionDetails(questionMetaData, questionType, parseQuestionDetails());
+            parsedQuestionDetails = parsed;
+        }
+        return parsed.questionDetails;
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -640,4 +670,22 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         return getQuestionDetails().getQuestionAdditionalInfoHtml(questionNumber, "");
     }
 
+    /**
+     * The details of a question, with the meta data and question type they were parsed from.
+     */
+    private static final class ParsedQuestionDetails {
+
+        private final Text questionMetaData;
+        private final FeedbackQuestionType questionType;
+        private final FeedbackQuestionDetails questionDetails;
+
+        ParsedQuestionDetails(Text questionMetaData, FeedbackQuestionType questionType,
+                FeedbackQuestionDetails questionDetails) {
+            this.questionMetaData = questionMetaData;
+            this.questionType = questionType;
+            this.questionDetails = questionDetails;
+        }
+
+    }
+
 }
@@ -0,0 +1,234 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.OutboxEmail;
+
+/**
+ * The attributes of an email to a single recipient in the email outbox.
+ *
+ * @see EmailOutboxBatchAttributes
+ */
+public class OutboxEmailAttributes extends EntityAttributes<OutboxEmail> {
+
+    // Required fields
+    private String outboxEmailId;
+    private String batchId;
+    private int chunk;
+    private String recipient;
+    private String subject;
+    private String content;
+
+    // Optional fields
+    private String bcc;
+    private OutboxEmailStatus status;
+    private int attempts;
+    private Date updatedAt;
+
+    OutboxEmailAttributes() {
+        status = OutboxEmailStatus.PENDING;
+        updatedAt = new Date();
+    }
+
+    /**
+     * Creates a new OutboxEmailAttributes for the email at {@code position} in the batch {@code batchId},
+     * with the recipient, bcc, subject and content of {@code email}.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code OutboxEmailStatus.PENDING} for {@code status}</li>
+     * <li>{@code 0} for {@code attempts}</li>
+     * <li>the current time for {@code updatedAt}</li>
+     * </ul>
+     */
+    public static Builder builder(String batchId, int position, int chunk, EmailWrapper email) {
+        return new Builder(generateId(batchId, position), batchId, chunk,
+                           email.getRecipient(), email.getSubject(), email.getContent())
+                .withBcc(email.getBcc());
+    }
+
+    public static OutboxEmailAttributes valueOf(OutboxEmail outboxEmail) {
+        return new Builder(outboxEmail.getOutboxEmailId(), outboxEmail.getBatchId(), outboxEmail.getChunk(),
+                           outboxEmail.getRecipient(), outboxEmail.getSubject(),
+                           outboxEmail.getContent() == null ? null : outboxEmail.getContent().getValue())
+                .withBcc(outboxEmail.getBcc())
+                .withStatus(outboxEmail.getStatus())
+                .withAttempts(outboxEmail.getAttempts())
+                .withUpdatedAt(outboxEmail.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Returns the ID of the email at {@code position} in the batch {@code batchId}.
+     */
+    public static String generateId(String batchId, int position) {
+        return batchId + "%" + position;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // the emails are generated by the system and validated when they are generated
+        return new ArrayList<>();
+    }
+
+    @Override
+    public OutboxEmail toEntity() {
+        return new OutboxEmail(outboxEmailId, batchId, chunk, recipient, bcc, subject,
+                               content == null ? null : new Text(content), status, attempts, updatedAt);
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return outboxEmailId + "/" + recipient;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Outbox Email";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Outbox Email";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, OutboxEmailAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the emails are sent as generated, thus must not be changed
+    }
+
+    /**
+     * Returns the email to be sent, with the sender details of its {@code batch}.
+     */
+    public EmailWrapper toEmailWrapper(EmailOutboxBatchAttributes batch) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderEmail(batch.getSenderEmail());
+        email.setSenderName(batch.getSenderName());
+        email.setReplyTo(batch.getReplyTo());
+        email.setRecipient(recipient);
+        email.setBcc(bcc);
+        email.setSubject(subject);
+        email.setContent(content);
+        return email;
+    }
+
+    /**
+     * Records an attempt to send the email.
+     *
+     * @param isSent whether the email was accepted by the email sending service
+     */
+    public void recordSendingAttempt(boolean isSent) {
+        status = isSent ? OutboxEmailStatus.SENT : OutboxEmailStatus.FAILED;
+        attempts++;
+        updatedAt = new Date();
+    }
+
+    public boolean isSent() {
+        return status == OutboxEmailStatus.SENT;
+    }
+
+    public String getOutboxEmailId() {
+        return outboxEmailId;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getBcc() {
+        return bcc;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public OutboxEmailStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * A Builder class for {@link OutboxEmailAttributes}.
+     */
+    public static class Builder {
+        private final OutboxEmailAttributes outboxEmailAttributes;
+
+        public Builder(String outboxEmailId, String batchId, int chunk, String recipient, String subject,
+                       String content) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, outboxEmailId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, batchId);
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, recipient);
+
+            outboxEmailAttributes = new OutboxEmailAttributes();
+            outboxEmailAttributes.outboxEmailId = outboxEmailId;
+            outboxEmailAttributes.batchId = batchId;
+            outboxEmailAttributes.chunk = chunk;
+            outboxEmailAttributes.recipient = recipient;
+            outboxEmailAttributes.subject = subject;
+            outboxEmailAttributes.content = content;
+        }
+
+        public Builder withBcc(String bcc) {
+            outboxEmailAttributes.bcc = bcc;
+            return this;
+        }
+
+        public Builder withStatus(OutboxEmailStatus status) {
+            if (status != null) {
+                outboxEmailAttributes.status = status;
+            }
+            return this;
+        }
+
+        public Builder withAttempts(int attempts) {
+            outboxEmailAttributes.attempts = attempts;
+            return this;
+        }
+
+        public Builder withUpdatedAt(Date updatedAt) {
+            if (updatedAt != null) {
+                outboxEmailAttributes.updatedAt = updatedAt;
+            }
+            return this;
+        }
+
+        public OutboxEmailAttributes build() {
+            return outboxEmailAttributes;
+        }
+    }
+
+}
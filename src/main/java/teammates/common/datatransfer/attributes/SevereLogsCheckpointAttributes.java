@@ -0,0 +1,100 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.SevereLogsCheckpoint;
+
+/**
+ * The position reached by the compilation of severe logs.
+ *
+ * <p>If {@code offset} is null, the whole time range has been compiled. The request logs compiled near the end
+ * of the time range are remembered, as the next compilation reads them again to pick up late log lines.
+ */
+public class SevereLogsCheckpointAttributes extends EntityAttributes<SevereLogsCheckpoint> {
+
+    /** The ID of the one and only checkpoint. */
+    public static final String CHECKPOINT_ID = "severeLogs";
+
+    private final long startTimeMillis;
+    private final long endTimeMillis;
+    private final String offset;
+    private final Map<String, Long> recentRequestEndTimes;
+
+    public SevereLogsCheckpointAttributes(long startTimeMillis, long endTimeMillis, String offset,
+                                          Map<String, Long> recentRequestEndTimes) {
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+        this.offset = offset;
+        this.recentRequestEndTimes = new HashMap<>(recentRequestEndTimes);
+    }
+
+    public static SevereLogsCheckpointAttributes valueOf(SevereLogsCheckpoint checkpoint) {
+        return new SevereLogsCheckpointAttributes(checkpoint.getStartTimeMillis(), checkpoint.getEndTimeMillis(),
+                                                  checkpoint.getOffset(), checkpoint.getRecentRequestEndTimes());
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // the checkpoint is generated by the system
+        return new ArrayList<>();
+    }
+
+    @Override
+    public SevereLogsCheckpoint toEntity() {
+        return new SevereLogsCheckpoint(CHECKPOINT_ID, startTimeMillis, endTimeMillis, offset,
+                                        new HashMap<>(recentRequestEndTimes));
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return CHECKPOINT_ID;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Severe Logs Checkpoint";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Severe Logs Checkpoint";
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, SevereLogsCheckpointAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public long getEndTimeMillis() {
+        return endTimeMillis;
+    }
+
+    public String getOffset() {
+        return offset;
+    }
+
+    public boolean isComplete() {
+        return offset == null;
+    }
+
+    /**
+     * Returns the end times of the request logs compiled near the end of the time range, by request ID.
+     */
+    public Map<String, Long> getRecentRequestEndTimes() {
+        return recentRequestEndTimes;
+    }
+
+}
@@ -112,10 +112,14 @@ public class StudentAttributes extends EntityAttributes<CourseStudent> {
                                            .toString();
     }
 
+    /**
+     * Returns the URL of the thumbnail of the student's profile picture, as shown in lists of students.
+     */
     public String getPublicProfilePictureUrl() {
         return Config.getAppUrl(Const.ActionURIs.STUDENT_PROFILE_PICTURE)
                            .withStudentEmail(StringHelper.encrypt(email))
                            .withCourseId(StringHelper.encrypt(course))
+                           .withProfilePictureVariant(Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL)
                            .toString();
     }
 
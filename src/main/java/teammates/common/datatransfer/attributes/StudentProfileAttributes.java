@@ -28,6 +28,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
     public String gender; // only accepts "male", "female" or "other"
     public String moreInfo;
     public String pictureKey;
+    public String thumbnailKey;
     public Date modifiedDate;
 
     StudentProfileAttributes() {
@@ -40,6 +41,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
         this.gender = "other";
         this.moreInfo = "";
         this.pictureKey = "";
+        this.thumbnailKey = "";
         this.modifiedDate = new Date();
     }
 
@@ -53,6 +55,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(sp.getNationality())
                 .withMoreInfo(sp.getMoreInfo().getValue())
                 .withPictureKey(sp.getPictureKey().getKeyString())
+                .withThumbnailKey(sp.getThumbnailKey().getKeyString())
                 .withModifiedDate(sp.getModifiedDate())
                 .build();
     }
@@ -75,6 +78,7 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
                 .withNationality(nationality)
                 .withMoreInfo(moreInfo)
                 .withPictureKey(pictureKey)
+                .withThumbnailKey(thumbnailKey)
                 .withModifiedDate(modifiedDate)
                 .build();
     }
@@ -144,8 +148,10 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
 
     @Override
     public StudentProfile toEntity() {
-        return new StudentProfile(googleId, shortName, email, institute, nationality, gender,
-                                  new Text(moreInfo), new BlobKey(this.pictureKey));
+        StudentProfile profile = new StudentProfile(googleId, shortName, email, institute, nationality, gender,
+                                                    new Text(moreInfo), new BlobKey(this.pictureKey));
+        profile.setThumbnailKey(new BlobKey(this.thumbnailKey));
+        return profile;
     }
 
     @Override
@@ -233,6 +239,13 @@ public class StudentProfileAttributes extends EntityAttributes<StudentProfile> {
             return this;
         }
 
+        public Builder withThumbnailKey(String thumbnailKey) {
+            if (thumbnailKey != null) {
+                profileAttributes.thumbnailKey = thumbnailKey;
+            }
+            return this;
+        }
+
         public Builder withModifiedDate(Date modifiedDate) {
             profileAttributes.modifiedDate = modifiedDate == null ? new Date() : modifiedDate;
             return this;
@@ -13,6 +13,7 @@ import java.util.TreeMap;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics.Accumulator;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
@@ -61,7 +62,8 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     @Override
     public boolean extractQuestionDetails(
             Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
 
         String distributeToRecipientsString =
                 HttpRequestHelper.getValueFromParamMap(requestParameters,
@@ -160,7 +162,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+            boolean sessionIsOpen, int qnIdx, int responseIdx, FeedbackGeneratedOptionsResolver generatedOptionsResolver,
             int totalNumRecipients,
             FeedbackResponseDetails existingResponseDetails) {
 
@@ -224,7 +226,8 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -391,27 +394,24 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         }
 
         StringBuilder fragments = new StringBuilder();
-        List<String> options = constSumOptions;
 
-        Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
+        FeedbackResponseStatistics optionPoints = aggregateResponseStatistics(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
-        Map<String, List<Integer>> sortedOptionPoints = new TreeMap<>();
+        Map<String, Accumulator> sortedOptionPoints = new TreeMap<>();
 
         Map<String, String> identifierMap = new HashMap<>();
 
         if (distributeToRecipients) {
             putRecipientsInSortedMap(optionPoints, identifierMap, sortedOptionPoints, bundle);
         } else {
-            putOptionsInSortedMap(optionPoints, options, sortedOptionPoints);
+            putOptionsInSortedMap(optionPoints, constSumOptions, sortedOptionPoints);
         }
 
         sortedOptionPoints.forEach((option, points) -> {
 
-            double average = computeAverage(points);
-            int total = computeTotal(points);
-            String pointsReceived = getListOfPointsAsString(points);
+            String pointsReceived = getListOfPointsAsString(points.getSortedValues());
 
             if (distributeToRecipients) {
                 String participantIdentifier = identifierMap.get(option);
@@ -422,15 +422,15 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
                         Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
-                        Slots.CONSTSUM_TOTAL_POINTS, Integer.toString(total),
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_TOTAL_POINTS, Integer.toString((int) points.getSum()),
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(points.getAverage())));
             } else {
 
                 fragments.append(Templates.populateTemplate(FormTemplates.CONSTSUM_RESULT_STATS_OPTIONFRAGMENT,
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(option),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
-                        Slots.CONSTSUM_TOTAL_POINTS, Integer.toString(total),
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_TOTAL_POINTS, Integer.toString((int) points.getSum()),
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(points.getAverage())));
             }
         });
 
@@ -449,24 +449,31 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
+        return getQuestionResultStatisticsCsv(responses, question, bundle, aggregateResponseStatistics(responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(
+            List<FeedbackResponseAttributes> responses,
+            FeedbackQuestionAttributes question,
+            FeedbackSessionResultsBundle bundle,
+            FeedbackResponseStatistics optionPoints) {
         if (responses.isEmpty()) {
             return "";
         }
 
         StringBuilder fragments = new StringBuilder();
-        List<String> options = constSumOptions;
-        Map<String, List<Integer>> optionPoints = generateOptionPointsMapping(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
-        Map<String, List<Integer>> sortedOptionPoints = new TreeMap<>();
+        Map<String, Accumulator> sortedOptionPoints = new TreeMap<>();
 
         Map<String, String> identifierMap = new HashMap<>();
 
         if (distributeToRecipients) {
             putRecipientsInSortedMap(optionPoints, identifierMap, sortedOptionPoints, bundle);
         } else {
-            putOptionsInSortedMap(optionPoints, options, sortedOptionPoints);
+            putOptionsInSortedMap(optionPoints, constSumOptions, sortedOptionPoints);
         }
 
         sortedOptionPoints.forEach((key, points) -> {
@@ -482,13 +489,10 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                 option = SanitizationHelper.sanitizeForCsv(key);
             }
 
-            double average = computeAverage(points);
-            double total = computeTotal(points);
-
             fragments.append(option)
-                    .append(',').append(df.format(average))
-                    .append(',').append(df.format(total))
-                    .append(',').append(StringHelper.join(",", points))
+                    .append(',').append(df.format(points.getAverage()))
+                    .append(',').append(df.format(points.getSum()))
+                    .append(',').append(StringHelper.join(",", points.getValues()))
                     .append(Const.EOL);
 
         });
@@ -501,13 +505,13 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     /**
      * Puts recipients from an unsorted map to a sorted map.
      *
-     * @param recipientMapping      Original map containing recipients
+     * @param recipientMapping      Original statistics of the points received by each recipient
      * @param identifierMap         Helper map to retrieve email from name concatenated with email string
      * @param sortedOptionPoints    Sorted map to contain recipient info, recipient concatenated with email used as key
      */
     private void putRecipientsInSortedMap(
-            Map<String, List<Integer>> recipientMapping, Map<String, String> identifierMap,
-            Map<String, List<Integer>> sortedOptionPoints, FeedbackSessionResultsBundle bundle) {
+            FeedbackResponseStatistics recipientMapping, Map<String, String> identifierMap,
+            Map<String, Accumulator> sortedOptionPoints, FeedbackSessionResultsBundle bundle) {
 
         recipientMapping.forEach((participantIdentifier, value) -> {
             String name = bundle.getNameForEmail(participantIdentifier);
@@ -521,13 +525,13 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     /**
      * Puts options from an unsorted map to a sorted map.
      *
-     * @param optionPoints          Original mapping of option points
+     * @param optionPoints          Original statistics of the points received by each option
      * @param optionList            List of options in question
      * @param sortedOptionPoints    Sorted map of option points
      */
     private void putOptionsInSortedMap(
-            Map<String, List<Integer>> optionPoints, List<String> optionList,
-            Map<String, List<Integer>> sortedOptionPoints) {
+            FeedbackResponseStatistics optionPoints, List<String> optionList,
+            Map<String, Accumulator> sortedOptionPoints) {
 
         optionPoints.forEach((key, value) -> {
             String option = optionList.get(Integer.parseInt(key));
@@ -537,62 +541,43 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of points received for that option.
-     * The key of the map returned is the option name / recipient's participant identifier.
-     * The values of the map are list of points received by the key.
-     * @param responses  a list of responses
+     * Aggregates the points received by each option, or by each recipient if the points are distributed
+     * to recipients. The key of the statistics is the option index / recipient's participant identifier.
      */
-    private Map<String, List<Integer>> generateOptionPointsMapping(
-            List<FeedbackResponseAttributes> responses) {
-
-        Map<String, List<Integer>> optionPoints = new HashMap<>();
+    @Override
+    public FeedbackResponseStatistics aggregateResponseStatistics(List<FeedbackResponseAttributes> responses) {
+        FeedbackResponseStatistics optionPoints = new FeedbackResponseStatistics();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackConstantSumResponseDetails frd = (FeedbackConstantSumResponseDetails) response.getResponseDetails();
+            List<Integer> answers = frd.getAnswerList();
 
-            for (int i = 0; i < frd.getAnswerList().size(); i++) {
+            for (int i = 0; i < answers.size(); i++) {
                 String optionReceivingPoints =
                         distributeToRecipients ? response.recipient : String.valueOf(i);
 
-                int pointsReceived = frd.getAnswerList().get(i);
-                updateOptionPointsMapping(optionPoints, optionReceivingPoints, pointsReceived);
+                optionPoints.accumulatorFor(optionReceivingPoints).addValue(answers.get(i));
             }
         }
         return optionPoints;
     }
 
-    /**
-     * Used to update the OptionPointsMapping for the option optionReceivingPoints.
-     */
-    private void updateOptionPointsMapping(
-            Map<String, List<Integer>> optionPoints,
-            String optionReceivingPoints, int pointsReceived) {
-        List<Integer> points = optionPoints.get(optionReceivingPoints);
-        if (points == null) {
-            points = new ArrayList<>();
-            optionPoints.put(optionReceivingPoints, points);
-        }
-
-        points.add(pointsReceived);
-    }
-
     /**
      * Returns the list of points as as string to display.
      */
-    private String getListOfPointsAsString(List<Integer> points) {
-        points.sort(null);
+    private String getListOfPointsAsString(int[] points) {
         StringBuilder pointsReceived = new StringBuilder();
-        if (points.size() > 10) {
+        if (points.length > 10) {
             for (int i = 0; i < 5; i++) {
-                pointsReceived.append(points.get(i)).append(" , ");
+                pointsReceived.append(points[i]).append(" , ");
             }
             pointsReceived.append("...");
-            for (int i = points.size() - 5; i < points.size(); i++) {
-                pointsReceived.append(" , ").append(points.get(i));
+            for (int i = points.length - 5; i < points.length; i++) {
+                pointsReceived.append(" , ").append(points[i]);
             }
         } else {
-            for (int i = 0; i < points.size(); i++) {
-                pointsReceived.append(points.get(i));
-                if (i != points.size() - 1) {
+            for (int i = 0; i < points.length; i++) {
+                pointsReceived.append(points[i]);
+                if (i != points.length - 1) {
                     pointsReceived.append(" , ");
                 }
             }
@@ -600,18 +585,6 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return pointsReceived.toString();
     }
 
-    private int computeTotal(List<Integer> points) {
-        int total = 0;
-        for (Integer point : points) {
-            total += point;
-        }
-        return total;
-    }
-
-    private double computeAverage(List<Integer> points) {
-        return (double) computeTotal(points) / points.size();
-    }
-
     @Override
     public boolean isChangesRequiresResponseDeletion(
             FeedbackQuestionDetails newDetails) {
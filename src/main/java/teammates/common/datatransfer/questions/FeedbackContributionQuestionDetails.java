@@ -3,6 +3,7 @@ package teammates.common.datatransfer.questions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +47,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     @Override
     public boolean extractQuestionDetails(
             Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         String isNotSureAllowedString = HttpRequestHelper.getValueFromParamMap(
                 requestParameters,
                 Const.ParamsNames.FEEDBACK_QUESTION_CONTRIBISNOTSUREALLOWED);
@@ -78,7 +80,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(boolean sessionIsOpen, int qnIdx,
-            int responseIdx, String courseId, int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
+            int responseIdx, FeedbackGeneratedOptionsResolver generatedOptionsResolver,
+            int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
 
         FeedbackContributionResponseDetails frd = (FeedbackContributionResponseDetails) existingResponseDetails;
         int points = frd.getAnswer();
@@ -96,7 +99,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
 
         String optionSelectHtml = getContributionOptionsHtml(Const.INT_UNINITIALIZED);
 
@@ -192,7 +196,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 teamNames, teamMembersEmail, teamResponses);
 
         //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(question, bundle, teamNames, teamSubmissionArray, teamMembersEmail);
 
         TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
         if (currentUserTeamResults == null) {
@@ -251,7 +256,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 teamNames, teamMembersEmail, teamResponses);
 
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(question, bundle, teamNames, teamSubmissionArray, teamMembersEmail);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -340,7 +346,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 teamNames, teamMembersEmail, teamResponses);
 
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(question, bundle, teamNames, teamSubmissionArray, teamMembersEmail);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -449,7 +456,8 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
                 teamNames, teamMembersEmail, teamResponses);
 
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(question, bundle, teamNames, teamSubmissionArray, teamMembersEmail);
 
         return getStudentResults(teamMembersEmail, teamResults);
     }
@@ -472,7 +480,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
                 teamNames, teamMembersEmail, teamResponses);
 
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        return getTeamResults(question, bundle, teamNames, teamSubmissionArray, teamMembersEmail);
     }
 
     private Map<String, StudentResultSummary> getStudentResults(
@@ -495,13 +503,25 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return studentResults;
     }
 
+    /**
+     * Returns the results of the teams in {@code teamNames}, reusing the results computed for the question
+     * from the same results bundle. The results of a team depend only on the bundle, as the members and
+     * the submissions of the team are all taken from it.
+     */
     @SuppressWarnings("PMD.UnusedPrivateMethod") // false positive by PMD.
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
+    private Map<String, TeamEvalResult> getTeamResults(FeedbackQuestionAttributes question,
+            FeedbackSessionResultsBundle bundle, List<String> teamNames,
             Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
+        Map<String, TeamEvalResult> computedTeamResults =
+                bundle.contributionQuestionTeamResults.computeIfAbsent(question.getId(), questionId -> new HashMap<>());
+
         Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamEvalResult.studentEmails = teamMembersEmail.get(team);
+            TeamEvalResult teamEvalResult = computedTeamResults.computeIfAbsent(team, teamName -> {
+                TeamEvalResult result = new TeamEvalResult(teamSubmissionArray.get(teamName));
+                result.studentEmails = teamMembersEmail.get(teamName);
+                return result;
+            });
             teamResults.put(team, teamEvalResult);
         }
         return teamResults;
@@ -583,17 +603,17 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     private List<FeedbackResponseAttributes> getActualResponses(
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
-        List<FeedbackResponseAttributes> responses;
-        String questionId = question.getId();
-        //Get all actual responses for this question.
-        responses = new ArrayList<>();
-        for (FeedbackResponseAttributes response : bundle.actualResponses) {
-            if (response.feedbackQuestionId.equals(questionId)) {
-                responses.add(response);
+        return bundle.contributionQuestionActualResponses.computeIfAbsent(question.getId(), questionId -> {
+            //Get all actual responses for this question.
+            List<FeedbackResponseAttributes> responses = new ArrayList<>();
+            for (FeedbackResponseAttributes response : bundle.actualResponses) {
+                if (response.feedbackQuestionId.equals(questionId)) {
+                    responses.add(response);
+                }
             }
-        }
-        responses.sort(bundle.compareByGiverRecipientQuestion);
-        return responses;
+            responses.sort(bundle.compareByGiverRecipientQuestion);
+            return responses;
+        });
     }
 
     private static String getNormalizedPointsListColorizedDescending(int[] subs, int index) {
@@ -0,0 +1,107 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+
+/**
+ * Resolves the options of questions whose options are generated from the roster of a course,
+ * i.e. from its students, teams or instructors.
+ *
+ * <p>The roster is supplied by the caller, and is only loaded when options generated from it are first needed.
+ * The students and instructors are loaded at most once, and the sorted options for each participant type
+ * are computed only once, no matter how many questions and response boxes use them.
+ * A resolver should therefore not outlive the request it is created for, so that later changes
+ * to the roster are not missed.
+ */
+public final class FeedbackGeneratedOptionsResolver {
+
+    private final Supplier<List<StudentAttributes>> studentsLoader;
+    private final Supplier<List<InstructorAttributes>> instructorsLoader;
+
+    private List<StudentAttributes> students;
+    private List<InstructorAttributes> instructors;
+    private final Map<FeedbackParticipantType, List<String>> optionsByType = new EnumMap<>(FeedbackParticipantType.class);
+
+    /**
+     * Creates a resolver for a course.
+     *
+     * @param studentsLoader loads the students of the course
+     * @param instructorsLoader loads the instructors of the course
+     */
+    public FeedbackGeneratedOptionsResolver(Supplier<List<StudentAttributes>> studentsLoader,
+                                            Supplier<List<InstructorAttributes>> instructorsLoader) {
+        Assumption.assertNotNull(studentsLoader);
+        Assumption.assertNotNull(instructorsLoader);
+        this.studentsLoader = studentsLoader;
+        this.instructorsLoader = instructorsLoader;
+    }
+
+    /**
+     * Returns the sorted options generated for {@code participantType}.
+     * The returned list is not modifiable.
+     */
+    public List<String> getOptions(FeedbackParticipantType participantType) {
+        List<String> options = optionsByType.get(participantType);
+        if (options == null) {
+            options = Collections.unmodifiableList(generateOptions(participantType));
+            optionsByType.put(participantType, options);
+        }
+        return options;
+    }
+
+    private List<String> generateOptions(FeedbackParticipantType participantType) {
+        List<String> options = new ArrayList<>();
+
+        switch (participantType) {
+        case STUDENTS:
+            for (StudentAttributes student : getStudents()) {
+                options.add(student.name + " (" + student.team + ")");
+            }
+            break;
+        case TEAMS:
+            // the teams of a course are exactly those which have students
+            TreeSet<String> teamNames = new TreeSet<>();
+            for (StudentAttributes student : getStudents()) {
+                teamNames.add(student.team);
+            }
+            options.addAll(teamNames);
+            break;
+        case INSTRUCTORS:
+            for (InstructorAttributes instructor : getInstructors()) {
+                options.add(instructor.name);
+            }
+            break;
+        default:
+            Assumption.fail("Trying to generate options for neither students, teams nor instructors");
+            break;
+        }
+
+        options.sort(null);
+        return options;
+    }
+
+    private List<StudentAttributes> getStudents() {
+        if (students == null) {
+            students = studentsLoader.get();
+        }
+        return students;
+    }
+
+    private List<InstructorAttributes> getInstructors() {
+        if (instructors == null) {
+            instructors = instructorsLoader.get();
+        }
+        return instructors;
+    }
+
+}
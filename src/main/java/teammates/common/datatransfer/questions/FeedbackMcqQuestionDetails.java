@@ -10,12 +10,8 @@ import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
-import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
@@ -23,9 +19,6 @@ import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
-import teammates.logic.core.CoursesLogic;
-import teammates.logic.core.InstructorsLogic;
-import teammates.logic.core.StudentsLogic;
 import teammates.ui.template.InstructorFeedbackResultsResponseRow;
 
 public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
@@ -63,7 +56,8 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
     @Override
     public boolean extractQuestionDetails(
             Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
 
         int numOfMcqChoices = 0;
         List<String> mcqChoices = new LinkedList<>();
@@ -149,9 +143,10 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(boolean sessionIsOpen, int qnIdx,
-            int responseIdx, String courseId, int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
+            int responseIdx, FeedbackGeneratedOptionsResolver generatedOptionsResolver,
+            int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
         FeedbackMcqResponseDetails existingMcqResponse = (FeedbackMcqResponseDetails) existingResponseDetails;
-        List<String> choices = generateOptionList(courseId);
+        List<String> choices = generateOptionList(generatedOptionsResolver);
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -193,8 +188,9 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
-        List<String> choices = generateOptionList(courseId);
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
+        List<String> choices = generateOptionList(generatedOptionsResolver);
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -233,51 +229,12 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
                 Slots.MCQ_SUBMISSION_FORM_OPTION_FRAGMENTS, optionListHtml.toString());
     }
 
-    private List<String> generateOptionList(String courseId) {
-        List<String> optionList = new ArrayList<>();
-
-        switch (generateOptionsFor) {
-        case NONE:
-            optionList = mcqChoices;
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentList = StudentsLogic.inst().getStudentsForCourse(courseId);
-
-            for (StudentAttributes student : studentList) {
-                optionList.add(student.name + " (" + student.team + ")");
-            }
-
-            optionList.sort(null);
-            break;
-        case TEAMS:
-            try {
-                List<TeamDetailsBundle> teamList = CoursesLogic.inst().getTeamsForCourse(courseId);
-
-                for (TeamDetailsBundle team : teamList) {
-                    optionList.add(team.name);
-                }
-
-                optionList.sort(null);
-            } catch (EntityDoesNotExistException e) {
-                Assumption.fail("Course disappeared");
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorList =
-                    InstructorsLogic.inst().getInstructorsForCourse(courseId);
-
-            for (InstructorAttributes instructor : instructorList) {
-                optionList.add(instructor.name);
-            }
-
-            optionList.sort(null);
-            break;
-        default:
-            Assumption.fail("Trying to generate options for neither students, teams nor instructors");
-            break;
+    private List<String> generateOptionList(FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
+        if (generateOptionsFor == FeedbackParticipantType.NONE) {
+            return mcqChoices;
         }
-
-        return optionList;
+        Assumption.assertNotNull("Generated options need to be resolved", generatedOptionsResolver);
+        return generatedOptionsResolver.getOptions(generateOptionsFor);
     }
 
     @Override
@@ -10,12 +10,8 @@ import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
-import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
@@ -24,9 +20,6 @@ import teammates.common.util.StringHelper;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
-import teammates.logic.core.CoursesLogic;
-import teammates.logic.core.InstructorsLogic;
-import teammates.logic.core.StudentsLogic;
 import teammates.ui.template.InstructorFeedbackResultsResponseRow;
 
 public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
@@ -51,7 +44,8 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
     @Override
     public boolean extractQuestionDetails(
             Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         int numOfMsqChoices = 0;
         List<String> msqChoices = new LinkedList<>();
         boolean msqOtherEnabled = false;
@@ -103,8 +97,7 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
 
             setMsqQuestionDetails(numOfMsqChoices, msqChoices, msqOtherEnabled);
         } else {
-            String courseId = HttpRequestHelper.getValueFromParamMap(requestParameters, Const.ParamsNames.COURSE_ID);
-            setMsqQuestionDetails(FeedbackParticipantType.valueOf(generatedMsqOptions), courseId);
+            setMsqQuestionDetails(FeedbackParticipantType.valueOf(generatedMsqOptions), generatedOptionsResolver);
         }
         return true;
     }
@@ -116,11 +109,12 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         this.generateOptionsFor = FeedbackParticipantType.NONE;
     }
 
-    private void setMsqQuestionDetails(FeedbackParticipantType generateOptionsFor, String courseId) {
+    private void setMsqQuestionDetails(FeedbackParticipantType generateOptionsFor,
+                                       FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         this.msqChoices = new ArrayList<>();
         this.otherEnabled = false;
         this.generateOptionsFor = generateOptionsFor;
-        this.numOfMsqChoices = generateOptionList(courseId).size();
+        this.numOfMsqChoices = generateOptionList(generatedOptionsResolver).size();
         Assumption.assertTrue("Can only generate students, teams or instructors",
                 generateOptionsFor == FeedbackParticipantType.STUDENTS
                 || generateOptionsFor == FeedbackParticipantType.TEAMS
@@ -182,10 +176,10 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+            boolean sessionIsOpen, int qnIdx, int responseIdx, FeedbackGeneratedOptionsResolver generatedOptionsResolver,
             int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
         FeedbackMsqResponseDetails existingMsqResponse = (FeedbackMsqResponseDetails) existingResponseDetails;
-        List<String> choices = generateOptionList(courseId);
+        List<String> choices = generateOptionList(generatedOptionsResolver);
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.MSQ_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -258,8 +252,9 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
-        List<String> choices = generateOptionList(courseId);
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
+        List<String> choices = generateOptionList(generatedOptionsResolver);
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.MSQ_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -328,54 +323,12 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
                         isMinSelectableChoicesEnabled ? Integer.toString(minSelectableChoices) : "-1");
     }
 
-    private List<String> generateOptionList(String courseId) {
-        List<String> optionList = new ArrayList<>();
-
-        switch (generateOptionsFor) {
-        case NONE:
-            optionList = msqChoices;
-            break;
-        case STUDENTS:
-            List<StudentAttributes> studentList =
-                    StudentsLogic.inst().getStudentsForCourse(courseId);
-
-            for (StudentAttributes student : studentList) {
-                optionList.add(student.name + " (" + student.team + ")");
-            }
-
-            optionList.sort(null);
-            break;
-        case TEAMS:
-            try {
-                List<TeamDetailsBundle> teamList =
-                        CoursesLogic.inst().getTeamsForCourse(courseId);
-
-                for (TeamDetailsBundle team : teamList) {
-                    optionList.add(team.name);
-                }
-
-                optionList.sort(null);
-            } catch (EntityDoesNotExistException e) {
-                Assumption.fail("Course disappeared");
-            }
-            break;
-        case INSTRUCTORS:
-            List<InstructorAttributes> instructorList =
-                    InstructorsLogic.inst().getInstructorsForCourse(
-                            courseId);
-
-            for (InstructorAttributes instructor : instructorList) {
-                optionList.add(instructor.name);
-            }
-
-            optionList.sort(null);
-            break;
-        default:
-            Assumption.fail("Trying to generate options for neither students, teams nor instructors");
-            break;
+    private List<String> generateOptionList(FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
+        if (generateOptionsFor == FeedbackParticipantType.NONE) {
+            return msqChoices;
         }
-
-        return optionList;
+        Assumption.assertNotNull("Generated options need to be resolved", generatedOptionsResolver);
+        return generatedOptionsResolver.getOptions(generateOptionsFor);
     }
 
     @Override
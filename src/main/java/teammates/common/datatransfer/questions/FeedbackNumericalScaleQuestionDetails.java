@@ -4,7 +4,6 @@ import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,6 +12,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics.Accumulator;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
@@ -44,7 +44,8 @@ public class FeedbackNumericalScaleQuestionDetails extends
     @Override
     public boolean extractQuestionDetails(
             Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
 
         String minScaleString =
                 HttpRequestHelper.getValueFromParamMap(requestParameters,
@@ -82,7 +83,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+            boolean sessionIsOpen, int qnIdx, int responseIdx, FeedbackGeneratedOptionsResolver generatedOptionsResolver,
             int totalNumRecipients, FeedbackResponseDetails existingResponseDetails) {
         FeedbackNumericalScaleResponseDetails numscaleResponseDetails =
                 (FeedbackNumericalScaleResponseDetails) existingResponseDetails;
@@ -105,7 +106,8 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
         return Templates.populateTemplate(
                 FormTemplates.NUMSCALE_SUBMISSION_FORM,
                 Slots.QUESTION_INDEX, Integer.toString(qnIdx),
@@ -184,22 +186,12 @@ public class FeedbackNumericalScaleQuestionDetails extends
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        FeedbackResponseStatistics statistics = aggregateResponseStatistics(responses);
 
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -212,15 +204,15 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
         StringBuilder fragmentHtml = new StringBuilder();
 
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getKeys()) {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            Double userAverageExcludingSelf = averageExcludingSelf.get(recipient);
+            Accumulator scores = statistics.get(recipient);
             String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, userAverageExcludingSelf);
+                    getAverageExcludingSelfText(showAvgExcludingSelf, df, scores.getAverageExcludingSelf());
 
             String recipientName = recipient.equals(Const.GENERAL_QUESTION) ? "General" : bundle.getNameForEmail(recipient);
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
@@ -229,9 +221,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
                                     fragmentTemplateToUse,
                                     Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
                                     Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                                    Slots.AVERAGE, df.format(average.get(recipient)),
-                                    Slots.MAX, df.format(max.get(recipient)),
-                                    Slots.MIN, df.format(min.get(recipient)),
+                                    Slots.AVERAGE, df.format(scores.getAverage()),
+                                    Slots.MAX, df.format(scores.getMax()),
+                                    Slots.MIN, df.format(scores.getMin()),
                                     Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
         }
 
@@ -253,21 +245,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
             List<FeedbackResponseAttributes> responses, String studentEmail,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        FeedbackResponseStatistics statistics = aggregateResponseStatistics(responses);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         String fragmentTemplateToUse = showAvgExcludingSelf
                                      ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
@@ -284,11 +266,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
         boolean isRecipientTypeStudent = !isRecipientTypeGeneral && !isRecipientTypeTeam;
 
         String currentUserTeam = bundle.getTeamNameForEmail(studentEmail);
-        String currentUserIdentifier = getCurrentUserIdentifier(numResponses,
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics,
                                                                 isRecipientTypeStudent, studentEmail,
                                                                 isRecipientTypeTeam, currentUserTeam);
 
-        Set<String> recipientSet = numResponses.keySet();
+        Set<String> recipientSet = statistics.getKeys();
         ArrayList<String> recipientList = new ArrayList<>();
 
         boolean hasCurrentUserReceivedAnyResponse = recipientSet.contains(currentUserIdentifier);
@@ -321,16 +303,16 @@ public class FeedbackNumericalScaleQuestionDetails extends
             boolean isRecipientGeneral = recipient.equalsIgnoreCase(Const.GENERAL_QUESTION);
 
             recipientName = getDisplayableRecipientName(isHiddenRecipient,
-                            isRecipientCurrentUser, hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                            isRecipientCurrentUser, hasAtLeastTwoResponses(statistics, currentUserIdentifier),
                             isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser(
-                                                            numResponses, currentUserIdentifier, hiddenRecipients),
+                                                            statistics, currentUserIdentifier, hiddenRecipients),
                             isRecipientGeneral, bundle.getNameForEmail(recipient), currentUserTeam);
 
             recipientTeam = getDisplayableRecipientTeam(isHiddenRecipient,
                                                         isRecipientCurrentUser,
-                                                        hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                                                        hasAtLeastTwoResponses(statistics, currentUserIdentifier),
                                                         isRecipientTypeStudent,
-                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses,
+                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(statistics,
                                                                                                    currentUserIdentifier,
                                                                                                    hiddenRecipients),
                                                         bundle.getTeamNameForEmail(recipient), currentUserTeam);
@@ -346,10 +328,11 @@ public class FeedbackNumericalScaleQuestionDetails extends
                 continue;
             }
 
-            minScore = min.get(recipient);
-            maxScore = max.get(recipient);
-            averageScore = average.get(recipient);
-            averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+            Accumulator scores = statistics.get(recipient);
+            minScore = scores.getMin();
+            maxScore = scores.getMax();
+            averageScore = scores.getAverage();
+            averageScoreExcludingSelf = scores.getAverageExcludingSelf();
 
             String averageScoreExcludingSelfText =
                     getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
@@ -372,7 +355,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
         String statsTitle = getStatsTitle(
                 isRecipientTypeGeneral, isRecipientTypeTeam,
-                hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients));
         String templateToUse = showAvgExcludingSelf
                              ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
                              : FormTemplates.NUMSCALE_RESULT_STATS;
@@ -415,28 +398,26 @@ public class FeedbackNumericalScaleQuestionDetails extends
         return null;
     }
 
-    private String getCurrentUserIdentifier(Map<String, Integer> numResponses,
+    private String getCurrentUserIdentifier(FeedbackResponseStatistics statistics,
             boolean isRecipientStudent, String currentUserEmail,
             boolean isRecipientTeam, String currentUserTeam) {
 
-        if (isRecipientStudent && numResponses.containsKey(currentUserEmail)
-                && numResponses.get(currentUserEmail) >= 1) {
+        if (isRecipientStudent && statistics.get(currentUserEmail) != null) {
             return currentUserEmail;
-        } else if (isRecipientTeam && numResponses.containsKey(currentUserTeam)
-                   && numResponses.get(currentUserTeam) >= 1) {
+        } else if (isRecipientTeam && statistics.get(currentUserTeam) != null) {
             return currentUserTeam;
         } else {
             return "";
         }
     }
 
-    private boolean hasAtLeastTwoResponses(Map<String, Integer> numResponses,
+    private boolean hasAtLeastTwoResponses(FeedbackResponseStatistics statistics,
             String recipient) {
-        if (numResponses == null) {
+        if (statistics == null) {
             return false;
         }
-        Integer numOfResponses = numResponses.get(recipient);
-        return numOfResponses != null && numOfResponses >= 2;
+        Accumulator scores = statistics.get(recipient);
+        return scores != null && scores.getCount() >= 2;
     }
 
     private String getAverageExcludingSelfText(boolean showAvgExcludingSelf, DecimalFormat df, Double averageExcludingSelf) {
@@ -452,26 +433,23 @@ public class FeedbackNumericalScaleQuestionDetails extends
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
+        return getQuestionResultStatisticsCsv(responses, question, bundle, aggregateResponseStatistics(responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(
+            List<FeedbackResponseAttributes> responses,
+            FeedbackQuestionAttributes question,
+            FeedbackSessionResultsBundle bundle,
+            FeedbackResponseStatistics statistics) {
         if (responses.isEmpty()) {
             return "";
         }
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
         List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
-
-        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
+        boolean showAvgExcludingSelf = showAverageExcludingSelf(question, statistics);
 
         DecimalFormat df = new DecimalFormat();
         df.setMinimumFractionDigits(0);
@@ -483,7 +461,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
                          + Const.EOL;
 
         StringBuilder csvBody = new StringBuilder();
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getKeys()) {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
@@ -492,18 +470,18 @@ public class FeedbackNumericalScaleQuestionDetails extends
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
             boolean isRecipientGeneral = recipient.equals(Const.GENERAL_QUESTION);
 
-            Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
+            Accumulator scores = statistics.get(recipient);
             String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(showAvgExcludingSelf, df, averageScoreExcludingSelf);
+                    getAverageExcludingSelfText(showAvgExcludingSelf, df, scores.getAverageExcludingSelf());
 
             csvBody.append(SanitizationHelper.sanitizeForCsv(recipientTeam) + ','
                            + SanitizationHelper.sanitizeForCsv(isRecipientGeneral
                                                       ? "General"
                                                       : bundle.getNameForEmail(recipient))
                            + ','
-                           + df.format(average.get(recipient)) + ','
-                           + df.format(min.get(recipient)) + ','
-                           + df.format(max.get(recipient))
+                           + df.format(scores.getAverage()) + ','
+                           + df.format(scores.getMin()) + ','
+                           + df.format(scores.getMax())
                            + (showAvgExcludingSelf ? ',' + averageScoreExcludingSelfText : "")
                            + Const.EOL);
         }
@@ -512,7 +490,7 @@ public class FeedbackNumericalScaleQuestionDetails extends
     }
 
     private boolean showAverageExcludingSelf(
-            FeedbackQuestionAttributes question, Map<String, Double> averageExcludingSelf) {
+            FeedbackQuestionAttributes question, FeedbackResponseStatistics statistics) {
 
         if (question.recipientType == FeedbackParticipantType.NONE) {
             // General recipient type would not give self response
@@ -520,77 +498,34 @@ public class FeedbackNumericalScaleQuestionDetails extends
             return false;
         }
 
-        for (Double average : averageExcludingSelf.values()) {
+        for (String recipient : statistics.getKeys()) {
             // There exists at least one average score exclude self
-            if (average != null) {
+            if (statistics.get(recipient).getAverageExcludingSelf() != null) {
                 return true;
             }
         }
         return false;
     }
 
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
-            Map<String, Double> min, Map<String, Double> max,
-            Map<String, Double> average, Map<String, Double> averageExcludingSelf,
-            Map<String, Double> total, Map<String, Double> totalExcludingSelf,
-            Map<String, Integer> numResponses,
-            Map<String, Integer> numResponsesExcludingSelf) {
-
+    /**
+     * Aggregates the scores received by each recipient, including and excluding self responses.
+     */
+    @Override
+    public FeedbackResponseStatistics aggregateResponseStatistics(List<FeedbackResponseAttributes> responses) {
+        FeedbackResponseStatistics statistics = new FeedbackResponseStatistics();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackNumericalScaleResponseDetails responseDetails =
                     (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
             double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
-
-            // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
-            numResponses.put(recipientEmail, numOfResponses);
-
-            // Compute number of responses excluding user's self response
-            numResponsesExcludingSelf.putIfAbsent(recipientEmail, 0);
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
-            if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.get(recipientEmail) + 1;
-                numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
-            }
-
-            // Compute minimum score received
-            double minScoreReceived = Math.min(answer, min.getOrDefault(recipientEmail, answer));
-            min.put(recipientEmail, minScoreReceived);
-
-            // Compute maximum score received
-            double maxScoreReceived = Math.max(answer, max.getOrDefault(recipientEmail, answer));
-            max.put(recipientEmail, maxScoreReceived);
-
-            // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
-            total.put(recipientEmail, totalScore);
-
-            // Compute total score received excluding self
-            totalExcludingSelf.putIfAbsent(recipientEmail, null);
 
+            Accumulator scores = statistics.accumulatorFor(response.recipient);
+            scores.add(answer);
+            boolean isSelfResponse = response.giver.equalsIgnoreCase(response.recipient);
             if (!isSelfResponse) {
-                Double totalScoreExcludingSelf = totalExcludingSelf.get(recipientEmail);
-
-                // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
-            }
-
-            // Compute average score received
-            double averageReceived = total.get(recipientEmail) / numResponses.get(recipientEmail);
-            average.put(recipientEmail, averageReceived);
-
-            // Compute average score received excluding self
-            averageExcludingSelf.putIfAbsent(recipientEmail, null);
-            if (!isSelfResponse && totalExcludingSelf.get(recipientEmail) != null) {
-                double averageReceivedExcludingSelf =
-                        totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
-                averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
+                scores.addExcludingSelf(answer);
             }
         }
+        return statistics;
     }
 
     private List<String> getHiddenRecipients(
@@ -631,16 +566,16 @@ public class FeedbackNumericalScaleQuestionDetails extends
      * Return false otherwise.
      */
     private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(
-            Map<String, Integer> numResponses, String currentUserIdentifier, List<String> hiddenRecipients) {
+            FeedbackResponseStatistics statistics, String currentUserIdentifier, List<String> hiddenRecipients) {
         boolean isAtLeastTwoResponsesOtherThanCurrentUser = false;
 
         // At least 2 responses are given to any recipient other than current user
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getKeys()) {
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            if (hasAtLeastTwoResponses(numResponses, recipient)
+            if (hasAtLeastTwoResponses(statistics, recipient)
                     && !recipient.equals(currentUserIdentifier)) {
 
                 isAtLeastTwoResponsesOtherThanCurrentUser = true;
@@ -38,12 +38,14 @@ public abstract class FeedbackQuestionDetails {
     public abstract String getQuestionTypeDisplayName();
 
     public abstract String getQuestionWithExistingResponseSubmissionFormHtml(
-                                boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+                                boolean sessionIsOpen, int qnIdx, int responseIdx,
+                                FeedbackGeneratedOptionsResolver generatedOptionsResolver,
                                 int totalNumRecipients,
                                 FeedbackResponseDetails existingResponseDetails);
 
     public abstract String getQuestionWithoutExistingResponseSubmissionFormHtml(
-                                boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+                                boolean sessionIsOpen, int qnIdx, int responseIdx,
+                                FeedbackGeneratedOptionsResolver generatedOptionsResolver,
                                 int totalNumRecipients);
 
     public abstract String getQuestionSpecificEditFormHtml(int questionNumber);
@@ -62,6 +64,30 @@ public abstract class FeedbackQuestionDetails {
                                                           FeedbackQuestionAttributes question,
                                                           FeedbackSessionResultsBundle bundle);
 
+    /**
+     * Aggregates {@code responses} into the statistics rendered by {@link #getQuestionResultStatisticsHtml}
+     * and {@link #getQuestionResultStatisticsCsv}, in a single pass over the responses.
+     * Reads nothing but the responses, so the statistics of several questions can be aggregated concurrently.
+     * Override in child classes whose statistics are rendered from {@link FeedbackResponseStatistics}.
+     *
+     * @return null if the statistics of this question type are computed while they are rendered
+     */
+    public FeedbackResponseStatistics aggregateResponseStatistics(List<FeedbackResponseAttributes> responses) {
+        return null;
+    }
+
+    /**
+     * Returns the statistics in CSV format, rendered from {@code statistics} aggregated beforehand
+     * by {@link #aggregateResponseStatistics(List)}.
+     * Override in child classes whose statistics are rendered from {@link FeedbackResponseStatistics}.
+     */
+    public String getQuestionResultStatisticsCsv(List<FeedbackResponseAttributes> responses,
+                                                 FeedbackQuestionAttributes question,
+                                                 FeedbackSessionResultsBundle bundle,
+                                                 FeedbackResponseStatistics statistics) {
+        return getQuestionResultStatisticsCsv(responses, question, bundle);
+    }
+
     public abstract boolean isChangesRequiresResponseDeletion(FeedbackQuestionDetails newDetails);
 
     public abstract String getCsvHeader();
@@ -161,21 +187,29 @@ public abstract class FeedbackQuestionDetails {
     public abstract String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes);
 
     /**
-     * Extract question details and sets details accordingly.
+     * Extract question details and sets details accordingly, using {@code generatedOptionsResolver}
+     * for the options generated from the course roster.
      *
      * @return true to indicate success in extracting the details, false otherwise.
      */
     public abstract boolean extractQuestionDetails(Map<String, String[]> requestParameters,
-                                                   FeedbackQuestionType questionType);
+                                                   FeedbackQuestionType questionType,
+                                                   FeedbackGeneratedOptionsResolver generatedOptionsResolver);
 
+    /**
+     * Creates the question details from the request parameters.
+     *
+     * @param generatedOptionsResolver resolves the options generated from the roster of the course of the question
+     */
     public static FeedbackQuestionDetails createQuestionDetails(Map<String, String[]> requestParameters,
-                                                                FeedbackQuestionType questionType) {
+                                                                FeedbackQuestionType questionType,
+                                                                FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         String questionText = HttpRequestHelper.getValueFromParamMap(requestParameters,
                                                                      Const.ParamsNames.FEEDBACK_QUESTION_TEXT);
         Assumption.assertNotNull("Null question text", questionText);
         Assumption.assertNotEmpty("Empty question text", questionText);
 
-        return questionType.getFeedbackQuestionDetailsInstance(questionText, requestParameters);
+        return questionType.getFeedbackQuestionDetailsInstance(questionText, requestParameters, generatedOptionsResolver);
     }
 
     // The following function handle the display of rows between possible givers
@@ -40,11 +40,11 @@ public enum FeedbackQuestionType {
      * @return FeedbackQuestionDetails
      */
     public FeedbackQuestionDetails getFeedbackQuestionDetailsInstance() {
-        return getFeedbackQuestionDetailsInstance(null, null);
+        return getFeedbackQuestionDetailsInstance(null, null, null);
     }
 
     public FeedbackQuestionDetails getFeedbackQuestionDetailsInstance(String questionText,
-                                                                      Map<String, String[]> requestParameters) {
+            Map<String, String[]> requestParameters, FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         FeedbackQuestionDetails feedbackQuestionDetails = null;
 
         switch (this) {
@@ -83,7 +83,7 @@ public enum FeedbackQuestionType {
 
         if (questionText != null && requestParameters != null) {
             feedbackQuestionDetails.setQuestionText(questionText);
-            feedbackQuestionDetails.extractQuestionDetails(requestParameters, this);
+            feedbackQuestionDetails.extractQuestionDetails(requestParameters, this, generatedOptionsResolver);
         }
 
         return feedbackQuestionDetails;
@@ -55,8 +55,9 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
     @Override
     public boolean extractQuestionDetails(Map<String, String[]> requestParameters,
-                                          FeedbackQuestionType questionType) {
-        super.extractQuestionDetails(requestParameters, questionType);
+                                          FeedbackQuestionType questionType,
+                                          FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
+        super.extractQuestionDetails(requestParameters, questionType, generatedOptionsResolver);
         List<String> options = new ArrayList<>();
 
         String numOptionsCreatedString =
@@ -102,7 +103,8 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(
-                        boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+                        boolean sessionIsOpen, int qnIdx, int responseIdx,
+                        FeedbackGeneratedOptionsResolver generatedOptionsResolver,
                         int totalNumRecipients,
                         FeedbackResponseDetails existingResponseDetails) {
 
@@ -154,7 +156,8 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -315,19 +318,18 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
 
         StringBuilder fragments = new StringBuilder(100);
 
-        Map<String, List<Integer>> optionRanks = generateOptionRanksMapping(responses);
+        FeedbackResponseStatistics optionRanks = aggregateResponseStatistics(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
         optionRanks.forEach((option, ranks) -> {
 
-            double average = computeAverage(ranks);
-            String ranksReceived = getListOfRanksReceivedAsString(ranks);
+            String ranksReceived = getListOfRanksReceivedAsString(ranks.getSortedValues());
 
             fragments.append(Templates.populateTemplate(FormTemplates.RANK_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(option),
                     Slots.RANK_RECIEVED, ranksReceived,
-                    Slots.RANK_AVERAGE, df.format(average)));
+                    Slots.RANK_AVERAGE, df.format(ranks.getAverage())));
 
         });
 
@@ -341,21 +343,28 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
                         List<FeedbackResponseAttributes> responses,
                         FeedbackQuestionAttributes question,
                         FeedbackSessionResultsBundle bundle) {
+        return getQuestionResultStatisticsCsv(responses, question, bundle, aggregateResponseStatistics(responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(
+                        List<FeedbackResponseAttributes> responses,
+                        FeedbackQuestionAttributes question,
+                        FeedbackSessionResultsBundle bundle,
+                        FeedbackResponseStatistics optionRanks) {
         if (responses.isEmpty()) {
             return "";
         }
 
         StringBuilder fragments = new StringBuilder();
-        Map<String, List<Integer>> optionRanks = generateOptionRanksMapping(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
         optionRanks.forEach((key, ranksAssigned) -> {
             String option = SanitizationHelper.sanitizeForCsv(key);
 
-            double average = computeAverage(ranksAssigned);
-            String fragment = option + "," + df.format(average) + ","
-                    + StringHelper.join(",", ranksAssigned) + Const.EOL;
+            String fragment = option + "," + df.format(ranksAssigned.getAverage()) + ","
+                    + StringHelper.join(",", ranksAssigned.getValues()) + Const.EOL;
             fragments.append(fragment);
         });
 
@@ -363,15 +372,12 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of
-     * ranks received for that option.
-     * The key of the map returned is the option name.
-     * The values of the map are list of ranks received by the key.
-     * @param responses  a list of responses
+     * Aggregates the ranks received by each option, after resolving the ties in each response.
+     * The key of the statistics is the option name.
      */
-    private Map<String, List<Integer>> generateOptionRanksMapping(
-                                            List<FeedbackResponseAttributes> responses) {
-        Map<String, List<Integer>> optionRanks = new HashMap<>();
+    @Override
+    public FeedbackResponseStatistics aggregateResponseStatistics(List<FeedbackResponseAttributes> responses) {
+        FeedbackResponseStatistics optionRanks = new FeedbackResponseStatistics();
         for (FeedbackResponseAttributes response : responses) {
             FeedbackRankOptionsResponseDetails frd = (FeedbackRankOptionsResponseDetails) response.getResponseDetails();
 
@@ -393,7 +399,7 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
                 int rankReceived = normalisedRankForOption.get(optionReceivingRanks);
 
                 if (rankReceived != Const.POINTS_NOT_SUBMITTED) {
-                    updateOptionRanksMapping(optionRanks, optionReceivingRanks, rankReceived);
+                    optionRanks.accumulatorFor(optionReceivingRanks).addValue(rankReceived);
                 }
             }
         }
@@ -29,7 +29,8 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
 
     @Override
     public boolean extractQuestionDetails(Map<String, String[]> requestParameters,
-                                          FeedbackQuestionType questionType) {
+                                          FeedbackQuestionType questionType,
+                                          FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
 
         String areDuplicatesAllowedString =
                 HttpRequestHelper.getValueFromParamMap(
@@ -46,49 +47,40 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
 
     @Override
     public abstract String getQuestionWithExistingResponseSubmissionFormHtml(
-                        boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+                        boolean sessionIsOpen, int qnIdx, int responseIdx,
+                        FeedbackGeneratedOptionsResolver generatedOptionsResolver,
                         int totalNumRecipients,
                         FeedbackResponseDetails existingResponseDetails);
 
     @Override
     public abstract String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients);
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients);
 
     @Override
     public abstract String getQuestionSpecificEditFormHtml(int questionNumber);
 
     /**
-     * Updates the mapping of ranks for the option optionReceivingPoints.
+     * Returns the list of ranks received, in ascending order, as a string to display.
      */
-    protected void updateOptionRanksMapping(
-            Map<String, List<Integer>> optionRanks,
-            String optionReceivingRanks, int rankReceived) {
-        optionRanks.computeIfAbsent(optionReceivingRanks, key -> new ArrayList<>())
-                   .add(rankReceived);
-    }
-
-    /**
-     * Returns the list of points as as string to display.
-     */
-    protected String getListOfRanksReceivedAsString(List<Integer> ranksReceived) {
-        ranksReceived.sort(null);
+    protected String getListOfRanksReceivedAsString(int[] sortedRanksReceived) {
         StringBuilder pointsReceived = new StringBuilder();
 
-        if (ranksReceived.size() > 10) {
+        if (sortedRanksReceived.length > 10) {
             for (int i = 0; i < 5; i++) {
-                pointsReceived.append(ranksReceived.get(i)).append(" , ");
+                pointsReceived.append(sortedRanksReceived[i]).append(" , ");
             }
 
             pointsReceived.append("...");
 
-            for (int i = ranksReceived.size() - 5; i < ranksReceived.size(); i++) {
-                pointsReceived.append(" , ").append(ranksReceived.get(i));
+            for (int i = sortedRanksReceived.length - 5; i < sortedRanksReceived.length; i++) {
+                pointsReceived.append(" , ").append(sortedRanksReceived[i]);
             }
         } else {
-            for (int i = 0; i < ranksReceived.size(); i++) {
-                pointsReceived.append(ranksReceived.get(i));
+            for (int i = 0; i < sortedRanksReceived.length; i++) {
+                pointsReceived.append(sortedRanksReceived[i]);
 
-                if (i != ranksReceived.size() - 1) {
+                if (i != sortedRanksReceived.length - 1) {
                     pointsReceived.append(" , ");
                 }
             }
@@ -97,14 +89,6 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
         return pointsReceived.toString();
     }
 
-    protected double computeAverage(List<Integer> values) {
-        double average = 0;
-        for (double value : values) {
-            average = average + value;
-        }
-        return average / values.size();
-    }
-
     /**
      * For a single set of ranking (options / feedback responses),
      * fix ties by assigning the MIN value of the ordering to all the tied options
@@ -12,6 +12,7 @@ import java.util.Set;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics.Accumulator;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.SanitizationHelper;
@@ -36,8 +37,9 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
     @Override
     public boolean extractQuestionDetails(Map<String, String[]> requestParameters,
-            FeedbackQuestionType questionType) {
-        super.extractQuestionDetails(requestParameters, questionType);
+            FeedbackQuestionType questionType,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
+        super.extractQuestionDetails(requestParameters, questionType, generatedOptionsResolver);
 
         String minRecipientsToBeRanked = HttpRequestHelper.getValueFromParamMap(
                 requestParameters, Const.ParamsNames.FEEDBACK_QUESTION_RANKMINRECIPIENTSTOBERANKED);
@@ -57,7 +59,8 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
     @Override
     public String getQuestionWithExistingResponseSubmissionFormHtml(
-                        boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId,
+                        boolean sessionIsOpen, int qnIdx, int responseIdx,
+                        FeedbackGeneratedOptionsResolver generatedOptionsResolver,
                         int totalNumRecipients,
                         FeedbackResponseDetails existingResponseDetails) {
 
@@ -107,7 +110,8 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
     @Override
     public String getQuestionWithoutExistingResponseSubmissionFormHtml(
-            boolean sessionIsOpen, int qnIdx, int responseIdx, String courseId, int totalNumRecipients) {
+            boolean sessionIsOpen, int qnIdx, int responseIdx,
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver, int totalNumRecipients) {
 
         StringBuilder optionListHtml = new StringBuilder();
         String optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
@@ -252,10 +256,7 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
         StringBuilder fragments = new StringBuilder();
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
+        FeedbackResponseStatistics recipientRanks = aggregateResponseStatistics(responses);
 
         String fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
         String templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
@@ -264,22 +265,19 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
         recipientRanks.forEach((participantIdentifier, ranks) -> {
 
-            double average = computeAverage(ranks);
-            String ranksReceived = getListOfRanksReceivedAsString(ranks);
+            String ranksReceived = getListOfRanksReceivedAsString(ranks.getSortedValues());
 
             String name = bundle.getNameForEmail(participantIdentifier);
             String teamName = bundle.getTeamNameForEmail(participantIdentifier);
-            String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(df, recipientRanksExcludingSelf, participantIdentifier);
-            String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
+            String userAverageExcludingSelfText = getAverageExcludingSelfText(df, ranks);
+            String selfRank = ranks.hasSelfValue() ? Integer.toString(ranks.getSelfValue()) : "-";
 
             fragments.append(Templates.populateTemplate(fragmentTemplateToUse,
                     Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
                     Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
                     Slots.RANK_RECIEVED, ranksReceived,
                     Slots.RANK_SELF, selfRank,
-                    Slots.RANK_AVERAGE, df.format(average),
+                    Slots.RANK_AVERAGE, df.format(ranks.getAverage()),
                     Slots.RANK_EXCLUDING_SELF_AVERAGE, userAverageExcludingSelfText));
 
         });
@@ -295,15 +293,20 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
                         List<FeedbackResponseAttributes> responses,
                         FeedbackQuestionAttributes question,
                         FeedbackSessionResultsBundle bundle) {
+        return getQuestionResultStatisticsCsv(responses, question, bundle, aggregateResponseStatistics(responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(
+                        List<FeedbackResponseAttributes> responses,
+                        FeedbackQuestionAttributes question,
+                        FeedbackSessionResultsBundle bundle,
+                        FeedbackResponseStatistics recipientRanks) {
         if (responses.isEmpty()) {
             return "";
         }
 
         StringBuilder fragments = new StringBuilder();
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
 
         DecimalFormat df = new DecimalFormat("#.##");
 
@@ -315,18 +318,15 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
                             + ","
                             + SanitizationHelper.sanitizeForCsv(recipientName);
 
-            String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(df, recipientRanksExcludingSelf, key);
-            double average = computeAverage(ranks);
-            String selfRank = recipientSelfRanks.containsKey(key)
-                    ? Integer.toString(recipientSelfRanks.get(key)) : "-";
+            String userAverageExcludingSelfText = getAverageExcludingSelfText(df, ranks);
+            String selfRank = ranks.hasSelfValue() ? Integer.toString(ranks.getSelfValue()) : "-";
 
             fragments.append(option);
             fragments.append(',').append(selfRank);
-            fragments.append(',').append(df.format(average));
+            fragments.append(',').append(df.format(ranks.getAverage()));
             fragments.append(',').append(userAverageExcludingSelfText);
             fragments.append(',');
-            fragments.append(StringHelper.join(",", ranks));
+            fragments.append(StringHelper.join(",", ranks.getValues()));
             fragments.append(Const.EOL);
         });
 
@@ -335,85 +335,60 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     }
 
     /**
-     * From the feedback responses, generate a mapping of the option to a list of
-     * ranks received for that option.
-     * The key of the map returned is the recipient's participant identifier.
-     * The values of the map are list of ranks received by the recipient.
-     * @param responses  a list of responses
-     */
-    private Map<String, List<Integer>> generateOptionRanksMapping(List<FeedbackResponseAttributes> responses) {
-
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
-
-        Map<String, List<Integer>> optionRanks = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
-            updateOptionRanksMapping(optionRanks, response.recipient, normalisedRankOfResponse.get(response));
-        }
-
-        return optionRanks;
-    }
-
-    /**
-     * Generates a key, value mapping. Each key corresponds to a recipient and its value is the normalised self rank.
-     * @param responses  a list of responses
-     */
-    private Map<String, Integer> generateSelfRankForEachRecipient(List<FeedbackResponseAttributes> responses) {
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
-        Map<String, Integer> recipientToSelfRank = new HashMap<>();
-
-        for (FeedbackResponseAttributes response : responses) {
-            if (response.recipient.equalsIgnoreCase(response.giver)) {
-                recipientToSelfRank.put(response.recipient, normalisedRankOfResponse.get(response));
-            }
-        }
-
-        return recipientToSelfRank;
-    }
-
-    /**
-     * Returns a map of response to the normalised rank by resolving ties for each giver's set of responses.
+     * Aggregates the ranks received by each recipient. The key of the statistics is the recipient's
+     * participant identifier.
+     *
+     * <p>Ties in the ranks given by each giver are resolved among all the giver's responses, and again
+     * among the giver's responses to others only, for the average rank excluding self.
      * @see FeedbackRankQuestionDetails#obtainMappingToNormalisedRanksForRanking(Map, List) for how ties are resolved
      */
-    private Map<FeedbackResponseAttributes, Integer> getNormalisedRankForEachResponse(
-                                                            List<FeedbackResponseAttributes> responses) {
+    @Override
+    public FeedbackResponseStatistics aggregateResponseStatistics(List<FeedbackResponseAttributes> responses) {
+
+        // collect each giver's responses, by their index in the list of responses
+        Map<Integer, Integer> rankOfResponse = new HashMap<>();
+        Map<String, List<Integer>> responsesGivenByPerson = new HashMap<>();
+        Map<String, List<Integer>> responsesGivenByPersonToOthers = new HashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            FeedbackResponseAttributes response = responses.get(i);
+            FeedbackRankRecipientsResponseDetails frd =
+                    (FeedbackRankRecipientsResponseDetails) response.getResponseDetails();
+            rankOfResponse.put(i, frd.answer);
 
-        // collect each giver's responses
-        Map<String, List<FeedbackResponseAttributes>> responsesGivenByPerson = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
-            responsesGivenByPerson.computeIfAbsent(response.giver, key -> new ArrayList<>())
-                                  .add(response);
+            responsesGivenByPerson.computeIfAbsent(response.giver, key -> new ArrayList<>()).add(i);
+            if (!isSelfResponse(response)) {
+                responsesGivenByPersonToOthers.computeIfAbsent(response.giver, key -> new ArrayList<>()).add(i);
+            }
         }
 
         // resolve ties for each giver's responses
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = new HashMap<>();
-        responsesGivenByPerson.forEach((key, feedbackResponseAttributesList) -> {
-            Map<FeedbackResponseAttributes, Integer> rankOfResponse = new HashMap<>();
-            for (FeedbackResponseAttributes res : responses) {
-                FeedbackRankRecipientsResponseDetails frd = (FeedbackRankRecipientsResponseDetails) res.getResponseDetails();
-                rankOfResponse.put(res, frd.answer);
+        Map<Integer, Integer> normalisedRankOfResponse = new HashMap<>();
+        responsesGivenByPerson.forEach((giver, givenResponses) ->
+                normalisedRankOfResponse.putAll(obtainMappingToNormalisedRanksForRanking(rankOfResponse, givenResponses)));
+        Map<Integer, Integer> normalisedRankOfResponseExcludingSelf = new HashMap<>();
+        responsesGivenByPersonToOthers.forEach((giver, givenResponses) ->
+                normalisedRankOfResponseExcludingSelf.putAll(
+                        obtainMappingToNormalisedRanksForRanking(rankOfResponse, givenResponses)));
+
+        FeedbackResponseStatistics recipientRanks = new FeedbackResponseStatistics();
+        for (int i = 0; i < responses.size(); i++) {
+            FeedbackResponseAttributes response = responses.get(i);
+            Accumulator ranks = recipientRanks.accumulatorFor(response.recipient);
+            int normalisedRank = normalisedRankOfResponse.get(i);
+
+            ranks.addValue(normalisedRank);
+            if (isSelfResponse(response)) {
+                ranks.setSelfValue(normalisedRank);
+            } else {
+                ranks.addExcludingSelf(normalisedRankOfResponseExcludingSelf.get(i));
             }
+        }
 
-            normalisedRankOfResponse.putAll(obtainMappingToNormalisedRanksForRanking(rankOfResponse,
-                    feedbackResponseAttributesList));
-        });
-
-        return normalisedRankOfResponse;
+        return recipientRanks;
     }
 
-    /**
-     * Returns list of responses excluding responses given to self.
-     *
-     * @param responses a list of responses
-     * @return list of responses excluding self given responses
-     */
-    private List<FeedbackResponseAttributes> getResponsesExcludingSelf(List<FeedbackResponseAttributes> responses) {
-        List<FeedbackResponseAttributes> responsesExcludingSelf = new ArrayList<>();
-        for (FeedbackResponseAttributes response : responses) {
-            if (!response.giver.equalsIgnoreCase(response.recipient)) {
-                responsesExcludingSelf.add(response);
-            }
-        }
-        return responsesExcludingSelf;
+    private boolean isSelfResponse(FeedbackResponseAttributes response) {
+        return response.giver.equalsIgnoreCase(response.recipient);
     }
 
     /**
@@ -421,31 +396,17 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
      * Displays a dash if the user has only self response.
      *
      * @param df decimal format
-     * @param recipientRanksExcludingSelf map of recipient ranks excluding self response
-     * @param recipientName recipient for which average is to be calculated
+     * @param ranks statistics of the ranks received by the recipient
      * @return average excluding self text
      */
-    private String getAverageExcludingSelfText(DecimalFormat df,
-            Map<String, List<Integer>> recipientRanksExcludingSelf, String recipientName) {
-        List<Integer> ranksExcludingSelf = recipientRanksExcludingSelf.get(recipientName);
-        if (ranksExcludingSelf == null) {
+    private String getAverageExcludingSelfText(DecimalFormat df, Accumulator ranks) {
+        Double averageExcludingSelf = ranks.getAverageExcludingSelf();
+        if (averageExcludingSelf == null) {
             return "-";
         }
-        Double averageExcludingSelf = computeAverage(ranksExcludingSelf);
         return df.format(averageExcludingSelf);
     }
 
-    /**
-     * Returns map of recipient ranks excluding self.
-     *
-     * @param responses list of all the responses for a question
-     * @return map of recipient ranks excluding self responses
-     */
-    private Map<String, List<Integer>> getRecipientRanksExcludingSelf(List<FeedbackResponseAttributes> responses) {
-        List<FeedbackResponseAttributes> responsesExcludingSelf = getResponsesExcludingSelf(responses);
-        return generateOptionRanksMapping(responsesExcludingSelf);
-    }
-
     @Override
     public boolean isChangesRequiresResponseDeletion(FeedbackQuestionDetails newDetails) {
         return false;
@@ -0,0 +1,185 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Statistics of the responses to a question, aggregated in a single pass over the responses
+ * for each key receiving values, e.g. an option, a recipient or a sub-question.
+ *
+ * <p>The values received by a key are kept in an {@link Accumulator} of primitive counters and sums
+ * instead of a list of boxed values. The same statistics are rendered as HTML and as CSV.
+ *
+ * @see FeedbackQuestionDetails#aggregateResponseStatistics(java.util.List)
+ */
+public class FeedbackResponseStatistics {
+
+    private final Map<String, Accumulator> accumulators = new HashMap<>();
+
+    /**
+     * Returns the accumulator of the values received by {@code key}, creating it if there is none yet.
+     */
+    public Accumulator accumulatorFor(String key) {
+        return accumulators.computeIfAbsent(key, k -> new Accumulator());
+    }
+
+    /**
+     * Returns the accumulator of the values received by {@code key}, or null if it received none.
+     */
+    public Accumulator get(String key) {
+        return accumulators.get(key);
+    }
+
+    public Set<String> getKeys() {
+        return accumulators.keySet();
+    }
+
+    public boolean isEmpty() {
+        return accumulators.isEmpty();
+    }
+
+    /**
+     * Performs {@code action} for the accumulator of each key.
+     */
+    public void forEach(BiConsumer<String, Accumulator> action) {
+        accumulators.forEach(action);
+    }
+
+    /**
+     * Accumulates the values received by a key.
+     *
+     * <p>The values of the responses not given to oneself can additionally be accumulated separately,
+     * for the statistics that exclude self responses.
+     */
+    public static class Accumulator {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        private int count;
+        private double sum;
+        private double sumOfSquares;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        private int[] values;
+        private int numberOfValues;
+
+        private int countExcludingSelf;
+        private double sumExcludingSelf;
+
+        private boolean hasSelfValue;
+        private int selfValue;
+
+        /**
+         * Adds {@code value} to the count, sums, minimum and maximum.
+         */
+        public void add(double value) {
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        /**
+         * Adds {@code value} like {@link #add(double)} and also keeps it, for the statistics that list the values.
+         */
+        public void addValue(int value) {
+            add(value);
+            if (values == null) {
+                values = new int[INITIAL_CAPACITY];
+            } else if (numberOfValues == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[numberOfValues++] = value;
+        }
+
+        /**
+         * Adds {@code value} to the statistics that exclude self responses.
+         */
+        public void addExcludingSelf(double value) {
+            countExcludingSelf++;
+            sumExcludingSelf += value;
+        }
+
+        /**
+         * Sets the value given by the key to itself.
+         */
+        public void setSelfValue(int value) {
+            hasSelfValue = true;
+            selfValue = value;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getSumOfSquares() {
+            return sumOfSquares;
+        }
+
+        public double getAverage() {
+            return sum / count;
+        }
+
+        /**
+         * Returns the population standard deviation of the values.
+         */
+        public double getStandardDeviation() {
+            double average = getAverage();
+            return Math.sqrt(Math.max(0, sumOfSquares / count - average * average));
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the values kept by {@link #addValue(int)}, in the order they were added.
+         */
+        public int[] getValues() {
+            return values == null ? new int[0] : Arrays.copyOf(values, numberOfValues);
+        }
+
+        /**
+         * Returns the values kept by {@link #addValue(int)}, in ascending order.
+         */
+        public int[] getSortedValues() {
+            int[] sortedValues = getValues();
+            Arrays.sort(sortedValues);
+            return sortedValues;
+        }
+
+        public int getCountExcludingSelf() {
+            return countExcludingSelf;
+        }
+
+        /**
+         * Returns the average of the values excluding self responses, or null if all the values are self responses.
+         */
+        public Double getAverageExcludingSelf() {
+            return countExcludingSelf == 0 ? null : sumExcludingSelf / countExcludingSelf;
+        }
+
+        public boolean hasSelfValue() {
+            return hasSelfValue;
+        }
+
+        public int getSelfValue() {
+            return selfValue;
+        }
+
+    }
+
+}
@@ -42,6 +42,10 @@ public class AppUrl extends Url {
         return withParam(Const.ParamsNames.FEEDBACK_QUESTION_NUMBER, questionNumber);
     }
 
+    public AppUrl withProfilePictureVariant(String variant) {
+        return withParam(Const.ParamsNames.PROFILE_PICTURE_VARIANT, variant);
+    }
+
     public AppUrl withEnableSessionEditDetails(boolean shouldLoadInEditMode) {
         return withParam(Const.ParamsNames.FEEDBACK_SESSION_ENABLE_EDIT, Boolean.toString(shouldLoadInEditMode));
     }
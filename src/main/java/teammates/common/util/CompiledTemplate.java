@@ -0,0 +1,139 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template that has been parsed once into its literal text and its placeholders, e.g. {@code ${userName}}.
+ *
+ * <p>Unlike {@link Templates#populateTemplate(String, String...)}, which scans the whole template once for
+ * every key-value pair, populating a compiled template takes a single pass over its parts.
+ * Placeholders whose values are the same for many populated copies can be filled in once beforehand
+ * with {@link #bind(String...)}.
+ *
+ * <p>Values are inserted as they are and are not searched for further placeholders.
+ * Placeholders without a value are kept as they are.
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    /** The text around the placeholders; there is always one more literal than there are placeholders. */
+    private final List<String> literals;
+
+    /** The placeholders in order of appearance, including their delimiters. */
+    private final List<String> placeholders;
+
+    private final int literalsLength;
+
+    private CompiledTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = Collections.unmodifiableList(literals);
+        this.placeholders = Collections.unmodifiableList(placeholders);
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Parses {@code template} into its literal text and its placeholders.
+     */
+    public static CompiledTemplate compile(String template) {
+        Assumption.assertNotNull(template);
+
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart != -1) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd == -1) {
+                break;
+            }
+            placeholderEnd += PLACEHOLDER_END.length();
+
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart, placeholderEnd));
+
+            literalStart = placeholderEnd;
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(literals, placeholders);
+    }
+
+    /**
+     * Returns a template in which the placeholders given in {@code keyValuePairs} are replaced by their values
+     * while the other placeholders are kept.
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     */
+    public CompiledTemplate bind(String... keyValuePairs) {
+        Map<String, String> values = toValueMap(keyValuePairs);
+
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> boundPlaceholders = new ArrayList<>();
+
+        StringBuilder currentLiteral = new StringBuilder(literals.get(0));
+        for (int i = 0; i < placeholders.size(); i++) {
+            String placeholder = placeholders.get(i);
+            String value = values.get(placeholder);
+            if (value == null) {
+                boundLiterals.add(currentLiteral.toString());
+                boundPlaceholders.add(placeholder);
+                currentLiteral.setLength(0);
+            } else {
+                currentLiteral.append(value);
+            }
+            currentLiteral.append(literals.get(i + 1));
+        }
+        boundLiterals.add(currentLiteral.toString());
+
+        return new CompiledTemplate(boundLiterals, boundPlaceholders);
+    }
+
+    /**
+     * Populates the template by replacing the placeholders with the given values.
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return The populated template
+     */
+    public String populate(String... keyValuePairs) {
+        Map<String, String> values = toValueMap(keyValuePairs);
+
+        int valuesLength = 0;
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            valuesLength += keyValuePairs[i] == null ? 0 : keyValuePairs[i].length();
+        }
+
+        StringBuilder populatedTemplate = new StringBuilder(literalsLength + valuesLength);
+        populatedTemplate.append(literals.get(0));
+        for (int i = 0; i < placeholders.size(); i++) {
+            String placeholder = placeholders.get(i);
+            String value = values.get(placeholder);
+            populatedTemplate.append(value == null ? placeholder : value)
+                             .append(literals.get(i + 1));
+        }
+        return populatedTemplate.toString();
+    }
+
+    private static Map<String, String> toValueMap(String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            values.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return values;
+    }
+
+}
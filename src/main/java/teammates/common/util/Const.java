@@ -149,6 +149,9 @@ public final class Const {
 
         public static final String DEFAULT_PROFILE_PICTURE_PATH = "/images/profile_picture_default.png";
 
+        /** Value of {@link ParamsNames#PROFILE_PICTURE_VARIANT} to request the thumbnail of a profile picture. */
+        public static final String PROFILE_PICTURE_VARIANT_THUMBNAIL = "thumbnail";
+
         public static final List<String> PAGES_REQUIRING_ORIGIN_VALIDATION = Collections.unmodifiableList(
                 Arrays.asList(
                         ActionURIs.ADMIN_ACCOUNT_DELETE,
@@ -627,6 +630,8 @@ public final class Const {
         public static final String IS_STUDENT_REJOINING = "isstudentrejoining";
 
         public static final String BLOB_KEY = "blob-key";
+        public static final String SIGNED_URL_EXPIRY = "expiry";
+        public static final String SIGNED_URL_SIGNATURE = "signature";
         public static final String SESSION_TOKEN = "token";
 
         public static final String COPIED_FEEDBACK_SESSION_NAME = "copiedfsname";
@@ -666,12 +671,19 @@ public final class Const {
         public static final String COURSE_SORTING_CRITERIA = "sortby";
         public static final String COURSE_TO_LOAD = "coursetoload";
 
+        public static final String COPIABLE_QUESTIONS_FILTER = "copiablequestionsfilter";
+        public static final String COPIABLE_QUESTIONS_SORT_ORDER = "copiablequestionssortorder";
+        public static final String COPIABLE_QUESTIONS_PAGE = "copiablequestionspage";
+        public static final String COPIABLE_QUESTIONS_CURSOR = "copiablequestionscursor";
+
         public static final String COURSE_ARCHIVE_STATUS = "archive";
 
         public static final String IMAGE_TO_UPLOAD = "imagetoupload";
 
         public static final String ADMIN_SEARCH_KEY = "searchkey";
         public static final String ADMIN_SEARCH_BUTTON_HIT = "searchbuttonhit";
+        public static final String ADMIN_SEARCH_STUDENTS_CURSOR = "studentscursor";
+        public static final String ADMIN_SEARCH_INSTRUCTORS_CURSOR = "instructorscursor";
 
         public static final String ADMIN_EMAIL_CONTENT = "emailcontent";
         public static final String ADMIN_EMAIL_SUBJECT = "emailsubject";
@@ -685,8 +697,7 @@ public final class Const {
         public static final String ADMIN_EMAIL_EMPTY_TRASH_BIN = "emptytrashbin";
         public static final String ADMIN_EMAIL_TRASH_ACTION_REDIRECT = "redirect";
 
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX = "emaillistindex";
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_INDEX = "emailindex";
+        public static final String ADMIN_GROUP_RECEIVER_LIST_OFFSET = "receiverlistoffset";
 
         public static final String FEEDBACK_SESSION_NAME = "fsname";
         public static final String FEEDBACK_SESSION_INDEX = "fsindex";
@@ -837,18 +848,14 @@ public final class Const {
         public static final String LOGIN_STUDENT = "student";
 
         //Email parameters
-        public static final String EMAIL_RECEIVER = "user";
         public static final String EMAIL_COURSE = "course";
         public static final String EMAIL_FEEDBACK = "feedback";
         public static final String EMAIL_TYPE = "type";
         public static final String SESSION_SUMMARY_EMAIL_SEND_CHECK = "sessionsummarysendemail";
         public static final String OPEN_OR_PUBLISHED_EMAIL_SEND_CHECK = "openorpublishedemailsent";
 
-        public static final String EMAIL_CONTENT = "content";
-        public static final String EMAIL_SENDER = "sender";
-        public static final String EMAIL_SENDERNAME = "sendername";
-        public static final String EMAIL_SUBJECT = "subject";
-        public static final String EMAIL_REPLY_TO_ADDRESS = "reply";
+        public static final String EMAIL_OUTBOX_BATCH_ID = "outboxbatchid";
+        public static final String EMAIL_OUTBOX_CHUNK = "outboxchunk";
 
         public static final String COMMENT_EDITTYPE = "commentedittype";
         public static final String COMMENT_ID = "commentid";
@@ -862,6 +869,9 @@ public final class Const {
         public static final String SUBMISSION_REMIND_USERLIST = "usersToRemind";
 
         public static final String ENROLLMENT_DETAILS = "enrollmentdetails";
+        public static final String ENROLLMENT_DETAILS_OFFSET = "enrollmentdetailsoffset";
+
+        public static final String CASCADE_DELETION_STAGE = "cascadedeletionstage";
 
         public static final String SEARCH_KEY = "searchkey";
         public static final String DISPLAY_ARCHIVE = "displayarchive";
@@ -880,6 +890,7 @@ public final class Const {
         public static final String PROFILE_PICTURE_HEIGHT = "pictureheight";
         public static final String PROFILE_PICTURE_WIDTH = "picturewidth";
         public static final String PROFILE_PICTURE_ROTATE = "picturerotate";
+        public static final String PROFILE_PICTURE_VARIANT = "picturevariant";
 
         public static final String SEARCH_STUDENTS = "searchstudents";
         public static final String SEARCH_COMMENTS_FOR_RESPONSES = "searchcommentforresponses";
@@ -1026,6 +1037,8 @@ public final class Const {
         public static final String ADMIN_EXCEPTION_TEST = "/admin/adminExceptionTest";
         public static final String ADMIN_ACTIVITY_LOG_PAGE = "/admin/adminActivityLogPage";
         public static final String ADMIN_SESSIONS_PAGE = "/admin/adminSessionsPage";
+        public static final String ADMIN_PERFORMANCE_PAGE = "/admin/adminPerformancePage";
+        public static final String ADMIN_EMAIL_OUTBOX_PAGE = "/admin/adminEmailOutboxPage";
         public static final String ADMIN_SEARCH_PAGE = "/admin/adminSearchPage";
         public static final String ADMIN_EMAIL_COMPOSE_PAGE = "/admin/adminEmailComposePage";
         public static final String ADMIN_EMAIL_COMPOSE_SAVE = "/admin/adminEmailComposeSave";
@@ -1045,6 +1058,7 @@ public final class Const {
 
         public static final String PUBLIC_IMAGE_SERVE = "/public/publicImageServe";
         public static final String PUBLIC_EMAIL_FILE_SERVE = "/public/publicEmailImageServe";
+        public static final String SIGNED_IMAGE_SERVE = "/public/signedImageServe";
         public static final String ADMIN_STUDENT_GOOGLE_ID_RESET = "/admin/adminStudentGoogleIdReset";
 
         public static final String AUTOMATED_LOG_COMPILATION = "/auto/compileLogs";
@@ -1073,9 +1087,18 @@ public final class Const {
         public static final String ADMIN_SEND_EMAIL_QUEUE_NAME = "admin-send-email-queue";
         public static final String ADMIN_SEND_EMAIL_WORKER_URL = "/worker/adminSendEmail";
 
+        public static final String COURSE_DATA_DELETION_QUEUE_NAME = "course-data-deletion-queue";
+        public static final String COURSE_DATA_DELETION_WORKER_URL = "/worker/courseDataDeletion";
+
+        public static final String FEEDBACK_QUESTION_DATA_DELETION_QUEUE_NAME = "feedback-question-data-deletion-queue";
+        public static final String FEEDBACK_QUESTION_DATA_DELETION_WORKER_URL = "/worker/feedbackQuestionDataDeletion";
+
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
+        public static final String FEEDBACK_RESPONSES_EMAIL_UPDATE_QUEUE_NAME = "feedback-responses-email-update-queue";
+        public static final String FEEDBACK_RESPONSES_EMAIL_UPDATE_WORKER_URL = "/worker/feedbackResponsesEmailUpdate";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1181,7 +1204,9 @@ public final class Const {
         public static final String ADMIN_ACTIVITY_LOG_AJAX = "/jsp/adminActivityLogAjax.jsp";
         public static final String ADMIN_ACCOUNT_DETAILS = "/jsp/adminAccountDetails.jsp";
         public static final String ADMIN_SESSIONS = "/jsp/adminSessions.jsp";
+        public static final String ADMIN_PERFORMANCE = "/jsp/adminPerformance.jsp";
         public static final String ADMIN_EMAIL_LOG = "/jsp/adminEmailLog.jsp";
+        public static final String ADMIN_EMAIL_OUTBOX = "/jsp/adminEmailOutbox.jsp";
         public static final String ADMIN_EMAIL_LOG_AJAX = "/jsp/adminEmailLogAjax.jsp";
 
         public static final String GOOGLE_ACCOUNT_HINT = "/googleAccountHint.jsp";
@@ -1451,6 +1476,10 @@ public final class Const {
                 "There are no course or students information to be displayed";
         public static final String INSTRUCTOR_NO_STUDENT_RECORDS = "No records were found for this student";
         public static final String INSTRUCTOR_SEARCH_NO_RESULTS = "No results found.";
+        public static final String SEARCH_RESULTS_TRUNCATED =
+                "There are too many results to show them all. Please use more specific search keywords.";
+        public static final String ADMIN_SEARCH_RESULTS_TRUNCATED =
+                "There are more results than shown. Use the \"Show more\" links below the results to see them.";
         public static final String INSTRUCTOR_SEARCH_TIPS =
                 "Search Tips:<br>"
                 + "<ul>"
@@ -2,6 +2,7 @@ package teammates.common.util;
 
 import java.nio.charset.Charset;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Mac;
@@ -11,6 +12,9 @@ import javax.crypto.spec.SecretKeySpec;
  * Cryptographic helper functions.
  */
 public final class CryptoHelper {
+
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
     private CryptoHelper() {
         // utility class
     }
@@ -20,18 +24,54 @@ public final class CryptoHelper {
      * Uses {@link Config#ENCRYPTION_KEY} as the secret key for the HMAC-MD5.
      */
     public static String computeSessionToken(String sessionId) {
+        return computeHmac("HmacMD5", sessionId);
+    }
+
+    /**
+     * Computes the signature of {@code value} using the HMAC-SHA256 algorithm.
+     * Uses {@link Config#ENCRYPTION_KEY} as the secret key for the HMAC-SHA256.
+     */
+    public static String computeSignature(String value) {
+        return computeHmac("HmacSHA256", value);
+    }
+
+    /**
+     * Returns true if {@code signature} is the signature of {@code value}
+     * as computed by {@link #computeSignature(String)}.
+     * <br> The comparison takes the same time regardless of where the signatures differ.
+     */
+    public static boolean isValidSignature(String value, String signature) {
+        if (signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(computeSignature(value).getBytes(CHARSET), signature.getBytes(CHARSET));
+    }
+
+    /**
+     * Computes the SHA-256 digest of {@code data}, as a hexadecimal string.
+     */
+    public static String computeDigest(byte[] data) {
+        MessageDigest messageDigest = null;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            Assumption.fail("Algorithm specified does not exist.");
+        }
+        return StringHelper.byteArrayToHexString(messageDigest.digest(data));
+    }
+
+    private static String computeHmac(String algorithm, String value) {
         SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
         Mac mac = null;
         try {
-            mac = Mac.getInstance("HmacMD5");
+            mac = Mac.getInstance(algorithm);
             mac.init(sks);
         } catch (NoSuchAlgorithmException e) {
             Assumption.fail("Algorithm specified does not exist.");
         } catch (InvalidKeyException e) {
             Assumption.fail("Invalid encryption key encountered. Check your build.properties file.");
         }
-        Charset charset = Charset.forName("UTF-8");
-        byte[] encryptedSessionId = mac.doFinal(sessionId.getBytes(charset));
-        return StringHelper.byteArrayToHexString(encryptedSessionId);
+        byte[] encryptedValue = mac.doFinal(value.getBytes(CHARSET));
+        return StringHelper.byteArrayToHexString(encryptedValue);
     }
 }
@@ -1,17 +1,17 @@
 package teammates.common.util;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
-import com.google.appengine.api.blobstore.BlobInfoFactory;
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
+import com.google.appengine.api.images.Image;
+import com.google.appengine.api.images.ImagesService;
+import com.google.appengine.api.images.ImagesServiceFactory;
+import com.google.appengine.api.images.OutputSettings;
+import com.google.appengine.api.images.Transform;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
@@ -23,7 +23,9 @@ import com.google.appengine.tools.cloudstorage.RetryParams;
  */
 public final class GoogleCloudStorageHelper {
 
-    private static final int MAX_READING_LENGTH = 900000;
+    private static final String THUMBNAIL_FILE_PREFIX = "thumbnails/";
+    /** Size of the thumbnails in pixels, which covers the largest size at which lists show profile pictures. */
+    private static final int THUMBNAIL_SIZE = 130;
     private static final Logger log = Logger.getLogger();
 
     private GoogleCloudStorageHelper() {
@@ -56,12 +58,37 @@ public final class GoogleCloudStorageHelper {
 
     /**
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
-     * with the {@code googleId} as the identifier name for the image.
+     * with the {@code googleId} and the digest of {@code imageData} as the identifier name for the image.
+     * <br> As the name depends on the image content, a blob key always refers to the same image
+     * and new images never replace existing ones.
      *
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
+        return writeImageFileToGcs(googleId + "-" + CryptoHelper.computeDigest(imageData), imageData);
+    }
+
+    /**
+     * Generates a thumbnail of the image {@code imageData} and writes it to the Google Cloud Storage
+     * as the thumbnail of the image with the given {@code pictureKey}, so that pages listing many pictures
+     * need not download the full-sized ones.
+     * <br> The key returned should be recorded with the picture; whether a thumbnail exists is not checked
+     * in Google Cloud Storage when the picture is served.
+     *
+     * @return the {@link BlobKey} used as the thumbnail's identifier in Google Cloud Storage
+     * @throws IllegalArgumentException if {@code imageData} is not an image
+     */
+    public static String writeThumbnailToGcs(String pictureKey, byte[] imageData) throws IOException {
+        Transform thumbnailCompress = ImagesServiceFactory.makeResize(THUMBNAIL_SIZE, THUMBNAIL_SIZE);
+        OutputSettings settings = new OutputSettings(ImagesService.OutputEncoding.PNG);
+        Image thumbnail = ImagesServiceFactory.getImagesService()
+                .applyTransform(thumbnailCompress, ImagesServiceFactory.makeImage(imageData), settings);
+
+        return writeImageFileToGcs(getThumbnailFileName(pictureKey), thumbnail.getImageData());
+    }
+
+    private static String writeImageFileToGcs(String fileName, byte[] imageData) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, fileName);
         try (GcsOutputChannel outputChannel =
                 GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
                 .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
@@ -69,8 +96,16 @@ public final class GoogleCloudStorageHelper {
             outputChannel.write(ByteBuffer.wrap(imageData));
         }
 
+        return createGsBlobKey(fileName).getKeyString();
+    }
+
+    private static String getThumbnailFileName(String pictureKey) {
+        return THUMBNAIL_FILE_PREFIX + CryptoHelper.computeDigest(pictureKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BlobKey createGsBlobKey(String fileName) {
         return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + fileName);
     }
 
     /**
@@ -89,95 +124,13 @@ public final class GoogleCloudStorageHelper {
     }
 
     /**
-     * Gets the file with the specified {@link BlobKey} in the Google Cloud Storage,
-     * parses it and returns it as a list of list.<br>
+     * Returns a reader for the email addresses in the group receiver list file with the specified {@link BlobKey}
+     * in the Google Cloud Storage, starting at the byte offset {@code startOffset}.<br>
      * Assumption: the file represented by {@code blobKey} is a valid txt file
-     *             that can be parsed into a comma-separated list
+     *             containing email addresses separated by comma or line break
      */
-    public static List<List<String>> getGroupReceiverList(BlobKey blobKey) throws IOException {
-        Assumption.assertNotNull(blobKey);
-
-        // It turns out that error will occur if we read more than around 900000 bytes of data per time
-        // from the blobstream, which also brings problems when this large number of emails are all stored in one
-        // list. As a result, to prevent unexpected errors, we read the txt file several times and each time
-        // at most 900000 bytes are read, after which a new list is created to store all the emails addresses that
-        // happen to be in the newly read bytes.
-
-        // For email address which happens to be broken according to two consecutive reading, a check will be done
-        // before storing all emails separated from the second reading into a new list.
-        // Broken email will be fixed by deleting the first item of the email list from current reading
-        // AND appending it to the last item of the email list from last reading.
-
-        // The email list from each reading is inserted into an upper list (list of list).
-        // The structure is as below:
-
-        // ListOfList:
-        //       ListFromReading_1 :
-        //                     [example@email.com]
-        //                            ...
-        //       ListFromReading_2 :
-        //                     [example@email.com]
-        //                            ...
-
-        // This is the list of list
-        List<List<String>> listOfList = new LinkedList<>();
-
-        // Offset is needed for remembering where it stops from last reading
-        int offset = 0;
-
-        // File size is needed to track the number of unread bytes
-        int size = (int) getFileSize(blobKey);
-
-        while (size > 0) {
-            // Make sure not to over-read
-            int bytesToRead = Math.min(size, MAX_READING_LENGTH);
-            byte[] array = new byte[bytesToRead];
-            try (InputStream blobStream = new BlobstoreInputStream(blobKey, offset)) {
-
-                blobStream.read(array);
-            }
-            // Remember where it stops reading
-            offset += MAX_READING_LENGTH;
-            // Decrease unread bytes
-            size -= MAX_READING_LENGTH;
-
-            // Get the read bytes into string and split it by ","
-            String readString = new String(array);
-            List<String> newList = Arrays.asList(readString.split(","));
-
-            if (listOfList.isEmpty()) {
-                // This is the first time reading
-                listOfList.add(newList);
-            } else {
-                // Check if the last reading stopped in the middle of a email address string
-                List<String> lastAddedList = listOfList.get(listOfList.size() - 1);
-                // Get the last item of the list from last reading
-                String lastStringOfLastAddedList = lastAddedList.get(lastAddedList.size() - 1);
-                // Get the first item of the list from current reading
-                String firstStringOfNewList = newList.get(0);
-
-                if (lastStringOfLastAddedList.contains("@") && firstStringOfNewList.contains("@")) {
-                    // No broken email from last reading found, simply add the list
-                    // from current reading into the upper list.
-                    listOfList.add(newList);
-                } else {
-                    // Either the left part or the right part of the broken email string does not contains a "@".
-                    // Simply append the right part to the left part (last item of the list from last reading).
-                    listOfList.get(listOfList.size() - 1)
-                            .set(lastAddedList.size() - 1, lastStringOfLastAddedList + firstStringOfNewList);
-
-                    // And also needs to delete the right part which is the first item of the list from current reading
-                    listOfList.add(newList.subList(1, newList.size() - 1));
-                }
-            }
-        }
-
-        return listOfList;
-    }
-
-    private static long getFileSize(BlobKey blobKey) {
-        BlobInfoFactory blobInfoFactory = new BlobInfoFactory();
-        return blobInfoFactory.loadBlobInfo(blobKey).getSize();
+    public static GroupReceiverListReader getGroupReceiverListReader(BlobKey blobKey, long startOffset) {
+        return new GroupReceiverListReader(blobKey, startOffset);
     }
 
 }
@@ -0,0 +1,123 @@
+package teammates.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.blobstore.BlobstoreService;
+import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
+
+/**
+ * Reads the email addresses in a group receiver list file stored in Google Cloud Storage, one at a time.
+ *
+ * <p>The file is fetched in bounded chunks as reading proceeds, so that only a small part of it is held in memory.
+ * Reading can start at any byte offset previously returned by {@link #getOffset()}, which allows a long-running
+ * task to stop and resume without reading the file again from the start.
+ *
+ * <p>Email addresses are separated by commas or line breaks; surrounding whitespace and empty entries are ignored.
+ */
+public class GroupReceiverListReader {
+
+    /** Number of bytes fetched at a time; must not exceed {@link BlobstoreService#MAX_BLOB_FETCH_SIZE}. */
+    private static final int FETCH_SIZE = 512 * 1024;
+
+    private final BlobKey blobKey;
+    private final BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
+
+    private byte[] buffer = new byte[0];
+    private int bufferPosition;
+    private long bufferStartOffset;
+    private boolean isEndOfFileReached;
+    private boolean hasFetched;
+
+    /**
+     * Creates a reader which starts reading the file with the given {@code blobKey} at {@code startOffset}.
+     */
+    public GroupReceiverListReader(BlobKey blobKey, long startOffset) {
+        Assumption.assertNotNull(blobKey);
+        Assumption.assertTrue(startOffset >= 0);
+        this.blobKey = blobKey;
+        this.bufferStartOffset = startOffset;
+    }
+
+    /**
+     * Returns the next email address in the file, or null if there are no more.
+     */
+    public String next() {
+        ByteArrayOutputStream entry = new ByteArrayOutputStream();
+        while (bufferPosition < buffer.length || fetchNextChunk()) {
+            byte nextByte = buffer[bufferPosition++];
+            if (!isSeparator(nextByte)) {
+                entry.write(nextByte);
+                continue;
+            }
+
+            String emailAddress = toEmailAddress(entry);
+            if (emailAddress != null) {
+                return emailAddress;
+            }
+            entry.reset();
+        }
+        // the last entry need not be followed by a separator
+        return toEmailAddress(entry);
+    }
+
+    /**
+     * Returns the byte offset right after the last email address returned by {@link #next()},
+     * i.e. the offset from which reading should be resumed.
+     */
+    public long getOffset() {
+        return bufferStartOffset + bufferPosition;
+    }
+
+    private boolean fetchNextChunk() {
+        if (isEndOfFileReached) {
+            return false;
+        }
+
+        long nextOffset = getOffset();
+        if (!hasFetched && nextOffset > 0 && !hasByteAt(nextOffset - 1)) {
+            // fetchData past the end of the file need not fail, e.g. on the dev server, so this is checked explicitly
+            throw new IllegalArgumentException("Cannot resume reading at offset " + nextOffset
+                    + ", which is past the end of the file or in a file that does not exist");
+        }
+        hasFetched = true;
+
+        byte[] chunk;
+        try {
+            // the end index of fetchData is inclusive
+            chunk = blobstoreService.fetchData(blobKey, nextOffset, nextOffset + FETCH_SIZE - 1);
+        } catch (IllegalArgumentException e) {
+            // fetchData also fails for missing files, so only treat it as the end of the file
+            // when reading (or resuming) right after the last byte of the file
+            if (nextOffset == 0 || !hasByteAt(nextOffset - 1)) {
+                throw e;
+            }
+            chunk = new byte[0];
+        }
+
+        isEndOfFileReached = chunk.length < FETCH_SIZE;
+        buffer = chunk;
+        bufferPosition = 0;
+        bufferStartOffset = nextOffset;
+        return chunk.length > 0;
+    }
+
+    private boolean hasByteAt(long offset) {
+        try {
+            return blobstoreService.fetchData(blobKey, offset, offset).length == 1;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == '\n' || b == '\r';
+    }
+
+    private static String toEmailAddress(ByteArrayOutputStream entry) {
+        String emailAddress = new String(entry.toByteArray(), StandardCharsets.UTF_8).trim();
+        return emailAddress.isEmpty() ? null : emailAddress;
+    }
+
+}
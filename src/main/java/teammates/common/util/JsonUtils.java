@@ -22,6 +22,14 @@ import com.google.gson.JsonSyntaxException;
  */
 public final class JsonUtils {
 
+    /**
+     * Shared by all callers, as a {@link Gson} is thread-safe and caches the type adapters it builds
+     * by reflection; a new one for every call would rebuild them every time.
+     */
+    private static final Gson TEAMMATES_GSON = createTeammatesGson();
+
+    private static final Gson DEFAULT_GSON = new Gson();
+
     private JsonUtils() {
         // utility class
     }
@@ -30,7 +38,7 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getTeammatesGson() {
+    private static Gson createTeammatesGson() {
         return new GsonBuilder().registerTypeAdapter(Date.class, new TeammatesDateAdapter())
                                 .setPrettyPrinting()
                                 .disableHtmlEscaping()
@@ -43,7 +51,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -52,7 +60,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
     }
 
     /**
@@ -62,10 +70,10 @@ public final class JsonUtils {
      */
     public static <T> T fromJson(String json, Type typeOfT) {
         try {
-            return getTeammatesGson().fromJson(json, typeOfT);
+            return TEAMMATES_GSON.fromJson(json, typeOfT);
         } catch (JsonSyntaxException e) {
             // some of the existing data does not use the prescribed date format
-            return new Gson().fromJson(json, typeOfT);
+            return DEFAULT_GSON.fromJson(json, typeOfT);
         }
     }
 
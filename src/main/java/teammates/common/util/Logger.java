@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.util.logging.Level;
+
 /**
  * Allows any component of the application to log messages at appropriate levels.
  */
@@ -25,6 +27,14 @@ public final class Logger {
         log.fine(msg);
     }
 
+    /**
+     * Returns true if messages at FINE level are logged.
+     * Used to skip building messages that would not be logged.
+     */
+    public boolean isFineLoggable() {
+        return log.isLoggable(Level.FINE);
+    }
+
     /**
      * Logs a message at INFO level.
      *
@@ -0,0 +1,158 @@
+package teammates.common.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.apphosting.api.ApiProxy;
+import com.google.apphosting.api.ApiProxy.ApiConfig;
+import com.google.apphosting.api.ApiProxy.Delegate;
+import com.google.apphosting.api.ApiProxy.Environment;
+
+/**
+ * Wraps the GAE API proxy so that every API call made while a {@link RequestMetrics} is being recorded
+ * is counted and timed. All datastore, search, memcache, task queue, mail and URL fetch calls
+ * go through the API proxy, no matter which class makes them.
+ *
+ * <p>Calls made while no metrics are being recorded are passed through untouched.
+ */
+public final class ProfilingApiProxyDelegate implements Delegate<Environment> {
+
+    private final Delegate<Environment> delegate;
+
+    private ProfilingApiProxyDelegate(Delegate<Environment> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the current API proxy delegate, if it is not already wrapped.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void install() {
+        Delegate<Environment> current = ApiProxy.getDelegate();
+        if (current == null || current instanceof ProfilingApiProxyDelegate) {
+            return;
+        }
+        ApiProxy.setDelegate(new ProfilingApiProxyDelegate(current));
+    }
+
+    @Override
+    public byte[] makeSyncCall(Environment environment, String packageName, String methodName, byte[] request) {
+        RequestMetrics metrics = RequestMetrics.getCurrent();
+        if (metrics == null) {
+            return delegate.makeSyncCall(environment, packageName, methodName, request);
+        }
+
+        long startTime = System.currentTimeMillis();
+        byte[] response = null;
+        try {
+            response = delegate.makeSyncCall(environment, packageName, methodName, request);
+            return response;
+        } finally {
+            metrics.recordApiCall(packageName + "." + methodName, System.currentTimeMillis() - startTime,
+                                  sizeOf(request), sizeOf(response));
+        }
+    }
+
+    @Override
+    public Future<byte[]> makeAsyncCall(Environment environment, String packageName, String methodName,
+                                        byte[] request, ApiConfig apiConfig) {
+        Future<byte[]> response = delegate.makeAsyncCall(environment, packageName, methodName, request, apiConfig);
+        RequestMetrics metrics = RequestMetrics.getCurrent();
+        if (metrics == null) {
+            return response;
+        }
+        return new ProfiledFuture(response, metrics, packageName + "." + methodName, sizeOf(request));
+    }
+
+    @Override
+    public void log(Environment environment, ApiProxy.LogRecord record) {
+        delegate.log(environment, record);
+    }
+
+    @Override
+    public void flushLogs(Environment environment) {
+        delegate.flushLogs(environment);
+    }
+
+    @Override
+    public List<Thread> getRequestThreads(Environment environment) {
+        return delegate.getRequestThreads(environment);
+    }
+
+    private static int sizeOf(byte[] payload) {
+        return payload == null ? 0 : payload.length;
+    }
+
+    /**
+     * The response of an asynchronous call, which records the call the first time the response is read.
+     * The latency recorded is the time from the call until the response is read.
+     */
+    private static class ProfiledFuture implements Future<byte[]> {
+
+        private final Future<byte[]> response;
+        private final RequestMetrics metrics;
+        private final String apiCall;
+        private final int requestBytes;
+        private final long startTime = System.currentTimeMillis();
+        private boolean isRecorded;
+
+        ProfiledFuture(Future<byte[]> response, RequestMetrics metrics, String apiCall, int requestBytes) {
+            this.response = response;
+            this.metrics = metrics;
+            this.apiCall = apiCall;
+            this.requestBytes = requestBytes;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return response.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return response.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return response.isDone();
+        }
+
+        @Override
+        public byte[] get() throws InterruptedException, ExecutionException {
+            byte[] result = null;
+            try {
+                result = response.get();
+                return result;
+            } finally {
+                record(result);
+            }
+        }
+
+        @Override
+        public byte[] get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            byte[] result = null;
+            try {
+                result = response.get(timeout, unit);
+                return result;
+            } finally {
+                if (response.isDone()) {
+                    record(result);
+                }
+            }
+        }
+
+        private synchronized void record(byte[] result) {
+            if (isRecorded) {
+                return;
+            }
+            isRecorded = true;
+            metrics.recordApiCall(apiCall, System.currentTimeMillis() - startTime, requestBytes, sizeOf(result));
+        }
+
+    }
+
+}
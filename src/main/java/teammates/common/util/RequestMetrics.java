@@ -0,0 +1,163 @@
+package teammates.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records the GAE API calls (datastore, search, memcache, task queue, mail, URL fetch, ...)
+ * made while serving a single request, so that requests making too many calls can be found.
+ *
+ * <p>A request is recorded from {@link #start()} until {@link #stop()}, both called on the thread
+ * serving the request. Calls are recorded by {@link ProfilingApiProxyDelegate}.
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    /** Statistics of each API call, by API call name in the form {@code package.method}. */
+    private final Map<String, ApiCallStats> statsByApiCall = new TreeMap<>();
+
+    private RequestMetrics() {
+        // use start() instead
+    }
+
+    /**
+     * Starts recording the API calls made by the current thread.
+     */
+    public static RequestMetrics start() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * Returns the metrics being recorded for the current thread, or null if none is being recorded.
+     */
+    public static RequestMetrics getCurrent() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops recording API calls made by the current thread.
+     */
+    public void stop() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Records a call to {@code apiCall}.
+     *
+     * @param apiCall the name of the call, e.g. {@code datastore_v3.RunQuery}
+     * @param latencyMillis the time taken by the call
+     * @param requestBytes the size of the request payload
+     * @param responseBytes the size of the response payload, or 0 if the call failed
+     */
+    public synchronized void recordApiCall(String apiCall, long latencyMillis, int requestBytes, int responseBytes) {
+        ApiCallStats stats = statsByApiCall.get(apiCall);
+        if (stats == null) {
+            stats = new ApiCallStats();
+            statsByApiCall.put(apiCall, stats);
+        }
+        stats.count++;
+        stats.totalLatencyMillis += latencyMillis;
+        stats.totalRequestBytes += requestBytes;
+        stats.totalResponseBytes += responseBytes;
+    }
+
+    /**
+     * Returns the statistics of each API call made, by API call name.
+     */
+    public synchronized Map<String, ApiCallStats> getStatsByApiCall() {
+        Map<String, ApiCallStats> copy = new TreeMap<>();
+        for (Map.Entry<String, ApiCallStats> entry : statsByApiCall.entrySet()) {
+            copy.put(entry.getKey(), new ApiCallStats(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Returns the number of API calls made.
+     */
+    public synchronized int getTotalCallCount() {
+        int total = 0;
+        for (ApiCallStats stats : statsByApiCall.values()) {
+            total += stats.count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of calls made to APIs in {@code apiPackage}, e.g. {@code datastore_v3}.
+     */
+    public synchronized int getCallCount(String apiPackage) {
+        int total = 0;
+        for (Map.Entry<String, ApiCallStats> entry : statsByApiCall.entrySet()) {
+            if (entry.getKey().startsWith(apiPackage + ".")) {
+                total += entry.getValue().count;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns a one-line summary of the API calls made, e.g.
+     * {@code calls=4 [datastore_v3.Get x3 12ms 240B/1024B; memcache.Get x1 2ms 40B/0B]},
+     * where the sizes are those of the requests and the responses.
+     */
+    public synchronized String toSummaryString() {
+        StringBuilder summary = new StringBuilder("calls=").append(getTotalCallCount()).append(" [");
+        String separator = "";
+        for (Map.Entry<String, ApiCallStats> entry : statsByApiCall.entrySet()) {
+            ApiCallStats stats = entry.getValue();
+            summary.append(separator).append(entry.getKey())
+                   .append(" x").append(stats.count)
+                   .append(' ').append(stats.totalLatencyMillis).append("ms ")
+                   .append(stats.totalRequestBytes).append("B/").append(stats.totalResponseBytes).append('B');
+            separator = "; ";
+        }
+        return summary.append(']').toString();
+    }
+
+    /**
+     * Statistics of the calls to a single API method.
+     */
+    public static class ApiCallStats {
+
+        private int count;
+        private long totalLatencyMillis;
+        private long totalRequestBytes;
+        private long totalResponseBytes;
+
+        ApiCallStats() {
+            // starts with no calls
+        }
+
+        ApiCallStats(ApiCallStats other) {
+            this.count = other.count;
+            this.totalLatencyMillis = other.totalLatencyMillis;
+            this.totalRequestBytes = other.totalRequestBytes;
+            this.totalResponseBytes = other.totalResponseBytes;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getTotalLatencyMillis() {
+            return totalLatencyMillis;
+        }
+
+        public long getTotalRequestBytes() {
+            return totalRequestBytes;
+        }
+
+        public long getTotalResponseBytes() {
+            return totalResponseBytes;
+        }
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates the {@link RequestMetrics} of the requests served by this instance, by action,
+ * so that the percentiles of the time taken and of the number of API calls can be shown to the admin.
+ *
+ * <p>Only the latest {@link #SAMPLES_PER_ACTION} requests of each action are kept.
+ * The statistics are those of the current instance only and are lost when the instance shuts down.
+ */
+public final class RequestMetricsAggregator {
+
+    /** Maximum number of requests kept for each action. */
+    public static final int SAMPLES_PER_ACTION = 500;
+
+    private static final String DATASTORE_API_PACKAGE = "datastore_v3";
+
+    private static final Map<String, Samples> SAMPLES_BY_ACTION = new ConcurrentHashMap<>();
+
+    private RequestMetricsAggregator() {
+        // utility class
+    }
+
+    /**
+     * Records a request served by the action named {@code actionName}.
+     */
+    public static void record(String actionName, long timeTakenMillis, RequestMetrics metrics) {
+        Samples samples = SAMPLES_BY_ACTION.computeIfAbsent(actionName, name -> new Samples());
+        samples.add(timeTakenMillis, metrics.getTotalCallCount(), metrics.getCallCount(DATASTORE_API_PACKAGE));
+    }
+
+    /**
+     * Returns the statistics of each action that served a request, sorted by action name.
+     */
+    public static List<ActionStats> getActionStats() {
+        List<ActionStats> actionStats = new ArrayList<>();
+        for (Map.Entry<String, Samples> entry : SAMPLES_BY_ACTION.entrySet()) {
+            actionStats.add(entry.getValue().toActionStats(entry.getKey()));
+        }
+        actionStats.sort((first, second) -> first.getActionName().compareTo(second.getActionName()));
+        return actionStats;
+    }
+
+    /**
+     * Discards all recorded requests.
+     */
+    public static void clear() {
+        SAMPLES_BY_ACTION.clear();
+    }
+
+    /**
+     * Returns the {@code percentile}-th percentile of {@code sortedValues} by the nearest-rank method.
+     */
+    static long getPercentile(long[] sortedValues, int percentile) {
+        if (sortedValues.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedValues.length);
+        return sortedValues[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * The latest requests of an action, in a ring buffer.
+     */
+    private static class Samples {
+
+        private final long[] timesTaken = new long[SAMPLES_PER_ACTION];
+        private final long[] callCounts = new long[SAMPLES_PER_ACTION];
+        private final long[] datastoreCallCounts = new long[SAMPLES_PER_ACTION];
+        private long totalRequests;
+
+        synchronized void add(long timeTaken, int callCount, int datastoreCallCount) {
+            int index = (int) (totalRequests % SAMPLES_PER_ACTION);
+            timesTaken[index] = timeTaken;
+            callCounts[index] = callCount;
+            datastoreCallCounts[index] = datastoreCallCount;
+            totalRequests++;
+        }
+
+        synchronized ActionStats toActionStats(String actionName) {
+            int size = (int) Math.min(totalRequests, SAMPLES_PER_ACTION);
+            return new ActionStats(actionName, totalRequests, size,
+                                   sortedCopy(timesTaken, size), sortedCopy(callCounts, size),
+                                   sortedCopy(datastoreCallCounts, size));
+        }
+
+        private static long[] sortedCopy(long[] values, int size) {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+    }
+
+    /**
+     * Percentiles of the time taken and of the number of API calls made by the latest requests of an action.
+     */
+    public static class ActionStats {
+
+        private final String actionName;
+        private final long totalRequests;
+        private final int sampledRequests;
+        private final long[] sortedTimesTaken;
+        private final long[] sortedCallCounts;
+        private final long[] sortedDatastoreCallCounts;
+
+        ActionStats(String actionName, long totalRequests, int sampledRequests, long[] sortedTimesTaken,
+                    long[] sortedCallCounts, long[] sortedDatastoreCallCounts) {
+            this.actionName = actionName;
+            this.totalRequests = totalRequests;
+            this.sampledRequests = sampledRequests;
+            this.sortedTimesTaken = sortedTimesTaken;
+            this.sortedCallCounts = sortedCallCounts;
+            this.sortedDatastoreCallCounts = sortedDatastoreCallCounts;
+        }
+
+        public String getActionName() {
+            return actionName;
+        }
+
+        /**
+         * Returns the number of requests served by the action since the instance started.
+         */
+        public long getTotalRequests() {
+            return totalRequests;
+        }
+
+        /**
+         * Returns the number of requests the percentiles are computed from.
+         */
+        public int getSampledRequests() {
+            return sampledRequests;
+        }
+
+        public long getTimeTakenPercentile(int percentile) {
+            return getPercentile(sortedTimesTaken, percentile);
+        }
+
+        public long getCallCountPercentile(int percentile) {
+            return getPercentile(sortedCallCounts, percentile);
+        }
+
+        public long getDatastoreCallCountPercentile(int percentile) {
+            return getPercentile(sortedDatastoreCallCounts, percentile);
+        }
+
+        public long getMaxCallCount() {
+            return getPercentile(sortedCallCounts, 100);
+        }
+
+    }
+
+}
@@ -519,6 +519,20 @@ public final class StringHelper {
         return String.join(delimiter, toStringArray(elements));
     }
 
+    /**
+     * Concatenates a list of integers, with the delimiter between each of them.
+     */
+    public static String join(String delimiter, int... elements) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < elements.length; i++) {
+            if (i > 0) {
+                joined.append(delimiter);
+            }
+            joined.append(elements[i]);
+        }
+        return joined.toString();
+    }
+
     /**
      * Converts list of integer to array of strings.
      */
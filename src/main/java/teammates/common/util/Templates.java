@@ -54,6 +54,8 @@ public final class Templates {
                 FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
         public static final String SEVERE_ERROR_LOG_LINE =
                 FileHelper.readResourceFile("severeErrorLogLine.html");
+        public static final String SEVERE_ERROR_LOG_LINES_OMITTED =
+                FileHelper.readResourceFile("severeErrorLogLinesOmitted.html");
         public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
                 FileHelper.readResourceFile("newInstructorAccountWelcome.html");
         public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
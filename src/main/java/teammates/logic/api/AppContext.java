@@ -0,0 +1,44 @@
+package teammates.logic.api;
+
+/**
+ * Holds the stateless services shared by all requests served by an instance,
+ * so that they are created once per instance instead of once per request.
+ *
+ * <p>The services are created when this class is first used; {@link #init()} can be called
+ * from servlet initialisation to create them before the first request.
+ */
+public final class AppContext {
+
+    private static final Logic LOGIC = new Logic();
+    private static final GateKeeper GATE_KEEPER = new GateKeeper();
+    private static final TaskQueuer TASK_QUEUER = new TaskQueuer();
+    private static final EmailSender EMAIL_SENDER = new EmailSender();
+
+    private AppContext() {
+        // utility class
+    }
+
+    /**
+     * Creates the shared services if they have not been created yet.
+     */
+    public static void init() {
+        // the services are created when the class is initialised, which calling this method ensures
+    }
+
+    public static Logic getLogic() {
+        return LOGIC;
+    }
+
+    public static GateKeeper getGateKeeper() {
+        return GATE_KEEPER;
+    }
+
+    public static TaskQueuer getTaskQueuer() {
+        return TASK_QUEUER;
+    }
+
+    public static EmailSender getEmailSender() {
+        return EMAIL_SENDER;
+    }
+
+}
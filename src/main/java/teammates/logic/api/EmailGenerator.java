@@ -2,16 +2,18 @@ package teammates.logic.api;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 
-import com.google.appengine.api.log.AppLogLine;
-
+import teammates.common.datatransfer.SevereLogsCompilation;
+import teammates.common.datatransfer.SevereLogsCompilation.SevereLogEntry;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.CompiledTemplate;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
@@ -50,6 +52,21 @@ public class EmailGenerator {
             "<p>No action is required if you have already submitted.</p>" + System.lineSeparator();
 
     private static final Logger log = Logger.getLogger();
+
+    // templates used for each recipient of bulk emails, compiled once
+    private static final CompiledTemplate FEEDBACK_SESSION_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+    private static final CompiledTemplate FEEDBACK_SESSION_PUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED);
+    private static final CompiledTemplate FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED);
+    private static final CompiledTemplate FEEDBACK_SESSION_RESEND_ALL_LINKS_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS);
+    private static final CompiledTemplate SINGLE_FEEDBACK_SESSION_LINKS_FRAGMENT =
+            CompiledTemplate.compile(EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS);
+
+    private static final String UNIQUE_LINK_PLACEHOLDER_FOR_INSTRUCTORS =
+            "{in the actual email sent to the students, this will be the unique link}";
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
@@ -60,7 +77,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.bind("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -71,12 +88,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
     }
 
     /**
@@ -88,7 +101,7 @@ public class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, List<InstructorAttributes> instructorsToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.bind("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         List<EmailWrapper> emails =
                 generateFeedbackSessionEmailBasesForInstructorReminders(course, session, instructorsToRemind, template,
@@ -119,7 +132,7 @@ public class EmailGenerator {
             }
         }
 
-        StringBuffer linksFragmentValue = new StringBuffer(1000);
+        StringBuilder linksFragmentValue = new StringBuilder(1000);
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
         String joinFragmentValue = isYetToJoinCourse(student)
@@ -153,15 +166,14 @@ public class EmailGenerator {
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
-                    EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
+            linksFragmentValue.append(SINGLE_FEEDBACK_SESSION_LINKS_FRAGMENT.populate(
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", fsa.getEndTimeString() + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
                     "${reportUrl}", reportUrlHtml));
         }
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
-        String emailBody = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS,
+        String emailBody = FEEDBACK_SESSION_RESEND_ALL_LINKS_TEMPLATE.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
                 "${userEmail}", student.email,
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
@@ -210,12 +222,34 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBasesForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors,
-            String template, String subject) {
+            CompiledTemplate template, String subject) {
+
+        String submitUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE)
+                                 .withCourseId(course.getId())
+                                 .withSessionName(session.getFeedbackSessionName())
+                                 .toAbsoluteString();
+
+        String reportUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
+                                 .withCourseId(course.getId())
+                                 .withSessionName(session.getFeedbackSessionName())
+                                 .toAbsoluteString();
+
+        // only the name of the instructor differs between the emails
+        CompiledTemplate instructorTemplate = bindSessionDetails(template, course, session, FEEDBACK_ACTION_SUBMIT).bind(
+                "${instructorFragment}", "",
+                "${submitUrl}", submitUrl,
+                "${reportUrl}", reportUrl);
+        String emailSubject = String.format(subject, course.getName(), session.getFeedbackSessionName());
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructorReminders(course, session, instructor,
-                    template, subject));
+            String emailBody = instructorTemplate.populate(
+                    "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
+
+            EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
+            email.setSubject(emailSubject);
+            email.setContent(emailBody);
+            emails.add(email);
         }
         return emails;
     }
@@ -244,38 +278,6 @@ public class EmailGenerator {
 
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForInstructorReminders(
-            CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject) {
-
-        String submitUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE)
-                                 .withCourseId(course.getId())
-                                 .withSessionName(session.getFeedbackSessionName())
-                                 .toAbsoluteString();
-
-        String reportUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
-                                 .withCourseId(course.getId())
-                                 .withSessionName(session.getFeedbackSessionName())
-                                 .toAbsoluteString();
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", FEEDBACK_ACTION_SUBMIT);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
-        return email;
-    }
-
     /**
      * Generates the feedback session closing emails for the given {@code session}.
      */
@@ -303,7 +305,7 @@ public class EmailGenerator {
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.bind("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         List<InstructorAttributes> instructors = isEmailNeeded
                                                  ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
@@ -336,7 +338,7 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.bind("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
                 EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
@@ -347,7 +349,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+        CompiledTemplate template = FEEDBACK_SESSION_PUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
@@ -368,7 +370,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+        CompiledTemplate template = FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
@@ -385,7 +387,7 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject) {
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject) {
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template, subject,
                 FEEDBACK_ACTION_SUBMIT, additionalContactInformation);
@@ -393,24 +395,50 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject, String feedbackAction,
-            String addtionalContactInformation) {
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject, String feedbackAction,
+            String additionalContactInformation) {
+
+        // the parts common to all recipients are filled in once for all the emails
+        CompiledTemplate sessionTemplate = bindSessionDetails(template, course, session, feedbackAction).bind(
+                "${additionalContactInformation}", additionalContactInformation);
+        String emailSubject = String.format(subject, course.getName(), session.getFeedbackSessionName());
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, addtionalContactInformation));
+                    sessionTemplate, emailSubject));
         }
-        for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, subject, feedbackAction, addtionalContactInformation));
+
+        if (!instructors.isEmpty()) {
+            String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
+            CompiledTemplate instructorTemplate = sessionTemplate.bind(
+                    "${instructorFragment}", instructorFragment,
+                    "${submitUrl}", UNIQUE_LINK_PLACEHOLDER_FOR_INSTRUCTORS,
+                    "${reportUrl}", UNIQUE_LINK_PLACEHOLDER_FOR_INSTRUCTORS);
+            for (InstructorAttributes instructor : instructors) {
+                emails.add(generateFeedbackSessionEmailBaseForInstructors(instructor, instructorTemplate, emailSubject));
+            }
         }
         return emails;
     }
 
+    /**
+     * Fills in the details of {@code session} which are the same for all recipients of the emails about it.
+     */
+    private CompiledTemplate bindSessionDetails(CompiledTemplate template, CourseAttributes course,
+                                                FeedbackSessionAttributes session, String feedbackAction) {
+        return template.bind(
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
+                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
+                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
+                "${sessionInstructions}", session.getInstructionsString(),
+                "${feedbackAction}", feedbackAction);
+    }
+
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            CompiledTemplate sessionTemplate, String emailSubject) {
 
         String submitUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE)
                                  .withCourseId(course.getId())
@@ -426,21 +454,14 @@ public class EmailGenerator {
                                  .withStudentEmail(student.email)
                                  .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = sessionTemplate.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
                 "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
                 "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
+        email.setSubject(emailSubject);
         email.setContent(emailBody);
         return email;
     }
@@ -461,26 +482,13 @@ public class EmailGenerator {
     }
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String feedbackAction, String additionalContactInformation) {
+            InstructorAttributes instructor, CompiledTemplate instructorTemplate, String emailSubject) {
 
-        String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", instructorFragment,
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+        String emailBody = instructorTemplate.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
+        email.setSubject(emailSubject);
         email.setContent(emailBody);
         return email;
     }
@@ -615,12 +623,18 @@ public class EmailGenerator {
     }
 
     /**
-     * Generates the logs compilation email for the given {@code logs}.
+     * Generates the logs compilation email for the given {@code compilation}.
      */
-    public EmailWrapper generateCompiledLogsEmail(List<AppLogLine> logs) {
+    public EmailWrapper generateCompiledLogsEmail(SevereLogsCompilation compilation) {
         StringBuilder emailBody = new StringBuilder();
-        for (int i = 0; i < logs.size(); i++) {
-            emailBody.append(generateSevereErrorLogLine(i, logs.get(i)));
+        List<SevereLogEntry> entries = compilation.getEntries();
+        for (int i = 0; i < entries.size(); i++) {
+            emailBody.append(generateSevereErrorLogLine(i, entries.get(i)));
+        }
+        if (compilation.getOmittedCount() > 0) {
+            emailBody.append(Templates.populateTemplate(
+                    EmailTemplates.SEVERE_ERROR_LOG_LINES_OMITTED,
+                    "${omittedCount}", String.valueOf(compilation.getOmittedCount())));
         }
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(Config.SUPPORT_EMAIL);
@@ -629,12 +643,15 @@ public class EmailGenerator {
         return email;
     }
 
-    private String generateSevereErrorLogLine(int index, AppLogLine logLine) {
+    private String generateSevereErrorLogLine(int index, SevereLogEntry entry) {
         return Templates.populateTemplate(
                 EmailTemplates.SEVERE_ERROR_LOG_LINE,
                 "${index}", String.valueOf(index),
-                "${errorType}", logLine.getLogLevel().toString(),
-                "${errorMessage}", logLine.getLogMessage().replace("\n", "<br>"));
+                "${errorType}", entry.getLogLevel().toString(),
+                "${occurrences}", String.valueOf(entry.getCount()),
+                "${firstSeen}", TimeHelper.formatDateToIso8601Utc(new Date(entry.getFirstSeenMillis())),
+                "${lastSeen}", TimeHelper.formatDateToIso8601Utc(new Date(entry.getLastSeenMillis())),
+                "${errorMessage}", entry.getMessage().replace("\n", "<br>"));
     }
 
     /**
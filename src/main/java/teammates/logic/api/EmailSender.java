@@ -46,6 +46,26 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Groups the given {@code messages} into batches that can each be sent
+     * in a single call to the email sending service.
+     */
+    public List<List<EmailWrapper>> groupIntoBatches(List<EmailWrapper> messages) {
+        return service.groupIntoBatches(messages);
+    }
+
+    /**
+     * Sends the given {@code messages} in as few calls to the email sending service as possible
+     * and generates a log report for each of them.
+     */
+    public void sendEmails(List<EmailWrapper> messages) throws EmailSendingException {
+        service.sendEmails(messages);
+
+        for (EmailWrapper message : messages) {
+            log.info(new EmailLogEntry(message).generateLogMessage());
+        }
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
@@ -1,15 +1,20 @@
 package teammates.logic.api;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 import com.google.appengine.api.blobstore.BlobKey;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
@@ -17,6 +22,7 @@ import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
+import teammates.common.datatransfer.OutboxEmailStatus;
 import teammates.common.datatransfer.SectionDetailsBundle;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
@@ -24,11 +30,13 @@ import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.EnrollException;
@@ -42,11 +50,13 @@ import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EmailOutboxBatchesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.OutboxEmailsLogic;
 import teammates.logic.core.ProfilesLogic;
 import teammates.logic.core.StudentsLogic;
 
@@ -68,6 +78,8 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final EmailOutboxBatchesLogic emailOutboxBatchesLogic = EmailOutboxBatchesLogic.inst();
+    protected static final OutboxEmailsLogic outboxEmailsLogic = OutboxEmailsLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -180,6 +192,24 @@ public class Logic {
         profilesLogic.updateStudentProfilePicture(googleId, newPictureKey);
     }
 
+    /**
+     * Updates the picture of the student profile together with its thumbnail.
+     * {@code newThumbnailKey} is empty if the picture has no thumbnail.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.<br>
+     * * {@code googleId} represents an existing account.
+     */
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newThumbnailKey)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(googleId);
+        Assumption.assertNotNull(newPictureKey);
+        Assumption.assertNotNull(newThumbnailKey);
+
+        profilesLogic.updateStudentProfilePicture(googleId, newPictureKey, newThumbnailKey);
+    }
+
     /**
      * Deletes both instructor and student privileges.
      * Does not delete courses. Can result in orphan courses
@@ -279,12 +309,13 @@ public class Logic {
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search instructors in the whole system.
+     * The matching instructors are retrieved from {@code cursor}, or from the first match if it is null.
      * @return Null if no match found.
      */
-    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString) {
+    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString, String cursor) {
         Assumption.assertNotNull(queryString);
 
-        return instructorsLogic.searchInstructorsInWholeSystem(queryString);
+        return instructorsLogic.searchInstructorsInWholeSystem(queryString, cursor);
     }
 
     /**
@@ -704,6 +735,43 @@ public class Logic {
         coursesLogic.deleteCourseCascade(courseId);
     }
 
+    /**
+     * Starts the deletion of the course by hiding it and deleting its instructors and feedback sessions.
+     * The rest of the data related to the course is to be deleted with {@link #deleteDataOfCourseInBatch}.
+     * Fails silently if no such course. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void markCourseForDeletion(String courseId) {
+        Assumption.assertNotNull(courseId);
+        coursesLogic.markCourseForDeletion(courseId);
+    }
+
+    /**
+     * Returns true if the course has been marked with {@link #markCourseForDeletion}
+     * and its data is not completely deleted yet. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean isCourseBeingDeleted(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.isCourseBeingDeleted(courseId);
+    }
+
+    /**
+     * Deletes, starting from {@code stage}, one batch of the data left behind by a course
+     * marked with {@link #markCourseForDeletion}. The course is deleted after all its data. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the stage from which the deletion is to be continued, or null if the deletion is complete
+     */
+    public CascadeDeletionStage deleteDataOfCourseInBatch(String courseId, CascadeDeletionStage stage) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(stage);
+        return coursesLogic.deleteDataOfCourseInBatch(courseId, stage);
+    }
+
     /**
      * Creates a student. <br>
      * Preconditions: <br>
@@ -739,12 +807,13 @@ public class Logic {
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search students in the whole system.
+     * The matching students are retrieved from {@code cursor}, or from the first match if it is null.
      * @return Null if no match found.
      */
-    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString) {
+    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString, String cursor) {
         Assumption.assertNotNull(queryString);
 
-        return studentsLogic.searchStudentsInWholeSystem(queryString);
+        return studentsLogic.searchStudentsInWholeSystem(queryString, cursor);
     }
 
     /**
@@ -933,6 +1002,43 @@ public class Logic {
         studentsLogic.updateStudentCascade(originalEmail, student);
     }
 
+    /**
+     * Updates the student as {@link #updateStudent(String, StudentAttributes)} does, except that
+     * if only the email of the student changes, not the team or section, only a limited number of
+     * the responses of the student are updated for the new email right away. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if there may be responses left to be updated for the new email
+     *         with {@link #updateFeedbackResponsesForChangingEmailInBatch}
+     */
+    public boolean updateStudentWithResponsesUpdateLimited(String originalEmail, StudentAttributes student)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(originalEmail);
+        Assumption.assertNotNull(student);
+
+        return studentsLogic.updateStudentCascadeWithResponsesUpdateLimited(originalEmail, student);
+    }
+
+    /**
+     * Updates a batch of the responses given by or to a participant whose email changes from {@code oldEmail}
+     * to {@code newEmail}, together with the comments on them. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the number of responses updated; 0 if there are no more responses to update
+     */
+    public int updateFeedbackResponsesForChangingEmailInBatch(String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(oldEmail);
+        Assumption.assertNotNull(newEmail);
+
+        return feedbackResponsesLogic.updateFeedbackResponsesForChangingEmailInBatch(courseId, oldEmail, newEmail);
+    }
+
     public void updateStudentWithoutDocument(String originalEmail, StudentAttributes student)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1127,6 +1233,31 @@ public class Logic {
                 copiedCourseId, feedbackSessionName, courseId, instructorEmail);
     }
 
+    /**
+     * Copies a feedback session, with its questions, into each of the given courses
+     * with all the new sessions and questions written in batches.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the new sessions, in the order of {@code copiedCourseIds}
+     */
+    public List<FeedbackSessionAttributes> copyFeedbackSessionToCourses(String copiedFeedbackSessionName,
+                                                                        List<String> copiedCourseIds,
+                                                                        String feedbackSessionName,
+                                                                        String courseId,
+                                                                        String instructorEmail)
+            throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(copiedFeedbackSessionName);
+        Assumption.assertNotNull(copiedCourseIds);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(instructorEmail);
+
+        return feedbackSessionsLogic.copyFeedbackSessionToCourses(copiedFeedbackSessionName,
+                copiedCourseIds, feedbackSessionName, courseId, instructorEmail);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1537,6 +1668,37 @@ public class Logic {
         feedbackQuestionsLogic.deleteFeedbackQuestionCascade(questionId);
     }
 
+    /**
+     * Deletes the feedback question, leaving the responses associated to it
+     * to be deleted with {@link #deleteResponsesOfDeletedFeedbackQuestionInBatch}.
+     * Fails silently if there is no such feedback question. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the deleted question, or null if there is no such feedback question
+     */
+    public FeedbackQuestionAttributes deleteFeedbackQuestionWithoutResponses(String questionId) {
+        Assumption.assertNotNull(questionId);
+        return feedbackQuestionsLogic.deleteFeedbackQuestionWithoutResponses(questionId);
+    }
+
+    /**
+     * Deletes, starting from {@code stage}, one batch of the responses of a deleted feedback question
+     * or of the comments on them. The response rate of the session is updated according to
+     * {@code giverType}, the giver type of the deleted question. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the stage from which the deletion is to be continued, or null if the deletion is complete
+     */
+    public CascadeDeletionStage deleteResponsesOfDeletedFeedbackQuestionInBatch(
+            String questionId, FeedbackParticipantType giverType, CascadeDeletionStage stage) {
+        Assumption.assertNotNull(questionId);
+        Assumption.assertNotNull(giverType);
+        Assumption.assertNotNull(stage);
+        return feedbackResponsesLogic.deleteFeedbackResponsesForQuestionInBatch(questionId, giverType, stage);
+    }
+
     /**
      * Returns true if there is at least one response for the given feedback question,
      * false if not.
@@ -1550,16 +1712,21 @@ public class Logic {
     }
 
     /**
-     * Gets all copiable questions for an instructor<br>
-     * Returns an empty list if they are no questions
-     * for the session.
+     * Gets a page of the summaries of the questions an instructor can copy, sorted in the given order.<br>
      * Preconditions: <br>
-     * * All parameters are non-null.
+     * * {@code googleId} and {@code sortOrder} are non-null. {@code limit} is positive.
+     *
+     * @param filter if not empty, only questions whose course ID, session name, question type or
+     *               question text contains this text (ignoring case) are returned
+     * @param cursor the cursor of the page returned before this page, or null to get the first page
      */
-    public List<FeedbackQuestionAttributes> getCopiableFeedbackQuestionsForInstructor(String googleId)
-            throws EntityDoesNotExistException {
+    public FeedbackQuestionSummaryPage getCopiableFeedbackQuestionSummariesForInstructor(
+            String googleId, String filter, FeedbackQuestionSummary.SortOrder sortOrder, String cursor, int limit) {
         Assumption.assertNotNull(googleId);
-        return feedbackQuestionsLogic.getCopiableFeedbackQuestionsForInstructor(googleId);
+        Assumption.assertNotNull(sortOrder);
+        Assumption.assertTrue(limit > 0);
+        return feedbackQuestionsLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                googleId, filter, sortOrder, cursor, limit);
     }
 
     /**
@@ -1860,6 +2027,25 @@ public class Logic {
         feedbackResponsesLogic.createFeedbackResponses(feedbackResponses);
     }
 
+    /**
+     * Writes the responses submitted by a giver for a session in batches:
+     * the new and updated responses at once, then the responses to delete (with their comments) at once.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#saveSubmittedFeedbackResponses(List, List, List)
+     */
+    public void saveSubmittedFeedbackResponses(List<FeedbackResponseAttributes> responsesToCreate,
+                                               List<FeedbackResponseAttributes> responsesToUpdate,
+                                               List<FeedbackResponseAttributes> responsesToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(responsesToCreate);
+        Assumption.assertNotNull(responsesToUpdate);
+        Assumption.assertNotNull(responsesToDelete);
+
+        feedbackResponsesLogic.saveSubmittedFeedbackResponses(responsesToCreate, responsesToUpdate, responsesToDelete);
+    }
+
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
         Assumption.assertNotNull(userEmail);
         Assumption.assertNotNull(feedbackSessionName);
@@ -2125,6 +2311,55 @@ public class Logic {
         adminEmailsLogic.deleteAdminEmailUploadedFile(key);
     }
 
+    /**
+     * Gets a batch of the email outbox by its batch ID.
+     *
+     * @see EmailOutboxBatchesLogic#getEmailOutboxBatch(String)
+     */
+    public EmailOutboxBatchAttributes getEmailOutboxBatch(String batchId) {
+        Assumption.assertNotNull(batchId);
+        return emailOutboxBatchesLogic.getEmailOutboxBatch(batchId);
+    }
+
+    /**
+     * Gets the latest {@code limit} batches of the email outbox, from the most recent.
+     *
+     * @see EmailOutboxBatchesLogic#getRecentEmailOutboxBatches(int)
+     */
+    public List<EmailOutboxBatchAttributes> getRecentEmailOutboxBatches(int limit) {
+        return emailOutboxBatchesLogic.getRecentEmailOutboxBatches(limit);
+    }
+
+    /**
+     * Gets the emails in a chunk of a batch of the email outbox that have not been sent yet.
+     *
+     * @see OutboxEmailsLogic#getUnsentOutboxEmails(EmailOutboxBatchAttributes, int)
+     */
+    public List<OutboxEmailAttributes> getUnsentOutboxEmails(EmailOutboxBatchAttributes batch, int chunk) {
+        Assumption.assertNotNull(batch);
+        return outboxEmailsLogic.getUnsentOutboxEmails(batch, chunk);
+    }
+
+    /**
+     * Saves the send status of the given emails of the email outbox.
+     *
+     * @see OutboxEmailsLogic#updateOutboxEmails(Collection)
+     */
+    public void updateOutboxEmails(Collection<OutboxEmailAttributes> outboxEmails) {
+        Assumption.assertNotNull(outboxEmails);
+        outboxEmailsLogic.updateOutboxEmails(outboxEmails);
+    }
+
+    /**
+     * Returns the number of emails of a batch of the email outbox with each status.
+     *
+     * @see OutboxEmailsLogic#getOutboxEmailCounts(String)
+     */
+    public Map<OutboxEmailStatus, Integer> getOutboxEmailCounts(String batchId) {
+        Assumption.assertNotNull(batchId);
+        return outboxEmailsLogic.getOutboxEmailCounts(batchId);
+    }
+
     /**
      * Deletes uploaded file.
      * @param key the GCS blobkey used to fetch the file in Google Cloud Storage
@@ -2148,12 +2383,23 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(List<StudentEnrollDetails> enrollmentList,
-                                                     FeedbackResponseAttributes response)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    /**
+     * Adjusts the responses in the session for the changes of team and section in a batch of
+     * {@code enrollmentList}, starting from position {@code fromIndex} of the list.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the position in {@code enrollmentList} from which to continue the adjustment,
+     *         which is the size of the list once the adjustment is complete
+     */
+    public int adjustFeedbackResponsesForEnrollmentsInBatch(String courseId, String feedbackSessionName,
+                                                            List<StudentEnrollDetails> enrollmentList, int fromIndex)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
         Assumption.assertNotNull(enrollmentList);
-        Assumption.assertNotNull(response);
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+        return studentsLogic.adjustFeedbackResponsesForEnrollmentsInBatch(
+                courseId, feedbackSessionName, enrollmentList, fromIndex);
     }
 
     /**
@@ -0,0 +1,143 @@
+package teammates.logic.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.appengine.api.log.AppLogLine;
+import com.google.appengine.api.log.LogQuery;
+import com.google.appengine.api.log.LogService;
+import com.google.appengine.api.log.LogService.LogLevel;
+import com.google.appengine.api.log.LogServiceFactory;
+import com.google.appengine.api.log.RequestLogs;
+
+import teammates.common.datatransfer.SevereLogsCompilation;
+import teammates.common.datatransfer.attributes.SevereLogsCheckpointAttributes;
+import teammates.logic.core.SevereLogsCheckpointsLogic;
+
+/**
+ * Compiles severe application logs incrementally.
+ *
+ * <p>Each compilation starts where the previous one stopped, as recorded in a checkpoint in the datastore.
+ * Request logs may become visible some time after they end, so each compilation also reads again the last
+ * {@link #OVERLAP_MILLIS} before the checkpoint; the request logs already compiled there are remembered
+ * in the checkpoint and skipped, so that no log line is reported twice.
+ * Request logs are streamed from the {@link LogService} in bounded batches and a single compilation
+ * stops after a bounded number of request logs; the remaining logs are picked up by the next compilation
+ * from the stored offset.
+ */
+public class SevereLogsCompiler {
+
+    /** Time range used when there is no checkpoint, e.g. on the very first compilation. */
+    private static final long DEFAULT_QUERY_RANGE_MILLIS = 1000L * 60 * 6;
+
+    /** How long before the end of the previous time range the next compilation starts reading. */
+    private static final long OVERLAP_MILLIS = 1000L * 60;
+
+    private static final int FETCH_BATCH_SIZE = 100;
+    private static final int MAX_REQUEST_LOGS_PER_COMPILATION = 5000;
+    private static final int MAX_DISTINCT_ENTRIES = 50;
+    private static final int MAX_MESSAGE_LENGTH = 5000;
+
+    private static final SevereLogsCheckpointsLogic checkpointsLogic = SevereLogsCheckpointsLogic.inst();
+
+    private final LogService logService;
+
+    /** The end times of the request logs compiled, or skipped as compiled before, by request ID. */
+    private final Map<String, Long> compiledRequestEndTimes = new HashMap<>();
+
+    public SevereLogsCompiler() {
+        this(LogServiceFactory.getLogService());
+    }
+
+    public SevereLogsCompiler(LogService logService) {
+        this.logService = logService;
+    }
+
+    /**
+     * Compiles the severe logs recorded since the last checkpoint up to {@code currentTimeMillis}.
+     * <br> The checkpoint is not advanced; call {@link #saveCheckpoint(SevereLogsCompilation)}
+     * on the same compiler once the compilation has been handled.
+     */
+    public SevereLogsCompilation compile(long currentTimeMillis) {
+        SevereLogsCheckpointAttributes checkpoint = checkpointsLogic.getCheckpoint();
+
+        long startTimeMillis;
+        long endTimeMillis;
+        String offset = null;
+        compiledRequestEndTimes.clear();
+        if (checkpoint == null) {
+            startTimeMillis = currentTimeMillis - DEFAULT_QUERY_RANGE_MILLIS;
+            endTimeMillis = currentTimeMillis;
+        } else if (checkpoint.isComplete()) {
+            startTimeMillis = checkpoint.getEndTimeMillis() - OVERLAP_MILLIS;
+            endTimeMillis = currentTimeMillis;
+            compiledRequestEndTimes.putAll(checkpoint.getRecentRequestEndTimes());
+        } else {
+            // the previous compilation stopped halfway; finish its time range first
+            startTimeMillis = checkpoint.getStartTimeMillis();
+            endTimeMillis = checkpoint.getEndTimeMillis();
+            offset = checkpoint.getOffset();
+            compiledRequestEndTimes.putAll(checkpoint.getRecentRequestEndTimes());
+        }
+
+        LogQuery query = LogQuery.Builder.withDefaults()
+                                         .includeAppLogs(true)
+                                         .batchSize(FETCH_BATCH_SIZE)
+                                         .startTimeMillis(startTimeMillis)
+                                         .endTimeMillis(endTimeMillis)
+                                         .minLogLevel(LogLevel.ERROR);
+        if (offset != null) {
+            query.offset(offset);
+        }
+
+        SevereLogsCompilation compilation = new SevereLogsCompilation(
+                startTimeMillis, endTimeMillis, MAX_DISTINCT_ENTRIES, MAX_MESSAGE_LENGTH);
+
+        int numRequestLogsCompiled = 0;
+        String lastOffset = null;
+        for (RequestLogs requestLogs : logService.fetch(query)) {
+            if (numRequestLogsCompiled == MAX_REQUEST_LOGS_PER_COMPILATION) {
+                compilation.setResumeOffset(lastOffset);
+                break;
+            }
+
+            if (!compiledRequestEndTimes.containsKey(requestLogs.getRequestId())) {
+                for (AppLogLine logLine : requestLogs.getAppLogLines()) {
+                    LogLevel logLevel = logLine.getLogLevel();
+
+                    if (LogLevel.FATAL == logLevel || LogLevel.ERROR == logLevel) {
+                        compilation.add(logLine);
+                    }
+                }
+                compiledRequestEndTimes.put(requestLogs.getRequestId(), requestLogs.getEndTimeUsec() / 1000);
+            }
+
+            lastOffset = requestLogs.getOffset();
+            numRequestLogsCompiled++;
+        }
+
+        return compilation;
+    }
+
+    /**
+     * Records that the logs covered by {@code compilation} have been handled,
+     * so that the next compilation resumes right after them.
+     */
+    public void saveCheckpoint(SevereLogsCompilation compilation) {
+        // only the request logs which the next compilation reads again need to be remembered
+        long nextStartTimeMillis = compilation.isComplete()
+                                   ? compilation.getEndTimeMillis() - OVERLAP_MILLIS
+                                   : compilation.getStartTimeMillis();
+        Map<String, Long> recentRequestEndTimes = new HashMap<>();
+        for (Map.Entry<String, Long> requestEndTime : compiledRequestEndTimes.entrySet()) {
+            if (requestEndTime.getValue() >= nextStartTimeMillis) {
+                recentRequestEndTimes.put(requestEndTime.getKey(), requestEndTime.getValue());
+            }
+        }
+
+        checkpointsLogic.saveCheckpoint(new SevereLogsCheckpointAttributes(
+                compilation.getStartTimeMillis(), compilation.getEndTimeMillis(),
+                compilation.getResumeOffset(), recentRequestEndTimes));
+    }
+
+}
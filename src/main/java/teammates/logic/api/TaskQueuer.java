@@ -1,16 +1,22 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailOutboxBatchesLogic;
 import teammates.logic.core.TaskQueuesLogic;
 
 /**
@@ -44,6 +50,16 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addTasks(String queueName, String workerUrl, List<Map<String, String>> paramMaps) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (Map<String, String> paramMap : paramMaps) {
+            Map<String, String[]> multisetParamMap = new HashMap<>();
+            paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+            tasks.add(new TaskWrapper(queueName, workerUrl, multisetParamMap));
+        }
+        new TaskQueuesLogic().addTasks(queueName, tasks);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -84,24 +100,17 @@ public class TaskQueuer {
     /**
      * Schedules an admin email preparation in group mode, i.e. using the group receiver list
      * retrieved from the Google Cloud Storage (GCS).
-     * <p>
-     * This group receiver list is in the form of {@code List<List<String>>} accessed by two indices,
-     * namely "email list index" for accessing the {@code List<String>} inside the {@code List<List<String>>}
-     * and "email index" for accessing the email {@code String} inside the {@code List<String>}.
-     * </p>
      *
      * @param emailId the ID of admin email to be retrieved from the database
      * @param groupReceiverListFileKey the file key for the group receiver list in GCS
-     * @param emailListIndex see method description
-     * @param emailIndex see method description
+     * @param receiverListOffset the byte offset in the group receiver list from which to resume the preparation
      */
     public void scheduleAdminEmailPreparationInGroupMode(String emailId, String groupReceiverListFileKey,
-                                                         int emailListIndex, int emailIndex) {
+                                                         long receiverListOffset) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
         paramMap.put(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX, Integer.toString(emailListIndex));
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX, Integer.toString(emailIndex));
+        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, Long.toString(receiverListOffset));
 
         addTask(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_QUEUE_NAME,
                 TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, paramMap);
@@ -117,24 +126,93 @@ public class TaskQueuer {
      */
     public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
                                              String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+        scheduleAdminEmailsForSending(emailId, Collections.singletonList(emailReceiver), emailSubject, emailContent);
+    }
+
+    /**
+     * Schedules an admin email to be sent to each of the given receivers,
+     * adding the tasks to the task queue in batches.
+     *
+     * @param emailId the ID of admin email to be retrieved from the database (if needed)
+     * @param emailReceivers the email addresses of the email receivers
+     * @param emailSubject the subject of the email
+     * @param emailContent the content of the email
+     */
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers, String emailSubject,
+                                              String emailContent) {
+        List<Map<String, String>> paramMaps = new ArrayList<>();
+        for (String emailReceiver : emailReceivers) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
+            paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
+            paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+            paramMaps.add(paramMap);
+        }
 
         try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
+            addTasks(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMaps);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().toLowerCase().contains("task size too large")) {
                 log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
+                for (Map<String, String> paramMap : paramMaps) {
+                    paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
+                    paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
+                    paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
+                }
+                addTasks(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMaps);
             }
         }
     }
 
+    /**
+     * Schedules the deletion of the data left behind by a course marked for deletion.
+     *
+     * @param courseId the ID of the course
+     * @param stage the stage from which to continue the deletion
+     */
+    public void scheduleCourseDataDeletion(String courseId, CascadeDeletionStage stage) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.CASCADE_DELETION_STAGE, stage.name());
+
+        addTask(TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, TaskQueue.COURSE_DATA_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the deletion of the responses, and the comments on them, left behind by a deleted feedback question.
+     *
+     * @param feedbackQuestionId the ID of the deleted question
+     * @param giverType the giver type of the deleted question
+     * @param stage the stage from which to continue the deletion
+     */
+    public void scheduleFeedbackQuestionDataDeletion(String feedbackQuestionId, FeedbackParticipantType giverType,
+                                                     CascadeDeletionStage stage) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+        paramMap.put(ParamsNames.FEEDBACK_QUESTION_GIVERTYPE, giverType.name());
+        paramMap.put(ParamsNames.CASCADE_DELETION_STAGE, stage.name());
+
+        addTask(TaskQueue.FEEDBACK_QUESTION_DATA_DELETION_QUEUE_NAME,
+                TaskQueue.FEEDBACK_QUESTION_DATA_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules the update of the responses left under the old email of a student whose email has changed.
+     *
+     * @param courseId the course ID of the student
+     * @param oldEmail the old email of the student
+     * @param newEmail the new email of the student
+     */
+    public void scheduleFeedbackResponsesUpdateForChangingEmail(String courseId, String oldEmail, String newEmail) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.STUDENT_EMAIL, oldEmail);
+        paramMap.put(ParamsNames.NEW_STUDENT_EMAIL, newEmail);
+
+        addTask(TaskQueue.FEEDBACK_RESPONSES_EMAIL_UPDATE_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSES_EMAIL_UPDATE_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules for feedback session reminders (i.e. student has not submitted responses yet)
      * for the specified feedback session.
@@ -247,12 +325,27 @@ public class TaskQueuer {
      */
     public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
                                                             List<StudentEnrollDetails> enrollmentList) {
+        scheduleFeedbackResponseAdjustmentForCourse(courseId, feedbackSessionName, enrollmentList, 0);
+    }
+
+    /**
+     * Schedules the adjustments to responses of a feedback session in the database
+     * to be continued from position {@code offset} of {@code enrollmentList}.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param enrollmentList the list of enrollment details
+     * @param offset the position in the list of the first enrollment details not yet adjusted for
+     */
+    public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
+                                                            List<StudentEnrollDetails> enrollmentList, int offset) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.COURSE_ID, courseId);
         paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
 
         String enrollmentDetails = JsonUtils.toJson(enrollmentList);
         paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+        paramMap.put(ParamsNames.ENROLLMENT_DETAILS_OFFSET, String.valueOf(offset));
 
         addTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
                 TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
@@ -273,6 +366,8 @@ public class TaskQueuer {
 
     /**
      * Schedules for the given list of emails to be sent.
+     * The emails are stored in the email outbox and each task sends a chunk of up to
+     * {@link EmailOutboxBatchesLogic#MAX_EMAILS_PER_CHUNK} emails of the outbox.
      *
      * @param emails the list of emails to be sent
      */
@@ -281,45 +376,41 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<EmailOutboxBatchAttributes> batches = EmailOutboxBatchesLogic.inst().createEmailOutboxBatches(emails);
+
+        int numberOfChunks = 0;
+        for (EmailOutboxBatchAttributes batch : batches) {
+            numberOfChunks += batch.getNumberOfChunks();
+        }
+
+        // Equally spread out the chunks to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
-
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        int chunkIntervalMillis = Math.min(5000, oneHourInMillis / numberOfChunks);
+
+        int numberOfChunksSent = 0;
+        for (EmailOutboxBatchAttributes batch : batches) {
+            for (int chunk = 0; chunk < batch.getNumberOfChunks(); chunk++) {
+                long chunkDelayTimer = numberOfChunksSent * chunkIntervalMillis;
+                scheduleEmailOutboxChunkForSending(batch, chunk, chunkDelayTimer);
+                numberOfChunksSent++;
+            }
         }
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+    private void scheduleEmailOutboxChunkForSending(EmailOutboxBatchAttributes batch, int chunk, long chunkDelayTimer) {
         try {
             Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
-            }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+            paramMap.put(ParamsNames.EMAIL_OUTBOX_BATCH_ID, batch.getBatchId());
+            paramMap.put(ParamsNames.EMAIL_OUTBOX_CHUNK, String.valueOf(chunk));
 
             addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+                            paramMap, chunkDelayTimer);
         } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            log.severe("Error when adding email outbox chunk to task queue: " + e.getMessage() + "\n"
+                       + "Batch ID: " + batch.getBatchId() + "\n"
+                       + "Chunk: " + chunk + "\n"
+                       + "Email subject: " + batch.getDescription());
         }
     }
 
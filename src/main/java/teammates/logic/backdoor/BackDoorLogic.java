@@ -16,6 +16,7 @@ import com.google.common.collect.SetMultimap;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackSessionType;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -111,6 +112,7 @@ public class BackDoorLogic extends Logic {
 
         // This also flushes all previously deferred operations
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
+        feedbackQuestionsLogic.markFeedbackQuestionsChangedForCourses(getCourseIds(createdQuestions));
 
         injectRealIds(responses, responseComments, createdQuestions);
 
@@ -443,8 +445,8 @@ public class BackDoorLogic extends Logic {
             String questionKey = makeQuestionKey(sessionKey, questionNumber);
             comment.feedbackQuestionId = questionIdMap.get(questionKey);
 
-            String[] responseIdParam = comment.feedbackResponseId.split("%");
-            comment.feedbackResponseId = comment.feedbackQuestionId + "%" + responseIdParam[1] + "%" + responseIdParam[2];
+            comment.feedbackResponseId = ResponseId.parse(comment.feedbackResponseId)
+                    .withFeedbackQuestionId(comment.feedbackQuestionId).toString();
         }
     }
 
@@ -578,6 +580,14 @@ public class BackDoorLogic extends Logic {
         }
     }
 
+    private Set<String> getCourseIds(Collection<FeedbackQuestionAttributes> questions) {
+        Set<String> courseIds = new HashSet<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            courseIds.add(question.courseId);
+        }
+        return courseIds;
+    }
+
     private void deleteCourses(Collection<CourseAttributes> courses) {
         List<String> courseIds = new ArrayList<>();
         for (CourseAttributes course : courses) {
@@ -589,6 +599,7 @@ public class BackDoorLogic extends Logic {
             studentsDb.deleteStudentsForCourses(courseIds);
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
+            feedbackQuestionsLogic.markFeedbackQuestionsChangedForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
             fcDb.deleteFeedbackResponseCommentsForCourses(courseIds);
         }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
@@ -53,6 +54,10 @@ public final class CoursesLogic {
     private static final CoursesDb coursesDb = new CoursesDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
+            FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -71,6 +76,11 @@ public final class CoursesLogic {
         CourseAttributes courseToAdd = CourseAttributes
                 .builder(courseId, courseName, courseTimeZone)
                 .build();
+
+        if (coursesDb.isCourseBeingDeleted(courseId)) {
+            // the ID is taken over only after the data of the previous course is gone
+            finishDeletionOfCourse(courseId);
+        }
         coursesDb.createEntity(courseToAdd);
     }
 
@@ -613,10 +623,68 @@ public final class CoursesLogic {
      * This will also cascade the data in other databases which are related to this course.
      */
     public void deleteCourseCascade(String courseId) {
-        studentsLogic.deleteStudentsForCourse(courseId);
+        markCourseForDeletion(courseId);
+        finishDeletionOfCourse(courseId);
+    }
+
+    private void finishDeletionOfCourse(String courseId) {
+        CascadeDeletionStage stage = CascadeDeletionStage.first();
+        while (stage != null) {
+            stage = deleteDataOfCourseInBatch(courseId, stage);
+        }
+    }
+
+    /**
+     * Starts the deletion of a course by hiding the course and deleting its instructors and feedback sessions,
+     * so that the course disappears for its users right away. <br>
+     * The rest of the data of the course is then to be deleted with {@link #deleteDataOfCourseInBatch}.
+     * A course created with the same ID before then completes the deletion first.
+     */
+    public void markCourseForDeletion(String courseId) {
+        coursesDb.markCourseAsBeingDeleted(courseId);
         instructorsLogic.deleteInstructorsForCourse(courseId);
-        feedbackSessionsLogic.deleteFeedbackSessionsForCourseCascade(courseId);
+        feedbackSessionsLogic.deleteFeedbackSessionsForCourse(courseId);
+    }
+
+    /**
+     * Returns true if the course has been marked with {@link #markCourseForDeletion}
+     * and its data is not completely deleted yet.
+     */
+    public boolean isCourseBeingDeleted(String courseId) {
+        return coursesDb.isCourseBeingDeleted(courseId);
+    }
+
+    /**
+     * Deletes, starting from {@code stage}, one batch of the data left behind by a course
+     * marked with {@link #markCourseForDeletion}. The course itself is deleted after all its data.
+     *
+     * @return the stage from which the deletion is to be continued, or null if the deletion is complete
+     */
+    public CascadeDeletionStage deleteDataOfCourseInBatch(String courseId, CascadeDeletionStage stage) {
+        for (CascadeDeletionStage currentStage = stage; currentStage != null; currentStage = currentStage.next()) {
+            if (deleteDataOfCourseInBatchForStage(courseId, currentStage) > 0) {
+                return currentStage;
+            }
+        }
+
         coursesDb.deleteCourse(courseId);
+        return null;
+    }
+
+    private int deleteDataOfCourseInBatchForStage(String courseId, CascadeDeletionStage stage) {
+        switch (stage) {
+        case STUDENTS:
+            return studentsLogic.deleteStudentsForCourseInBatch(courseId);
+        case FEEDBACK_RESPONSE_COMMENTS:
+            return feedbackResponseCommentsLogic.deleteFeedbackResponseCommentsForCourseInBatch(courseId);
+        case FEEDBACK_RESPONSES:
+            return feedbackResponsesLogic.deleteFeedbackResponsesForCourseInBatch(courseId);
+        case FEEDBACK_QUESTIONS:
+            return feedbackQuestionsLogic.deleteFeedbackQuestionsForCourseInBatch(courseId);
+        default:
+            Assumption.fail("Unknown cascade deletion stage " + stage);
+            return 0;
+        }
     }
 
     private Map<String, CourseSummaryBundle> getCourseSummaryWithoutStatsForInstructor(
@@ -0,0 +1,149 @@
+package teammates.logic.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.EmailWrapper;
+import teammates.storage.api.EmailOutboxBatchesDb;
+
+/**
+ * Handles operations related to the batches of the email outbox, which stores the emails scheduled for sending
+ * together with their send status.
+ *
+ * <p>Emails are stored in batches of emails with the same sender details.
+ * Each batch is split into chunks, each of which is written in a single datastore call and sent by a single task.
+ *
+ * @see EmailOutboxBatchAttributes
+ * @see OutboxEmailsLogic
+ */
+public final class EmailOutboxBatchesLogic {
+
+    /** Maximum number of emails in a chunk, which is the maximum number of entities written in a single call. */
+    public static final int MAX_EMAILS_PER_CHUNK = 500;
+
+    /**
+     * Maximum total size in bytes of the subjects and content of the emails in a chunk, which keeps both the write
+     * of the chunk and the request sending it through the email provider small.
+     */
+    private static final int MAX_CONTENT_BYTES_PER_CHUNK = 500 * 1000;
+
+    private static EmailOutboxBatchesLogic instance = new EmailOutboxBatchesLogic();
+
+    private static final EmailOutboxBatchesDb emailOutboxBatchesDb = new EmailOutboxBatchesDb();
+
+    private static final OutboxEmailsLogic outboxEmailsLogic = OutboxEmailsLogic.inst();
+
+    private EmailOutboxBatchesLogic() {
+        // prevent initialization
+    }
+
+    public static EmailOutboxBatchesLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Stores {@code emails} in the outbox, in one batch for each combination of sender, sender name
+     * and reply-to address.
+     *
+     * @return the batches created
+     */
+    public List<EmailOutboxBatchAttributes> createEmailOutboxBatches(List<EmailWrapper> emails) {
+        Map<String, List<EmailWrapper>> emailsBySender = new LinkedHashMap<>();
+        for (EmailWrapper email : emails) {
+            String senderKey = email.getSenderEmail() + "|" + email.getSenderName() + "|" + email.getReplyTo();
+            emailsBySender.computeIfAbsent(senderKey, key -> new ArrayList<>()).add(email);
+        }
+
+        List<EmailOutboxBatchAttributes> batches = new ArrayList<>();
+        for (List<EmailWrapper> emailsOfSender : emailsBySender.values()) {
+            batches.add(createEmailOutboxBatch(emailsOfSender));
+        }
+        return batches;
+    }
+
+    private EmailOutboxBatchAttributes createEmailOutboxBatch(List<EmailWrapper> emails) {
+        String batchId = UUID.randomUUID().toString();
+        List<List<EmailWrapper>> chunks = splitIntoChunks(emails);
+
+        List<Integer> chunkStartPositions = new ArrayList<>();
+        int position = 0;
+        for (int chunk = 0; chunk < chunks.size(); chunk++) {
+            chunkStartPositions.add(position);
+            List<OutboxEmailAttributes> outboxEmails = new ArrayList<>();
+            for (EmailWrapper email : chunks.get(chunk)) {
+                outboxEmails.add(OutboxEmailAttributes.builder(batchId, position, chunk, email).build());
+                position++;
+            }
+            try {
+                outboxEmailsLogic.createOutboxEmails(outboxEmails);
+            } catch (InvalidParametersException e) {
+                Assumption.fail("Outbox emails are always valid: " + e.getMessage());
+            }
+        }
+
+        EmailWrapper first = emails.get(0);
+        EmailOutboxBatchAttributes batch =
+                EmailOutboxBatchAttributes.builder(batchId, first.getSenderEmail(), emails.size(), chunkStartPositions)
+                        .withSenderName(first.getSenderName())
+                        .withReplyTo(first.getReplyTo())
+                        .withDescription(first.getSubject())
+                        .build();
+        try {
+            emailOutboxBatchesDb.createEmailOutboxBatch(batch);
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Outbox batches are always valid: " + e.getMessage());
+        }
+        return batch;
+    }
+
+    /**
+     * Splits {@code emails} into chunks of at most {@link #MAX_EMAILS_PER_CHUNK} emails
+     * and at most {@code MAX_CONTENT_BYTES_PER_CHUNK} bytes of subjects and content, as encoded in UTF-8.
+     */
+    private static List<List<EmailWrapper>> splitIntoChunks(List<EmailWrapper> emails) {
+        List<List<EmailWrapper>> chunks = new ArrayList<>();
+        List<EmailWrapper> chunk = new ArrayList<>();
+        int chunkContentBytes = 0;
+        for (EmailWrapper email : emails) {
+            int contentBytes = getUtf8Length(email.getSubject()) + getUtf8Length(email.getContent());
+            if (!chunk.isEmpty() && (chunk.size() >= MAX_EMAILS_PER_CHUNK
+                    || chunkContentBytes + contentBytes > MAX_CONTENT_BYTES_PER_CHUNK)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkContentBytes = 0;
+            }
+            chunk.add(email);
+            chunkContentBytes += contentBytes;
+        }
+        chunks.add(chunk);
+        return chunks;
+    }
+
+    private static int getUtf8Length(String text) {
+        return text == null ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Gets a batch by its batch ID.
+     * @return null if no matched batch found
+     */
+    public EmailOutboxBatchAttributes getEmailOutboxBatch(String batchId) {
+        return emailOutboxBatchesDb.getEmailOutboxBatch(batchId);
+    }
+
+    /**
+     * Gets the latest {@code limit} batches, from the most recent.
+     */
+    public List<EmailOutboxBatchAttributes> getRecentEmailOutboxBatches(int limit) {
+        return emailOutboxBatchesDb.getRecentEmailOutboxBatches(limit);
+    }
+
+}
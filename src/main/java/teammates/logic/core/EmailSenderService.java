@@ -1,5 +1,12 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 
@@ -29,8 +36,92 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends all the emails packaged as {@code wrappers}, using as few calls to the service as possible.
+     *
+     * @see #groupIntoBatches(List, int)
+     */
+    public void sendEmails(List<EmailWrapper> wrappers) throws EmailSendingException {
+        for (List<EmailWrapper> batch : groupIntoBatches(wrappers)) {
+            try {
+                if (batch.size() == 1) {
+                    sendEmailWithService(batch.get(0));
+                } else {
+                    sendBatchWithService(batch);
+                }
+            } catch (Exception e) {
+                throw new EmailSendingException(e);
+            }
+        }
+    }
+
+    /**
+     * Groups {@code wrappers} into batches that can each be sent in a single call to this service.
+     *
+     * @see #groupIntoBatches(List, int)
+     */
+    public List<List<EmailWrapper>> groupIntoBatches(List<EmailWrapper> wrappers) {
+        return groupIntoBatches(wrappers, getMaxBatchSize());
+    }
+
+    /**
+     * Groups {@code wrappers} into batches that can each be sent in a single call to the service.
+     * Emails in the same batch have the same sender, sender name and reply-to address, and different recipients.
+     * Emails with a bcc are each in a batch of their own, as the bcc would otherwise see the other recipients.
+     *
+     * @param maxBatchSize the maximum number of emails in a batch
+     */
+    public static List<List<EmailWrapper>> groupIntoBatches(List<EmailWrapper> wrappers, int maxBatchSize) {
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        Map<String, List<EmailWrapper>> openBatchBySender = new LinkedHashMap<>();
+        Map<String, Set<String>> openBatchRecipientsBySender = new LinkedHashMap<>();
+
+        for (EmailWrapper wrapper : wrappers) {
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                List<EmailWrapper> batch = new ArrayList<>();
+                batch.add(wrapper);
+                batches.add(batch);
+                continue;
+            }
+
+            String senderKey = wrapper.getSenderEmail() + "|" + wrapper.getSenderName() + "|" + wrapper.getReplyTo();
+            List<EmailWrapper> batch = openBatchBySender.get(senderKey);
+            Set<String> recipients = openBatchRecipientsBySender.get(senderKey);
+            if (batch == null || batch.size() >= maxBatchSize || recipients.contains(wrapper.getRecipient())) {
+                batch = new ArrayList<>();
+                recipients = new HashSet<>();
+                batches.add(batch);
+                openBatchBySender.put(senderKey, batch);
+                openBatchRecipientsBySender.put(senderKey, recipients);
+            }
+            batch.add(wrapper);
+            recipients.add(wrapper.getRecipient());
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the maximum number of emails the service can send in a single call.
+     * Services without a multi-recipient API send one email per call.
+     */
+    protected int getMaxBatchSize() {
+        return 1;
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends a batch of emails, as grouped by {@link #groupIntoBatches(List, int)}, in a single call to the service.
+     * The default implementation sends the emails one at a time.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendBatchWithService(List<EmailWrapper> batch) throws Exception {
+        for (EmailWrapper wrapper : batch) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
 }
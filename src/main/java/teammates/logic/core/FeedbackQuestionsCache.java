@@ -0,0 +1,183 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+
+/**
+ * Keeps the questions of recently used feedback sessions in the instance,
+ * so that reading the questions of a session does not query the datastore every time.
+ *
+ * <p>Every session and every course has a version in memcache, which is the time its questions were last changed.
+ * Cached questions are used only while the versions of their session and course are the same as when
+ * the questions were read, so that changes made on any instance are seen by all instances.
+ * Questions read within {@link #QUERY_CONSISTENCY_DELAY_MILLIS} of a change are not cached,
+ * as the query may not yet return the change. Nothing is cached while memcache is unavailable.
+ * Cached questions are read again after {@link #MAX_AGE_MILLIS} in any case, so that a change whose version
+ * could not be written to memcache is not missed for long.
+ */
+public final class FeedbackQuestionsCache {
+
+    /** How long after a change to the questions of a session the questions query may still miss the change. */
+    public static final long QUERY_CONSISTENCY_DELAY_MILLIS = 5000;
+
+    /** How long cached questions are used for after they are read, even if their versions do not change. */
+    public static final long MAX_AGE_MILLIS = 10 * 60 * 1000;
+
+    /** Maximum number of sessions whose questions are cached; the least recently used are removed first. */
+    public static final int MAX_CACHED_SESSIONS = 500;
+
+    private static final String VERSION_NAMESPACE = "feedbackQuestionsVersion";
+
+    private final MemcacheService versionStore;
+    private final LongSupplier clock;
+
+    /** The cached questions by session key, least recently used first. */
+    private final Map<String, CachedQuestions> cachedQuestionsBySession =
+            new LinkedHashMap<String, CachedQuestions>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedQuestions> eldest) {
+                    return size() > MAX_CACHED_SESSIONS;
+                }
+
+            };
+
+    FeedbackQuestionsCache() {
+        this(MemcacheServiceFactory.getMemcacheService(VERSION_NAMESPACE));
+    }
+
+    /**
+     * Creates a cache which keeps the versions of the questions in {@code versionStore}.
+     */
+    public FeedbackQuestionsCache(MemcacheService versionStore) {
+        this(versionStore, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a cache which keeps the versions of the questions in {@code versionStore},
+     * and reads the current time in milliseconds from {@code clock}.
+     */
+    public FeedbackQuestionsCache(MemcacheService versionStore, LongSupplier clock) {
+        this.versionStore = versionStore;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns copies of the cached questions of the session if they are up to date.
+     * Otherwise, reads the questions with {@code questionsLoader} and caches them if possible.
+     */
+    public List<FeedbackQuestionAttributes> getQuestionsForSession(String courseId, String feedbackSessionName,
+            Supplier<List<FeedbackQuestionAttributes>> questionsLoader) {
+        String sessionKey = getSessionKey(courseId, feedbackSessionName);
+        Map<String, Object> versions = versionStore.getAll(Arrays.asList(courseId, sessionKey));
+        Object courseVersion = versions.get(courseId);
+        Object sessionVersion = versions.get(sessionKey);
+
+        if (courseVersion == null || sessionVersion == null) {
+            // the versions are missing until the first change, or after being evicted;
+            // count from now, as a change may have been missed
+            long now = clock.getAsLong();
+            versionStore.put(courseId, now, null, SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            versionStore.put(sessionKey, now, null, SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            return questionsLoader.get();
+        }
+
+        CachedQuestions cachedQuestions;
+        synchronized (cachedQuestionsBySession) {
+            cachedQuestions = cachedQuestionsBySession.get(sessionKey);
+        }
+        long now = clock.getAsLong();
+        if (cachedQuestions != null && cachedQuestions.isVersion(courseVersion, sessionVersion)
+                && now - cachedQuestions.readTime < MAX_AGE_MILLIS) {
+            return copyOf(cachedQuestions.questions);
+        }
+
+        List<FeedbackQuestionAttributes> questions = questionsLoader.get();
+
+        long lastChangeTime = Math.max((Long) courseVersion, (Long) sessionVersion);
+        if (now - lastChangeTime >= QUERY_CONSISTENCY_DELAY_MILLIS) {
+            CachedQuestions questionsToCache =
+                    new CachedQuestions(courseVersion, sessionVersion, now, copyOf(questions));
+            synchronized (cachedQuestionsBySession) {
+                cachedQuestionsBySession.put(sessionKey, questionsToCache);
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * Marks the questions of the session as changed, on all instances.
+     * Should be called after the questions are written.
+     */
+    public void bumpVersion(String courseId, String feedbackSessionName) {
+        String sessionKey = getSessionKey(courseId, feedbackSessionName);
+        versionStore.put(sessionKey, clock.getAsLong());
+        synchronized (cachedQuestionsBySession) {
+            cachedQuestionsBySession.remove(sessionKey);
+        }
+    }
+
+    /**
+     * Marks the questions of all sessions in the course as changed, on all instances.
+     * Should be called after the questions are written.
+     */
+    public void bumpVersionForCourse(String courseId) {
+        versionStore.put(courseId, clock.getAsLong());
+        String sessionKeyPrefix = getSessionKey(courseId, "");
+        synchronized (cachedQuestionsBySession) {
+            cachedQuestionsBySession.keySet().removeIf(sessionKey -> sessionKey.startsWith(sessionKeyPrefix));
+        }
+    }
+
+    // course IDs cannot contain '%', so session keys are distinct from course keys and from each other
+    private static String getSessionKey(String courseId, String feedbackSessionName) {
+        return courseId + "%" + feedbackSessionName;
+    }
+
+    private static List<FeedbackQuestionAttributes> copyOf(List<FeedbackQuestionAttributes> questions) {
+        List<FeedbackQuestionAttributes> copies = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            copies.add(question.getCopy());
+        }
+        return copies;
+    }
+
+    /**
+     * The questions of a session, with the versions of the session and course they were read at,
+     * and the time they were read.
+     */
+    private static final class CachedQuestions {
+
+        private final Object courseVersion;
+        private final Object sessionVersion;
+        private final long readTime;
+        private final List<FeedbackQuestionAttributes> questions;
+
+        CachedQuestions(Object courseVersion, Object sessionVersion, long readTime,
+                List<FeedbackQuestionAttributes> questions) {
+            this.courseVersion = courseVersion;
+            this.sessionVersion = sessionVersion;
+            this.readTime = readTime;
+            this.questions = questions;
+        }
+
+        boolean isVersion(Object currentCourseVersion, Object currentSessionVersion) {
+            return courseVersion.equals(currentCourseVersion) && sessionVersion.equals(currentSessionVersion);
+        }
+
+    }
+
+}
@@ -1,16 +1,20 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -42,6 +46,8 @@ public final class FeedbackQuestionsLogic {
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
+    private final FeedbackQuestionsCache questionsCache = new FeedbackQuestionsCache();
+
     private FeedbackQuestionsLogic() {
         // prevent initialization
     }
@@ -78,7 +84,31 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        questionsCache.bumpVersion(fqa.courseId, fqa.feedbackSessionName);
+        return createdQuestion;
+    }
+
+    /**
+     * Creates all the given questions at once, with their question numbers as given.
+     * Does not check if the feedback sessions exist or if the question numbers are valid.
+     *
+     * @return the created questions, with their IDs
+     */
+    public List<FeedbackQuestionAttributes> createFeedbackQuestionsNoIntegrityCheck(
+            List<FeedbackQuestionAttributes> questions) throws InvalidParametersException {
+        for (FeedbackQuestionAttributes question : questions) {
+            question.removeIrrelevantVisibilityOptions();
+        }
+        List<FeedbackQuestionAttributes> createdQuestions = fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
+
+        Set<List<String>> changedSessions = new HashSet<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            if (changedSessions.add(Arrays.asList(question.courseId, question.feedbackSessionName))) {
+                questionsCache.bumpVersion(question.courseId, question.feedbackSessionName);
+            }
+        }
+        return createdQuestions;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -120,6 +150,10 @@ public final class FeedbackQuestionsLogic {
 
     /**
      * Gets a {@link List} of every FeedbackQuestion in the given session.
+     * The questions of recently used sessions are cached in the instance; the questions returned are copies
+     * which can be modified.
+     *
+     * @see FeedbackQuestionsCache
      */
     public List<FeedbackQuestionAttributes> getFeedbackQuestionsForSession(
             String feedbackSessionName, String courseId) throws EntityDoesNotExistException {
@@ -128,6 +162,12 @@ public final class FeedbackQuestionsLogic {
             throw new EntityDoesNotExistException(
                     "Trying to get questions for a feedback session that does not exist.");
         }
+        return questionsCache.getQuestionsForSession(courseId, feedbackSessionName,
+                () -> readFeedbackQuestionsForSession(feedbackSessionName, courseId));
+    }
+
+    private List<FeedbackQuestionAttributes> readFeedbackQuestionsForSession(String feedbackSessionName,
+            String courseId) {
         List<FeedbackQuestionAttributes> questions =
                 fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
         questions.sort(null);
@@ -158,28 +198,29 @@ public final class FeedbackQuestionsLogic {
     }
 
     /**
-     *  Gets a {@link List} of every FeedbackQuestion that the instructor can copy.
+     * Gets a page of the summaries of the questions in the courses of the instructor with the given Google ID,
+     * i.e. the questions the instructor can copy, without reading the details of the questions.
+     *
+     * @param filter if not empty, only questions whose course ID, session name, question type or
+     *               question text contains this text (ignoring case) are returned
+     * @param sortOrder the order in which the summaries are returned
+     * @param cursor the cursor of the page returned before this page, or null to get the first page
+     * @param limit the maximum number of summaries in the page
      */
-    public List<FeedbackQuestionAttributes> getCopiableFeedbackQuestionsForInstructor(String googleId)
-            throws EntityDoesNotExistException {
-
-        List<FeedbackQuestionAttributes> copiableQuestions = new ArrayList<>();
-        List<CourseAttributes> courses = coursesLogic.getCoursesForInstructor(googleId);
-        for (CourseAttributes course : courses) {
-            List<FeedbackSessionAttributes> sessions = fsLogic.getFeedbackSessionsForCourse(course.getId());
-            for (FeedbackSessionAttributes session : sessions) {
-                List<FeedbackQuestionAttributes> questions =
-                        getFeedbackQuestionsForSession(session.getFeedbackSessionName(), course.getId());
-                copiableQuestions.addAll(questions);
-            }
+    public FeedbackQuestionSummaryPage getCopiableFeedbackQuestionSummariesForInstructor(
+            String googleId, String filter, FeedbackQuestionSummary.SortOrder sortOrder, String cursor, int limit) {
+        List<String> courseIds = new ArrayList<>();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForGoogleId(googleId)) {
+            courseIds.add(instructor.courseId);
         }
 
-        copiableQuestions.sort(Comparator.comparing((FeedbackQuestionAttributes question) -> question.courseId)
-                .thenComparing(question -> question.feedbackSessionName)
-                .thenComparing(question -> question.getQuestionDetails().getQuestionTypeDisplayName())
-                .thenComparing(question -> question.getQuestionDetails().getQuestionText()));
+        Predicate<FeedbackQuestionSummary> summaryFilter = summary -> true;
+        if (filter != null && !filter.trim().isEmpty()) {
+            String lowerCaseFilter = filter.trim().toLowerCase();
+            summaryFilter = summary -> summary.matches(lowerCaseFilter);
+        }
 
-        return copiableQuestions;
+        return fqDb.getFeedbackQuestionSummaryPage(courseIds, sortOrder, summaryFilter, cursor, limit);
     }
 
     /**
@@ -319,6 +360,20 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes question, String giver,
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, null);
+    }
+
+    /**
+     * Gets the possible recipients of the giver for the question, as a map of their emails
+     * (or team names) to their names.
+     *
+     * @param roster the students and instructors of the course of the question, which are read from it
+     *               instead of the database if it is not null
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster)
+                    throws EntityDoesNotExistException {
 
         Map<String, String> recipients = new HashMap<>();
 
@@ -335,7 +390,9 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
+            List<StudentAttributes> studentsInCourse = roster == null
+                    ? studentsLogic.getStudentsForCourse(question.courseId)
+                    : roster.getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
@@ -344,7 +401,9 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
+            List<InstructorAttributes> instructorsInCourse = roster == null
+                    ? instructorsLogic.getInstructorsForCourse(question.courseId)
+                    : roster.getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
@@ -353,12 +412,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : getTeamNamesForCourse(question.courseId, roster)) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -366,7 +424,9 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> students = roster == null
+                    ? studentsLogic.getStudentsForTeam(giverTeam, question.courseId)
+                    : roster.getStudentsForTeam(giverTeam);
             for (StudentAttributes student : students) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
@@ -374,7 +434,9 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> teamMembers = roster == null
+                    ? studentsLogic.getStudentsForTeam(giverTeam, question.courseId)
+                    : roster.getStudentsForTeam(giverTeam);
             for (StudentAttributes student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
@@ -389,6 +451,18 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    private List<String> getTeamNamesForCourse(String courseId, CourseRoster roster)
+            throws EntityDoesNotExistException {
+        if (roster != null) {
+            return roster.getTeamNames();
+        }
+        List<String> teamNames = new ArrayList<>();
+        for (TeamDetailsBundle team : coursesLogic.getTeamsForCourse(courseId)) {
+            teamNames.add(team.name);
+        }
+        return teamNames;
+    }
+
     private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
             StudentAttributes studentGiver) {
         String giverTeam = defaultTeam;
@@ -411,7 +485,7 @@ public final class FeedbackQuestionsLogic {
             throws EntityDoesNotExistException {
 
         int numberOfResponsesGiven =
-                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
+                frLogic.getFeedbackResponseCountFromGiverForQuestion(question.getId(), email);
         int numberOfResponsesNeeded =
                 question.numberOfEntitiesToGiveFeedbackTo;
 
@@ -456,41 +530,29 @@ public final class FeedbackQuestionsLogic {
      * Adjust questions between the old and new number,
      * if the new number is smaller, then shift up (increase qn#) all questions in between.
      * if the new number is bigger, then shift down(decrease qn#) all questions in between.
+     * The shifted questions are written at once.
      */
     private void adjustQuestionNumbers(int oldQuestionNumber,
             int newQuestionNumber, List<FeedbackQuestionAttributes> questions) {
+        Map<String, Integer> newQuestionNumbersById = new HashMap<>();
         if (oldQuestionNumber > newQuestionNumber && oldQuestionNumber >= 1) {
             for (int i = oldQuestionNumber - 1; i >= newQuestionNumber; i--) {
                 FeedbackQuestionAttributes question = questions.get(i - 1);
                 question.questionNumber += 1;
-                updateFeedbackQuestionWithoutResponseRateUpdate(question);
+                newQuestionNumbersById.put(question.getId(), question.questionNumber);
             }
         } else if (oldQuestionNumber < newQuestionNumber && oldQuestionNumber < questions.size()) {
             for (int i = oldQuestionNumber + 1; i <= newQuestionNumber; i++) {
                 FeedbackQuestionAttributes question = questions.get(i - 1);
                 question.questionNumber -= 1;
-                updateFeedbackQuestionWithoutResponseRateUpdate(question);
+                newQuestionNumbersById.put(question.getId(), question.questionNumber);
             }
         }
-    }
 
-    /**
-     * Updates the feedback question. For each attribute in
-     * {@code newAttributes}, the existing value is preserved if the attribute
-     * is null (due to 'keep existing' policy). Existing responses for the
-     * question are automatically deleted if giverType/recipientType are
-     * changed, or if the response visibility is increased. However, the
-     * response rate of the feedback session is not updated.<br>
-     * Precondition: <br>
-     * {@code newAttributes} is not {@code null}
-     */
-    private void updateFeedbackQuestionWithoutResponseRateUpdate(FeedbackQuestionAttributes newAttributes) {
-        try {
-            updateFeedbackQuestion(newAttributes, false);
-        } catch (InvalidParametersException e) {
-            Assumption.fail("Invalid question.");
-        } catch (EntityDoesNotExistException e) {
-            Assumption.fail("Question disappeared.");
+        if (!newQuestionNumbersById.isEmpty()) {
+            fqDb.updateQuestionNumbers(newQuestionNumbersById);
+            FeedbackQuestionAttributes question = questions.get(0);
+            questionsCache.bumpVersion(question.courseId, question.feedbackSessionName);
         }
     }
 
@@ -532,6 +594,7 @@ public final class FeedbackQuestionsLogic {
         oldQuestion.updateValues(newAttributes);
         newAttributes.removeIrrelevantVisibilityOptions();
         fqDb.updateFeedbackQuestion(newAttributes);
+        questionsCache.bumpVersion(oldQuestion.courseId, oldQuestion.feedbackSessionName);
     }
 
     public void deleteFeedbackQuestionsForSession(String feedbackSessionName, String courseId)
@@ -595,6 +658,50 @@ public final class FeedbackQuestionsLogic {
      */
     public void deleteFeedbackQuestionsForCourse(String courseId) {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
+        questionsCache.bumpVersionForCourse(courseId);
+    }
+
+    /**
+     * Deletes one batch of the feedback questions in the course. This is a non-cascade delete.
+     *
+     * @return the number of questions deleted
+     */
+    public int deleteFeedbackQuestionsForCourseInBatch(String courseId) {
+        int numberOfQuestionsDeleted = fqDb.deleteFeedbackQuestionsForCourseInBatch(courseId);
+        questionsCache.bumpVersionForCourse(courseId);
+        return numberOfQuestionsDeleted;
+    }
+
+    /**
+     * Marks the questions of the courses as changed, for questions created or deleted
+     * in the courses without going through this class, e.g. by {@link teammates.logic.backdoor.BackDoorLogic}.
+     * Cached questions of sessions in the courses are then read again.
+     */
+    public void markFeedbackQuestionsChangedForCourses(Collection<String> courseIds) {
+        for (String courseId : courseIds) {
+            questionsCache.bumpVersionForCourse(courseId);
+        }
+    }
+
+    /**
+     * Deletes a question by its auto-generated ID and
+     * shifts larger question numbers down by one to preserve number order. <br>
+     * The responses to the question are left behind, to be deleted with
+     * {@link FeedbackResponsesLogic#deleteFeedbackResponsesForQuestionInBatch}.
+     * Until then they are ignored, as they belong to no question.
+     *
+     * @return the deleted question, or null if the question does not exist
+     */
+    public FeedbackQuestionAttributes deleteFeedbackQuestionWithoutResponses(String feedbackQuestionId) {
+        FeedbackQuestionAttributes questionToDelete = getFeedbackQuestion(feedbackQuestionId);
+
+        if (questionToDelete == null) {
+            log.warning("Trying to delete question that does not exist: " + feedbackQuestionId);
+            return null;
+        }
+
+        deleteQuestionAndShiftQuestionNumbers(questionToDelete);
+        return questionToDelete;
     }
 
     /**
@@ -616,9 +723,14 @@ public final class FeedbackQuestionsLogic {
         // Cascade delete responses for question.
         frLogic.deleteFeedbackResponsesForQuestionAndCascade(questionToDelete.getId(), hasResponseRateUpdate);
 
+        deleteQuestionAndShiftQuestionNumbers(questionToDelete);
+    }
+
+    private void deleteQuestionAndShiftQuestionNumbers(FeedbackQuestionAttributes questionToDelete) {
         List<FeedbackQuestionAttributes> questionsToShiftQnNumber = null;
         try {
-            questionsToShiftQnNumber = getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+            questionsToShiftQnNumber =
+                    getFeedbackQuestionsForSession(questionToDelete.feedbackSessionName, questionToDelete.courseId);
         } catch (EntityDoesNotExistException e) {
             Assumption.fail("Session disappeared.");
         }
@@ -628,17 +740,22 @@ public final class FeedbackQuestionsLogic {
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
         }
+        questionsCache.bumpVersion(questionToDelete.courseId, questionToDelete.feedbackSessionName);
     }
 
-    // Shifts all question numbers after questionNumberToShiftFrom down by one.
+    // Shifts all question numbers after questionNumberToShiftFrom down by one, writing the questions at once.
     private void shiftQuestionNumbersDown(int questionNumberToShiftFrom,
             List<FeedbackQuestionAttributes> questionsToShift) {
+        Map<String, Integer> newQuestionNumbersById = new HashMap<>();
         for (FeedbackQuestionAttributes question : questionsToShift) {
             if (question.questionNumber > questionNumberToShiftFrom) {
                 question.questionNumber -= 1;
-                updateFeedbackQuestionWithoutResponseRateUpdate(question);
+                newQuestionNumbersById.put(question.getId(), question.questionNumber);
             }
         }
+        if (!newQuestionNumbersById.isEmpty()) {
+            fqDb.updateQuestionNumbers(newQuestionNumbersById);
+        }
     }
 
     /*
@@ -1,7 +1,12 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
@@ -28,6 +33,14 @@ import teammates.storage.api.FeedbackResponseCommentsDb;
  */
 public final class FeedbackResponseCommentsLogic {
 
+    /**
+     * Maximum number of responses whose comments are loaded by response ID,
+     * which is as many as the datastore allows in the single "in" query used to load them.
+     * The comments on more responses are loaded with all the comments in the session or section instead,
+     * as each further "in" query costs as much as a query of its own.
+     */
+    private static final int MAX_RESPONSES_FOR_COMMENTS_BY_RESPONSE = 30;
+
     private static FeedbackResponseCommentsLogic instance = new FeedbackResponseCommentsLogic();
 
     private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
@@ -99,6 +112,41 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
     }
 
+    /**
+     * Gets the comments on each of the given responses in the session, keyed by response ID.
+     * Responses without comments have no entry in the returned map.
+     * If {@code section} is not null, only the comments given or received in the section are included.
+     *
+     * <p>Only the comments on the given responses are loaded, unless there are so many responses
+     * that loading all the comments in the session, or in the section if {@code section} is not null, is cheaper.
+     */
+    public Map<String, List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForResponsesInSession(
+            String courseId, String feedbackSessionName, String section, Collection<String> feedbackResponseIds) {
+        if (feedbackResponseIds.size() <= MAX_RESPONSES_FOR_COMMENTS_BY_RESPONSE) {
+            Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponseId =
+                    frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+            if (section != null) {
+                // same rule as the section query: the comment is given or received in the section
+                for (List<FeedbackResponseCommentAttributes> comments : commentsByResponseId.values()) {
+                    comments.removeIf(comment -> !section.equals(comment.giverSection)
+                            && !section.equals(comment.receiverSection));
+                }
+                commentsByResponseId.values().removeIf(List::isEmpty);
+            }
+            return commentsByResponseId;
+        }
+
+        Set<String> responseIds = new HashSet<>(feedbackResponseIds);
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponseId = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment
+                : getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)) {
+            if (responseIds.contains(comment.feedbackResponseId)) {
+                commentsByResponseId.computeIfAbsent(comment.feedbackResponseId, id -> new ArrayList<>()).add(comment);
+            }
+        }
+        return commentsByResponseId;
+    }
+
     public void updateFeedbackResponseCommentsForChangingResponseId(
             String oldResponseId, String newResponseId)
             throws InvalidParametersException, EntityDoesNotExistException {
@@ -110,6 +158,21 @@ public final class FeedbackResponseCommentsLogic {
         }
     }
 
+    /**
+     * Moves the comments on each response with an ID in {@code newResponseIdsByOldId}
+     * to the response with the mapped ID.
+     */
+    public void updateFeedbackResponseCommentsForChangingResponseIds(Map<String, String> newResponseIdsByOldId) {
+        frcDb.updateFeedbackResponseIdsOfComments(newResponseIdsByOldId);
+    }
+
+    /**
+     * Updates the sections of the comments on each of the given responses to the sections of the response.
+     */
+    public void updateFeedbackResponseCommentsForChangingSections(Collection<FeedbackResponseAttributes> responses) {
+        frcDb.updateSectionsOfCommentsForResponses(responses);
+    }
+
     /*
      * Updates all email fields of feedback response comments with the new email
      */
@@ -168,6 +231,28 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    /**
+     * Deletes one batch of the response comments in the course.
+     *
+     * @return the number of comments deleted
+     */
+    public int deleteFeedbackResponseCommentsForCourseInBatch(String courseId) {
+        return frcDb.deleteFeedbackResponseCommentsForCourseInBatch(courseId);
+    }
+
+    /**
+     * Deletes one batch of the response comments for the question.
+     *
+     * @return the number of comments deleted
+     */
+    public int deleteFeedbackResponseCommentsForQuestionInBatch(String feedbackQuestionId) {
+        return frcDb.deleteFeedbackResponseCommentsForQuestionInBatch(feedbackQuestionId);
+    }
+
+    public void deleteFeedbackResponseCommentsForResponses(List<String> feedbackResponseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     public void deleteFeedbackResponseComment(FeedbackResponseCommentAttributes feedbackResponseComment) {
         frcDb.deleteEntity(feedbackResponseComment);
     }
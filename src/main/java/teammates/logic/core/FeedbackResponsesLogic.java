@@ -7,8 +7,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -17,6 +19,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackResponsesDb;
@@ -68,6 +71,51 @@ public final class FeedbackResponsesLogic {
         frDb.createEntities(fra);
     }
 
+    /**
+     * Writes the responses submitted by a giver for a session in as few datastore calls as possible:
+     * all new responses and all updated responses which keep their giver and recipient are written at once,
+     * then all responses to delete are deleted at once, together with their comments.
+     * Updated responses whose giver or recipient changed are recreated one by one.
+     *
+     * @param responsesToCreate responses without IDs; those that turn out to exist already are updated
+     * @param responsesToUpdate existing responses, with their IDs
+     * @param responsesToDelete existing responses, with their IDs
+     * @throws InvalidParametersException if any of the responses to create or update is invalid,
+     *         in which case none of them are written
+     */
+    public void saveSubmittedFeedbackResponses(List<FeedbackResponseAttributes> responsesToCreate,
+                                               List<FeedbackResponseAttributes> responsesToUpdate,
+                                               List<FeedbackResponseAttributes> responsesToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        List<FeedbackResponseAttributes> responsesToWrite = new ArrayList<>(responsesToCreate);
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            // the ID of a response is made up of its question, giver and recipient
+            boolean isGiverAndRecipientUnchanged = response.getId().equals(
+                    ResponseId.of(response.feedbackQuestionId, response.giver, response.recipient).toString());
+            if (isGiverAndRecipientUnchanged) {
+                responsesToWrite.add(response);
+            } else {
+                responsesToRecreate.add(response);
+            }
+        }
+
+        frDb.createOrUpdateFeedbackResponses(responsesToWrite);
+
+        if (!responsesToDelete.isEmpty()) {
+            List<String> responseIdsToDelete = new ArrayList<>();
+            for (FeedbackResponseAttributes response : responsesToDelete) {
+                responseIdsToDelete.add(response.getId());
+            }
+            frcLogic.deleteFeedbackResponseCommentsForResponses(responseIdsToDelete);
+            frDb.deleteFeedbackResponses(responseIdsToDelete);
+        }
+
+        for (FeedbackResponseAttributes response : responsesToRecreate) {
+            updateFeedbackResponse(response);
+        }
+    }
+
     public FeedbackResponseAttributes getFeedbackResponse(
             String feedbackResponseId) {
         return frDb.getFeedbackResponse(feedbackResponseId);
@@ -189,8 +237,18 @@ public final class FeedbackResponsesLogic {
     }
 
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
+        return frDb.hasFeedbackResponseFromGiverForSession(userEmail, feedbackSessionName, courseId);
+    }
+
+    public int getFeedbackResponseCountFromGiverForQuestion(String feedbackQuestionId, String userEmail) {
+        return frDb.getFeedbackResponseCountFromGiverForQuestion(feedbackQuestionId, userEmail);
+    }
 
-        return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
+    /**
+     * Gets the IDs of all responses in the session, without reading the answers of the responses.
+     */
+    public List<ResponseId> getFeedbackResponseIdsForSession(String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponseIdsForSession(feedbackSessionName, courseId);
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourse(
@@ -216,6 +274,61 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(question.getId(), student.email);
     }
 
+    /**
+     * Gets the existing feedback responses from the student or their team for each of the given questions
+     * of a session, reading all of them at once.
+     *
+     * @param questions the questions, all in the same session as the student
+     * @param roster the roster of the course, used to find the members of the student's team;
+     *               only needed if some of the questions are answered by teams
+     * @return the responses to each question, by ID of the question
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getFeedbackResponsesFromStudentOrTeamForQuestions(
+            List<FeedbackQuestionAttributes> questions, StudentAttributes student, CourseRoster roster) {
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestionId = new HashMap<>();
+        if (questions.isEmpty()) {
+            return responsesByQuestionId;
+        }
+
+        boolean hasTeamQuestion = false;
+        for (FeedbackQuestionAttributes question : questions) {
+            responsesByQuestionId.put(question.getId(), new ArrayList<FeedbackResponseAttributes>());
+            hasTeamQuestion = hasTeamQuestion || question.giverType == FeedbackParticipantType.TEAMS;
+        }
+
+        // responses to team questions may be given by any team member, or under the name of the team
+        Set<String> teamGivers = new HashSet<>();
+        teamGivers.add(student.email);
+        if (hasTeamQuestion) {
+            Assumption.assertNotNull(roster);
+            for (StudentAttributes teamMember : roster.getStudentsForTeam(student.team)) {
+                teamGivers.add(teamMember.email);
+            }
+            teamGivers.add(student.team);
+        }
+
+        FeedbackQuestionAttributes anyQuestion = questions.get(0);
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesFromGiversForSession(
+                anyQuestion.feedbackSessionName, anyQuestion.courseId, new ArrayList<>(teamGivers));
+
+        Map<String, FeedbackQuestionAttributes> questionsById = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionsById.put(question.getId(), question);
+        }
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questionsById.get(response.feedbackQuestionId);
+            if (question == null) {
+                continue;
+            }
+            boolean isGivenByStudentOrTeam = question.giverType == FeedbackParticipantType.TEAMS
+                    || response.giver.equals(student.email);
+            if (isGivenByStudentOrTeam) {
+                responsesByQuestionId.get(question.getId()).add(response);
+            }
+        }
+        return responsesByQuestionId;
+    }
+
     public List<FeedbackResponseAttributes> getViewableFeedbackResponsesForQuestionInSection(
             FeedbackQuestionAttributes question, String userEmail,
             UserRole role, String section) {
@@ -574,107 +687,146 @@ public final class FeedbackResponsesLogic {
         }
     }
 
-    public boolean updateFeedbackResponseForChangingTeam(StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestionAttributes question = fqLogic
-                .getFeedbackQuestion(response.feedbackQuestionId);
-
-        boolean isGiverSameForResponseAndEnrollment = response.giver
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = response.recipient
-                .equals(enrollment.email);
-
-        boolean shouldDeleteByChangeOfGiver = isGiverSameForResponseAndEnrollment
-                                              && (question.giverType == FeedbackParticipantType.TEAMS
-                                                  || isRecipientTypeTeamMembers(question));
-        boolean shouldDeleteByChangeOfRecipient = isReceiverSameForResponseAndEnrollment
-                                                  && isRecipientTypeTeamMembers(question);
-
-        boolean shouldDeleteResponse = shouldDeleteByChangeOfGiver
-                || shouldDeleteByChangeOfRecipient;
+    private boolean isRecipientTypeTeamMembers(FeedbackQuestionAttributes question) {
+        return question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS
+               || question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+    }
 
-        if (shouldDeleteResponse) {
-            frDb.deleteEntity(response);
-            updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
-                    response.feedbackSessionName, enrollment.course);
+    /**
+     * Adjusts the responses in the session given by or to the students in {@code enrollments}
+     * for their change of team or section. The responses are read with a few queries on their givers and
+     * recipients; those invalidated by a change of team are deleted with their comments and
+     * the rest are updated with the new sections, each at once. <br>
+     * As the adjustment only depends on the new team and section of the students, it is safe to repeat.
+     */
+    public void adjustFeedbackResponsesForEnrollments(String courseId, String feedbackSessionName,
+            List<StudentEnrollDetails> enrollments) throws EntityDoesNotExistException {
+        Map<String, StudentEnrollDetails> enrollmentsByEmail = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollments) {
+            enrollmentsByEmail.put(enrollment.email, enrollment);
+        }
+        if (enrollmentsByEmail.isEmpty()) {
+            return;
         }
 
-        return shouldDeleteResponse;
-    }
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesFromOrToParticipantsForSession(
+                feedbackSessionName, courseId, new ArrayList<>(enrollmentsByEmail.keySet()));
+        if (responses.isEmpty()) {
+            return;
+        }
 
-    private void updateSessionResponseRateForDeletingStudentResponse(String studentEmail, String sessionName,
-            String courseId) throws InvalidParametersException, EntityDoesNotExistException {
-        if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
-            fsLogic.deleteStudentFromRespondentList(studentEmail, sessionName, courseId);
+        Map<String, FeedbackQuestionAttributes> questionsById = new HashMap<>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            questionsById.put(question.getId(), question);
         }
-    }
 
-    private boolean isRecipientTypeTeamMembers(FeedbackQuestionAttributes question) {
-        return question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS
-               || question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
-    }
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questionsById.get(response.feedbackQuestionId);
+            if (question == null) {
+                // the question is being deleted together with its responses
+                continue;
+            }
 
-    public void updateFeedbackResponseForChangingSection(
-            StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
+            StudentEnrollDetails giverEnrollment = enrollmentsByEmail.get(response.giver);
+            StudentEnrollDetails recipientEnrollment = enrollmentsByEmail.get(response.recipient);
 
-        FeedbackResponse feedbackResponse = frDb.getFeedbackResponseEntityOptimized(response);
-        boolean isGiverSameForResponseAndEnrollment = feedbackResponse.getGiverEmail()
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = feedbackResponse.getRecipientEmail()
-                .equals(enrollment.email);
+            boolean shouldDeleteByChangeOfGiver = giverEnrollment != null && giverEnrollment.isTeamChanged()
+                                                  && (question.giverType == FeedbackParticipantType.TEAMS
+                                                      || isRecipientTypeTeamMembers(question));
+            boolean shouldDeleteByChangeOfRecipient = recipientEnrollment != null && recipientEnrollment.isTeamChanged()
+                                                      && isRecipientTypeTeamMembers(question);
+            if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                responsesToDelete.add(response);
+                continue;
+            }
 
-        if (isGiverSameForResponseAndEnrollment) {
-            feedbackResponse.setGiverSection(enrollment.newSection);
+            boolean isSectionUpdated = false;
+            if (giverEnrollment != null && giverEnrollment.isSectionChanged()) {
+                response.giverSection = giverEnrollment.newSection;
+                isSectionUpdated = true;
+            }
+            if (recipientEnrollment != null && recipientEnrollment.isSectionChanged()) {
+                response.recipientSection = recipientEnrollment.newSection;
+                isSectionUpdated = true;
+            }
+            if (isSectionUpdated) {
+                responsesToUpdate.add(response);
+            }
         }
 
-        if (isReceiverSameForResponseAndEnrollment) {
-            feedbackResponse.setRecipientSection(enrollment.newSection);
+        if (!responsesToUpdate.isEmpty()) {
+            frDb.updateSectionsOfFeedbackResponses(responsesToUpdate);
+            frcLogic.updateFeedbackResponseCommentsForChangingSections(responsesToUpdate);
         }
 
-        frDb.saveEntity(feedbackResponse);
-
-        if (isGiverSameForResponseAndEnrollment || isReceiverSameForResponseAndEnrollment) {
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
+        if (!responsesToDelete.isEmpty()) {
+            List<String> responseIdsToDelete = new ArrayList<>();
+            for (FeedbackResponseAttributes response : responsesToDelete) {
+                responseIdsToDelete.add(response.getId());
+            }
+            frcLogic.deleteFeedbackResponseCommentsForResponses(responseIdsToDelete);
+            frDb.deleteFeedbackResponses(responseIdsToDelete);
+            removeGiversWithoutResponsesFromRespondents(responsesToDelete, FeedbackParticipantType.STUDENTS);
         }
     }
 
     /**
-     * Updates responses for a student when his email changes.
+     * Updates responses for a student when their email changes.
      */
-    // TODO: cascade the update to response comments
     public void updateFeedbackResponsesForChangingEmail(
             String courseId, String oldEmail, String newEmail)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+            throws InvalidParametersException {
+        updateFeedbackResponsesForChangingEmail(courseId, oldEmail, newEmail, Integer.MAX_VALUE);
+    }
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            response.giver = newEmail;
-            try {
-                updateFeedbackResponse(response);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
+    /**
+     * Updates responses for a student when their email changes, stopping once at least
+     * {@code maxResponsesToUpdate} responses have been updated.
+     *
+     * @return true if all the responses have been updated, false if there may be responses left to be updated
+     *         with {@link #updateFeedbackResponsesForChangingEmailInBatch}
+     */
+    public boolean updateFeedbackResponsesForChangingEmail(
+            String courseId, String oldEmail, String newEmail, int maxResponsesToUpdate)
+            throws InvalidParametersException {
+        int numberOfResponsesUpdated = 0;
+        while (numberOfResponsesUpdated < maxResponsesToUpdate) {
+            int numberOfResponsesUpdatedInBatch =
+                    updateFeedbackResponsesForChangingEmailInBatch(courseId, oldEmail, newEmail);
+            if (numberOfResponsesUpdatedInBatch == 0) {
+                return true;
             }
+            numberOfResponsesUpdated += numberOfResponsesUpdatedInBatch;
         }
+        return false;
+    }
 
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
+    /**
+     * Updates a batch of the responses given by or to a student for their new email. <br>
+     * As the ID of a response is made of its giver and recipient, the responses are re-created
+     * with new IDs: the new responses are written and the old ones deleted, each at once, and the comments
+     * on the old responses are moved to the new ones in between. An interrupted batch is thus safe to repeat.
+     *
+     * @return the number of responses updated; 0 if there are no more responses to update
+     */
+    public int updateFeedbackResponsesForChangingEmailInBatch(
+            String courseId, String oldEmail, String newEmail)
+            throws InvalidParametersException {
+        if (oldEmail.equals(newEmail)) {
+            return 0;
+        }
 
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            response.recipient = newEmail;
-            try {
-                updateFeedbackResponse(response);
-            } catch (EntityAlreadyExistsException e) {
-                Assumption
-                        .fail("Feedback response failed to update successfully"
-                            + "as email was already in use.");
-            }
+        Map<String, String> newResponseIdsByOldId =
+                frDb.copyFeedbackResponsesForChangingEmailInBatch(courseId, oldEmail, newEmail);
+        if (newResponseIdsByOldId.isEmpty()) {
+            return 0;
         }
+
+        frcLogic.updateFeedbackResponseCommentsForChangingResponseIds(newResponseIdsByOldId);
+        frDb.deleteFeedbackResponses(newResponseIdsByOldId.keySet());
+        return newResponseIdsByOldId.size();
     }
 
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
@@ -684,41 +836,81 @@ public final class FeedbackResponsesLogic {
 
     public void deleteFeedbackResponsesForQuestionAndCascade(
             String feedbackQuestionId, boolean hasResponseRateUpdate) {
-        List<FeedbackResponseAttributes> responsesForQuestion =
-                getFeedbackResponsesForQuestion(feedbackQuestionId);
-
-        Set<String> emails = new HashSet<>();
+        FeedbackParticipantType giverTypeForResponseRateUpdate = null;
+        if (hasResponseRateUpdate) {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+            Assumption.assertNotNull("Fail to delete respondent", question);
+            giverTypeForResponseRateUpdate = question.giverType;
+        }
 
-        for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
-            emails.add(response.giver);
+        CascadeDeletionStage stage = CascadeDeletionStage.first();
+        while (stage != null) {
+            stage = deleteFeedbackResponsesForQuestionInBatch(feedbackQuestionId, giverTypeForResponseRateUpdate, stage);
         }
+    }
 
-        if (!hasResponseRateUpdate) {
-            return;
+    /**
+     * Deletes, starting from {@code stage}, one batch of the responses to the question with ID
+     * {@code feedbackQuestionId} or of the comments on them. All the comments are deleted before the responses.
+     *
+     * <p>If {@code giverTypeForResponseRateUpdate} is not null, it is taken as the giver type of the question,
+     * and the givers of the deleted responses who have no more responses in the session are removed
+     * from the respondents of the session.
+     *
+     * @return the stage from which the deletion is to be continued, or null if the deletion is complete
+     */
+    public CascadeDeletionStage deleteFeedbackResponsesForQuestionInBatch(String feedbackQuestionId,
+            FeedbackParticipantType giverTypeForResponseRateUpdate, CascadeDeletionStage stage) {
+        for (CascadeDeletionStage currentStage = stage; currentStage != null; currentStage = currentStage.next()) {
+            switch (currentStage) {
+            case FEEDBACK_RESPONSE_COMMENTS:
+                if (frcLogic.deleteFeedbackResponseCommentsForQuestionInBatch(feedbackQuestionId) > 0) {
+                    return currentStage;
+                }
+                break;
+            case FEEDBACK_RESPONSES:
+                List<FeedbackResponseAttributes> deletedResponses =
+                        frDb.deleteFeedbackResponsesForQuestionInBatch(feedbackQuestionId);
+                if (giverTypeForResponseRateUpdate != null) {
+                    removeGiversWithoutResponsesFromRespondents(deletedResponses, giverTypeForResponseRateUpdate);
+                }
+                if (!deletedResponses.isEmpty()) {
+                    return currentStage;
+                }
+                break;
+            default:
+                // nothing of this kind is left behind by a question
+                break;
+            }
         }
+        return null;
+    }
 
-        try {
-            FeedbackQuestionAttributes question = fqLogic
-                    .getFeedbackQuestion(feedbackQuestionId);
-            boolean isInstructor = question.giverType == FeedbackParticipantType.SELF
-                                   || question.giverType == FeedbackParticipantType.INSTRUCTORS;
-            for (String email : emails) {
-                boolean hasResponses = hasGiverRespondedForSession(email, question.feedbackSessionName, question.courseId);
-                if (!hasResponses) {
-                    if (isInstructor) {
-                        fsLogic.deleteInstructorRespondent(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    } else {
-                        fsLogic.deleteStudentFromRespondentList(email,
-                                question.feedbackSessionName,
-                                question.courseId);
-                    }
+    private void removeGiversWithoutResponsesFromRespondents(
+            List<FeedbackResponseAttributes> deletedResponses, FeedbackParticipantType giverType) {
+        boolean isInstructor = giverType == FeedbackParticipantType.SELF
+                               || giverType == FeedbackParticipantType.INSTRUCTORS;
+
+        Set<String> checkedGivers = new HashSet<>();
+        for (FeedbackResponseAttributes response : deletedResponses) {
+            if (!checkedGivers.add(response.giver)
+                    || hasGiverRespondedForSession(response.giver, response.feedbackSessionName, response.courseId)) {
+                continue;
+            }
+
+            try {
+                if (isInstructor) {
+                    fsLogic.deleteInstructorRespondent(response.giver, response.feedbackSessionName, response.courseId);
+                } else {
+                    fsLogic.deleteStudentFromRespondentList(
+                            response.giver, response.feedbackSessionName, response.courseId);
                 }
+            } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                // the session may have been deleted in the meantime
+                log.warning("Fail to delete respondent " + response.giver + " of session "
+                        + response.feedbackSessionName + " in course " + response.courseId + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
             }
-        } catch (InvalidParametersException | EntityDoesNotExistException e) {
-            Assumption.fail("Fail to delete respondent");
         }
     }
 
@@ -742,9 +934,27 @@ public final class FeedbackResponsesLogic {
             responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
+        // a response to oneself is found both as given and as received
+        Set<String> responseIds = new HashSet<>();
         for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
+            responseIds.add(response.getId());
         }
+        if (responseIds.isEmpty()) {
+            return;
+        }
+
+        frcLogic.deleteFeedbackResponseCommentsForResponses(new ArrayList<>(responseIds));
+        frDb.deleteFeedbackResponses(responseIds);
+    }
+
+    /**
+     * Deletes one batch of the responses in the course. This is a non-cascade delete
+     * and the feedback response comments are not deleted, and should be handled.
+     *
+     * @return the number of responses deleted
+     */
+    public int deleteFeedbackResponsesForCourseInBatch(String courseId) {
+        return frDb.deleteFeedbackResponsesForCourseInBatch(courseId);
     }
 
     /**
@@ -1,14 +1,16 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -17,6 +19,7 @@ import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionType;
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -24,7 +27,9 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
@@ -129,25 +134,52 @@ public final class FeedbackSessionsLogic {
     public FeedbackSessionAttributes copyFeedbackSession(String newFeedbackSessionName,
             String newCourseId, String feedbackSessionName, String courseId, String instructorEmail)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
-        FeedbackSessionAttributes copiedFeedbackSession = getFeedbackSession(feedbackSessionName, courseId);
-        copiedFeedbackSession.setCreatorEmail(instructorEmail);
-        copiedFeedbackSession.setFeedbackSessionName(newFeedbackSessionName);
-        copiedFeedbackSession.setCourseId(newCourseId);
-        copiedFeedbackSession.setCreatedTime(new Date());
-        copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
-        copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
-        fsDb.createEntity(copiedFeedbackSession);
+        return copyFeedbackSessionToCourses(newFeedbackSessionName, Arrays.asList(newCourseId),
+                                            feedbackSessionName, courseId, instructorEmail).get(0);
+    }
 
+    /**
+     * Copies the session, with its questions, into each of the courses in {@code newCourseIds}.
+     * The session and its questions are read once; all the new sessions are then written at once,
+     * followed by all the new questions at once.
+     *
+     * @return the new sessions, in the order of {@code newCourseIds}
+     * @throws EntityAlreadyExistsException if a session named {@code newFeedbackSessionName} exists
+     *         in any of the courses; nothing is copied then
+     */
+    public List<FeedbackSessionAttributes> copyFeedbackSessionToCourses(String newFeedbackSessionName,
+            List<String> newCourseIds, String feedbackSessionName, String courseId, String instructorEmail)
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        FeedbackSessionAttributes feedbackSession = getFeedbackSession(feedbackSessionName, courseId);
         List<FeedbackQuestionAttributes> feedbackQuestions =
                 fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        for (FeedbackQuestionAttributes question : feedbackQuestions) {
-            question.courseId = newCourseId;
-            question.feedbackSessionName = newFeedbackSessionName;
-            question.creatorEmail = instructorEmail;
-            fqLogic.createFeedbackQuestionNoIntegrityCheck(question, question.questionNumber);
+
+        List<FeedbackSessionAttributes> copiedFeedbackSessions = new ArrayList<>();
+        List<FeedbackQuestionAttributes> copiedFeedbackQuestions = new ArrayList<>();
+        for (String newCourseId : newCourseIds) {
+            FeedbackSessionAttributes copiedFeedbackSession = feedbackSession.getCopy();
+            copiedFeedbackSession.setCreatorEmail(instructorEmail);
+            copiedFeedbackSession.setFeedbackSessionName(newFeedbackSessionName);
+            copiedFeedbackSession.setCourseId(newCourseId);
+            copiedFeedbackSession.setCreatedTime(new Date());
+            copiedFeedbackSession.setRespondingInstructorList(new HashSet<String>());
+            copiedFeedbackSession.setRespondingStudentList(new HashSet<String>());
+            copiedFeedbackSessions.add(copiedFeedbackSession);
+
+            for (FeedbackQuestionAttributes question : feedbackQuestions) {
+                FeedbackQuestionAttributes copiedQuestion = question.getCopy();
+                copiedQuestion.setId(null);
+                copiedQuestion.courseId = newCourseId;
+                copiedQuestion.feedbackSessionName = newFeedbackSessionName;
+                copiedQuestion.creatorEmail = instructorEmail;
+                copiedFeedbackQuestions.add(copiedQuestion);
+            }
         }
 
-        return copiedFeedbackSession;
+        fsDb.createFeedbackSessions(copiedFeedbackSessions);
+        fqLogic.createFeedbackQuestionsNoIntegrityCheck(copiedFeedbackQuestions);
+
+        return copiedFeedbackSessions;
     }
 
     /**
@@ -308,7 +340,7 @@ public final class FeedbackSessionsLogic {
                     question, instructorGiver, null);
         }
 
-        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
+        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList, null, getGeneratedOptionsResolver(courseId));
     }
 
     public FeedbackSessionQuestionsBundle getFeedbackSessionQuestionsForInstructor(
@@ -334,7 +366,7 @@ public final class FeedbackSessionsLogic {
                 userEmail, fsa, instructor, bundle, recipientList,
                 question, instructorGiver, null);
 
-        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
+        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList, null, getGeneratedOptionsResolver(courseId));
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
@@ -400,22 +432,71 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName,
                 courseId);
 
-        Set<String> hiddenInstructorEmails = null;
-
+        boolean hasQuestionToInstructors = false;
+        boolean isRosterNeeded = false;
         for (FeedbackQuestionAttributes question : questions) {
-            if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
-                break;
-            }
-        }
+            hasQuestionToInstructors = hasQuestionToInstructors
+                    || question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS;
+            isRosterNeeded = isRosterNeeded || question.giverType == FeedbackParticipantType.TEAMS
+                    || isRecipientTypeFromRoster(question.getRecipientType());
+        }
+
+        // Load the roster and the student's responses once for all questions,
+        // rather than once for each question. The roster is not loaded if no question needs it.
+        CourseRoster roster = isRosterNeeded
+                ? new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                        hasQuestionToInstructors ? instructorsLogic.getInstructorsForCourse(courseId) : null)
+                : null;
+        Set<String> hiddenInstructorEmails = hasQuestionToInstructors
+                ? getHiddenInstructorEmails(roster.getInstructors())
+                : null;
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestionId =
+                frLogic.getFeedbackResponsesFromStudentOrTeamForQuestions(questions, student, roster);
 
         for (FeedbackQuestionAttributes question : questions) {
+            List<FeedbackResponseAttributes> responses = responsesByQuestionId.get(question.getId());
+            Map<String, String> recipients =
+                    fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
+
+            removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
+
+            normalizeMaximumResponseEntities(question, recipients);
 
-            updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+            bundle.put(question, responses);
+            recipientList.put(question.getId(), recipients);
         }
 
-        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
+        // the students are in the roster if it is loaded; the instructors only if some question is to instructors
+        Supplier<List<StudentAttributes>> studentsLoader = roster == null
+                ? () -> studentsLogic.getStudentsForCourse(courseId)
+                : roster::getStudents;
+        Supplier<List<InstructorAttributes>> instructorsLoader = hasQuestionToInstructors
+                ? roster::getInstructors
+                : () -> instructorsLogic.getInstructorsForCourse(courseId);
+        FeedbackGeneratedOptionsResolver generatedOptionsResolver =
+                new FeedbackGeneratedOptionsResolver(studentsLoader, instructorsLoader);
+        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList, roster, generatedOptionsResolver);
+    }
+
+    /**
+     * Returns true if the possible recipients of a question to {@code recipientType}
+     * are read from the roster of the course.
+     */
+    private static boolean isRecipientTypeFromRoster(FeedbackParticipantType recipientType) {
+        return recipientType == FeedbackParticipantType.STUDENTS
+               || recipientType == FeedbackParticipantType.TEAMS
+               || recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS
+               || recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF
+               || recipientType == FeedbackParticipantType.INSTRUCTORS;
+    }
+
+    /**
+     * Returns a resolver for the options generated from the roster of the course,
+     * which reads the roster only if such options are needed.
+     */
+    private FeedbackGeneratedOptionsResolver getGeneratedOptionsResolver(String courseId) {
+        return new FeedbackGeneratedOptionsResolver(() -> studentsLogic.getStudentsForCourse(courseId),
+                                                    () -> instructorsLogic.getInstructorsForCourse(courseId));
     }
 
     public FeedbackSessionQuestionsBundle getFeedbackSessionQuestionsForStudent(
@@ -448,7 +529,7 @@ public final class FeedbackSessionsLogic {
         updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
                 bundle, recipientList, question, hiddenInstructorEmails);
 
-        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
+        return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList, null, getGeneratedOptionsResolver(courseId));
     }
 
     private void updateBundleAndRecipientListWithResponsesForStudent(
@@ -521,7 +602,10 @@ public final class FeedbackSessionsLogic {
      *            the ID of the course
      */
     private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        return getHiddenInstructorEmails(instructorsLogic.getInstructorsForCourse(courseId));
+    }
+
+    private Set<String> getHiddenInstructorEmails(List<InstructorAttributes> instructors) {
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
         for (InstructorAttributes instructor : instructors) {
@@ -833,21 +917,45 @@ public final class FeedbackSessionsLogic {
 
         exportBuilder.append(Const.EOL).append(Const.EOL);
 
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
+        Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseMap =
+                results.getQuestionResponseMap();
+        Map<FeedbackQuestionAttributes, FeedbackResponseStatistics> statisticsByQuestion = isStatsShown
+                ? aggregateResponseStatistics(questionResponseMap)
+                : Collections.emptyMap();
 
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                : questionResponseMap.entrySet()) {
             exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
+                    results, entry, isMissingResponsesShown, isStatsShown,
+                    statisticsByQuestion.get(entry.getKey()), section));
         }
 
         return exportBuilder.toString();
     }
 
+    /**
+     * Aggregates the statistics of the responses to each question, in a single pass over the responses
+     * of the question.
+     *
+     * @return the statistics of each question whose statistics are aggregated before they are rendered
+     * @see FeedbackQuestionDetails#aggregateResponseStatistics(List)
+     */
+    private Map<FeedbackQuestionAttributes, FeedbackResponseStatistics> aggregateResponseStatistics(
+            Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> questionResponseMap) {
+        Map<FeedbackQuestionAttributes, FeedbackResponseStatistics> statisticsByQuestion = new HashMap<>();
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                : questionResponseMap.entrySet()) {
+            FeedbackQuestionDetails questionDetails = entry.getKey().getQuestionDetails();
+            statisticsByQuestion.put(entry.getKey(), questionDetails.aggregateResponseStatistics(entry.getValue()));
+        }
+        return statisticsByQuestion;
+    }
+
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
             FeedbackSessionResultsBundle fsrBundle,
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
-            boolean isMissingResponsesShown, boolean isStatsShown, String section) {
+            boolean isMissingResponsesShown, boolean isStatsShown,
+            FeedbackResponseStatistics responseStatistics, String section) {
 
         FeedbackQuestionAttributes question = entry.getKey();
         FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
@@ -859,18 +967,21 @@ public final class FeedbackSessionsLogic {
                 + SanitizationHelper.sanitizeForCsv(questionDetails.getQuestionText())
                 + Const.EOL + Const.EOL);
 
-        String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
-                                    question, fsrBundle);
-        if (!statistics.isEmpty() && isStatsShown) {
-            exportBuilder.append("Summary Statistics,").append(Const.EOL);
-            exportBuilder.append(statistics).append(Const.EOL);
+        if (isStatsShown) {
+            String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
+                                        question, fsrBundle, responseStatistics);
+            if (!statistics.isEmpty()) {
+                exportBuilder.append("Summary Statistics,").append(Const.EOL);
+                exportBuilder.append(statistics).append(Const.EOL);
+            }
         }
 
         List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
         List<String> possibleRecipientsForGiver = new ArrayList<>();
         String prevGiver = "";
 
-        int maxNumOfResponseComments = getMaxNumberOfResponseComments(allResponses, fsrBundle.getResponseComments());
+        int maxNumOfResponseComments =
+                allResponses.isEmpty() ? 0 : fsrBundle.getMaxResponseCommentCount(question.getId());
         exportBuilder.append(questionDetails.getCsvDetailedResponsesHeader(maxNumOfResponseComments));
 
         for (FeedbackResponseAttributes response : allResponses) {
@@ -902,7 +1013,7 @@ public final class FeedbackSessionsLogic {
             prevGiver = response.giver;
 
             // do not show all possible givers and recipients if there are anonymous givers and recipients
-            boolean hasCommentsForResponses = fsrBundle.responseComments.containsKey(response.getId());
+            boolean hasCommentsForResponses = fsrBundle.getResponseCommentCount(response.getId()) > 0;
 
             exportBuilder.append(questionDetails.getCsvDetailedResponsesRow(fsrBundle, response, question,
                     hasCommentsForResponses));
@@ -920,24 +1031,6 @@ public final class FeedbackSessionsLogic {
         return exportBuilder;
     }
 
-    private int getMaxNumberOfResponseComments(List<FeedbackResponseAttributes> allResponses,
-            Map<String, List<FeedbackResponseCommentAttributes>> responseComments) {
-
-        if (allResponses == null || allResponses.isEmpty()) {
-            return 0;
-        }
-
-        int maxCommentsNum = 0;
-        for (FeedbackResponseAttributes response : allResponses) {
-            List<FeedbackResponseCommentAttributes> commentAttributes = responseComments.get(response.getId());
-            if (commentAttributes != null && maxCommentsNum < commentAttributes.size()) {
-                maxCommentsNum = commentAttributes.size();
-            }
-        }
-
-        return maxCommentsNum;
-    }
-
     /**
      * Given a participantIdentifier, remove it from participantIdentifierList.
      *
@@ -1156,19 +1249,13 @@ public final class FeedbackSessionsLogic {
     public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateInstructorRespondent(oldEmail, newEmail, session);
-        }
+        fsDb.updateRespondentForCourse(courseId, oldEmail, newEmail, true);
     }
 
     public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateStudentRespondent(oldEmail, newEmail, session);
-        }
+        fsDb.updateRespondentForCourse(courseId, oldEmail, newEmail, false);
     }
 
     public void updateRespondentsForSession(String feedbackSessionName, String courseId)
@@ -1199,13 +1286,13 @@ public final class FeedbackSessionsLogic {
 
         Set<String> respondingStudentList = new HashSet<>();
         Set<String> respondingInstructorList = new HashSet<>();
-        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
-        for (FeedbackResponseAttributes response : responses) {
-            List<String> instructorQuestions = instructorQuestionsMap.get(response.giver);
-            if (instructorQuestions != null && instructorQuestions.contains(response.feedbackQuestionId)) {
-                respondingInstructorList.add(response.giver);
+        List<ResponseId> responseIds = frLogic.getFeedbackResponseIdsForSession(feedbackSessionName, courseId);
+        for (ResponseId responseId : responseIds) {
+            List<String> instructorQuestions = instructorQuestionsMap.get(responseId.getGiver());
+            if (instructorQuestions != null && instructorQuestions.contains(responseId.getFeedbackQuestionId())) {
+                respondingInstructorList.add(responseId.getGiver());
             } else {
-                respondingStudentList.add(response.giver);
+                respondingStudentList.add(responseId.getGiver());
             }
         }
 
@@ -1633,31 +1720,9 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSession(courseId,
-                        feedbackSessionName);
-        for (FeedbackResponseCommentAttributes frc : allResponseComments) {
-            FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
-            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(userEmail,
-                    role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
-            if (isVisibleResponseComment) {
-                if (!frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster)) {
-                    frc.giverEmail = Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
-                }
-
-                if (responseComments.get(frc.feedbackResponseId) == null) {
-                    responseComments.put(frc.feedbackResponseId,
-                            new ArrayList<FeedbackResponseCommentAttributes>());
-                }
-                responseComments.get(frc.feedbackResponseId).add(frc);
-            }
-        }
-
-        for (List<FeedbackResponseCommentAttributes> responseCommentList : responseComments
-                .values()) {
-            sortByCreatedDate(responseCommentList);
-        }
+        responseComments = getResponseComments(
+                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, null, student,
+                studentsEmailInTeam, relevantResponse);
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
@@ -1762,31 +1827,31 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
+        // only the comments on the responses visible to the user are loaded
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponseId =
+                frcLogic.getFeedbackResponseCommentsForResponsesInSession(
+                        courseId, feedbackSessionName, section, relevantResponse.keySet());
+
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
-        for (FeedbackResponseCommentAttributes frc : allResponseComments) {
-            FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
-            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
-            if (isVisibleResponseComment) {
-                if (!frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster)) {
-                    frc.giverEmail = Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
-                }
-                List<FeedbackResponseCommentAttributes> frcList = responseComments.get(frc.feedbackResponseId);
-                if (frcList == null) {
-                    frcList = new ArrayList<>();
-                    frcList.add(frc);
-                    responseComments.put(frc.feedbackResponseId, frcList);
-                } else {
+        for (Map.Entry<String, List<FeedbackResponseCommentAttributes>> commentsForResponse
+                : commentsByResponseId.entrySet()) {
+            FeedbackResponseAttributes relatedResponse = relevantResponse.get(commentsForResponse.getKey());
+            List<FeedbackResponseCommentAttributes> frcList = new ArrayList<>();
+            for (FeedbackResponseCommentAttributes frc : commentsForResponse.getValue()) {
+                FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
+                boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
+                        userEmail, role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+                if (isVisibleResponseComment) {
+                    if (!frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster)) {
+                        frc.giverEmail = Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT;
+                    }
                     frcList.add(frc);
                 }
             }
-        }
-
-        for (List<FeedbackResponseCommentAttributes> responseCommentList : responseComments.values()) {
-            sortByCreatedDate(responseCommentList);
+            if (!frcList.isEmpty()) {
+                sortByCreatedDate(frcList);
+                responseComments.put(commentsForResponse.getKey(), frcList);
+            }
         }
         return responseComments;
     }
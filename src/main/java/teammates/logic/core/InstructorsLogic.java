@@ -66,10 +66,11 @@ public final class InstructorsLogic {
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search instructors in the whole system.
+     * The matching instructors are retrieved from {@code cursor}, or from the first match if it is null.
      * @return null if no result found
      */
-    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString) {
-        return instructorsDb.searchInstructorsInWholeSystem(queryString);
+    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString, String cursor) {
+        return instructorsDb.searchInstructorsInWholeSystem(queryString, cursor);
     }
 
     /* ====================================
@@ -1,7 +1,11 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
@@ -15,13 +19,35 @@ import teammates.common.util.Logger;
 /**
  * Email sender service provided by Mailgun.
  *
+ * <p>Batches of emails are sent as a single batch message, with the subject and content of each email
+ * given as recipient variables.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/java/mail/mailgun">https://cloud.google.com/appengine/docs/java/mail/mailgun</a>
+ * @see <a href="https://documentation.mailgun.com/en/latest/user_manual.html#batch-sending">https://documentation.mailgun.com/en/latest/user_manual.html#batch-sending</a>
  * @see FormDataMultiPart
  */
 public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Mailgun accepts up to 1000 recipients per batch message, but the recipient variables carry the whole
+     * subject and content of each email, so only half as many are sent at once to keep the message small.
+     */
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private static final String SUBJECT_VARIABLE = "subject";
+    private static final String CONTENT_VARIABLE = "html";
+
+    /** Jersey clients are expensive to create and thread-safe once configured, so one is shared by all sends. */
+    private static final Client CLIENT = createClient();
+
+    private static Client createClient() {
+        Client client = Client.create();
+        client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        return client;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -29,10 +55,7 @@ public class MailgunService extends EmailSenderService {
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
         FormDataMultiPart formData = new FormDataMultiPart();
 
-        String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
-                        ? wrapper.getSenderEmail()
-                        : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
-        formData.field("from", sender);
+        formData.field("from", getSender(wrapper));
 
         formData.field("to", wrapper.getRecipient());
 
@@ -47,13 +70,55 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses a {@code batch} of emails with the same sender to a single Mailgun batch message.
+     */
+    public FormDataMultiPart parseToBatchEmail(List<EmailWrapper> batch) {
+        FormDataMultiPart formData = new FormDataMultiPart();
+        EmailWrapper first = batch.get(0);
+
+        formData.field("from", getSender(first));
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : batch) {
+            formData.field("to", wrapper.getRecipient());
+            recipientVariables.put(wrapper.getRecipient(), new JSONObject()
+                    .put(SUBJECT_VARIABLE, wrapper.getSubject())
+                    .put(CONTENT_VARIABLE, wrapper.getContent()));
+        }
+
+        formData.field("h:Reply-To", first.getReplyTo());
+        formData.field("subject", "%recipient." + SUBJECT_VARIABLE + "%");
+        formData.field("html", "%recipient." + CONTENT_VARIABLE + "%");
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        return formData;
+    }
+
+    private static String getSender(EmailWrapper wrapper) {
+        return wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
+               ? wrapper.getSenderEmail()
+               : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
-        FormDataMultiPart email = parseToEmail(wrapper);
-        Client client = Client.create();
-        client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        post(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected void sendBatchWithService(List<EmailWrapper> batch) {
+        post(parseToBatchEmail(batch));
+    }
+
+    private void post(FormDataMultiPart email) {
         WebResource webResource =
-                client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+                CLIENT.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
 
         ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                                              .post(ClientResponse.class, email);
@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -18,6 +20,8 @@ import teammates.common.util.Logger;
 /**
  * Email sender service provided by Mailjet.
  *
+ * <p>Batches of emails are sent in a single request as an array of messages.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/java/mail/mailjet">https://cloud.google.com/appengine/docs/java/mail/mailjet</a>
  * @see MailjetClient
  * @see MailjetRequest
@@ -27,34 +31,76 @@ public class MailjetService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /** Mailjet accepts up to 50 messages per request. */
+    private static final int MAX_BATCH_SIZE = 50;
+
+    private static final String MESSAGES = "Messages";
+
+    /** The Mailjet client holds a pooled HTTP client, so one is shared by all sends. */
+    private static final MailjetClient MAILJET = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
+
     /**
      * {@inheritDoc}
      */
     @Override
     public MailjetRequest parseToEmail(EmailWrapper wrapper) {
         MailjetRequest request = new MailjetRequest(Email.resource);
-        request.property(Email.FROMEMAIL, wrapper.getSenderEmail());
+        JSONObject message = parseToMessage(wrapper);
+        for (String key : JSONObject.getNames(message)) {
+            request.property(key, message.get(key));
+        }
+        return request;
+    }
+
+    /**
+     * Parses a {@code batch} of emails to a single Mailjet request containing one message per email.
+     */
+    public MailjetRequest parseToBatchEmail(List<EmailWrapper> batch) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : batch) {
+            messages.put(parseToMessage(wrapper));
+        }
+        return new MailjetRequest(Email.resource).property(MESSAGES, messages);
+    }
+
+    private JSONObject parseToMessage(EmailWrapper wrapper) {
+        JSONObject message = new JSONObject();
+        message.put(Email.FROMEMAIL, wrapper.getSenderEmail());
         if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
-            request.property(Email.FROMNAME, wrapper.getSenderName());
+            message.put(Email.FROMNAME, wrapper.getSenderName());
         }
 
-        request.property(Email.RECIPIENTS, new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient())));
+        JSONArray recipients = new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            request.append(Email.RECIPIENTS, new JSONObject().put("Email", wrapper.getBcc()));
+            recipients.put(new JSONObject().put("Email", wrapper.getBcc()));
         }
+        message.put(Email.RECIPIENTS, recipients);
 
-        request.property(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
-        request.property(Email.SUBJECT, wrapper.getSubject());
-        request.property(Email.HTMLPART, wrapper.getContent());
-        request.property(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
-        return request;
+        message.put(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
+        message.put(Email.SUBJECT, wrapper.getSubject());
+        message.put(Email.HTMLPART, wrapper.getContent());
+        message.put(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+        return message;
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
     }
 
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
-        MailjetResponse response = mailjet.post(email);
+        post(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected void sendBatchWithService(List<EmailWrapper> batch)
+            throws MailjetException, MailjetSocketTimeoutException {
+        post(parseToBatchEmail(batch));
+    }
+
+    private void post(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
+        MailjetResponse response = MAILJET.post(email);
         if (response.getStatus() != SUCCESS_CODE) {
             log.severe("Email failed to send: " + response.getData().toString());
         }
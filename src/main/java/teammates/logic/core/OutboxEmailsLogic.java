@@ -0,0 +1,78 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.api.OutboxEmailsDb;
+
+/**
+ * Handles operations related to the emails in the email outbox.
+ *
+ * @see OutboxEmailAttributes
+ * @see EmailOutboxBatchesLogic
+ */
+public final class OutboxEmailsLogic {
+
+    private static OutboxEmailsLogic instance = new OutboxEmailsLogic();
+
+    private static final OutboxEmailsDb outboxEmailsDb = new OutboxEmailsDb();
+
+    private OutboxEmailsLogic() {
+        // prevent initialization
+    }
+
+    public static OutboxEmailsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Creates the emails of a chunk in a single datastore call.
+     */
+    public void createOutboxEmails(Collection<OutboxEmailAttributes> outboxEmails) throws InvalidParametersException {
+        outboxEmailsDb.createOutboxEmails(outboxEmails);
+    }
+
+    /**
+     * Gets the emails in chunk {@code chunk} of the batch that have not been sent yet,
+     * i.e. those pending and those whose latest sending attempt failed.
+     * The emails are read by key from the positions of the chunk, so that they are all found
+     * as soon as they are written.
+     */
+    public List<OutboxEmailAttributes> getUnsentOutboxEmails(EmailOutboxBatchAttributes batch, int chunk) {
+        List<OutboxEmailAttributes> outboxEmails = outboxEmailsDb.getOutboxEmails(
+                batch.getBatchId(), batch.getChunkStartPosition(chunk), batch.getChunkEndPosition(chunk));
+        List<OutboxEmailAttributes> unsentEmails = new ArrayList<>();
+        for (OutboxEmailAttributes outboxEmail : outboxEmails) {
+            if (!outboxEmail.isSent()) {
+                unsentEmails.add(outboxEmail);
+            }
+        }
+        return unsentEmails;
+    }
+
+    /**
+     * Saves the send status of the given emails.
+     */
+    public void updateOutboxEmails(Collection<OutboxEmailAttributes> outboxEmails) {
+        outboxEmailsDb.updateOutboxEmails(outboxEmails);
+    }
+
+    /**
+     * Returns the number of emails of the batch {@code batchId} with each status.
+     */
+    public Map<OutboxEmailStatus, Integer> getOutboxEmailCounts(String batchId) {
+        Map<OutboxEmailStatus, Integer> counts = new EnumMap<>(OutboxEmailStatus.class);
+        for (OutboxEmailStatus status : OutboxEmailStatus.values()) {
+            counts.put(status, outboxEmailsDb.countOutboxEmails(batchId, status));
+        }
+        return counts;
+    }
+
+}
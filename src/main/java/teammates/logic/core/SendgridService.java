@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import org.jsoup.Jsoup;
 
 import com.sendgrid.SendGrid;
@@ -14,6 +16,9 @@ import teammates.common.util.Logger;
 /**
  * Email sender service provided by SendGrid.
  *
+ * <p>Batches of emails are sent as a single message addressed to all recipients through the SMTP API header,
+ * with the subject and content of each email given as substitutions.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/flexible/java/sending-emails-with-sendgrid">https://cloud.google.com/appengine/docs/flexible/java/sending-emails-with-sendgrid</a>
  * @see SendGrid
  */
@@ -21,17 +26,26 @@ public class SendgridService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Kept well below the 1000 recipients allowed in the SMTP API header,
+     * as the header also carries the content of every email in the batch.
+     */
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private static final String SUBJECT_TAG = "-subject-";
+    private static final String HTML_TAG = "-html-";
+    private static final String TEXT_TAG = "-text-";
+
+    /** The SendGrid client holds a pooled HTTP client, so one is shared by all sends. */
+    private static final SendGrid SENDGRID = new SendGrid(Config.SENDGRID_APIKEY);
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Email parseToEmail(EmailWrapper wrapper) {
         Email email = new Email();
-        email.setFrom(wrapper.getSenderEmail());
-        if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
-            email.setFromName(wrapper.getSenderName());
-        }
-        email.setReplyTo(wrapper.getReplyTo());
+        setSender(email, wrapper);
         email.addTo(wrapper.getRecipient());
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             email.addBcc(wrapper.getBcc());
@@ -42,11 +56,58 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses a {@code batch} of emails with the same sender to a single SendGrid message.
+     */
+    public Email parseToBatchEmail(List<EmailWrapper> batch) {
+        Email email = new Email();
+        setSender(email, batch.get(0));
+
+        String[] subjects = new String[batch.size()];
+        String[] htmls = new String[batch.size()];
+        String[] texts = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            EmailWrapper wrapper = batch.get(i);
+            email.addSmtpApiTo(wrapper.getRecipient());
+            subjects[i] = wrapper.getSubject();
+            htmls[i] = wrapper.getContent();
+            texts[i] = Jsoup.parse(wrapper.getContent()).text();
+        }
+
+        email.setSubject(SUBJECT_TAG);
+        email.setHtml(HTML_TAG);
+        email.setText(TEXT_TAG);
+        email.addSubstitution(SUBJECT_TAG, subjects);
+        email.addSubstitution(HTML_TAG, htmls);
+        email.addSubstitution(TEXT_TAG, texts);
+        return email;
+    }
+
+    private static void setSender(Email email, EmailWrapper wrapper) {
+        email.setFrom(wrapper.getSenderEmail());
+        if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
+            email.setFromName(wrapper.getSenderName());
+        }
+        email.setReplyTo(wrapper.getReplyTo());
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws SendGridException {
-        Email email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
-        Response response = sendgrid.send(email);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected void sendBatchWithService(List<EmailWrapper> batch) throws SendGridException {
+        send(parseToBatchEmail(batch));
+    }
+
+    private void send(Email email) throws SendGridException {
+        Response response = SENDGRID.send(email);
         if (response.getCode() != SUCCESS_CODE) {
             log.severe("Email failed to send: " + response.getMessage());
         }
@@ -0,0 +1,45 @@
+package teammates.logic.core;
+
+import teammates.common.datatransfer.attributes.SevereLogsCheckpointAttributes;
+import teammates.storage.api.SevereLogsCheckpointsDb;
+
+/**
+ * Handles the logic related to the checkpoint of the compilation of severe logs.
+ */
+public final class SevereLogsCheckpointsLogic {
+
+    private static SevereLogsCheckpointsLogic instance = new SevereLogsCheckpointsLogic();
+
+    private static final SevereLogsCheckpointsDb checkpointsDb = new SevereLogsCheckpointsDb();
+
+    private SevereLogsCheckpointsLogic() {
+        // prevent initialization
+    }
+
+    public static SevereLogsCheckpointsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the checkpoint.
+     * @return null if no compilation has been recorded yet
+     */
+    public SevereLogsCheckpointAttributes getCheckpoint() {
+        return checkpointsDb.getCheckpoint();
+    }
+
+    /**
+     * Replaces the checkpoint with {@code checkpoint}.
+     */
+    public void saveCheckpoint(SevereLogsCheckpointAttributes checkpoint) {
+        checkpointsDb.saveCheckpoint(checkpoint);
+    }
+
+    /**
+     * Deletes the checkpoint, so that the next compilation starts afresh.
+     */
+    public void deleteCheckpoint() {
+        checkpointsDb.deleteCheckpoint();
+    }
+
+}
@@ -9,7 +9,6 @@ import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -32,6 +31,18 @@ import teammates.storage.api.StudentsDb;
  */
 public final class StudentsLogic {
 
+    /**
+     * Number of responses of a student which are updated right away when the email of the student changes,
+     * if the rest of the responses can be updated later.
+     */
+    public static final int MAX_RESPONSES_TO_UPDATE_FOR_CHANGING_EMAIL_AT_ONCE = 500;
+
+    /**
+     * Number of modified students whose responses in a session are adjusted at once
+     * for their change of team or section.
+     */
+    public static final int ENROLLMENTS_TO_ADJUST_FOR_AT_ONCE = 30;
+
     private static final int SECTION_SIZE_LIMIT = 100;
 
     private static StudentsLogic instance = new StudentsLogic();
@@ -118,10 +129,11 @@ public final class StudentsLogic {
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search students in the whole system.
+     * The matching students are retrieved from {@code cursor}, or from the first match if it is null.
      * @return null if no result found
      */
-    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString) {
-        return studentsDb.searchStudentsInWholeSystem(queryString);
+    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString, String cursor) {
+        return studentsDb.searchStudentsInWholeSystem(queryString, cursor);
     }
 
     public StudentProfileAttributes getStudentProfile(String googleId) {
@@ -217,9 +229,38 @@ public final class StudentsLogic {
         // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
     }
 
+    /**
+     * Updates the student as {@link #updateStudentCascade(String, StudentAttributes, boolean)} does, except that
+     * if the email of the student changes while the team and section do not, only about
+     * {@link #MAX_RESPONSES_TO_UPDATE_FOR_CHANGING_EMAIL_AT_ONCE} responses of the student
+     * are updated for the new email right away.
+     *
+     * @return true if there may be responses left to be updated for the new email
+     *         with {@link FeedbackResponsesLogic#updateFeedbackResponsesForChangingEmailInBatch}
+     */
+    public boolean updateStudentCascadeWithResponsesUpdateLimited(String originalEmail, StudentAttributes student)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        StudentAttributes originalStudent = getStudentForEmail(student.course, originalEmail);
+        if (originalStudent == null
+                || isTeamChanged(originalStudent.team, student.team)
+                || isSectionChanged(originalStudent.section, student.section)) {
+            // all responses are to be under the new email before they are adjusted for the new team or section
+            updateStudentCascade(originalEmail, student, true);
+            return false;
+        }
+
+        return updateStudentAndCascadeEmailChange(originalEmail, student, true, true);
+    }
+
     public void updateStudentCascadeWithSubmissionAdjustmentScheduled(String originalEmail,
             StudentAttributes student, boolean hasDocument)
             throws EntityDoesNotExistException, InvalidParametersException {
+        updateStudentAndCascadeEmailChange(originalEmail, student, hasDocument, false);
+    }
+
+    private boolean updateStudentAndCascadeEmailChange(String originalEmail, StudentAttributes student,
+            boolean hasDocument, boolean isResponsesUpdateLimited)
+            throws EntityDoesNotExistException, InvalidParametersException {
         // Edit student uses KeepOriginal policy, where unchanged fields are set
         // as null. Hence, we can't do isValid() for student here.
         // After updateWithReferenceToExistingStudentRecord method called,
@@ -241,10 +282,17 @@ public final class StudentsLogic {
                                  student.email, student.googleId, student.comments, hasDocument, false);
 
         // cascade email change, if any
-        if (!originalEmail.equals(student.email)) {
-            frLogic.updateFeedbackResponsesForChangingEmail(student.course, originalEmail, student.email);
-            fsLogic.updateRespondentsForStudent(originalEmail, student.email, student.course);
+        if (originalEmail.equals(student.email)) {
+            return false;
         }
+
+        fsLogic.updateRespondentsForStudent(originalEmail, student.email, student.course);
+        if (isResponsesUpdateLimited) {
+            return !frLogic.updateFeedbackResponsesForChangingEmail(student.course, originalEmail, student.email,
+                                                                   MAX_RESPONSES_TO_UPDATE_FOR_CHANGING_EMAIL_AT_ONCE);
+        }
+        frLogic.updateFeedbackResponsesForChangingEmail(student.course, originalEmail, student.email);
+        return false;
     }
 
     public void resetStudentGoogleId(String originalEmail, String courseId, boolean hasDocument)
@@ -503,23 +551,38 @@ public final class StudentsLogic {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(
-            List<StudentEnrollDetails> enrollmentList,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-        for (StudentEnrollDetails enrollment : enrollmentList) {
-            if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
-                continue;
-            }
-
-            boolean isResponseDeleted = false;
-            if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
-                isResponseDeleted = frLogic.updateFeedbackResponseForChangingTeam(enrollment, response);
-            }
+    /**
+     * Deletes one batch of the students in the course. This is a non-cascade delete.
+     *
+     * @return the number of students deleted
+     */
+    public int deleteStudentsForCourseInBatch(String courseId) {
+        return studentsDb.deleteStudentsForCourseInBatch(courseId);
+    }
 
-            if (!isResponseDeleted && isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
-                frLogic.updateFeedbackResponseForChangingSection(enrollment, response);
+    /**
+     * Adjusts the responses in the session for the changes of team and section of up to
+     * {@link #ENROLLMENTS_TO_ADJUST_FOR_AT_ONCE} modified students in {@code enrollmentList},
+     * starting from position {@code fromIndex} of the list.
+     *
+     * @return the position in {@code enrollmentList} from which to continue the adjustment,
+     *         which is the size of the list once the adjustment is complete
+     */
+    public int adjustFeedbackResponsesForEnrollmentsInBatch(String courseId, String feedbackSessionName,
+            List<StudentEnrollDetails> enrollmentList, int fromIndex) throws EntityDoesNotExistException {
+        List<StudentEnrollDetails> enrollmentsToAdjustFor = new ArrayList<>();
+        int index = fromIndex;
+        while (index < enrollmentList.size() && enrollmentsToAdjustFor.size() < ENROLLMENTS_TO_ADJUST_FOR_AT_ONCE) {
+            StudentEnrollDetails enrollment = enrollmentList.get(index);
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED
+                    && (enrollment.isTeamChanged() || enrollment.isSectionChanged())) {
+                enrollmentsToAdjustFor.add(enrollment);
             }
+            index++;
         }
+
+        frLogic.adjustFeedbackResponsesForEnrollments(courseId, feedbackSessionName, enrollmentsToAdjustFor);
+        return index;
     }
 
     /**
@@ -1,11 +1,15 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.util.Assumption;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -30,21 +34,51 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
-        TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
+        TaskOptions taskToBeAdded = toTaskOptions(task);
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
         }
 
+        requiredQueue.add(taskToBeAdded);
+    }
+
+    /**
+     * Adds the given tasks to the specified queue, in as few calls to the task queue service as possible.
+     *
+     * @param queueName the name of the queue to add the tasks to
+     * @param tasks the task objects containing the details of tasks to be added; all of them for {@code queueName}
+     */
+    public void addTasks(String queueName, List<TaskWrapper> tasks) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        List<TaskOptions> tasksToBeAdded = new ArrayList<>();
+        for (TaskWrapper task : tasks) {
+            Assumption.assertEquals(queueName, task.getQueueName());
+            tasksToBeAdded.add(toTaskOptions(task));
+
+            if (tasksToBeAdded.size() == QueueConstants.maxTasksPerAdd()) {
+                requiredQueue.add(tasksToBeAdded);
+                tasksToBeAdded.clear();
+            }
+        }
+
+        if (!tasksToBeAdded.isEmpty()) {
+            requiredQueue.add(tasksToBeAdded);
+        }
+    }
+
+    private TaskOptions toTaskOptions(TaskWrapper task) {
+        TaskOptions taskOptions = TaskOptions.Builder.withUrl(task.getWorkerUrl());
+
         for (Map.Entry<String, String[]> entry : task.getParamMap().entrySet()) {
             String name = entry.getKey();
             String[] values = entry.getValue();
 
             for (String value : values) {
-                taskToBeAdded = taskToBeAdded.param(name, value);
+                taskOptions = taskOptions.param(name, value);
             }
         }
 
-        requiredQueue.add(taskToBeAdded);
+        return taskOptions;
     }
 
 }
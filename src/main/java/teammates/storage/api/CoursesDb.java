@@ -69,7 +69,7 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
      */
     @Deprecated
     public List<CourseAttributes> getAllCourses() {
-        return makeAttributes(load().list());
+        return makeAttributes(withoutCoursesBeingDeleted(load().list()));
     }
 
     /**
@@ -100,6 +100,37 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         saveEntity(courseEntityToUpdate, courseToUpdate);
     }
 
+    /**
+     * Marks the course as being deleted, after which it is treated as if it does not exist,
+     * except that it keeps its ID taken until it is deleted with {@link #deleteCourse}.
+     * <br> Fails silently if there is no such course.
+     * <br> Preconditions:
+     * <br> * {@code courseId} is not null.
+     */
+    public void markCourseAsBeingDeleted(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Course course = load().id(courseId).now();
+        if (course == null || course.isBeingDeleted()) {
+            return;
+        }
+
+        course.setBeingDeleted(true);
+        saveEntity(course);
+    }
+
+    /**
+     * Returns true if the course exists and is marked with {@link #markCourseAsBeingDeleted}.
+     * <br> Preconditions:
+     * <br> * {@code courseId} is not null.
+     */
+    public boolean isCourseBeingDeleted(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Course course = load().id(courseId).now();
+        return course != null && course.isBeingDeleted();
+    }
+
     /**
      * Note: This is a non-cascade delete.<br>
      *   <br> Fails silently if there is no such object.
@@ -122,7 +153,8 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
 
     @Override
     protected Course getEntity(CourseAttributes attributes) {
-        return getCourseEntity(attributes.getId());
+        // courses being deleted are included, so that their IDs are not reused
+        return load().id(attributes.getId()).now();
     }
 
     @Override
@@ -132,7 +164,8 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     }
 
     private Course getCourseEntity(String courseId) {
-        return load().id(courseId).now();
+        Course course = load().id(courseId).now();
+        return course == null || course.isBeingDeleted() ? null : course;
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
@@ -140,8 +173,17 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
             return new ArrayList<>();
         }
 
-        return new ArrayList<>(
-                load().ids(courseIds).values());
+        return withoutCoursesBeingDeleted(load().ids(courseIds).values());
+    }
+
+    private List<Course> withoutCoursesBeingDeleted(Collection<Course> courses) {
+        List<Course> coursesNotBeingDeleted = new ArrayList<>();
+        for (Course course : courses) {
+            if (!course.isBeingDeleted()) {
+                coursesNotBeingDeleted.add(course);
+            }
+        }
+        return coursesNotBeingDeleted;
     }
 
     @Override
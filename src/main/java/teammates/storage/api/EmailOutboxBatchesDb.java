@@ -0,0 +1,77 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.EmailOutboxBatch;
+
+/**
+ * Handles CRUD operations for batches of emails in the email outbox.
+ *
+ * @see EmailOutboxBatch
+ * @see EmailOutboxBatchAttributes
+ */
+public class EmailOutboxBatchesDb extends EntitiesDb<EmailOutboxBatch, EmailOutboxBatchAttributes> {
+
+    /**
+     * Preconditions:
+     * <br> * {@code batch} is not null and its batch ID is not used by another batch.
+     */
+    public void createEmailOutboxBatch(EmailOutboxBatchAttributes batch) throws InvalidParametersException {
+        createEntityWithoutExistenceCheck(batch);
+    }
+
+    /**
+     * Gets a batch by its batch ID.
+     * @return null if no matched batch found
+     */
+    public EmailOutboxBatchAttributes getEmailOutboxBatch(String batchId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, batchId);
+
+        return makeAttributesOrNull(getEmailOutboxBatchEntity(batchId));
+    }
+
+    /**
+     * Gets the latest {@code limit} batches, from the most recent.
+     */
+    public List<EmailOutboxBatchAttributes> getRecentEmailOutboxBatches(int limit) {
+        return makeAttributes(load().order("-createdAt").limit(limit).list());
+    }
+
+    private EmailOutboxBatch getEmailOutboxBatchEntity(String batchId) {
+        return load().id(batchId).now();
+    }
+
+    @Override
+    protected LoadType<EmailOutboxBatch> load() {
+        return ofy().load().type(EmailOutboxBatch.class);
+    }
+
+    @Override
+    protected EmailOutboxBatch getEntity(EmailOutboxBatchAttributes attributes) {
+        return getEmailOutboxBatchEntity(attributes.getBatchId());
+    }
+
+    @Override
+    protected QueryKeys<EmailOutboxBatch> getEntityQueryKeys(EmailOutboxBatchAttributes attributes) {
+        Key<EmailOutboxBatch> keyToFind = Key.create(EmailOutboxBatch.class, attributes.getBatchId());
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected EmailOutboxBatchAttributes makeAttributes(EmailOutboxBatch entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return EmailOutboxBatchAttributes.valueOf(entity);
+    }
+
+}
@@ -8,12 +8,14 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.search.Cursor;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -50,6 +52,15 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public static final String ERROR_TRYING_TO_MAKE_NON_EXISTENT_ACCOUNT_AN_INSTRUCTOR =
             "Trying to make an non-existent account an Instructor :";
 
+    /**
+     * Maximum number of entities deleted at a time by the batch deletion methods,
+     * which the datastore allows to be deleted in a single call.
+     */
+    public static final int DELETION_BATCH_SIZE = 500;
+
+    /** Maximum number of values allowed by the datastore in an "in" filter. */
+    protected static final int MAX_IN_FILTER_VALUES = 30;
+
     private static final Logger log = Logger.getLogger();
 
     /**
@@ -253,6 +264,20 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         ofy().delete().entities(entitiesToDelete).now();
     }
 
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} entities matching {@code query}, found with a keys-only query.
+     * Note: This is a non-cascade delete.
+     *
+     * @return the keys of the deleted entities
+     */
+    protected List<Key<E>> deleteEntitiesInBatch(Query<E> query) {
+        List<Key<E>> keysToDelete = query.limit(DELETION_BATCH_SIZE).keys().list();
+        if (!keysToDelete.isEmpty()) {
+            ofy().delete().keys(keysToDelete).now();
+        }
+        return keysToDelete;
+    }
+
     public void deletePicture(BlobKey key) {
         GoogleCloudStorageHelper.deleteFile(key);
     }
@@ -303,6 +328,18 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return attributes;
     }
 
+    /**
+     * Splits {@code values} into consecutive batches of at most {@link #MAX_IN_FILTER_VALUES} values,
+     * each of which can be used in an "in" filter.
+     */
+    protected static <T> List<List<T>> splitForInFilter(List<T> values) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += MAX_IN_FILTER_VALUES) {
+            batches.add(values.subList(i, Math.min(i + MAX_IN_FILTER_VALUES, values.size())));
+        }
+        return batches;
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
@@ -335,16 +372,41 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
-    protected Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
+    /**
+     * Retrieves the documents matching {@code query}, one page at a time, until all of them
+     * or {@link SearchQuery#getMaxResults()} of them are retrieved.
+     * If some matching documents are not retrieved, {@link SearchQuery#getCursor()} points to them afterwards.
+     *
+     * @return null if the query has no filter or is not supported
+     */
+    protected List<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
+        if (query.getFilterSize() == 0) {
+            return null;
+        }
+        List<ScoredDocument> documents = new ArrayList<>();
         try {
-            if (query.getFilterSize() > 0) {
-                return SearchManager.searchDocuments(indexName, query.toQuery());
+            while (query.getCursor() != null && documents.size() < query.getMaxResults()) {
+                Results<ScoredDocument> results = SearchManager.searchDocuments(indexName, query.toQuery());
+                Cursor cursorAfterLastDocument = null;
+                int numberOfDocumentsTaken = 0;
+                for (ScoredDocument document : results) {
+                    if (documents.size() == query.getMaxResults()) {
+                        break;
+                    }
+                    documents.add(document);
+                    cursorAfterLastDocument = document.getCursor();
+                    numberOfDocumentsTaken++;
+                }
+                // the search continues right after the last document taken, which may be in the middle of the page
+                boolean isLastPage = numberOfDocumentsTaken == results.getNumberReturned()
+                        && results.getNumberReturned() < SearchQuery.PAGE_SIZE;
+                query.setCursor(isLastPage ? null : cursorAfterLastDocument);
             }
-            return null;
         } catch (SearchQueryException e) {
             log.info("Unsupported query for this query string: " + query.toString());
             return null;
         }
+        return documents;
     }
 
     protected void deleteDocument(String indexName, String documentId) {
@@ -355,4 +417,12 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        try {
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.info("Unable to delete documents in the index: " + indexName + " with document ids " + documentIds);
+        }
+    }
+
 }
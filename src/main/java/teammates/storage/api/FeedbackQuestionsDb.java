@@ -2,21 +2,36 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackQuestion;
 
 /**
@@ -144,6 +159,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
 
         fq.setQuestionNumber(newAttributes.questionNumber);
         fq.setQuestionText(newAttributes.questionMetaData);
+        fq.setQuestionTextSummary(newAttributes.getQuestionTextSummary());
         fq.setQuestionDescription(newAttributes.questionDescription);
         fq.setQuestionType(newAttributes.questionType);
         fq.setGiverType(newAttributes.giverType);
@@ -159,6 +175,224 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         saveEntity(fq, newAttributes);
     }
 
+    /**
+     * Updates the question numbers of the questions with the given IDs, reading and writing
+     * all the questions at once. Other fields are left unchanged.
+     * <br> Fails silently for questions which do not exist.
+     *
+     * @param newQuestionNumbersById the new question numbers, by ID of the question
+     */
+    public void updateQuestionNumbers(Map<String, Integer> newQuestionNumbersById) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newQuestionNumbersById);
+
+        List<Key<FeedbackQuestion>> keysToLoad = new ArrayList<>();
+        for (String feedbackQuestionId : newQuestionNumbersById.keySet()) {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key != null) {
+                keysToLoad.add(key);
+            }
+        }
+        if (keysToLoad.isEmpty()) {
+            return;
+        }
+
+        Collection<FeedbackQuestion> questionsToUpdate = ofy().load().keys(keysToLoad).values();
+        for (FeedbackQuestion question : questionsToUpdate) {
+            question.setQuestionNumber(newQuestionNumbersById.get(question.getId()));
+        }
+        saveEntities(questionsToUpdate);
+    }
+
+    /**
+     * Returns all feedback questions in the Datastore.
+     *
+     * @deprecated Not scalable. Don't use unless in admin features.
+     */
+    @Deprecated
+    public List<FeedbackQuestionAttributes> getAllFeedbackQuestions() {
+        return makeAttributes(load().list());
+    }
+
+    /**
+     * Gets a page of the summaries of the questions in the given courses, sorted in the given order,
+     * without reading the details of the questions.
+     *
+     * <p>The questions of each course are read in order from the datastore, and the courses are merged,
+     * so that only as many questions are read as are needed for the page.
+     * Questions stored without {@code questionTextSummary} are left out;
+     * {@code DataMigrationForQuestionTextSummaryInFeedbackQuestions} stores it for existing questions.
+     *
+     * @param filter only questions whose summaries match this are returned
+     * @param cursor the cursor of the page returned before this page, or null to get the first page.
+     *               An invalid cursor is treated as null.
+     * @param limit the maximum number of summaries in the page
+     */
+    public FeedbackQuestionSummaryPage getFeedbackQuestionSummaryPage(List<String> courseIds,
+            FeedbackQuestionSummary.SortOrder sortOrder, Predicate<FeedbackQuestionSummary> filter,
+            String cursor, int limit) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sortOrder);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, filter);
+
+        Map<String, String> positionsByCourse = decodeSummaryPageCursor(cursor);
+        List<CourseQuestionSummaries> courses = new ArrayList<>();
+        for (String courseId : courseIds) {
+            if (positionsByCourse == null) {
+                courses.add(getQuestionSummariesFromStart(courseId, sortOrder, limit));
+            } else if (positionsByCourse.containsKey(courseId)) {
+                // courses which are no longer in the cursor have no more questions
+                courses.add(getQuestionSummariesFromPosition(
+                        courseId, sortOrder, positionsByCourse.get(courseId), limit));
+            }
+        }
+        for (CourseQuestionSummaries course : courses) {
+            course.advance(filter);
+        }
+
+        Comparator<CourseQuestionSummaries> headComparator =
+                Comparator.comparing(course -> course.head, sortOrder.getComparator());
+        List<FeedbackQuestionSummary> summaries = new ArrayList<>();
+        courses.removeIf(course -> course.head == null);
+        while (summaries.size() < limit && !courses.isEmpty()) {
+            CourseQuestionSummaries next = Collections.min(courses, headComparator);
+            summaries.add(next.head);
+            next.advance(filter);
+            if (next.head == null) {
+                courses.remove(next);
+            }
+        }
+
+        if (courses.isEmpty()) {
+            return new FeedbackQuestionSummaryPage(summaries, null);
+        }
+        Map<String, String> nextPositionsByCourse = new HashMap<>();
+        for (CourseQuestionSummaries course : courses) {
+            nextPositionsByCourse.put(course.courseId, course.headPosition);
+        }
+        return new FeedbackQuestionSummaryPage(summaries, encodeSummaryPageCursor(nextPositionsByCourse));
+    }
+
+    private CourseQuestionSummaries getQuestionSummariesFromStart(
+            String courseId, FeedbackQuestionSummary.SortOrder sortOrder, int limit) {
+        return new CourseQuestionSummaries(courseId, getSortedQuestionsQuery(courseId, sortOrder)
+                .project("feedbackSessionName", "questionType", "questionTextSummary")
+                .chunk(limit)
+                .iterator());
+    }
+
+    private CourseQuestionSummaries getQuestionSummariesFromPosition(
+            String courseId, FeedbackQuestionSummary.SortOrder sortOrder, String position, int limit) {
+        return new CourseQuestionSummaries(courseId, getSortedQuestionsQuery(courseId, sortOrder)
+                .project("feedbackSessionName", "questionType", "questionTextSummary")
+                .startAt(Cursor.fromWebSafeString(position))
+                .chunk(limit)
+                .iterator());
+    }
+
+    /**
+     * Returns the questions of the course in the given order.
+     * Ties within a course are broken in the same order as {@link FeedbackQuestionSummary.SortOrder}.
+     */
+    private Query<FeedbackQuestion> getSortedQuestionsQuery(
+            String courseId, FeedbackQuestionSummary.SortOrder sortOrder) {
+        Query<FeedbackQuestion> query = load().filter("courseId =", courseId);
+        switch (sortOrder) {
+        case TYPE:
+            return query.order("questionType").order("feedbackSessionName").order("questionTextSummary");
+        case TEXT:
+            return query.order("questionTextSummary").order("feedbackSessionName").order("questionType");
+        default:
+            // the course is the same for all questions
+            return query.order("feedbackSessionName").order("questionType").order("questionTextSummary");
+        }
+    }
+
+    /**
+     * Encodes the position to continue from in each course as a URL-safe cursor.
+     */
+    private static String encodeSummaryPageCursor(Map<String, String> positionsByCourse) {
+        byte[] json = JsonUtils.toJson(positionsByCourse).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    /**
+     * Returns the position to continue from in each course, or null if the cursor is null or invalid.
+     */
+    private static Map<String, String> decodeSummaryPageCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        Map<String, String> positionsByCourse;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            positionsByCourse = JsonUtils.fromJson(json, new TypeToken<Map<String, String>>(){}.getType());
+        } catch (IllegalArgumentException | JsonParseException e) {
+            return null;
+        }
+        if (positionsByCourse == null) {
+            return null;
+        }
+        for (String position : positionsByCourse.values()) {
+            if (!isValidPosition(position)) {
+                return null;
+            }
+        }
+        return positionsByCourse;
+    }
+
+    private static boolean isValidPosition(String position) {
+        if (position == null) {
+            return false;
+        }
+        try {
+            Cursor.fromWebSafeString(position);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The summaries of the questions of a course, read in order with a sorted projection query,
+     * starting from a position in the course. Positions are datastore cursors.
+     */
+    private static final class CourseQuestionSummaries {
+
+        final String courseId;
+
+        /** The next summary which matches the filter, or null if there are no more. */
+        FeedbackQuestionSummary head;
+
+        /** The position of {@link #head} in the course. */
+        String headPosition;
+
+        private final QueryResultIterator<FeedbackQuestion> questions;
+
+        CourseQuestionSummaries(String courseId, QueryResultIterator<FeedbackQuestion> questions) {
+            this.courseId = courseId;
+            this.questions = questions;
+        }
+
+        /**
+         * Moves {@link #head} to the next summary which matches {@code filter}.
+         */
+        void advance(Predicate<FeedbackQuestionSummary> filter) {
+            head = null;
+            while (questions.hasNext()) {
+                String position = questions.getCursor().toWebSafeString();
+                FeedbackQuestion question = questions.next();
+                FeedbackQuestionSummary summary = new FeedbackQuestionSummary(question.getId(), courseId,
+                        question.getFeedbackSessionName(), question.getQuestionType(), question.getQuestionTextSummary());
+                if (filter.test(summary)) {
+                    head = summary;
+                    headPosition = position;
+                    return;
+                }
+            }
+        }
+
+    }
+
     public void deleteFeedbackQuestionsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -171,6 +405,18 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
     }
 
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} questions in the course.
+     * This is a non-cascade delete.
+     *
+     * @return the number of questions deleted
+     */
+    public int deleteFeedbackQuestionsForCourseInBatch(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId)).size();
+    }
+
     // Gets a question entity if its Key (feedbackQuestionId) is known.
     private FeedbackQuestion getFeedbackQuestionEntity(String feedbackQuestionId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
@@ -10,7 +10,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -18,6 +17,7 @@ import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -168,6 +168,65 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteFeedbackResponseCommentsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} response comments in the course, with their search documents.
+     *
+     * @return the number of comments deleted
+     */
+    public int deleteFeedbackResponseCommentsForCourseInBatch(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteCommentsWithDocumentsInBatch(load().filter("courseId =", courseId));
+    }
+
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} response comments for the question,
+     * with their search documents.
+     *
+     * @return the number of comments deleted
+     */
+    public int deleteFeedbackResponseCommentsForQuestionInBatch(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return deleteCommentsWithDocumentsInBatch(load().filter("feedbackQuestionId =", feedbackQuestionId));
+    }
+
+    /**
+     * Deletes the response comments for all the given responses, with their search documents.
+     */
+    public void deleteFeedbackResponseCommentsForResponses(List<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<Key<FeedbackResponseComment>> keysToDelete = new ArrayList<>();
+        for (List<String> responseIds : splitForInFilter(feedbackResponseIds)) {
+            keysToDelete.addAll(load().filter("feedbackResponseId in", responseIds).keys().list());
+        }
+        if (keysToDelete.isEmpty()) {
+            return;
+        }
+
+        ofy().delete().keys(keysToDelete).now();
+        deleteDocumentsForComments(keysToDelete);
+    }
+
+    private int deleteCommentsWithDocumentsInBatch(Query<FeedbackResponseComment> query) {
+        List<Key<FeedbackResponseComment>> deletedKeys = deleteEntitiesInBatch(query);
+        deleteDocumentsForComments(deletedKeys);
+        return deletedKeys.size();
+    }
+
+    private void deleteDocumentsForComments(List<Key<FeedbackResponseComment>> commentKeys) {
+        if (commentKeys.isEmpty()) {
+            return;
+        }
+
+        List<String> documentIds = new ArrayList<>();
+        for (Key<FeedbackResponseComment> commentKey : commentKeys) {
+            documentIds.add(String.valueOf(commentKey.getId()));
+        }
+        deleteDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, documentIds);
+    }
+
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -197,6 +256,31 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
     }
 
+    /**
+     * Gets the comments on each of the given responses, keyed by response ID.
+     * Responses without comments have no entry in the returned map.
+     *
+     * <p>The comments are queried in batches of response IDs, all started before any of them is read,
+     * so that only the comments on the given responses are loaded.
+     */
+    public Map<String, List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<List<FeedbackResponseComment>> batches = new ArrayList<>();
+        for (List<String> responseIds : splitForInFilter(new ArrayList<>(feedbackResponseIds))) {
+            batches.add(load().filter("feedbackResponseId in", responseIds).list());
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByResponseId = new HashMap<>();
+        for (List<FeedbackResponseComment> batch : batches) {
+            for (FeedbackResponseCommentAttributes comment : makeAttributes(batch)) {
+                commentsByResponseId.computeIfAbsent(comment.feedbackResponseId, id -> new ArrayList<>()).add(comment);
+            }
+        }
+        return commentsByResponseId;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -234,6 +318,54 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(frc);
     }
 
+    /**
+     * Points the comments on each response with an ID in {@code newResponseIdsByOldId} to the response with
+     * the mapped ID instead, saving the comments at once. Used when responses are re-created with new IDs.
+     */
+    public void updateFeedbackResponseIdsOfComments(Map<String, String> newResponseIdsByOldId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newResponseIdsByOldId);
+
+        List<FeedbackResponseComment> commentsToUpdate = new ArrayList<>();
+        for (List<String> responseIds : splitForInFilter(new ArrayList<>(newResponseIdsByOldId.keySet()))) {
+            commentsToUpdate.addAll(load().filter("feedbackResponseId in", responseIds).list());
+        }
+        if (commentsToUpdate.isEmpty()) {
+            return;
+        }
+
+        for (FeedbackResponseComment comment : commentsToUpdate) {
+            comment.setFeedbackResponseId(newResponseIdsByOldId.get(comment.getFeedbackResponseId()));
+        }
+        saveEntities(commentsToUpdate);
+    }
+
+    /**
+     * Updates the giver and receiver sections of the comments on each of the given responses
+     * to the giver and recipient sections of the response, writing all the comments at once.
+     */
+    public void updateSectionsOfCommentsForResponses(Collection<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+        List<FeedbackResponseComment> commentsToUpdate = new ArrayList<>();
+        for (List<String> responseIds : splitForInFilter(new ArrayList<>(responsesById.keySet()))) {
+            commentsToUpdate.addAll(load().filter("feedbackResponseId in", responseIds).list());
+        }
+        if (commentsToUpdate.isEmpty()) {
+            return;
+        }
+
+        for (FeedbackResponseComment comment : commentsToUpdate) {
+            FeedbackResponseAttributes response = responsesById.get(comment.getFeedbackResponseId());
+            comment.setGiverSection(response.giverSection);
+            comment.setReceiverSection(response.recipientSection);
+        }
+        saveEntities(commentsToUpdate);
+    }
+
     /*
      * Update giver email (normally an instructor email) with the new one
      */
@@ -307,10 +439,13 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
             return new FeedbackResponseCommentSearchResultBundle();
         }
 
-        Results<ScoredDocument> results = searchDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
-                new FeedbackResponseCommentSearchQuery(instructors, queryString));
+        FeedbackResponseCommentSearchQuery query = new FeedbackResponseCommentSearchQuery(instructors, queryString);
+        List<ScoredDocument> results = searchDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, query);
 
-        return FeedbackResponseCommentSearchDocument.fromResults(results, instructors);
+        FeedbackResponseCommentSearchResultBundle bundle =
+                FeedbackResponseCommentSearchDocument.fromResults(results, instructors);
+        bundle.cursor = query.getWebSafeCursor();
+        return bundle;
     }
 
     /**
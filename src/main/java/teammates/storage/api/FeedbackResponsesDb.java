@@ -6,14 +6,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -32,6 +36,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private static final Logger log = Logger.getLogger();
 
+    /** Maximum number of responses given by, and of responses given to, a participant copied at a time. */
+    private static final int REKEYING_BATCH_SIZE = 250;
+
     public void createFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToAdd)
             throws InvalidParametersException {
         List<FeedbackResponseAttributes> responsesToUpdate = createEntities(responsesToAdd);
@@ -46,6 +53,49 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         }
     }
 
+    /**
+     * Creates the responses which do not exist yet and updates those which do, reading and writing
+     * all of them at once. A response is identified by its question, giver and recipient;
+     * only the answer and the sections of an existing response are updated.
+     *
+     * @throws InvalidParametersException if any of the responses is invalid, in which case none is written
+     */
+    public void createOrUpdateFeedbackResponses(Collection<FeedbackResponseAttributes> responses)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        Map<Key<FeedbackResponse>, FeedbackResponse> newEntitiesByKey = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            response.sanitizeForSaving();
+            if (!response.isValid()) {
+                throw new InvalidParametersException(response.getInvalidityInfo());
+            }
+            FeedbackResponse newEntity = response.toEntity();
+            newEntitiesByKey.put(Key.create(FeedbackResponse.class, newEntity.getId()), newEntity);
+        }
+        if (newEntitiesByKey.isEmpty()) {
+            return;
+        }
+
+        Map<Key<FeedbackResponse>, FeedbackResponse> existingEntitiesByKey =
+                ofy().load().keys(newEntitiesByKey.keySet());
+
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+        for (Map.Entry<Key<FeedbackResponse>, FeedbackResponse> newEntityByKey : newEntitiesByKey.entrySet()) {
+            FeedbackResponse newEntity = newEntityByKey.getValue();
+            FeedbackResponse existingEntity = existingEntitiesByKey.get(newEntityByKey.getKey());
+            if (existingEntity == null) {
+                entitiesToSave.add(newEntity);
+            } else {
+                existingEntity.setAnswer(newEntity.getResponseMetaData());
+                existingEntity.setGiverSection(newEntity.getGiverSection());
+                existingEntity.setRecipientSection(newEntity.getRecipientSection());
+                entitiesToSave.add(existingEntity);
+            }
+        }
+        saveEntities(entitiesToSave, responses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -319,6 +369,56 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 getFeedbackResponseEntitiesFromGiverForQuestionInSection(feedbackQuestionId, giverEmail, section));
     }
 
+    /**
+     * Returns the number of responses given by the giver to the question.
+     * Only the keys of the responses are read.
+     */
+    public int getFeedbackResponseCountFromGiverForQuestion(String feedbackQuestionId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        return load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverEmail =", giverEmail)
+                .keys().list().size();
+    }
+
+    /**
+     * Returns true if the giver has given any response in the session.
+     * Only the key of one response is read.
+     */
+    public boolean hasFeedbackResponseFromGiverForSession(String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return load()
+                .filter("giverEmail =", giverEmail)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .limit(1).keys().first().now() != null;
+    }
+
+    /**
+     * Gets the IDs of all responses in the session, without reading the answers of the responses.
+     * The IDs are built from the question, giver and recipient stored in each response.
+     */
+    public List<ResponseId> getFeedbackResponseIdsForSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<FeedbackResponse> projectedResponses =
+                getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                        .project("feedbackQuestionId", "giverEmail", "receiver")
+                        .list();
+        List<ResponseId> responseIds = new ArrayList<>();
+        for (FeedbackResponse response : projectedResponses) {
+            responseIds.add(ResponseId.of(response.getFeedbackQuestionId(),
+                    response.getGiverEmail(), response.getRecipientEmail()));
+        }
+        return responseIds;
+    }
+
     /**
      *  Preconditions: <br>
      * * All parameters are non-null.
@@ -360,6 +460,54 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Returns the responses in the session which are given by any of {@code giverEmails}.
+     * <br> Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiversForSession(
+            String feedbackSessionName, String courseId, List<String> giverEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmails);
+
+        List<FeedbackResponse> responses = new ArrayList<>();
+        for (List<String> emails : splitForInFilter(giverEmails)) {
+            responses.addAll(getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                                     .filter("giverEmail in", emails).list());
+        }
+        return makeAttributes(responses);
+    }
+
+    /**
+     * Returns the responses in the session which are given by or to any of the participants in
+     * {@code participantEmails}, each response once.
+     * <br> Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromOrToParticipantsForSession(
+            String feedbackSessionName, String courseId, List<String> participantEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, participantEmails);
+
+        // a response between two of the participants is found by both queries
+        Map<String, FeedbackResponse> responses = new LinkedHashMap<>();
+        for (List<String> emails : splitForInFilter(participantEmails)) {
+            for (FeedbackResponse response : getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                                                     .filter("giverEmail in", emails).list()) {
+                responses.put(response.getId(), response);
+            }
+            for (FeedbackResponse response : getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                                                     .filter("receiver in", emails).list()) {
+                responses.put(response.getId(), response);
+            }
+        }
+        return makeAttributes(responses.values());
+    }
+
     /**
      * Updates the feedback response identified by {@code newAttributes.getId()} and
      *   changes the {@code updatedAt} timestamp to be the time of update.
@@ -431,6 +579,103 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates the giver and recipient sections of the given responses to those in {@code responses},
+     * reading and writing all the responses at once. Other fields are left unchanged.
+     * <br> Fails silently for responses which do not exist.
+     */
+    public void updateSectionsOfFeedbackResponses(Collection<FeedbackResponseAttributes> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+        if (responsesById.isEmpty()) {
+            return;
+        }
+
+        Collection<FeedbackResponse> responsesToUpdate = load().ids(responsesById.keySet()).values();
+        for (FeedbackResponse responseToUpdate : responsesToUpdate) {
+            FeedbackResponseAttributes response = responsesById.get(responseToUpdate.getId());
+            responseToUpdate.setGiverSection(response.giverSection);
+            responseToUpdate.setRecipientSection(response.recipientSection);
+        }
+        saveEntities(responsesToUpdate);
+    }
+
+    /**
+     * Writes at once copies of a batch of the responses given by or to {@code oldEmail} in the course,
+     * with {@code newEmail} in place of {@code oldEmail}. As the ID of a response is made of its giver and recipient,
+     * the copies have new IDs. The original responses are left to be deleted by the caller,
+     * e.g. with {@link #deleteFeedbackResponses}, so that a repeated call copies the same responses again.
+     *
+     * <p>As the queries for the responses given by or to {@code oldEmail} are eventually consistent,
+     * the responses found are read again by key, and those already deleted (e.g. by an earlier batch) are not copied.
+     * A copy is not written if a response with its ID already exists, e.g. one written by an earlier batch
+     * or one given since by {@code newEmail}, so that a newer response is never overwritten.
+     *
+     * @return the IDs of the copies, mapped from the IDs of the original responses, including the originals
+     *         found by the queries but no longer existing; an empty map if there are no more responses
+     *         given by or to {@code oldEmail}
+     */
+    public Map<String, String> copyFeedbackResponsesForChangingEmailInBatch(
+            String courseId, String oldEmail, String newEmail) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+
+        // a response from oneself to oneself is found by both queries
+        Set<String> idsFound = new LinkedHashSet<>();
+        for (Key<FeedbackResponse> key : load().filter("courseId =", courseId).filter("giverEmail =", oldEmail)
+                                               .limit(REKEYING_BATCH_SIZE).keys()) {
+            idsFound.add(key.getName());
+        }
+        for (Key<FeedbackResponse> key : load().filter("courseId =", courseId).filter("receiver =", oldEmail)
+                                               .limit(REKEYING_BATCH_SIZE).keys()) {
+            idsFound.add(key.getName());
+        }
+        if (idsFound.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        Map<String, FeedbackResponse> responsesToCopy = load().ids(idsFound);
+
+        Map<String, String> newIdsByOldId = new LinkedHashMap<>();
+        Map<String, FeedbackResponseAttributes> copiesById = new LinkedHashMap<>();
+        for (String id : idsFound) {
+            FeedbackResponse response = responsesToCopy.get(id);
+            if (response == null) {
+                // deleted since it was indexed, e.g. after being copied by an earlier batch;
+                // still mapped so that the caller finishes moving anything left on the old ID
+                ResponseId responseId = ResponseId.parse(id);
+                if (responseId != null) {
+                    newIdsByOldId.put(id, ResponseId.of(responseId.getFeedbackQuestionId(),
+                            oldEmail.equals(responseId.getGiver()) ? newEmail : responseId.getGiver(),
+                            oldEmail.equals(responseId.getRecipient()) ? newEmail : responseId.getRecipient())
+                            .toString());
+                }
+                continue;
+            }
+            FeedbackResponseAttributes copy = makeAttributes(response);
+            if (oldEmail.equals(copy.giver)) {
+                copy.giver = newEmail;
+            }
+            if (oldEmail.equals(copy.recipient)) {
+                copy.recipient = newEmail;
+            }
+            String copyId = copy.toEntity().getId();
+            newIdsByOldId.put(id, copyId);
+            copiesById.put(copyId, copy);
+        }
+
+        copiesById.keySet().removeAll(load().ids(copiesById.keySet()).keySet());
+        if (!copiesById.isEmpty()) {
+            createEntitiesWithoutExistenceCheck(copiesById.values());
+        }
+        return newIdsByOldId;
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -443,6 +688,49 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
     }
 
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} responses in the course.
+     * This is a non-cascade delete.
+     *
+     * @return the number of responses deleted
+     */
+    public int deleteFeedbackResponsesForCourseInBatch(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId)).size();
+    }
+
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} responses for the question.
+     * This is a non-cascade delete.
+     *
+     * @return the deleted responses
+     */
+    public List<FeedbackResponseAttributes> deleteFeedbackResponsesForQuestionInBatch(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        List<FeedbackResponse> responsesToDelete =
+                getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, DELETION_BATCH_SIZE);
+        if (!responsesToDelete.isEmpty()) {
+            ofy().delete().entities(responsesToDelete).now();
+        }
+        return makeAttributes(responsesToDelete);
+    }
+
+    /**
+     * Deletes the responses with the given IDs at once. This is a non-cascade delete.
+     * <br> Fails silently for IDs of responses which do not exist.
+     */
+    public void deleteFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (String feedbackResponseId : feedbackResponseIds) {
+            keysToDelete.add(Key.create(FeedbackResponse.class, feedbackResponseId));
+        }
+        ofy().delete().keys(keysToDelete).now();
+    }
+
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -465,6 +753,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
 
     private FeedbackResponse getFeedbackResponseEntity(
             String feedbackQuestionId, String giverEmail, String receiver) {
+        // the ID of a response is made up of its question, giver and recipient when it is created,
+        // so it is read by key first. updateFeedbackResponse changes the recipient of a response
+        // without changing its ID, and such responses are found only by the query
+        FeedbackResponse response =
+                getFeedbackResponseEntity(ResponseId.of(feedbackQuestionId, giverEmail, receiver).toString());
+        if (response != null && feedbackQuestionId.equals(response.getFeedbackQuestionId())
+                && giverEmail.equals(response.getGiverEmail()) && receiver.equals(response.getRecipientEmail())) {
+            return response;
+        }
         return load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
                 .filter("giverEmail =", giverEmail)
@@ -512,6 +809,13 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntitiesForSessionWithinRange(feedbackSessionName, courseId, -1);
     }
 
+    private Query<FeedbackResponse> getFeedbackResponseEntitiesForSessionQuery(
+            String feedbackSessionName, String courseId) {
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionWithinRange(
             String feedbackSessionName, String courseId, int range) {
         return load()
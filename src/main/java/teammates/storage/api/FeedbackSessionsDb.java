@@ -5,16 +5,21 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import com.googlecode.objectify.Key;
 import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.FeedbackSessionType;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -32,6 +37,32 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
 
     public static final String ERROR_UPDATE_NON_EXISTENT = "Trying to update non-existent Feedback Session : ";
 
+    /**
+     * Creates all the given sessions at once, after checking at once that none of them exists.
+     * <br> Preconditions: <br>
+     * * All the sessions are non-null and have valid data.
+     *
+     * @throws EntityAlreadyExistsException if any of the sessions exists; no session is created then
+     */
+    public void createFeedbackSessions(Collection<FeedbackSessionAttributes> sessionsToAdd)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, sessionsToAdd);
+
+        List<Key<FeedbackSession>> sessionKeys = new ArrayList<>();
+        for (FeedbackSessionAttributes sessionToAdd : sessionsToAdd) {
+            sessionKeys.add(Key.create(sessionToAdd.toEntity()));
+        }
+        Map<Key<FeedbackSession>, FeedbackSession> existingSessions = ofy().load().keys(sessionKeys);
+        if (!existingSessions.isEmpty()) {
+            FeedbackSessionAttributes existingSession = makeAttributes(existingSessions.values().iterator().next());
+            throw new EntityAlreadyExistsException(
+                    String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, existingSession.getEntityTypeAsString())
+                    + existingSession.getIdentificationString());
+        }
+
+        createEntitiesWithoutExistenceCheck(sessionsToAdd);
+    }
+
     public List<FeedbackSessionAttributes> getAllOpenFeedbackSessions(Date startUtc, Date endUtc) {
         List<FeedbackSessionAttributes> list = new LinkedList<>();
 
@@ -367,6 +398,31 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         saveEntity(fs, feedbackSession);
     }
 
+    /**
+     * Replaces {@code oldEmail} with {@code newEmail} in the respondents of all the sessions in the course,
+     * saving the affected sessions at once.
+     *
+     * @param isInstructor true if the respondent is an instructor, false if the respondent is a student
+     */
+    public void updateRespondentForCourse(String courseId, String oldEmail, String newEmail, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+
+        List<FeedbackSession> sessionsToUpdate = new ArrayList<>();
+        for (FeedbackSession fs : getFeedbackSessionEntitiesForCourse(courseId)) {
+            Set<String> respondents = isInstructor ? fs.getRespondingInstructorList() : fs.getRespondingStudentList();
+            if (respondents.remove(oldEmail)) {
+                respondents.add(newEmail);
+                sessionsToUpdate.add(fs);
+            }
+        }
+
+        if (!sessionsToUpdate.isEmpty()) {
+            saveEntities(sessionsToUpdate);
+        }
+    }
+
     public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
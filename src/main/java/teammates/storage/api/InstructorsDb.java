@@ -5,7 +5,6 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.ArrayList;
 import java.util.List;
 
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
@@ -83,19 +82,22 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search instructors in the whole system.
+     * The matching instructors are retrieved from {@code cursor}, or from the first match if it is null.
      * @return null if no result found
      */
-
-    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString) {
+    public InstructorSearchResultBundle searchInstructorsInWholeSystem(String queryString, String cursor) {
 
         if (queryString.trim().isEmpty()) {
             return new InstructorSearchResultBundle();
         }
 
-        Results<ScoredDocument> results = searchDocuments(Const.SearchIndex.INSTRUCTOR,
-                                                          new InstructorSearchQuery(queryString));
+        InstructorSearchQuery query = new InstructorSearchQuery(queryString);
+        query.setWebSafeCursor(cursor);
+        List<ScoredDocument> results = searchDocuments(Const.SearchIndex.INSTRUCTOR, query);
 
-        return InstructorSearchDocument.fromResults(results);
+        InstructorSearchResultBundle bundle = InstructorSearchDocument.fromResults(results);
+        bundle.cursor = query.getWebSafeCursor();
+        return bundle;
     }
 
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
@@ -9,11 +9,14 @@ import teammates.storage.entity.Account;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.EmailOutboxBatch;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.OutboxEmail;
+import teammates.storage.entity.SevereLogsCheckpoint;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -29,11 +32,14 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
+        ObjectifyService.register(EmailOutboxBatch.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(OutboxEmail.class);
+        ObjectifyService.register(SevereLogsCheckpoint.class);
         ObjectifyService.register(StudentProfile.class);
     }
 
@@ -0,0 +1,99 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.OutboxEmail;
+
+/**
+ * Handles CRUD operations for emails in the email outbox.
+ *
+ * @see OutboxEmail
+ * @see OutboxEmailAttributes
+ */
+public class OutboxEmailsDb extends EntitiesDb<OutboxEmail, OutboxEmailAttributes> {
+
+    /**
+     * Creates the given emails in a single batch write, without checking for existence.
+     */
+    public void createOutboxEmails(Collection<OutboxEmailAttributes> outboxEmails) throws InvalidParametersException {
+        createEntitiesWithoutExistenceCheck(outboxEmails);
+    }
+
+    /**
+     * Gets the emails of the batch {@code batchId} from position {@code fromPosition} (inclusive)
+     * to position {@code toPosition} (exclusive), in order of position.
+     * The emails are read by key, thus unlike a query, the result includes all the emails already written.
+     */
+    public List<OutboxEmailAttributes> getOutboxEmails(String batchId, int fromPosition, int toPosition) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, batchId);
+
+        List<String> outboxEmailIds = new ArrayList<>();
+        for (int position = fromPosition; position < toPosition; position++) {
+            outboxEmailIds.add(OutboxEmailAttributes.generateId(batchId, position));
+        }
+        return makeAttributes(load().ids(outboxEmailIds).values());
+    }
+
+    /**
+     * Returns the number of emails of the batch {@code batchId} with the given {@code status}.
+     */
+    public int countOutboxEmails(String batchId, OutboxEmailStatus status) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, batchId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, status);
+
+        return load()
+                .filter("batchId =", batchId)
+                .filter("status =", status.name())
+                .count();
+    }
+
+    /**
+     * Saves the send status of the given emails in a single batch write.
+     */
+    public void updateOutboxEmails(Collection<OutboxEmailAttributes> outboxEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, outboxEmails);
+
+        List<OutboxEmail> entities = new ArrayList<>();
+        for (OutboxEmailAttributes outboxEmail : outboxEmails) {
+            entities.add(outboxEmail.toEntity());
+        }
+        saveEntities(entities, outboxEmails);
+    }
+
+    @Override
+    protected LoadType<OutboxEmail> load() {
+        return ofy().load().type(OutboxEmail.class);
+    }
+
+    @Override
+    protected OutboxEmail getEntity(OutboxEmailAttributes attributes) {
+        return load().id(attributes.getOutboxEmailId()).now();
+    }
+
+    @Override
+    protected QueryKeys<OutboxEmail> getEntityQueryKeys(OutboxEmailAttributes attributes) {
+        Key<OutboxEmail> keyToFind = Key.create(OutboxEmail.class, attributes.getOutboxEmailId());
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected OutboxEmailAttributes makeAttributes(OutboxEmail entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return OutboxEmailAttributes.valueOf(entity);
+    }
+
+}
@@ -97,26 +97,49 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
     }
 
     /**
-     * Updates the pictureKey of the profile with given GoogleId.
-     * Deletes existing picture if key is different and updates
-     * modifiedDate
+     * Updates the pictureKey of the profile with given GoogleId, for a picture without thumbnail.
+     *
+     * @see #updateStudentProfilePicture(String, String, String)
      */
     public void updateStudentProfilePicture(String googleId, String newPictureKey) throws EntityDoesNotExistException {
+        updateStudentProfilePicture(googleId, newPictureKey, "");
+    }
+
+    /**
+     * Updates the pictureKey and thumbnailKey of the profile with given GoogleId.
+     * {@code newThumbnailKey} is empty if the picture has no thumbnail.
+     * Deletes existing picture and its thumbnail if key is different and updates
+     * modifiedDate
+     */
+    public void updateStudentProfilePicture(String googleId, String newPictureKey, String newThumbnailKey)
+            throws EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newPictureKey);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newThumbnailKey);
         Assumption.assertNotEmpty("GoogleId is empty", googleId);
         Assumption.assertNotEmpty("PictureKey is empty", newPictureKey);
 
         StudentProfile profileToUpdate = getCurrentProfileFromDb(googleId);
+        BlobKey oldPictureKey = profileToUpdate.getPictureKey();
+        BlobKey oldThumbnailKey = profileToUpdate.getThumbnailKey();
 
         boolean hasNewNonEmptyPictureKey = !newPictureKey.isEmpty()
-                && !newPictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
+                && !newPictureKey.equals(oldPictureKey.getKeyString());
+        boolean hasNewNonEmptyThumbnailKey = !newThumbnailKey.isEmpty()
+                && !newThumbnailKey.equals(oldThumbnailKey.getKeyString());
         if (hasNewNonEmptyPictureKey) {
             profileToUpdate.setPictureKey(new BlobKey(newPictureKey));
             profileToUpdate.setModifiedDate(new Date());
         }
+        if (hasNewNonEmptyPictureKey || hasNewNonEmptyThumbnailKey) {
+            profileToUpdate.setThumbnailKey(new BlobKey(newThumbnailKey));
+        }
 
         saveEntity(profileToUpdate);
+
+        if (hasNewNonEmptyPictureKey && !oldPictureKey.equals(new BlobKey(""))) {
+            deletePictureAndThumbnail(oldPictureKey, oldThumbnailKey);
+        }
     }
 
     @Override
@@ -162,8 +185,9 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         StudentProfile sp = getCurrentProfileFromDb(googleId);
 
         if (!sp.getPictureKey().equals(new BlobKey(""))) {
-            deletePicture(sp.getPictureKey());
+            deletePictureAndThumbnail(sp.getPictureKey(), sp.getThumbnailKey());
             sp.setPictureKey(new BlobKey(""));
+            sp.setThumbnailKey(new BlobKey(""));
             sp.setModifiedDate(new Date());
         }
 
@@ -184,6 +208,13 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
     //-------------------------------------- Helper Functions -----------------------------------------------
     //-------------------------------------------------------------------------------------------------------
 
+    private void deletePictureAndThumbnail(BlobKey pictureKey, BlobKey thumbnailKey) {
+        deletePicture(pictureKey);
+        if (!thumbnailKey.equals(new BlobKey(""))) {
+            deletePicture(thumbnailKey);
+        }
+    }
+
     private StudentProfile getCurrentProfileFromDb(String googleId) throws EntityDoesNotExistException {
         StudentProfile profileToUpdate = getStudentProfileEntityFromDb(googleId);
 
@@ -0,0 +1,74 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.SevereLogsCheckpointAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.SevereLogsCheckpoint;
+
+/**
+ * Handles the checkpoint of the compilation of severe logs.
+ *
+ * @see SevereLogsCheckpoint
+ * @see SevereLogsCheckpointAttributes
+ */
+public class SevereLogsCheckpointsDb extends EntitiesDb<SevereLogsCheckpoint, SevereLogsCheckpointAttributes> {
+
+    /**
+     * Gets the checkpoint.
+     * @return null if no compilation has been recorded yet
+     */
+    public SevereLogsCheckpointAttributes getCheckpoint() {
+        return makeAttributesOrNull(getCheckpointEntity());
+    }
+
+    /**
+     * Replaces the checkpoint with {@code checkpoint}.
+     */
+    public void saveCheckpoint(SevereLogsCheckpointAttributes checkpoint) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, checkpoint);
+
+        saveEntity(checkpoint.toEntity(), checkpoint);
+    }
+
+    /**
+     * Deletes the checkpoint, so that the next compilation starts afresh.
+     */
+    public void deleteCheckpoint() {
+        ofy().delete().type(SevereLogsCheckpoint.class).id(SevereLogsCheckpointAttributes.CHECKPOINT_ID).now();
+    }
+
+    private SevereLogsCheckpoint getCheckpointEntity() {
+        return load().id(SevereLogsCheckpointAttributes.CHECKPOINT_ID).now();
+    }
+
+    @Override
+    protected LoadType<SevereLogsCheckpoint> load() {
+        return ofy().load().type(SevereLogsCheckpoint.class);
+    }
+
+    @Override
+    protected SevereLogsCheckpoint getEntity(SevereLogsCheckpointAttributes attributes) {
+        return getCheckpointEntity();
+    }
+
+    @Override
+    protected QueryKeys<SevereLogsCheckpoint> getEntityQueryKeys(SevereLogsCheckpointAttributes attributes) {
+        Key<SevereLogsCheckpoint> keyToFind =
+                Key.create(SevereLogsCheckpoint.class, SevereLogsCheckpointAttributes.CHECKPOINT_ID);
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected SevereLogsCheckpointAttributes makeAttributes(SevereLogsCheckpoint entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return SevereLogsCheckpointAttributes.valueOf(entity);
+    }
+
+}
@@ -7,7 +7,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
@@ -65,27 +64,33 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             return new StudentSearchResultBundle();
         }
 
-        Results<ScoredDocument> results = searchDocuments(Const.SearchIndex.STUDENT,
-                new StudentSearchQuery(instructors, queryString));
+        StudentSearchQuery query = new StudentSearchQuery(instructors, queryString);
+        List<ScoredDocument> results = searchDocuments(Const.SearchIndex.STUDENT, query);
 
-        return StudentSearchDocument.fromResults(results, instructors);
+        StudentSearchResultBundle bundle = StudentSearchDocument.fromResults(results, instructors);
+        bundle.cursor = query.getWebSafeCursor();
+        return bundle;
     }
 
     /**
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
      * search students in the whole system.
+     * The matching students are retrieved from {@code cursor}, or from the first match if it is null.
      * @return null if no result found
      */
-    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString) {
+    public StudentSearchResultBundle searchStudentsInWholeSystem(String queryString, String cursor) {
         if (queryString.trim().isEmpty()) {
             return new StudentSearchResultBundle();
         }
 
-        Results<ScoredDocument> results = searchDocuments(Const.SearchIndex.STUDENT,
-                new StudentSearchQuery(queryString));
+        StudentSearchQuery query = new StudentSearchQuery(queryString);
+        query.setWebSafeCursor(cursor);
+        List<ScoredDocument> results = searchDocuments(Const.SearchIndex.STUDENT, query);
 
-        return StudentSearchDocument.fromResults(results);
+        StudentSearchResultBundle bundle = StudentSearchDocument.fromResults(results);
+        bundle.cursor = query.getWebSafeCursor();
+        return bundle;
     }
 
     public void deleteDocument(StudentAttributes studentToDelete) {
@@ -466,6 +471,29 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Deletes the first {@link #DELETION_BATCH_SIZE} students in the course, with their search documents.
+     *
+     * @return the number of students deleted
+     */
+    public int deleteStudentsForCourseInBatch(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<CourseStudent> studentsToDelete = getCourseStudentsForCourseQuery(courseId).limit(DELETION_BATCH_SIZE).list();
+        if (studentsToDelete.isEmpty()) {
+            return 0;
+        }
+
+        List<StudentAttributes> studentsAttributes = makeAttributes(studentsToDelete);
+        List<String> documentIds = new ArrayList<>();
+        for (StudentAttributes student : studentsAttributes) {
+            documentIds.add(student.key);
+        }
+        deleteDocuments(Const.SearchIndex.STUDENT, documentIds);
+        deleteEntitiesDirect(studentsToDelete, studentsAttributes);
+        return studentsToDelete.size();
+    }
+
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
@@ -24,6 +24,12 @@ public class Course extends BaseEntity {
 
     private String timeZone;
 
+    /**
+     * Whether the course has been deleted but some of its data remains to be deleted.
+     * Such a course is hidden, and its ID cannot be reused until the deletion is complete.
+     */
+    private boolean isBeingDeleted;
+
     @SuppressWarnings("unused")
     private Course() {
         // required by Objectify
@@ -75,4 +81,12 @@ public class Course extends BaseEntity {
     public void setTimeZone(String timeZone) {
         this.timeZone = timeZone;
     }
+
+    public boolean isBeingDeleted() {
+        return isBeingDeleted;
+    }
+
+    public void setBeingDeleted(boolean isBeingDeleted) {
+        this.isBeingDeleted = isBeingDeleted;
+    }
 }
@@ -0,0 +1,94 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a batch of emails in the email outbox, scheduled for sending together.
+ * Holds the sender details shared by all emails of the batch; each email is an {@link OutboxEmail}.
+ */
+@Entity
+@Index
+public class EmailOutboxBatch extends BaseEntity {
+
+    @Id
+    private String batchId;
+
+    @Unindex
+    private String senderEmail;
+
+    @Unindex
+    private String senderName;
+
+    @Unindex
+    private String replyTo;
+
+    /** The subject of the first email in the batch, for display to the admin. */
+    @Unindex
+    private String description;
+
+    @Unindex
+    private int numberOfEmails;
+
+    /** The position in the batch of the first email of each chunk, in order of the chunks. */
+    @Unindex
+    private List<Integer> chunkStartPositions;
+
+    private Date createdAt;
+
+    @SuppressWarnings("unused")
+    private EmailOutboxBatch() {
+        // required by Objectify
+    }
+
+    public EmailOutboxBatch(String batchId, String senderEmail, String senderName, String replyTo,
+                            String description, int numberOfEmails, List<Integer> chunkStartPositions,
+                            Date createdAt) {
+        this.batchId = batchId;
+        this.senderEmail = senderEmail;
+        this.senderName = senderName;
+        this.replyTo = replyTo;
+        this.description = description;
+        this.numberOfEmails = numberOfEmails;
+        this.chunkStartPositions = chunkStartPositions;
+        this.createdAt = createdAt;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public String getSenderEmail() {
+        return senderEmail;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getReplyTo() {
+        return replyTo;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getNumberOfEmails() {
+        return numberOfEmails;
+    }
+
+    public List<Integer> getChunkStartPositions() {
+        return chunkStartPositions;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+}
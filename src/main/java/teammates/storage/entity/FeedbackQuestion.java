@@ -48,6 +48,12 @@ public class FeedbackQuestion extends BaseEntity {
 
     private Text questionDescription;
 
+    /**
+     * The question text, truncated so that it can be indexed.
+     * Denormalized from {@link #questionText} so that questions can be listed without reading their details.
+     */
+    private String questionTextSummary;
+
     private int questionNumber;
 
     private FeedbackQuestionType questionType;
@@ -158,6 +164,14 @@ public class FeedbackQuestion extends BaseEntity {
         this.questionText = questionText;
     }
 
+    public String getQuestionTextSummary() {
+        return questionTextSummary;
+    }
+
+    public void setQuestionTextSummary(String questionTextSummary) {
+        this.questionTextSummary = questionTextSummary;
+    }
+
     public Text getQuestionDescription() {
         return questionDescription;
     }
@@ -9,6 +9,7 @@ import com.googlecode.objectify.annotation.Ignore;
 import com.googlecode.objectify.annotation.Index;
 import com.googlecode.objectify.annotation.OnSave;
 
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.util.Const;
 
@@ -73,7 +74,7 @@ public class FeedbackResponse extends BaseEntity {
         this.receiverSection = recipientSection;
         this.answer = answer;
 
-        this.feedbackResponseId = feedbackQuestionId + "%" + giverEmail + "%" + receiver;
+        this.feedbackResponseId = ResponseId.of(feedbackQuestionId, giverEmail, receiver).toString();
 
         this.setCreatedAt(new Date());
     }
@@ -0,0 +1,110 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+
+/**
+ * Represents an email to a single recipient in the email outbox, with its send status.
+ * The sender details are those of its {@link EmailOutboxBatch}.
+ */
+@Entity
+@Index
+public class OutboxEmail extends BaseEntity {
+
+    /** The batch ID and the position of the email in the batch, e.g. {@code batchId%12}. */
+    @Id
+    private String outboxEmailId;
+
+    private String batchId;
+
+    /** The chunk of the batch the email is in; each chunk is sent by a single task. */
+    @Unindex
+    private int chunk;
+
+    @Unindex
+    private String recipient;
+
+    @Unindex
+    private String bcc;
+
+    @Unindex
+    private String subject;
+
+    @Unindex
+    private Text content;
+
+    private OutboxEmailStatus status;
+
+    @Unindex
+    private int attempts;
+
+    @Unindex
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private OutboxEmail() {
+        // required by Objectify
+    }
+
+    public OutboxEmail(String outboxEmailId, String batchId, int chunk, String recipient, String bcc,
+                       String subject, Text content, OutboxEmailStatus status, int attempts, Date updatedAt) {
+        this.outboxEmailId = outboxEmailId;
+        this.batchId = batchId;
+        this.chunk = chunk;
+        this.recipient = recipient;
+        this.bcc = bcc;
+        this.subject = subject;
+        this.content = content;
+        this.status = status;
+        this.attempts = attempts;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getOutboxEmailId() {
+        return outboxEmailId;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public int getChunk() {
+        return chunk;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getBcc() {
+        return bcc;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Text getContent() {
+        return content;
+    }
+
+    public OutboxEmailStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
@@ -0,0 +1,65 @@
+package teammates.storage.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the position reached by the compilation of severe logs.
+ * There is only one checkpoint, which is replaced after every compilation.
+ */
+@Entity
+@Unindex
+public class SevereLogsCheckpoint extends BaseEntity {
+
+    @Id
+    private String checkpointId;
+
+    private long startTimeMillis;
+
+    private long endTimeMillis;
+
+    /** The offset of the next request log to compile within the time range; null if the range has been compiled. */
+    private String offset;
+
+    /** The end times of the request logs compiled near the end of the time range, by request ID. */
+    private Map<String, Long> recentRequestEndTimes = new HashMap<>();
+
+    @SuppressWarnings("unused")
+    private SevereLogsCheckpoint() {
+        // required by Objectify
+    }
+
+    public SevereLogsCheckpoint(String checkpointId, long startTimeMillis, long endTimeMillis, String offset,
+                                Map<String, Long> recentRequestEndTimes) {
+        this.checkpointId = checkpointId;
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+        this.offset = offset;
+        this.recentRequestEndTimes = recentRequestEndTimes;
+    }
+
+    public String getCheckpointId() {
+        return checkpointId;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    public long getEndTimeMillis() {
+        return endTimeMillis;
+    }
+
+    public String getOffset() {
+        return offset;
+    }
+
+    public Map<String, Long> getRecentRequestEndTimes() {
+        return recentRequestEndTimes == null ? new HashMap<String, Long>() : recentRequestEndTimes;
+    }
+
+}
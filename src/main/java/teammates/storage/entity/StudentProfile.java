@@ -41,6 +41,9 @@ public class StudentProfile extends BaseEntity {
 
     private BlobKey pictureKey;
 
+    /** The key of the thumbnail of the picture; empty if the picture has no thumbnail. */
+    private BlobKey thumbnailKey;
+
     @Index
     private Date modifiedDate;
 
@@ -80,6 +83,7 @@ public class StudentProfile extends BaseEntity {
         this.setMoreInfo(moreInfo);
         this.setModifiedDate(new Date());
         this.setPictureKey(pictureKey);
+        this.setThumbnailKey(new BlobKey(""));
     }
 
     public StudentProfile(String googleId) {
@@ -91,6 +95,7 @@ public class StudentProfile extends BaseEntity {
         this.setGender("other");
         this.setMoreInfo(new Text(""));
         this.setPictureKey(new BlobKey(""));
+        this.setThumbnailKey(new BlobKey(""));
         this.setModifiedDate(new Date());
     }
 
@@ -162,6 +167,15 @@ public class StudentProfile extends BaseEntity {
         this.pictureKey = pictureKey;
     }
 
+    public BlobKey getThumbnailKey() {
+        // profiles stored before thumbnails were recorded have no thumbnail key
+        return this.thumbnailKey == null ? new BlobKey("") : this.thumbnailKey;
+    }
+
+    public void setThumbnailKey(BlobKey thumbnailKey) {
+        this.thumbnailKey = thumbnailKey;
+    }
+
     public Date getModifiedDate() {
         return this.modifiedDate;
     }
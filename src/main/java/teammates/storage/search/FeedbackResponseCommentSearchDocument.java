@@ -8,7 +8,6 @@ import java.util.Set;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
@@ -232,11 +231,11 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     }
 
     /**
-     * Produces a {@link FeedbackResponseCommentSearchResultBundle} from the {@code Results<ScoredDocument>} collection.
+     * Produces a {@link FeedbackResponseCommentSearchResultBundle} from the list of {@link ScoredDocument}.
      * The list of {@link InstructorAttributes} is used to filter out the search result.
      */
     public static FeedbackResponseCommentSearchResultBundle fromResults(
-            Results<ScoredDocument> results, List<InstructorAttributes> instructors) {
+            List<ScoredDocument> results, List<InstructorAttributes> instructors) {
         FeedbackResponseCommentSearchResultBundle bundle = new FeedbackResponseCommentSearchResultBundle();
         if (results == null) {
             return bundle;
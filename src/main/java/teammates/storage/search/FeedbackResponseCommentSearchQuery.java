@@ -1,7 +1,10 @@
 package teammates.storage.search;
 
+import java.util.Date;
 import java.util.List;
 
+import com.google.appengine.api.search.SortExpression;
+
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 
@@ -13,6 +16,19 @@ public class FeedbackResponseCommentSearchQuery extends SearchQuery {
 
     public FeedbackResponseCommentSearchQuery(List<InstructorAttributes> instructors, String queryString) {
         super(instructors, queryString);
+        addSortExpression(SortExpression.newBuilder()
+                .setExpression(Const.SearchDocumentField.CREATED_DATE)
+                .setDirection(SortExpression.SortDirection.DESCENDING)
+                .setDefaultValueDate(new Date(0))
+                .build());
+        setFieldsToReturn(Const.SearchDocumentField.COURSE_ID,
+                          Const.SearchDocumentField.FEEDBACK_RESPONSE_COMMENT_ATTRIBUTE,
+                          Const.SearchDocumentField.FEEDBACK_RESPONSE_ATTRIBUTE,
+                          Const.SearchDocumentField.FEEDBACK_QUESTION_ATTRIBUTE,
+                          Const.SearchDocumentField.FEEDBACK_SESSION_ATTRIBUTE,
+                          Const.SearchDocumentField.FEEDBACK_RESPONSE_GIVER_NAME,
+                          Const.SearchDocumentField.FEEDBACK_RESPONSE_RECEIVER_NAME,
+                          Const.SearchDocumentField.FEEDBACK_RESPONSE_COMMENT_GIVER_NAME);
     }
 
     @Override
@@ -5,7 +5,6 @@ import java.util.List;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
 import teammates.common.datatransfer.InstructorSearchResultBundle;
@@ -63,12 +62,12 @@ public class InstructorSearchDocument extends SearchDocument {
     }
 
     /**
-     * Produces an {@link InstructorSearchResultBundle} from the {@code Results<ScoredDocument>} collection.
+     * Produces an {@link InstructorSearchResultBundle} from the list of {@link ScoredDocument}.
      *
      * <p>This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID.
      */
-    public static InstructorSearchResultBundle fromResults(Results<ScoredDocument> results) {
+    public static InstructorSearchResultBundle fromResults(List<ScoredDocument> results) {
         InstructorSearchResultBundle bundle = new InstructorSearchResultBundle();
         if (results == null) {
             return bundle;
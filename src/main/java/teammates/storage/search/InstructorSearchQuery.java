@@ -3,6 +3,7 @@ package teammates.storage.search;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
 
 /**
  * The {@link SearchQuery} object that defines how we query
@@ -17,6 +18,7 @@ public class InstructorSearchQuery extends SearchQuery {
      */
     public InstructorSearchQuery(String queryString) {
         super(queryString);
+        setFieldsToReturn(Const.SearchDocumentField.INSTRUCTOR_ATTRIBUTE);
     }
 
     @Override
@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Set;
 
 import com.google.appengine.api.search.Document;
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -47,7 +46,7 @@ public abstract class SearchDocument {
     /**
      * This method must be called to filter out the search result for course Id.
      */
-    protected static List<ScoredDocument> filterOutCourseId(Results<ScoredDocument> results,
+    protected static List<ScoredDocument> filterOutCourseId(List<ScoredDocument> results,
                                                             List<InstructorAttributes> instructors) {
         Set<String> courseIdSet = new HashSet<>();
         for (InstructorAttributes ins : instructors) {
@@ -39,6 +39,9 @@ public final class SearchManager {
 
     private static final RetryManager RM = new RetryManager(8);
 
+    /** Maximum number of documents the Search API allows to be deleted in a single call. */
+    private static final int MAX_DOCUMENTS_PER_DELETE = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -213,6 +216,16 @@ public final class SearchManager {
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Batch deletes the documents with the given documentIds.
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds) {
+        Index index = getIndex(indexName);
+        for (int i = 0; i < documentIds.size(); i += MAX_DOCUMENTS_PER_DELETE) {
+            index.deleteAsync(documentIds.subList(i, Math.min(i + MAX_DOCUMENTS_PER_DELETE, documentIds.size())));
+        }
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
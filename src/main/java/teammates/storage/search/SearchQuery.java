@@ -3,8 +3,11 @@ package teammates.storage.search;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.google.appengine.api.search.Cursor;
 import com.google.appengine.api.search.Query;
 import com.google.appengine.api.search.QueryOptions;
+import com.google.appengine.api.search.SortExpression;
+import com.google.appengine.api.search.SortOptions;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
@@ -12,9 +15,22 @@ import teammates.common.util.Logger;
 
 /**
  * Defines how we query {@link com.google.appengine.api.search.Document}.
+ *
+ * <p>The matching documents are retrieved one page of {@link #PAGE_SIZE} documents at a time,
+ * following the {@link Cursor} of the previous page, until {@link #getMaxResults()} documents are retrieved.
+ * Cursors are kept per document, so that the retrieval can stop, and later continue, in the middle of a page.
  */
 public abstract class SearchQuery {
 
+    /** Number of documents retrieved in each call to the Search API. */
+    public static final int PAGE_SIZE = 100;
+
+    /** Maximum number of documents retrieved for a search restricted to the courses of an instructor. */
+    public static final int MAX_RESULTS_FOR_INSTRUCTOR = 200;
+
+    /** Maximum number of documents retrieved for a search in the whole system. */
+    public static final int MAX_RESULTS_IN_WHOLE_SYSTEM = 1000;
+
     protected static final String AND = " AND ";
     protected static final String OR = " OR ";
     protected static final String NOT = " NOT ";
@@ -23,13 +39,15 @@ public abstract class SearchQuery {
 
     private String visibilityQueryString;
 
-    private QueryOptions options;
+    private int maxResults;
+    private Cursor cursor = Cursor.newBuilder().setPerResult(true).build();
+    private SortOptions.Builder sortOptions;
+    private String[] fieldsToReturn;
     private List<String> textQueryStrings = new ArrayList<>();
+    private String builtQueryString;
 
     protected SearchQuery(List<InstructorAttributes> instructors, String queryString) {
-        options = QueryOptions.newBuilder()
-                .setLimit(20)
-                .build();
+        maxResults = instructors == null ? MAX_RESULTS_IN_WHOLE_SYSTEM : MAX_RESULTS_FOR_INSTRUCTOR;
         visibilityQueryString = instructors == null ? "" : prepareVisibilityQueryString(instructors);
         setTextFilter(Const.SearchDocumentField.SEARCHABLE_TEXT, queryString);
     }
@@ -40,6 +58,68 @@ public abstract class SearchQuery {
 
     protected abstract String prepareVisibilityQueryString(List<InstructorAttributes> instructors);
 
+    /**
+     * Sorts the matching documents by {@code sortExpression}, in addition to any sort expression added before.
+     * Documents are otherwise returned in descending order of rank.
+     */
+    protected void addSortExpression(SortExpression sortExpression) {
+        if (sortOptions == null) {
+            sortOptions = SortOptions.newBuilder().setLimit(MAX_RESULTS_IN_WHOLE_SYSTEM);
+        }
+        sortOptions.addSortExpression(sortExpression);
+    }
+
+    /**
+     * Restricts the fields returned in the matching documents to {@code fieldNames}.
+     * All fields are returned otherwise.
+     */
+    protected void setFieldsToReturn(String... fieldNames) {
+        fieldsToReturn = fieldNames;
+    }
+
+    /**
+     * Returns the maximum number of matching documents that should be retrieved.
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * Returns the cursor to the next page of matching documents, or null if there are no more pages.
+     */
+    public Cursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the web-safe form of {@link #getCursor()}, or null if there are no more pages.
+     */
+    public String getWebSafeCursor() {
+        return cursor == null ? null : cursor.toWebSafeString();
+    }
+
+    /**
+     * Sets the cursor to the page of matching documents to retrieve with the next {@link #toQuery()}.
+     */
+    public void setCursor(Cursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Sets the cursor from its web-safe form, as returned by {@link #getWebSafeCursor()}.
+     * The matching documents are retrieved from the first page if {@code webSafeCursor} is null or invalid.
+     */
+    public void setWebSafeCursor(String webSafeCursor) {
+        if (webSafeCursor == null) {
+            return;
+        }
+        try {
+            cursor = Cursor.newBuilder().setPerResult(true).build(webSafeCursor);
+        } catch (IllegalArgumentException e) {
+            log.warning("Invalid search cursor: " + webSafeCursor);
+        }
+    }
+
     /**
      * Returns how many query strings a SearchQuery object has.
      */
@@ -104,10 +184,22 @@ public abstract class SearchQuery {
     }
 
     /**
-     * Builds the {@link Query} object.
+     * Builds the {@link Query} object for the page of matching documents at the current {@link #getCursor()}.
      */
     public Query toQuery() {
-        return Query.newBuilder().setOptions(options).build(toString());
+        QueryOptions.Builder options = QueryOptions.newBuilder()
+                .setLimit(PAGE_SIZE)
+                .setCursor(cursor);
+        if (sortOptions != null) {
+            options.setSortOptions(sortOptions);
+        }
+        if (fieldsToReturn != null) {
+            options.setFieldsToReturn(fieldsToReturn);
+        }
+        if (builtQueryString == null) {
+            builtQueryString = toString();
+        }
+        return Query.newBuilder().setOptions(options).build(builtQueryString);
     }
 
     @Override
@@ -127,4 +219,5 @@ public abstract class SearchQuery {
         log.info("Query: " + queryStringBuilder.toString());
         return queryStringBuilder.toString();
     }
+
 }
@@ -5,7 +5,6 @@ import java.util.List;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
-import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
 import teammates.common.datatransfer.StudentSearchResultBundle;
@@ -66,13 +65,13 @@ public class StudentSearchDocument extends SearchDocument {
     }
 
     /**
-     * Produces a {@link StudentSearchResultBundle} from the {@code Results<ScoredDocument>} collection.
+     * Produces a {@link StudentSearchResultBundle} from the list of {@link ScoredDocument}.
      * The list of {@link InstructorAttributes} is used to filter out the search result.
      *
      * <p>This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID.
      */
-    public static StudentSearchResultBundle fromResults(Results<ScoredDocument> results) {
+    public static StudentSearchResultBundle fromResults(List<ScoredDocument> results) {
         StudentSearchResultBundle bundle = new StudentSearchResultBundle();
         if (results == null) {
             return bundle;
@@ -98,10 +97,10 @@ public class StudentSearchDocument extends SearchDocument {
     }
 
     /**
-     * Produces a {@link StudentSearchResultBundle} from the {@code Results<ScoredDocument>} collection.
+     * Produces a {@link StudentSearchResultBundle} from the list of {@link ScoredDocument}.
      * The list of {@link InstructorAttributes} is used to filter out the search result.
      */
-    public static StudentSearchResultBundle fromResults(Results<ScoredDocument> results,
+    public static StudentSearchResultBundle fromResults(List<ScoredDocument> results,
                                                         List<InstructorAttributes> instructors) {
         StudentSearchResultBundle bundle = new StudentSearchResultBundle();
         if (results == null) {
@@ -13,6 +13,7 @@ public class StudentSearchQuery extends SearchQuery {
 
     public StudentSearchQuery(List<InstructorAttributes> instructors, String queryString) {
         super(instructors, queryString);
+        prepareOptions();
     }
 
     /**
@@ -22,6 +23,16 @@ public class StudentSearchQuery extends SearchQuery {
      */
     public StudentSearchQuery(String queryString) {
         super(queryString);
+        prepareOptions();
+    }
+
+    /**
+     * Returns only the fields needed to convert the documents back to students.
+     * The students are sorted after retrieval, so the documents are left in the default order,
+     * which unlike a sort on course keeps the pages of a search consistent with each other.
+     */
+    private void prepareOptions() {
+        setFieldsToReturn(Const.SearchDocumentField.COURSE_ID, Const.SearchDocumentField.STUDENT_ATTRIBUTE);
     }
 
     @Override
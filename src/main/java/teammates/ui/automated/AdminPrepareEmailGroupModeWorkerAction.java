@@ -1,16 +1,15 @@
 package teammates.ui.automated;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.apphosting.api.ApiProxy;
 
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
-import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 
 /**
@@ -21,6 +20,9 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    /** Number of send email tasks added to the task queue at a time. */
+    private static final int SEND_TASK_BATCH_SIZE = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -41,65 +43,47 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         String groupReceiverListFileKey = getRequestParamValue(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY);
         Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
 
-        String indexOfEmailListToResumeAsString =
-                getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX);
-        String indexOfEmailToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX);
-
-        int indexOfEmailListToResume = indexOfEmailListToResumeAsString == null
-                                       ? 0
-                                       : Integer.parseInt(indexOfEmailListToResumeAsString);
-        int indexOfEmailToResume = indexOfEmailToResumeAsString == null
-                                   ? 0
-                                   : Integer.parseInt(indexOfEmailToResumeAsString);
-
-        try {
-            List<List<String>> processedReceiverEmails =
-                    GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
-            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, processedReceiverEmails,
-                                     indexOfEmailListToResume, indexOfEmailToResume);
-        } catch (IOException e) {
-            log.severe("Unexpected error while adding admin email tasks: "
-                       + TeammatesException.toStringWithStackTrace(e));
-        }
-    }
-
-    private boolean isNearDeadline() {
-        long timeLeftInMillis = ApiProxy.getCurrentEnvironment().getRemainingMillis();
-        return timeLeftInMillis / 1000 < 100;
-    }
+        String offsetToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET);
+        long offsetToResume = offsetToResumeAsString == null ? 0 : Long.parseLong(offsetToResumeAsString);
 
-    private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
-            List<List<String>> processedReceiverEmails,
-            int indexOfEmailListToResume, int indexOfEmailToResume) {
         AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
         Assumption.assertNotNull(adminEmail);
 
-        log.info("Resume adding group mail tasks for mail with id " + emailId + " from list index: "
-                 + indexOfEmailListToResume + " and email index: " + indexOfEmailToResume);
-
-        int indexOfLastEmailList = 0;
-        int indexOfLastEmail = 0;
-
-        for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
-            List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
-                if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
-                    log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
-                    return;
-                }
-                indexOfLastEmail = j;
+        log.info("Resume adding group mail tasks for mail with id " + emailId + " from offset: " + offsetToResume);
+
+        GroupReceiverListReader receiverListReader =
+                GoogleCloudStorageHelper.getGroupReceiverListReader(new BlobKey(groupReceiverListFileKey), offsetToResume);
+        List<String> receiverEmails = new ArrayList<>();
+        int numberOfReceivers = 0;
+
+        for (String receiverEmail = receiverListReader.next(); receiverEmail != null;
+                receiverEmail = receiverListReader.next()) {
+            receiverEmails.add(receiverEmail);
+            numberOfReceivers++;
+            if (receiverEmails.size() < SEND_TASK_BATCH_SIZE) {
+                continue;
+            }
+
+            taskQueuer.scheduleAdminEmailsForSending(emailId, receiverEmails, adminEmail.getSubject(),
+                                                     adminEmail.getContentValue());
+            receiverEmails.clear();
+
+            if (isNearDeadline()) {
+                long offset = receiverListReader.getOffset();
+                taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, offset);
+                log.info("Adding group mail tasks for mail with id " + emailId
+                         + " have been paused at offset: " + offset + " after " + numberOfReceivers + " receivers");
+                return;
             }
-            indexOfLastEmailList = i;
+        }
+
+        if (!receiverEmails.isEmpty()) {
+            taskQueuer.scheduleAdminEmailsForSending(emailId, receiverEmails, adminEmail.getSubject(),
+                                                     adminEmail.getContentValue());
         }
 
         log.info("Adding group mail tasks for mail with id " + emailId
-                 + "was complete with last reached list index: " + indexOfLastEmailList
-                 + " and last reached email index: " + indexOfLastEmail);
+                 + " was complete with " + numberOfReceivers + " receivers since offset: " + offsetToResume);
     }
 
 }
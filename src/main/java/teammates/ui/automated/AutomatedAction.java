@@ -3,8 +3,11 @@ package teammates.ui.automated;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.google.apphosting.api.ApiProxy;
+
 import teammates.common.util.Assumption;
 import teammates.common.util.HttpRequestHelper;
+import teammates.logic.api.AppContext;
 import teammates.logic.api.EmailSender;
 import teammates.logic.api.Logic;
 import teammates.logic.api.TaskQueuer;
@@ -31,9 +34,9 @@ public abstract class AutomatedAction {
     protected void initialiseAttributes(HttpServletRequest request, HttpServletResponse response) {
         this.request = request;
         this.response = response;
-        this.logic = new Logic();
-        setTaskQueuer(new TaskQueuer());
-        setEmailSender(new EmailSender());
+        this.logic = AppContext.getLogic();
+        setTaskQueuer(AppContext.getTaskQueuer());
+        setEmailSender(AppContext.getEmailSender());
     }
 
     public TaskQueuer getTaskQueuer() {
@@ -87,6 +90,15 @@ public abstract class AutomatedAction {
         response.setStatus(100);
     }
 
+    /**
+     * Returns true if the request is close to its deadline, in which case the action should
+     * save its progress and leave the rest of the work to a new task.
+     */
+    protected boolean isNearDeadline() {
+        long timeLeftInMillis = ApiProxy.getCurrentEnvironment().getRemainingMillis();
+        return timeLeftInMillis / 1000 < 100;
+    }
+
     protected abstract String getActionDescription();
 
     protected abstract String getActionMessage();
@@ -2,13 +2,12 @@ package teammates.ui.automated;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.exception.PageNotFoundException;
-import teammates.common.exception.TeammatesException;
-import teammates.common.util.Assumption;
 import teammates.common.util.Const.ActionURIs;
 import teammates.common.util.Const.TaskQueue;
 
@@ -17,34 +16,37 @@ import teammates.common.util.Const.TaskQueue;
  */
 public class AutomatedActionFactory {
 
-    private static Map<String, Class<? extends AutomatedAction>> actionMappings = new HashMap<>();
+    private static Map<String, Supplier<? extends AutomatedAction>> actionMappings = new HashMap<>();
 
     static {
         // Cron jobs
-        map(ActionURIs.AUTOMATED_LOG_COMPILATION, CompileLogsAction.class);
-        map(ActionURIs.AUTOMATED_FEEDBACK_OPENING_REMINDERS, FeedbackSessionOpeningRemindersAction.class);
-        map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
-        map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
-        map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_LOG_COMPILATION, CompileLogsAction::new);
+        map(ActionURIs.AUTOMATED_FEEDBACK_OPENING_REMINDERS, FeedbackSessionOpeningRemindersAction::new);
+        map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction::new);
+        map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction::new);
+        map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction::new);
 
         // Task queue workers
-        map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
-        map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
-        map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
-        map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction.class);
-        map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
-        map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, FeedbackSessionRemindEmailWorkerAction.class);
+        map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction::new);
+        map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction::new);
+        map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction::new);
+        map(TaskQueue.COURSE_DATA_DELETION_WORKER_URL, CourseDataDeletionWorkerAction::new);
+        map(TaskQueue.FEEDBACK_QUESTION_DATA_DELETION_WORKER_URL, FeedbackQuestionDataDeletionWorkerAction::new);
+        map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction::new);
+        map(TaskQueue.FEEDBACK_RESPONSES_EMAIL_UPDATE_WORKER_URL, FeedbackResponsesEmailUpdateWorkerAction::new);
+        map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction::new);
+        map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, FeedbackSessionRemindEmailWorkerAction::new);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL,
-                FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
-        map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
-        map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
-        map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
-        map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
-        map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
+                FeedbackSessionRemindParticularUsersEmailWorkerAction::new);
+        map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction::new);
+        map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction::new);
+        map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction::new);
+        map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction::new);
+        map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction::new);
     }
 
-    private static void map(String actionUri, Class<? extends AutomatedAction> actionClass) {
-        actionMappings.put(actionUri, actionClass);
+    private static void map(String actionUri, Supplier<? extends AutomatedAction> actionSupplier) {
+        actionMappings.put(actionUri, actionSupplier);
     }
 
     /**
@@ -62,19 +64,13 @@ public class AutomatedActionFactory {
     }
 
     private AutomatedAction getAction(String uri) {
-        Class<? extends AutomatedAction> action = actionMappings.get(uri);
+        Supplier<? extends AutomatedAction> actionSupplier = actionMappings.get(uri);
 
-        if (action == null) {
+        if (actionSupplier == null) {
             throw new PageNotFoundException("Page not found for " + uri);
         }
 
-        try {
-            return action.newInstance();
-        } catch (Exception e) {
-            Assumption.fail("Could not create the action for " + uri + ": "
-                    + TeammatesException.toStringWithStackTrace(e));
-            return null;
-        }
+        return actionSupplier.get();
     }
 
 }
@@ -10,6 +10,7 @@ import teammates.common.exception.TeammatesException;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.logic.api.AppContext;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -19,6 +20,11 @@ public class AutomatedServlet extends HttpServlet {
 
     private static final Logger log = Logger.getLogger();
 
+    @Override
+    public void init() {
+        AppContext.init();
+    }
+
     @Override
     public void doGet(HttpServletRequest req, HttpServletResponse resp) {
         doPost(req, resp);
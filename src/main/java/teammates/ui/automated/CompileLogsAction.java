@@ -1,21 +1,16 @@
 package teammates.ui.automated;
 
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
-
-import com.google.appengine.api.log.AppLogLine;
-import com.google.appengine.api.log.LogQuery;
-import com.google.appengine.api.log.LogService;
-import com.google.appengine.api.log.LogService.LogLevel;
-import com.google.appengine.api.log.LogServiceFactory;
-import com.google.appengine.api.log.RequestLogs;
 
+import teammates.common.datatransfer.SevereLogsCompilation;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailGenerator;
+import teammates.logic.api.SevereLogsCompiler;
 
 /**
  * Cron job: compiles application logs and sends severe logs compilation to the support email.
+ *
+ * @see SevereLogsCompiler
  */
 public class CompileLogsAction extends AutomatedAction {
 
@@ -31,46 +26,16 @@ public class CompileLogsAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        List<AppLogLine> errorLogs = getErrorLogs();
-        sendEmail(errorLogs);
-    }
-
-    private List<AppLogLine> getErrorLogs() {
-        LogService logService = LogServiceFactory.getLogService();
-
-        long endTime = new Date().getTime();
-        // Sets the range to 6 minutes to slightly overlap the 5 minute email timer
-        long queryRange = 1000 * 60 * 6;
-        long startTime = endTime - queryRange;
-
-        LogQuery q = LogQuery.Builder.withDefaults()
-                                     .includeAppLogs(true)
-                                     .startTimeMillis(startTime)
-                                     .endTimeMillis(endTime)
-                                     .minLogLevel(LogLevel.ERROR);
-
-        Iterable<RequestLogs> logs = logService.fetch(q);
-        List<AppLogLine> errorLogs = new ArrayList<>();
-
-        for (RequestLogs requestLogs : logs) {
-            List<AppLogLine> logList = requestLogs.getAppLogLines();
-
-            for (AppLogLine currentLog : logList) {
-                LogLevel logLevel = currentLog.getLogLevel();
-
-                if (LogLevel.FATAL == logLevel || LogLevel.ERROR == logLevel) {
-                    errorLogs.add(currentLog);
-                }
-            }
-        }
-
-        return errorLogs;
+        SevereLogsCompiler compiler = new SevereLogsCompiler();
+        SevereLogsCompilation compilation = compiler.compile(new Date().getTime());
+        sendEmail(compilation);
+        compiler.saveCheckpoint(compilation);
     }
 
-    private void sendEmail(List<AppLogLine> logs) {
+    private void sendEmail(SevereLogsCompilation compilation) {
         // Do not send any emails if there are no severe logs; prevents spamming
-        if (!logs.isEmpty()) {
-            EmailWrapper message = new EmailGenerator().generateCompiledLogsEmail(logs);
+        if (!compilation.isEmpty()) {
+            EmailWrapper message = new EmailGenerator().generateCompiledLogsEmail(compilation);
             emailSender.sendReport(message);
         }
     }
@@ -0,0 +1,57 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CascadeDeletionStage;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the data left behind by a course marked for deletion, in batches.
+ * If the deletion cannot be completed in time, it is continued from the current stage by a new task.
+ * The worker stops once the course is no longer marked for deletion.
+ */
+public class CourseDataDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+
+        String stageToResumeAsString = getRequestParamValue(ParamsNames.CASCADE_DELETION_STAGE);
+        CascadeDeletionStage stage = stageToResumeAsString == null
+                                   ? CascadeDeletionStage.first()
+                                   : CascadeDeletionStage.valueOf(stageToResumeAsString);
+
+        log.info("Resume deleting data of course " + courseId + " from stage: " + stage);
+
+        while (stage != null) {
+            if (!logic.isCourseBeingDeleted(courseId)) {
+                // the deletion was completed when a new course took over the ID
+                log.info("Deleting data of course " + courseId + " was completed elsewhere");
+                return;
+            }
+            stage = logic.deleteDataOfCourseInBatch(courseId, stage);
+
+            if (stage != null && isNearDeadline()) {
+                taskQueuer.scheduleCourseDataDeletion(courseId, stage);
+                log.info("Deleting data of course " + courseId + " has been paused at stage: " + stage);
+                return;
+            }
+        }
+
+        log.info("Deleting data of course " + courseId + " was complete");
+    }
+
+}
@@ -0,0 +1,58 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CascadeDeletionStage;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the responses, and the comments on them, left behind by a deleted
+ * feedback question, in batches, and updates the respondents of the feedback session accordingly.
+ * If the deletion cannot be completed in time, it is continued from the current stage by a new task.
+ */
+public class FeedbackQuestionDataDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String feedbackQuestionId = getRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+
+        String giverTypeAsString = getRequestParamValue(ParamsNames.FEEDBACK_QUESTION_GIVERTYPE);
+        Assumption.assertPostParamNotNull(ParamsNames.FEEDBACK_QUESTION_GIVERTYPE, giverTypeAsString);
+        FeedbackParticipantType giverType = FeedbackParticipantType.valueOf(giverTypeAsString);
+
+        String stageToResumeAsString = getRequestParamValue(ParamsNames.CASCADE_DELETION_STAGE);
+        CascadeDeletionStage stage = stageToResumeAsString == null
+                                   ? CascadeDeletionStage.first()
+                                   : CascadeDeletionStage.valueOf(stageToResumeAsString);
+
+        log.info("Resume deleting responses of question " + feedbackQuestionId + " from stage: " + stage);
+
+        while (stage != null) {
+            stage = logic.deleteResponsesOfDeletedFeedbackQuestionInBatch(feedbackQuestionId, giverType, stage);
+
+            if (stage != null && isNearDeadline()) {
+                taskQueuer.scheduleFeedbackQuestionDataDeletion(feedbackQuestionId, giverType, stage);
+                log.info("Deleting responses of question " + feedbackQuestionId
+                         + " has been paused at stage: " + stage);
+                return;
+            }
+        }
+
+        log.info("Deleting responses of question " + feedbackQuestionId + " was complete");
+    }
+
+}
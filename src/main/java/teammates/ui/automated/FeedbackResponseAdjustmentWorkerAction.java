@@ -6,7 +6,6 @@ import java.util.Map;
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -18,6 +17,8 @@ import teammates.common.util.Logger;
 /**
  * Task queue worker action: adjusts feedback responses in the database due to
  * change in student enrollment details of a course.
+ * <br> The students are processed in batches; if the task is about to time out,
+ * the rest of them are left to a new task.
  */
 public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
 
@@ -56,23 +57,32 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
             return;
         }
 
-        List<FeedbackResponseAttributes> allResponses =
-                logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
-                                                     feedbackSession.getCourseId());
         List<StudentEnrollDetails> enrollmentList =
                 JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
-            try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
-            } catch (Exception e) {
-                String url = HttpRequestHelper.getRequestedUrl(request);
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
-                // no logged-in user for worker
-                String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
-                log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
-                setForRetry();
-                return;
+
+        String offset = getRequestParamValue(ParamsNames.ENROLLMENT_DETAILS_OFFSET);
+        int fromIndex = offset == null ? 0 : Integer.parseInt(offset);
+
+        try {
+            while (fromIndex < enrollmentList.size()) {
+                fromIndex = logic.adjustFeedbackResponsesForEnrollmentsInBatch(
+                        courseId, sessionName, enrollmentList, fromIndex);
+
+                if (fromIndex < enrollmentList.size() && isNearDeadline()) {
+                    taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
+                            courseId, sessionName, enrollmentList, fromIndex);
+                    log.info("Adjusting submissions for feedback session " + sessionName + " in course " + courseId
+                             + " has been paused at enrollment " + fromIndex);
+                    return;
+                }
             }
+        } catch (Exception e) {
+            String url = HttpRequestHelper.getRequestedUrl(request);
+            Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
+            // no logged-in user for worker
+            String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
+            log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
+            setForRetry();
         }
     }
 
@@ -0,0 +1,63 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: updates, in batches, the responses left under the old email
+ * of a student whose email has changed, together with the comments on them.
+ * If the update cannot be completed in time, the rest is left to a new task.
+ */
+public class FeedbackResponsesEmailUpdateWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+        String oldEmail = getRequestParamValue(ParamsNames.STUDENT_EMAIL);
+        Assumption.assertPostParamNotNull(ParamsNames.STUDENT_EMAIL, oldEmail);
+        String newEmail = getRequestParamValue(ParamsNames.NEW_STUDENT_EMAIL);
+        Assumption.assertPostParamNotNull(ParamsNames.NEW_STUDENT_EMAIL, newEmail);
+
+        // the responses updated are no longer under the old email, so each batch resumes from where the last one ended
+        int numberOfResponsesUpdated = 0;
+        try {
+            int numberOfResponsesUpdatedInBatch;
+            do {
+                numberOfResponsesUpdatedInBatch =
+                        logic.updateFeedbackResponsesForChangingEmailInBatch(courseId, oldEmail, newEmail);
+                numberOfResponsesUpdated += numberOfResponsesUpdatedInBatch;
+
+                if (numberOfResponsesUpdatedInBatch > 0 && isNearDeadline()) {
+                    taskQueuer.scheduleFeedbackResponsesUpdateForChangingEmail(courseId, oldEmail, newEmail);
+                    log.info("Updating responses of " + oldEmail + " in course " + courseId
+                             + " has been paused after " + numberOfResponsesUpdated + " responses");
+                    return;
+                }
+            } while (numberOfResponsesUpdatedInBatch > 0);
+        } catch (InvalidParametersException e) {
+            log.severe("Failed to update responses of " + oldEmail + " to " + newEmail + " in course " + courseId
+                       + ": " + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+
+        log.info("Updating responses of " + oldEmail + " to " + newEmail + " in course " + courseId
+                 + " was complete after " + numberOfResponsesUpdated + " responses");
+    }
+
+}
@@ -1,5 +1,13 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -7,7 +15,10 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends a chunk of the emails in the email outbox.
+ *
+ * <p>The send status of each email is recorded in the outbox as soon as its batch is sent,
+ * so that a retried task only sends the emails that have not been sent yet.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
@@ -25,37 +36,55 @@ public class SendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        String emailSubject = getRequestParamValue(ParamsNames.EMAIL_SUBJECT);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SUBJECT, emailSubject);
+        String batchId = getRequestParamValue(ParamsNames.EMAIL_OUTBOX_BATCH_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_OUTBOX_BATCH_ID, batchId);
 
-        String emailContent = getRequestParamValue(ParamsNames.EMAIL_CONTENT);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_CONTENT, emailContent);
+        String chunkString = getRequestParamValue(ParamsNames.EMAIL_OUTBOX_CHUNK);
+        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_OUTBOX_CHUNK, chunkString);
+        int chunk = Integer.parseInt(chunkString);
 
-        String emailSenderEmail = getRequestParamValue(ParamsNames.EMAIL_SENDER);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_SENDER, emailSenderEmail);
+        EmailOutboxBatchAttributes batch = logic.getEmailOutboxBatch(batchId);
+        if (batch == null) {
+            log.severe("Email outbox batch " + batchId + " does not exist");
+            return;
+        }
 
-        String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
+        List<OutboxEmailAttributes> unsentEmails = logic.getUnsentOutboxEmails(batch, chunk);
+        if (unsentEmails.isEmpty()) {
+            // all emails have been sent by an earlier attempt of this task
+            return;
+        }
 
-        String emailReceiver = getRequestParamValue(ParamsNames.EMAIL_RECEIVER);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_RECEIVER, emailReceiver);
+        Map<EmailWrapper, OutboxEmailAttributes> outboxEmailsByEmail = new IdentityHashMap<>();
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (OutboxEmailAttributes outboxEmail : unsentEmails) {
+            EmailWrapper email = outboxEmail.toEmailWrapper(batch);
+            outboxEmailsByEmail.put(email, outboxEmail);
+            emails.add(email);
+        }
 
-        String emailReply = getRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReply);
+        boolean hasFailedEmails = false;
+        for (List<EmailWrapper> emailsToSend : emailSender.groupIntoBatches(emails)) {
+            boolean isSent = true;
+            try {
+                emailSender.sendEmails(emailsToSend);
+            } catch (EmailSendingException e) {
+                log.severe("Error while sending " + emailsToSend.size() + " emails of outbox batch " + batchId
+                           + " via servlet: " + TeammatesException.toStringWithStackTrace(e));
+                isSent = false;
+                hasFailedEmails = true;
+            }
 
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+            List<OutboxEmailAttributes> attemptedEmails = new ArrayList<>();
+            for (EmailWrapper email : emailsToSend) {
+                OutboxEmailAttributes outboxEmail = outboxEmailsByEmail.get(email);
+                outboxEmail.recordSendingAttempt(isSent);
+                attemptedEmails.add(outboxEmail);
+            }
+            logic.updateOutboxEmails(attemptedEmails);
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
-
-        try {
-            emailSender.sendEmail(message);
-        } catch (Exception e) {
-            log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
+
+        if (hasFailedEmails) {
             setForRetry();
         }
     }
@@ -0,0 +1,80 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.SanitizationHelper;
+import teammates.common.util.Templates;
+import teammates.ui.controller.ActionFactory;
+import teammates.ui.controller.ControllerServlet;
+
+/**
+ * Handles the warmup requests sent by GAE to new instances before they receive user requests.
+ *
+ * <p>Does the work that would otherwise be done by the first user request served by the instance:
+ * initialising the {@link ControllerServlet} setup (time zone, API call profiling and shared services),
+ * loading the constants, reading the templates, building the JSON type adapters,
+ * building the HTML sanitization policy and loading the actions.
+ * Objectify entities are registered before this, when the application starts.
+ */
+@SuppressWarnings("serial")
+public class WarmupServlet extends HttpServlet {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        long startTime = System.currentTimeMillis();
+        List<String> stepTimings = new ArrayList<>();
+
+        runStep("controller", stepTimings, ControllerServlet::initialise);
+        runStep("constants", stepTimings, () -> initialiseWithNestedClasses(Const.class));
+        runStep("templates", stepTimings, () -> initialiseWithNestedClasses(Templates.class));
+        runStep("json", stepTimings, () -> JsonUtils.fromJson(Templates.INSTRUCTOR_SAMPLE_DATA, DataBundle.class));
+        runStep("sanitization", stepTimings, () -> SanitizationHelper.sanitizeForRichText("<p>warmup</p>"));
+        runStep("actions", stepTimings, () -> {
+            initialiseWithNestedClasses(ActionFactory.class);
+            initialiseWithNestedClasses(AutomatedActionFactory.class);
+        });
+
+        log.info("Warmup completed in " + (System.currentTimeMillis() - startTime) + "ms " + stepTimings);
+    }
+
+    /**
+     * Runs a warmup step and records how long it took. A failed step is logged and does not stop the warmup.
+     */
+    private static void runStep(String stepName, List<String> stepTimings, Runnable step) {
+        long startTime = System.currentTimeMillis();
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            log.warning("Warmup step " + stepName + " failed: " + TeammatesException.toStringWithStackTrace(e));
+        }
+        stepTimings.add(stepName + "=" + (System.currentTimeMillis() - startTime) + "ms");
+    }
+
+    /**
+     * Initialises {@code clazz} and all its nested classes, i.e. runs their static initialisers.
+     */
+    private static void initialiseWithNestedClasses(Class<?> clazz) {
+        try {
+            Class.forName(clazz.getName(), true, clazz.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // cannot happen as the class is already loaded
+            throw new IllegalStateException(e);
+        }
+        for (Class<?> nestedClass : clazz.getDeclaredClasses()) {
+            initialiseWithNestedClasses(nestedClass);
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Url;
+import teammates.logic.api.AppContext;
 import teammates.logic.api.EmailSender;
 import teammates.logic.api.GateKeeper;
 import teammates.logic.api.Logic;
@@ -102,10 +103,10 @@ public abstract class Action {
     protected void initialiseAttributes(HttpServletRequest req) {
         request = req;
         requestUrl = HttpRequestHelper.getRequestedUrl(request);
-        logic = new Logic();
-        gateKeeper = new GateKeeper();
-        setTaskQueuer(new TaskQueuer());
-        setEmailSender(new EmailSender());
+        logic = AppContext.getLogic();
+        gateKeeper = AppContext.getGateKeeper();
+        setTaskQueuer(AppContext.getTaskQueuer());
+        setEmailSender(AppContext.getEmailSender());
         requestParameters = request.getParameterMap();
         session = request.getSession();
         sessionToken = CryptoHelper.computeSessionToken(session.getId());
@@ -662,6 +663,13 @@ public abstract class Action {
                                statusToUser);
     }
 
+    protected ActionResult createSignedImageResult(String blobKey) {
+        return new SignedImageResult("imagedisplay",
+                                     blobKey,
+                                     account,
+                                     statusToUser);
+    }
+
     /**
      * Status messages to be shown to the user and the admin will be set based
      * on the error message in the exception {@code e}.<br>
@@ -6,12 +6,11 @@ import static teammates.common.util.Const.ActionURIs.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
 import teammates.common.exception.PageNotFoundException;
-import teammates.common.exception.TeammatesException;
-import teammates.common.util.Assumption;
 import teammates.common.util.Logger;
 
 /**
@@ -20,114 +19,116 @@ import teammates.common.util.Logger;
 public class ActionFactory {
     private static final Logger log = Logger.getLogger();
 
-    private static Map<String, Class<? extends Action>> actionMappings = new HashMap<>();
+    private static Map<String, Supplier<? extends Action>> actionMappings = new HashMap<>();
 
     static {
-        map(ADMIN_HOME_PAGE, AdminHomePageAction.class);
-        map(ADMIN_ACCOUNT_DELETE, AdminAccountDeleteAction.class);
-        map(ADMIN_ACTIVITY_LOG_PAGE, AdminActivityLogPageAction.class);
-        map(ADMIN_ACCOUNT_DETAILS_PAGE, AdminAccountDetailsPageAction.class);
-        map(ADMIN_ACCOUNT_MANAGEMENT_PAGE, AdminAccountManagementPageAction.class);
-        map(ADMIN_EXCEPTION_TEST, AdminExceptionTestAction.class);
-        map(ADMIN_INSTRUCTORACCOUNT_ADD, AdminInstructorAccountAddAction.class);
-        map(ADMIN_SESSIONS_PAGE, AdminSessionsPageAction.class);
-        map(ADMIN_SEARCH_PAGE, AdminSearchPageAction.class);
-        map(ADMIN_STUDENT_GOOGLE_ID_RESET, AdminStudentGoogleIdResetAction.class);
-        map(ADMIN_EMAIL_COMPOSE_PAGE, AdminEmailComposePageAction.class);
-        map(ADMIN_EMAIL_COMPOSE_SAVE, AdminEmailComposeSaveAction.class);
-        map(ADMIN_EMAIL_COMPOSE_SEND, AdminEmailComposeSendAction.class);
-        map(ADMIN_EMAIL_IMAGE_UPLOAD, AdminEmailImageUploadAction.class);
-        map(ADMIN_EMAIL_GROUP_RECEIVER_LIST_UPLOAD, AdminEmailGroupReceiverListUploadAction.class);
-        map(ADMIN_EMAIL_CREATE_IMAGE_UPLOAD_URL, AdminEmailCreateImageUploadUrlAction.class);
-        map(ADMIN_EMAIL_CREATE_GROUP_RECEIVER_LIST_UPLOAD_URL, AdminEmailCreateGroupReceiverListUploadUrlAction.class);
-        map(ADMIN_EMAIL_SENT_PAGE, AdminEmailSentPageAction.class);
-        map(ADMIN_EMAIL_TRASH_PAGE, AdminEmailTrashPageAction.class);
-        map(ADMIN_EMAIL_TRASH_DELETE, AdminEmailTrashDeleteAction.class);
-        map(ADMIN_EMAIL_DRAFT_PAGE, AdminEmailDraftPageAction.class);
-        map(ADMIN_EMAIL_MOVE_TO_TRASH, AdminEmailTrashAction.class);
-        map(ADMIN_EMAIL_MOVE_OUT_TRASH, AdminEmailTrashAction.class);
-        map(ADMIN_EMAIL_LOG_PAGE, AdminEmailLogPageAction.class);
-
-        map(INSTRUCTOR_COURSES_PAGE, InstructorCoursesPageAction.class);
-        map(INSTRUCTOR_COURSE_STATS_PAGE, CourseStatsPageAction.class);
-        map(INSTRUCTOR_COURSE_ADD, InstructorCourseAddAction.class);
-        map(INSTRUCTOR_COURSE_DELETE, InstructorCourseDeleteAction.class);
-        map(INSTRUCTOR_COURSE_ARCHIVE, InstructorCourseArchiveAction.class);
-        map(INSTRUCTOR_COURSE_DETAILS_PAGE, InstructorCourseDetailsPageAction.class);
-        map(INSTRUCTOR_COURSE_JOIN, InstructorCourseJoinAction.class);
-        map(INSTRUCTOR_COURSE_JOIN_AUTHENTICATED, InstructorCourseJoinAuthenticatedAction.class);
-        map(INSTRUCTOR_COURSE_REMIND, InstructorCourseRemindAction.class);
-        map(INSTRUCTOR_COURSE_EDIT_PAGE, InstructorCourseEditPageAction.class);
-        map(INSTRUCTOR_COURSE_EDIT_SAVE, InstructorCourseEditSaveAction.class);
-        map(INSTRUCTOR_COURSE_INSTRUCTOR_ADD, InstructorCourseInstructorAddAction.class);
-        map(INSTRUCTOR_COURSE_INSTRUCTOR_EDIT_SAVE, InstructorCourseInstructorEditSaveAction.class);
-        map(INSTRUCTOR_COURSE_INSTRUCTOR_DELETE, InstructorCourseInstructorDeleteAction.class);
-        map(INSTRUCTOR_COURSE_ENROLL_PAGE, InstructorCourseEnrollPageAction.class);
-        map(INSTRUCTOR_COURSE_ENROLL_SAVE, InstructorCourseEnrollSaveAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_DELETE, InstructorCourseStudentDeleteAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_DELETE_ALL, InstructorCourseStudentDeleteAllAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_LIST_DOWNLOAD, InstructorCourseStudentListDownloadAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_PAGE, InstructorCourseStudentDetailsPageAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_EDIT, InstructorCourseStudentDetailsEditPageAction.class);
-        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_EDIT_SAVE, InstructorCourseStudentDetailsEditSaveAction.class);
-        map(INSTRUCTOR_EDIT_STUDENT_FEEDBACK_PAGE, InstructorEditStudentFeedbackPageAction.class);
-        map(INSTRUCTOR_EDIT_STUDENT_FEEDBACK_SAVE, InstructorEditStudentFeedbackSaveAction.class);
-        map(INSTRUCTOR_EDIT_INSTRUCTOR_FEEDBACK_PAGE, InstructorEditInstructorFeedbackPageAction.class);
-        map(INSTRUCTOR_EDIT_INSTRUCTOR_FEEDBACK_SAVE, InstructorEditInstructorFeedbackSaveAction.class);
-        map(INSTRUCTOR_FEEDBACK_SESSIONS_PAGE, InstructorFeedbackSessionsPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_ADD, InstructorFeedbackAddAction.class);
-        map(INSTRUCTOR_FEEDBACK_COPY, InstructorFeedbackCopyAction.class);
-        map(INSTRUCTOR_FEEDBACK_DELETE, InstructorFeedbackDeleteAction.class);
-        map(INSTRUCTOR_FEEDBACK_EDIT_COPY_PAGE, InstructorFeedbackEditCopyPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_EDIT_COPY, InstructorFeedbackEditCopyAction.class);
-        map(INSTRUCTOR_FEEDBACK_EDIT_PAGE, InstructorFeedbackEditPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_EDIT_SAVE, InstructorFeedbackEditSaveAction.class);
-        map(INSTRUCTOR_FEEDBACK_REMIND, InstructorFeedbackRemindAction.class);
-        map(INSTRUCTOR_FEEDBACK_REMIND_PARTICULAR_STUDENTS_PAGE, InstructorFeedbackRemindParticularStudentsPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_REMIND_PARTICULAR_STUDENTS, InstructorFeedbackRemindParticularStudentsAction.class);
-        map(INSTRUCTOR_FEEDBACK_PUBLISH, InstructorFeedbackPublishAction.class);
-        map(INSTRUCTOR_FEEDBACK_UNPUBLISH, InstructorFeedbackUnpublishAction.class);
-        map(INSTRUCTOR_FEEDBACK_QUESTION_ADD, InstructorFeedbackQuestionAddAction.class);
-        map(INSTRUCTOR_FEEDBACK_QUESTION_COPY_PAGE, InstructorFeedbackQuestionCopyPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_QUESTION_COPY, InstructorFeedbackQuestionCopyAction.class);
-        map(INSTRUCTOR_FEEDBACK_QUESTION_EDIT, InstructorFeedbackQuestionEditAction.class);
-        map(INSTRUCTOR_FEEDBACK_QUESTION_VISIBILITY_MESSAGE, InstructorFeedbackQuestionVisibilityMessageAction.class);
-        map(INSTRUCTOR_FEEDBACK_RESULTS_PAGE, InstructorFeedbackResultsPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_RESULTS_DOWNLOAD, InstructorFeedbackResultsDownloadAction.class);
-        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_ADD, InstructorFeedbackResponseCommentAddAction.class);
-        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_EDIT, InstructorFeedbackResponseCommentEditAction.class);
-        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_DELETE, InstructorFeedbackResponseCommentDeleteAction.class);
-        map(INSTRUCTOR_FEEDBACK_PREVIEW_ASSTUDENT, InstructorFeedbackPreviewAsStudentAction.class);
-        map(INSTRUCTOR_FEEDBACK_PREVIEW_ASINSTRUCTOR, InstructorFeedbackPreviewAsInstructorAction.class);
-        map(INSTRUCTOR_FEEDBACK_STATS_PAGE, FeedbackSessionStatsPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE, InstructorFeedbackSubmissionEditPageAction.class);
-        map(INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_SAVE, InstructorFeedbackSubmissionEditSaveAction.class);
-        map(INSTRUCTOR_HOME_PAGE, InstructorHomePageAction.class);
-        map(INSTRUCTOR_SEARCH_PAGE, InstructorSearchPageAction.class);
-        map(INSTRUCTOR_STUDENT_LIST_PAGE, InstructorStudentListPageAction.class);
-        map(INSTRUCTOR_STUDENT_LIST_AJAX_PAGE, InstructorStudentListAjaxPageAction.class);
-        map(INSTRUCTOR_STUDENT_RECORDS_PAGE, InstructorStudentRecordsPageAction.class);
-        map(INSTRUCTOR_STUDENT_RECORDS_AJAX_PAGE, InstructorStudentRecordsAjaxPageAction.class);
-
-        map(STUDENT_COURSE_DETAILS_PAGE, StudentCourseDetailsPageAction.class);
-        map(STUDENT_COURSE_JOIN, StudentCourseJoinAction.class);
-        map(STUDENT_COURSE_JOIN_NEW, StudentCourseJoinAction.class);
-        map(STUDENT_COURSE_JOIN_AUTHENTICATED, StudentCourseJoinAuthenticatedAction.class);
-        map(STUDENT_FEEDBACK_RESULTS_PAGE, StudentFeedbackResultsPageAction.class);
-        map(STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE, StudentFeedbackSubmissionEditPageAction.class);
-        map(STUDENT_FEEDBACK_SUBMISSION_EDIT_SAVE, StudentFeedbackSubmissionEditSaveAction.class);
-        map(STUDENT_PROFILE_PAGE, StudentProfilePageAction.class);
-        map(STUDENT_PROFILE_PICTURE, StudentProfilePictureAction.class);
-        map(STUDENT_PROFILE_PICTURE_UPLOAD, StudentProfilePictureUploadAction.class);
-        map(STUDENT_PROFILE_PICTURE_EDIT, StudentProfilePictureEditAction.class);
-        map(STUDENT_PROFILE_CREATEUPLOADFORMURL, StudentProfileCreateFormUrlAction.class);
-        map(STUDENT_PROFILE_EDIT_SAVE, StudentProfileEditSaveAction.class);
-        map(STUDENT_HOME_PAGE, StudentHomePageAction.class);
-
-        map(CREATE_IMAGE_UPLOAD_URL, CreateImageUploadUrlAction.class);
-        map(IMAGE_UPLOAD, ImageUploadAction.class);
-
-        map(ERROR_FEEDBACK_SUBMIT, ErrorUserReportLogAction.class);
+        map(ADMIN_HOME_PAGE, AdminHomePageAction::new);
+        map(ADMIN_ACCOUNT_DELETE, AdminAccountDeleteAction::new);
+        map(ADMIN_ACTIVITY_LOG_PAGE, AdminActivityLogPageAction::new);
+        map(ADMIN_ACCOUNT_DETAILS_PAGE, AdminAccountDetailsPageAction::new);
+        map(ADMIN_ACCOUNT_MANAGEMENT_PAGE, AdminAccountManagementPageAction::new);
+        map(ADMIN_EXCEPTION_TEST, AdminExceptionTestAction::new);
+        map(ADMIN_INSTRUCTORACCOUNT_ADD, AdminInstructorAccountAddAction::new);
+        map(ADMIN_SESSIONS_PAGE, AdminSessionsPageAction::new);
+        map(ADMIN_PERFORMANCE_PAGE, AdminPerformancePageAction::new);
+        map(ADMIN_EMAIL_OUTBOX_PAGE, AdminEmailOutboxPageAction::new);
+        map(ADMIN_SEARCH_PAGE, AdminSearchPageAction::new);
+        map(ADMIN_STUDENT_GOOGLE_ID_RESET, AdminStudentGoogleIdResetAction::new);
+        map(ADMIN_EMAIL_COMPOSE_PAGE, AdminEmailComposePageAction::new);
+        map(ADMIN_EMAIL_COMPOSE_SAVE, AdminEmailComposeSaveAction::new);
+        map(ADMIN_EMAIL_COMPOSE_SEND, AdminEmailComposeSendAction::new);
+        map(ADMIN_EMAIL_IMAGE_UPLOAD, AdminEmailImageUploadAction::new);
+        map(ADMIN_EMAIL_GROUP_RECEIVER_LIST_UPLOAD, AdminEmailGroupReceiverListUploadAction::new);
+        map(ADMIN_EMAIL_CREATE_IMAGE_UPLOAD_URL, AdminEmailCreateImageUploadUrlAction::new);
+        map(ADMIN_EMAIL_CREATE_GROUP_RECEIVER_LIST_UPLOAD_URL, AdminEmailCreateGroupReceiverListUploadUrlAction::new);
+        map(ADMIN_EMAIL_SENT_PAGE, AdminEmailSentPageAction::new);
+        map(ADMIN_EMAIL_TRASH_PAGE, AdminEmailTrashPageAction::new);
+        map(ADMIN_EMAIL_TRASH_DELETE, AdminEmailTrashDeleteAction::new);
+        map(ADMIN_EMAIL_DRAFT_PAGE, AdminEmailDraftPageAction::new);
+        map(ADMIN_EMAIL_MOVE_TO_TRASH, AdminEmailTrashAction::new);
+        map(ADMIN_EMAIL_MOVE_OUT_TRASH, AdminEmailTrashAction::new);
+        map(ADMIN_EMAIL_LOG_PAGE, AdminEmailLogPageAction::new);
+
+        map(INSTRUCTOR_COURSES_PAGE, InstructorCoursesPageAction::new);
+        map(INSTRUCTOR_COURSE_STATS_PAGE, CourseStatsPageAction::new);
+        map(INSTRUCTOR_COURSE_ADD, InstructorCourseAddAction::new);
+        map(INSTRUCTOR_COURSE_DELETE, InstructorCourseDeleteAction::new);
+        map(INSTRUCTOR_COURSE_ARCHIVE, InstructorCourseArchiveAction::new);
+        map(INSTRUCTOR_COURSE_DETAILS_PAGE, InstructorCourseDetailsPageAction::new);
+        map(INSTRUCTOR_COURSE_JOIN, InstructorCourseJoinAction::new);
+        map(INSTRUCTOR_COURSE_JOIN_AUTHENTICATED, InstructorCourseJoinAuthenticatedAction::new);
+        map(INSTRUCTOR_COURSE_REMIND, InstructorCourseRemindAction::new);
+        map(INSTRUCTOR_COURSE_EDIT_PAGE, InstructorCourseEditPageAction::new);
+        map(INSTRUCTOR_COURSE_EDIT_SAVE, InstructorCourseEditSaveAction::new);
+        map(INSTRUCTOR_COURSE_INSTRUCTOR_ADD, InstructorCourseInstructorAddAction::new);
+        map(INSTRUCTOR_COURSE_INSTRUCTOR_EDIT_SAVE, InstructorCourseInstructorEditSaveAction::new);
+        map(INSTRUCTOR_COURSE_INSTRUCTOR_DELETE, InstructorCourseInstructorDeleteAction::new);
+        map(INSTRUCTOR_COURSE_ENROLL_PAGE, InstructorCourseEnrollPageAction::new);
+        map(INSTRUCTOR_COURSE_ENROLL_SAVE, InstructorCourseEnrollSaveAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_DELETE, InstructorCourseStudentDeleteAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_DELETE_ALL, InstructorCourseStudentDeleteAllAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_LIST_DOWNLOAD, InstructorCourseStudentListDownloadAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_PAGE, InstructorCourseStudentDetailsPageAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_EDIT, InstructorCourseStudentDetailsEditPageAction::new);
+        map(INSTRUCTOR_COURSE_STUDENT_DETAILS_EDIT_SAVE, InstructorCourseStudentDetailsEditSaveAction::new);
+        map(INSTRUCTOR_EDIT_STUDENT_FEEDBACK_PAGE, InstructorEditStudentFeedbackPageAction::new);
+        map(INSTRUCTOR_EDIT_STUDENT_FEEDBACK_SAVE, InstructorEditStudentFeedbackSaveAction::new);
+        map(INSTRUCTOR_EDIT_INSTRUCTOR_FEEDBACK_PAGE, InstructorEditInstructorFeedbackPageAction::new);
+        map(INSTRUCTOR_EDIT_INSTRUCTOR_FEEDBACK_SAVE, InstructorEditInstructorFeedbackSaveAction::new);
+        map(INSTRUCTOR_FEEDBACK_SESSIONS_PAGE, InstructorFeedbackSessionsPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_ADD, InstructorFeedbackAddAction::new);
+        map(INSTRUCTOR_FEEDBACK_COPY, InstructorFeedbackCopyAction::new);
+        map(INSTRUCTOR_FEEDBACK_DELETE, InstructorFeedbackDeleteAction::new);
+        map(INSTRUCTOR_FEEDBACK_EDIT_COPY_PAGE, InstructorFeedbackEditCopyPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_EDIT_COPY, InstructorFeedbackEditCopyAction::new);
+        map(INSTRUCTOR_FEEDBACK_EDIT_PAGE, InstructorFeedbackEditPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_EDIT_SAVE, InstructorFeedbackEditSaveAction::new);
+        map(INSTRUCTOR_FEEDBACK_REMIND, InstructorFeedbackRemindAction::new);
+        map(INSTRUCTOR_FEEDBACK_REMIND_PARTICULAR_STUDENTS_PAGE, InstructorFeedbackRemindParticularStudentsPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_REMIND_PARTICULAR_STUDENTS, InstructorFeedbackRemindParticularStudentsAction::new);
+        map(INSTRUCTOR_FEEDBACK_PUBLISH, InstructorFeedbackPublishAction::new);
+        map(INSTRUCTOR_FEEDBACK_UNPUBLISH, InstructorFeedbackUnpublishAction::new);
+        map(INSTRUCTOR_FEEDBACK_QUESTION_ADD, InstructorFeedbackQuestionAddAction::new);
+        map(INSTRUCTOR_FEEDBACK_QUESTION_COPY_PAGE, InstructorFeedbackQuestionCopyPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_QUESTION_COPY, InstructorFeedbackQuestionCopyAction::new);
+        map(INSTRUCTOR_FEEDBACK_QUESTION_EDIT, InstructorFeedbackQuestionEditAction::new);
+        map(INSTRUCTOR_FEEDBACK_QUESTION_VISIBILITY_MESSAGE, InstructorFeedbackQuestionVisibilityMessageAction::new);
+        map(INSTRUCTOR_FEEDBACK_RESULTS_PAGE, InstructorFeedbackResultsPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_RESULTS_DOWNLOAD, InstructorFeedbackResultsDownloadAction::new);
+        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_ADD, InstructorFeedbackResponseCommentAddAction::new);
+        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_EDIT, InstructorFeedbackResponseCommentEditAction::new);
+        map(INSTRUCTOR_FEEDBACK_RESPONSE_COMMENT_DELETE, InstructorFeedbackResponseCommentDeleteAction::new);
+        map(INSTRUCTOR_FEEDBACK_PREVIEW_ASSTUDENT, InstructorFeedbackPreviewAsStudentAction::new);
+        map(INSTRUCTOR_FEEDBACK_PREVIEW_ASINSTRUCTOR, InstructorFeedbackPreviewAsInstructorAction::new);
+        map(INSTRUCTOR_FEEDBACK_STATS_PAGE, FeedbackSessionStatsPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE, InstructorFeedbackSubmissionEditPageAction::new);
+        map(INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_SAVE, InstructorFeedbackSubmissionEditSaveAction::new);
+        map(INSTRUCTOR_HOME_PAGE, InstructorHomePageAction::new);
+        map(INSTRUCTOR_SEARCH_PAGE, InstructorSearchPageAction::new);
+        map(INSTRUCTOR_STUDENT_LIST_PAGE, InstructorStudentListPageAction::new);
+        map(INSTRUCTOR_STUDENT_LIST_AJAX_PAGE, InstructorStudentListAjaxPageAction::new);
+        map(INSTRUCTOR_STUDENT_RECORDS_PAGE, InstructorStudentRecordsPageAction::new);
+        map(INSTRUCTOR_STUDENT_RECORDS_AJAX_PAGE, InstructorStudentRecordsAjaxPageAction::new);
+
+        map(STUDENT_COURSE_DETAILS_PAGE, StudentCourseDetailsPageAction::new);
+        map(STUDENT_COURSE_JOIN, StudentCourseJoinAction::new);
+        map(STUDENT_COURSE_JOIN_NEW, StudentCourseJoinAction::new);
+        map(STUDENT_COURSE_JOIN_AUTHENTICATED, StudentCourseJoinAuthenticatedAction::new);
+        map(STUDENT_FEEDBACK_RESULTS_PAGE, StudentFeedbackResultsPageAction::new);
+        map(STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE, StudentFeedbackSubmissionEditPageAction::new);
+        map(STUDENT_FEEDBACK_SUBMISSION_EDIT_SAVE, StudentFeedbackSubmissionEditSaveAction::new);
+        map(STUDENT_PROFILE_PAGE, StudentProfilePageAction::new);
+        map(STUDENT_PROFILE_PICTURE, StudentProfilePictureAction::new);
+        map(STUDENT_PROFILE_PICTURE_UPLOAD, StudentProfilePictureUploadAction::new);
+        map(STUDENT_PROFILE_PICTURE_EDIT, StudentProfilePictureEditAction::new);
+        map(STUDENT_PROFILE_CREATEUPLOADFORMURL, StudentProfileCreateFormUrlAction::new);
+        map(STUDENT_PROFILE_EDIT_SAVE, StudentProfileEditSaveAction::new);
+        map(STUDENT_HOME_PAGE, StudentHomePageAction::new);
+
+        map(CREATE_IMAGE_UPLOAD_URL, CreateImageUploadUrlAction::new);
+        map(IMAGE_UPLOAD, ImageUploadAction::new);
+
+        map(ERROR_FEEDBACK_SUBMIT, ErrorUserReportLogAction::new);
     }
 
     /**
@@ -149,25 +150,17 @@ public class ActionFactory {
     }
 
     private static Action getAction(String uri) {
-        Class<? extends Action> controllerClass = actionMappings.get(uri);
+        Supplier<? extends Action> actionSupplier = actionMappings.get(uri);
 
-        if (controllerClass == null) {
+        if (actionSupplier == null) {
             throw new PageNotFoundException(uri);
         }
 
-        try {
-            return controllerClass.newInstance();
-        } catch (Exception e) {
-            Assumption.fail("Could not create the action for " + uri + ": "
-                            + TeammatesException.toStringWithStackTrace(e));
-            return null;
-
-        }
-
+        return actionSupplier.get();
     }
 
-    private static void map(String actionUri, Class<? extends Action> actionClass) {
-        actionMappings.put(actionUri, actionClass);
+    private static void map(String actionUri, Supplier<? extends Action> actionSupplier) {
+        actionMappings.put(actionUri, actionSupplier);
     }
 
 }
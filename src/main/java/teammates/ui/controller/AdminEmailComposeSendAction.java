@@ -50,7 +50,7 @@ public class AdminEmailComposeSendAction extends Action {
         if (isGroupModeOn) {
             try {
                 groupReceiver.add(groupReceiverListFileKey);
-                GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
+                GoogleCloudStorageHelper.getGroupReceiverListReader(new BlobKey(groupReceiverListFileKey), 0).next();
             } catch (Exception e) {
                 isError = true;
                 setStatusForException(e, "An error occurred when retrieving receiver list, please try again");
@@ -119,7 +119,7 @@ public class AdminEmailComposeSendAction extends Action {
         if (!isGroupModeOn) {
             return;
         }
-        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0, 0);
+        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0);
 
         statusToAdmin += "<br/>" + "Group receiver's list " + groupReceiverListFileKey;
         statusToUser.add(new StatusMessage("Email will be sent within an hour to uploaded group receiver's list.",
@@ -1,6 +1,5 @@
 package teammates.ui.controller;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -11,6 +10,7 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 import teammates.ui.pagedata.AdminEmailComposePageData;
 
@@ -38,19 +38,17 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
         }
 
         try {
-            List<List<String>> groupReceiverList =
-                    GoogleCloudStorageHelper.getGroupReceiverList(blobInfo.getBlobKey());
+            GroupReceiverListReader groupReceiverListReader =
+                    GoogleCloudStorageHelper.getGroupReceiverListReader(blobInfo.getBlobKey(), 0);
 
             // log all email addresses retrieved from the txt file
             int i = 0;
 
-            for (List<String> list : groupReceiverList) {
-                for (String str : list) {
-                    log.info(str + " - " + i + " \n");
-                    i++;
-                }
+            for (String str = groupReceiverListReader.next(); str != null; str = groupReceiverListReader.next()) {
+                log.info(str + " - " + i + " \n");
+                i++;
             }
-        } catch (IOException e) {
+        } catch (BlobstoreFailureException | IllegalArgumentException e) {
             data.isFileUploaded = false;
             data.fileSrcUrl = null;
 
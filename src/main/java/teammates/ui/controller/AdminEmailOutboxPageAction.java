@@ -0,0 +1,36 @@
+package teammates.ui.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.util.Const;
+import teammates.ui.pagedata.AdminEmailOutboxPageData;
+import teammates.ui.template.AdminEmailOutboxTableRow;
+
+/**
+ * Shows the number of pending, sent and failed emails of the latest batches in the email outbox.
+ */
+public class AdminEmailOutboxPageAction extends Action {
+
+    /** Maximum number of batches shown, from the most recent. */
+    private static final int NUMBER_OF_BATCHES_SHOWN = 50;
+
+    @Override
+    protected ActionResult execute() {
+
+        gateKeeper.verifyAdminPrivileges(account);
+
+        List<AdminEmailOutboxTableRow> outboxTableRows = new ArrayList<>();
+        for (EmailOutboxBatchAttributes batch : logic.getRecentEmailOutboxBatches(NUMBER_OF_BATCHES_SHOWN)) {
+            outboxTableRows.add(new AdminEmailOutboxTableRow(batch, logic.getOutboxEmailCounts(batch.getBatchId())));
+        }
+
+        AdminEmailOutboxPageData data = new AdminEmailOutboxPageData(account, sessionToken, outboxTableRows);
+
+        statusToAdmin = "Admin Email Outbox Page Load";
+
+        return createShowPageResult(Const.ViewURIs.ADMIN_EMAIL_OUTBOX, data);
+    }
+
+}
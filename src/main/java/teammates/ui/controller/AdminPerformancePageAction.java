@@ -0,0 +1,26 @@
+package teammates.ui.controller;
+
+import teammates.common.util.Const;
+import teammates.common.util.RequestMetricsAggregator;
+import teammates.ui.pagedata.AdminPerformancePageData;
+
+/**
+ * Shows the percentiles of the time taken and of the number of API calls made by each action,
+ * over the latest requests served by the current instance.
+ */
+public class AdminPerformancePageAction extends Action {
+
+    @Override
+    protected ActionResult execute() {
+
+        gateKeeper.verifyAdminPrivileges(account);
+
+        AdminPerformancePageData data =
+                new AdminPerformancePageData(account, sessionToken, RequestMetricsAggregator.getActionStats());
+
+        statusToAdmin = "Admin Performance Page Load";
+
+        return createShowPageResult(Const.ViewURIs.ADMIN_PERFORMANCE, data);
+    }
+
+}
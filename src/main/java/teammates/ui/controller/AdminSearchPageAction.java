@@ -50,18 +50,32 @@ public class AdminSearchPageAction extends Action {
 
         data.searchKey = SanitizationHelper.sanitizeForHtml(searchKey);
 
-        data.studentResultBundle = logic.searchStudentsInWholeSystem(searchKey);
+        // a "show more" link continues the search for only the type of users it is for
+        String studentsCursor = getRequestParamValue(Const.ParamsNames.ADMIN_SEARCH_STUDENTS_CURSOR);
+        String instructorsCursor = getRequestParamValue(Const.ParamsNames.ADMIN_SEARCH_INSTRUCTORS_CURSOR);
+        boolean isShowingMore = studentsCursor != null || instructorsCursor != null;
+
+        if (!isShowingMore || studentsCursor != null) {
+            data.studentResultBundle = logic.searchStudentsInWholeSystem(searchKey, studentsCursor);
+        }
 
         data = putFeedbackSessionLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentHomePageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentRecordsPageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentInstituteIntoMap(data.studentResultBundle.studentList, data);
 
-        data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey);
+        if (!isShowingMore || instructorsCursor != null) {
+            data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey, instructorsCursor);
+        }
         data = putInstructorInstituteIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorHomePageLinkIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorCourseJoinLinkIntoMap(data.instructorResultBundle.instructorList, data);
 
+        data.studentsNextPageLink = getNextPageLink(searchKey, Const.ParamsNames.ADMIN_SEARCH_STUDENTS_CURSOR,
+                                                    data.studentResultBundle.cursor);
+        data.instructorsNextPageLink = getNextPageLink(searchKey, Const.ParamsNames.ADMIN_SEARCH_INSTRUCTORS_CURSOR,
+                                                       data.instructorResultBundle.cursor);
+
         data = putCourseNameIntoMap(data.studentResultBundle.studentList,
                                     data.instructorResultBundle.instructorList,
                                     data);
@@ -73,6 +87,10 @@ public class AdminSearchPageAction extends Action {
             statusToUser.add(new StatusMessage("Total results found: " + numOfResults, StatusMessageColor.INFO));
             statusToAdmin = "Search Key: " + data.searchKey + "<br>" + "Total results found: " + numOfResults;
             isError = false;
+            if (data.studentResultBundle.cursor != null || data.instructorResultBundle.cursor != null) {
+                statusToUser.add(new StatusMessage(Const.StatusMessages.ADMIN_SEARCH_RESULTS_TRUNCATED,
+                                                   StatusMessageColor.WARNING));
+            }
         } else {
             statusToUser.add(new StatusMessage("No result found, please try again", StatusMessageColor.WARNING));
             statusToAdmin = "Search Key: " + data.searchKey + "<br>" + "No result found";
@@ -83,6 +101,17 @@ public class AdminSearchPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.ADMIN_SEARCH, data);
     }
 
+    /**
+     * Returns the link to the matching users after {@code cursor}, or null if there are none.
+     */
+    private String getNextPageLink(String searchKey, String cursorParamName, String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String link = Url.addParamToUrl(Const.ActionURIs.ADMIN_SEARCH_PAGE, Const.ParamsNames.ADMIN_SEARCH_KEY, searchKey);
+        return Url.addParamToUrl(link, cursorParamName, cursor);
+    }
+
     private AdminSearchPageData putCourseNameIntoMap(List<StudentAttributes> students,
                                                      List<InstructorAttributes> instructors,
                                                      AdminSearchPageData data) {
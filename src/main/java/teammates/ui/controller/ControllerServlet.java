@@ -21,15 +21,19 @@ import teammates.common.exception.NullPostParameterException;
 import teammates.common.exception.PageNotFoundException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.common.util.ProfilingApiProxyDelegate;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetricsAggregator;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
-import teammates.logic.api.GateKeeper;
+import teammates.logic.api.AppContext;
 
 /**
  * Receives requests from the Browser, executes the matching action and sends
@@ -39,11 +43,28 @@ import teammates.logic.api.GateKeeper;
 @SuppressWarnings("serial")
 public class ControllerServlet extends HttpServlet {
 
+    /**
+     * Request header to set (to any value) to have the API calls made by the action returned
+     * in the response header of the same name. Honoured on the dev server only.
+     */
+    private static final String PROFILE_HEADER = "X-Teammates-Profile";
+
     private static final Logger log = Logger.getLogger();
 
     @Override
     public void init() throws ServletException {
+        initialise();
+    }
+
+    /**
+     * Prepares the instance for the requests handled by this servlet: sets the system time zone,
+     * installs the profiling of API calls and creates the shared services.
+     * Safe to call more than once, e.g. from the warmup request and again when the servlet is initialised.
+     */
+    public static void initialise() {
         TimeHelper.setSystemTimeZoneIfRequired();
+        ProfilingApiProxyDelegate.install();
+        AppContext.init();
     }
 
     @Override
@@ -55,9 +76,10 @@ public class ControllerServlet extends HttpServlet {
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     public final void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
 
-        UserType userType = new GateKeeper().getCurrentUser();
+        UserType userType = AppContext.getGateKeeper().getCurrentUser();
         String url = HttpRequestHelper.getRequestedUrl(req);
         Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
+        RequestMetrics metrics = RequestMetrics.start();
 
         try {
             /* We are using the Template Method Design Pattern here.
@@ -74,6 +96,9 @@ public class ControllerServlet extends HttpServlet {
             Action c = new ActionFactory().getAction(req);
             if (c.isValidUser()) {
                 ActionResult actionResult = c.executeAndPostProcess();
+                if (Config.isDevServer() && req.getHeader(PROFILE_HEADER) != null) {
+                    resp.setHeader(PROFILE_HEADER, metrics.toSummaryString());
+                }
                 actionResult.writeSessionTokenToCookieIfRequired(req, resp);
                 actionResult.send(req, resp);
             } else {
@@ -85,6 +110,10 @@ public class ControllerServlet extends HttpServlet {
 
             log.info(c.getLogMessage() + "|||" + timeTaken);
 
+            String actionName = c.getClass().getSimpleName();
+            log.info("Request profile : " + actionName + " " + timeTaken + "ms " + metrics.toSummaryString());
+            RequestMetricsAggregator.record(actionName, timeTaken, metrics);
+
         } catch (PageNotFoundException e) {
             log.warning(new LogMessageGenerator()
                                 .generateActionFailureLogMessage(url, params, e, userType));
@@ -155,6 +184,8 @@ public class ControllerServlet extends HttpServlet {
                         + TeammatesException.toStringWithStackTrace(t));
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ERROR_PAGE, params, url));
+        } finally {
+            metrics.stop();
         }
 
     }
@@ -9,6 +9,7 @@ import java.util.TimeZone;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -172,9 +173,7 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
             }
         }
 
-        saveNewReponses(responsesToSave);
-        deleteResponses(responsesToDelete);
-        updateResponses(responsesToUpdate);
+        saveResponses();
 
         if (!isError) {
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_RESPONSES_SAVED, StatusMessageColor.SUCCESS));
@@ -265,34 +264,18 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         }
     }
 
-    private void saveNewReponses(List<FeedbackResponseAttributes> responsesToSave)
-            throws EntityDoesNotExistException {
+    /**
+     * Writes all new, updated and deleted responses of the submission in batches.
+     */
+    private void saveResponses() throws EntityDoesNotExistException {
         try {
-            logic.createFeedbackResponses(responsesToSave);
+            logic.saveSubmittedFeedbackResponses(responsesToSave, responsesToUpdate, responsesToDelete);
             hasValidResponse = true;
-        } catch (InvalidParametersException e) {
+        } catch (EntityAlreadyExistsException | InvalidParametersException e) {
             setStatusForException(e);
         }
     }
 
-    private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
-        }
-    }
-
-    private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
-            throws EntityDoesNotExistException {
-        for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
-        }
-    }
-
     private FeedbackResponseAttributes extractFeedbackResponseData(
             Map<String, String[]> requestParameters, int questionIndx, int responseIndx,
             FeedbackQuestionAttributes feedbackQuestionAttributes) {
@@ -332,9 +315,9 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         if (recipientType == FeedbackParticipantType.INSTRUCTORS || recipientType == FeedbackParticipantType.NONE) {
             response.recipientSection = Const.DEFAULT_SECTION;
         } else if (recipientType == FeedbackParticipantType.TEAMS) {
-            response.recipientSection = logic.getSectionForTeam(courseId, response.recipient);
+            response.recipientSection = getSectionForTeam(response.recipient);
         } else if (recipientType == FeedbackParticipantType.STUDENTS) {
-            StudentAttributes student = logic.getStudentForEmail(courseId, response.recipient);
+            StudentAttributes student = getRoster().getStudentForEmail(response.recipient);
             response.recipientSection = student == null ? Const.DEFAULT_SECTION : student.section;
         } else {
             response.recipientSection = getUserSectionForCourse();
@@ -357,6 +340,22 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         return response;
     }
 
+    private String getSectionForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = getRoster().getStudentsForTeam(teamName);
+        return teamMembers.isEmpty() ? Const.DEFAULT_SECTION : teamMembers.get(0).section;
+    }
+
+    /**
+     * Returns the roster of the course, used to find the sections of recipients.
+     * It is taken from the data bundle if the bundle has one, or else read once for the whole submission.
+     */
+    private CourseRoster getRoster() {
+        if (data.bundle.roster == null) {
+            data.bundle.roster = new CourseRoster(logic.getStudentsForCourse(courseId), null);
+        }
+        return data.bundle.roster;
+    }
+
     /**
      * To be used to set any extra parameters or attributes that
      * a class inheriting FeedbackSubmissionEditSaveAction requires.
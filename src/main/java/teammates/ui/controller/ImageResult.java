@@ -16,6 +16,12 @@ import teammates.common.util.StatusMessage;
 
 public class ImageResult extends ActionResult {
 
+    /**
+     * How long browsers may reuse an image served by its blob key.
+     * <br> Image files are named after their content, so the image behind a blob key never changes.
+     */
+    private static final long IMMUTABLE_IMAGE_MAX_AGE_SECONDS = 60L * 60 * 24 * 365;
+
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
@@ -31,10 +37,43 @@ public class ImageResult extends ActionResult {
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
         } else {
-            resp.setContentType("image/png");
-            BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-            blobstoreService.serve(new BlobKey(blobKey), resp);
+            serveImage(req, resp, blobKey, IMMUTABLE_IMAGE_MAX_AGE_SECONDS);
+        }
+    }
+
+    /**
+     * Serves the image with the given {@code blobKey}, allowing the browser to reuse it
+     * for {@code maxAgeSeconds} and to revalidate it afterwards with a conditional request.
+     * <br> If the browser's copy is still valid, only a 304 (Not Modified) status is sent.
+     */
+    static void serveImage(HttpServletRequest req, HttpServletResponse resp, String blobKey, long maxAgeSeconds)
+            throws IOException {
+        String entityTag = "\"" + blobKey + "\"";
+        resp.setHeader("Cache-Control", "private, max-age=" + maxAgeSeconds);
+        resp.setHeader("ETag", entityTag);
+
+        if (isMatchingEntityTag(req.getHeader("If-None-Match"), entityTag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        resp.setContentType("image/png");
+        BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
+        blobstoreService.serve(new BlobKey(blobKey), resp);
+    }
+
+    private static boolean isMatchingEntityTag(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            if ("*".equals(trimmedCandidate) || entityTag.equals(trimmedCandidate)
+                    || ("W/" + entityTag).equals(trimmedCandidate)) {
+                return true;
+            }
         }
+        return false;
     }
 
 }
@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
@@ -21,7 +22,9 @@ public class InstructorCourseDeleteAction extends Action {
                                     Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE);
 
         /* Delete the course and setup status to be shown to user and admin */
-        logic.deleteCourse(idOfCourseToDelete);
+        // the course disappears right away, while the rest of its data is deleted in the background
+        logic.markCourseForDeletion(idOfCourseToDelete);
+        taskQueuer.scheduleCourseDataDeletion(idOfCourseToDelete, CascadeDeletionStage.first());
         String statusMessage = String.format(Const.StatusMessages.COURSE_DELETED, idOfCourseToDelete);
         statusToUser.add(new StatusMessage(statusMessage, StatusMessageColor.SUCCESS));
         statusToAdmin = "Course deleted: " + idOfCourseToDelete;
@@ -71,7 +71,10 @@ public class InstructorCourseStudentDetailsEditSaveAction extends Action {
                 logic.validateTeams(Arrays.asList(student), courseId);
             }
 
-            logic.updateStudent(studentEmail, student);
+            boolean hasResponsesLeftForOldEmail = logic.updateStudentWithResponsesUpdateLimited(studentEmail, student);
+            if (hasResponsesLeftForOldEmail) {
+                taskQueuer.scheduleFeedbackResponsesUpdateForChangingEmail(courseId, studentEmail, student.email);
+            }
 
             boolean isSessionSummarySendEmail = getRequestParamAsBoolean(Const.ParamsNames.SESSION_SUMMARY_EMAIL_SEND_CHECK);
             if (isEmailChanged) {
@@ -60,20 +60,19 @@ public class InstructorFeedbackEditCopyAction extends Action {
                 return createAjaxResultWithErrorMessage(errorToUser);
             }
 
-            FeedbackSessionAttributes fs = null;
-            // Copy the feedback sessions
-            // TODO: consider doing this as a batch insert
             for (String courseIdToCopyTo : coursesIdToCopyTo) {
                 InstructorAttributes instructorForCourse =
                         logic.getInstructorForGoogleId(courseIdToCopyTo, account.googleId);
                 gateKeeper.verifyAccessible(instructorForCourse, logic.getCourse(courseIdToCopyTo),
                                             Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION);
-
-                fs = logic.copyFeedbackSession(newFeedbackSessionName, courseIdToCopyTo,
-                        originalFeedbackSessionName, originalCourseId, instructor.email);
             }
 
+            // Copy the feedback sessions
             List<String> courses = Arrays.asList(coursesIdToCopyTo);
+            List<FeedbackSessionAttributes> copiedSessions = logic.copyFeedbackSessionToCourses(
+                    newFeedbackSessionName, courses, originalFeedbackSessionName, originalCourseId, instructor.email);
+            FeedbackSessionAttributes fs = copiedSessions.get(copiedSessions.size() - 1);
+
             String commaSeparatedListOfCourses = StringHelper.toString(courses, ",");
 
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_SESSION_COPIED, StatusMessageColor.SUCCESS));
@@ -8,6 +8,7 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.InvalidParametersException;
@@ -128,8 +129,11 @@ public class InstructorFeedbackQuestionAddAction extends Action {
         questionType = FeedbackQuestionType.standardizeIfConstSum(questionType);
         newQuestion.questionType = FeedbackQuestionType.valueOf(questionType);
 
+        String courseId = newQuestion.courseId;
+        FeedbackGeneratedOptionsResolver generatedOptionsResolver = new FeedbackGeneratedOptionsResolver(
+                () -> logic.getStudentsForCourse(courseId), () -> logic.getInstructorsForCourse(courseId));
         FeedbackQuestionDetails questionDetails = FeedbackQuestionDetails.createQuestionDetails(
-                requestParameters, newQuestion.questionType);
+                requestParameters, newQuestion.questionType, generatedOptionsResolver);
         newQuestion.setQuestionDetails(questionDetails);
 
         String questionDescription = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_DESCRIPTION);
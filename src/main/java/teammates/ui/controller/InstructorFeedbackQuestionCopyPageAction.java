@@ -1,8 +1,7 @@
 package teammates.ui.controller;
 
-import java.util.List;
-
-import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
@@ -11,6 +10,9 @@ import teammates.ui.pagedata.InstructorFeedbackQuestionCopyPageData;
 
 public class InstructorFeedbackQuestionCopyPageAction extends Action {
 
+    /** Number of copiable questions shown on each page of the copy question modal. */
+    public static final int QUESTIONS_PER_PAGE = 50;
+
     @Override
     protected ActionResult execute() throws EntityDoesNotExistException {
 
@@ -25,12 +27,31 @@ public class InstructorFeedbackQuestionCopyPageAction extends Action {
                 feedbackSession, false,
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION);
 
-        List<FeedbackQuestionAttributes> copiableQuestions = null;
+        String filter = getRequestParamValue(Const.ParamsNames.COPIABLE_QUESTIONS_FILTER);
+        FeedbackQuestionSummary.SortOrder sortOrder = FeedbackQuestionSummary.SortOrder.fromString(
+                getRequestParamValue(Const.ParamsNames.COPIABLE_QUESTIONS_SORT_ORDER));
 
-        copiableQuestions = logic.getCopiableFeedbackQuestionsForInstructor(account.googleId);
+        // the page is read from the cursor; the page number is only shown to the user
+        String cursor = getRequestParamValue(Const.ParamsNames.COPIABLE_QUESTIONS_CURSOR);
+        FeedbackQuestionSummaryPage copiableQuestions = logic.getCopiableFeedbackQuestionSummariesForInstructor(
+                account.googleId, filter, sortOrder, cursor, QUESTIONS_PER_PAGE);
+        int pageNumber = cursor == null || cursor.isEmpty() ? 1 : getPageNumber();
 
-        InstructorFeedbackQuestionCopyPageData data =
-                new InstructorFeedbackQuestionCopyPageData(account, sessionToken, copiableQuestions);
+        InstructorFeedbackQuestionCopyPageData data = new InstructorFeedbackQuestionCopyPageData(
+                account, sessionToken, copiableQuestions.getSummaries(),
+                filter, sortOrder, pageNumber, copiableQuestions.getNextPageCursor());
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_FEEDBACK_QUESTION_COPY_MODAL, data);
     }
+
+    /**
+     * Returns the requested page number, or the first page if the parameter is absent or invalid.
+     */
+    private int getPageNumber() {
+        String pageNumber = getRequestParamValue(Const.ParamsNames.COPIABLE_QUESTIONS_PAGE);
+        try {
+            return pageNumber == null ? 1 : Math.max(1, Integer.parseInt(pageNumber));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
 }
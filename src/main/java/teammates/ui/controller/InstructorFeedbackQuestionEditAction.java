@@ -8,8 +8,10 @@ import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CascadeDeletionStage;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -69,7 +71,11 @@ public class InstructorFeedbackQuestionEditAction extends Action {
     }
 
     private void deleteQuestion(FeedbackQuestionAttributes updatedQuestion) {
-        logic.deleteFeedbackQuestion(updatedQuestion.getId());
+        FeedbackQuestionAttributes deletedQuestion = logic.deleteFeedbackQuestionWithoutResponses(updatedQuestion.getId());
+        if (deletedQuestion != null) {
+            taskQueuer.scheduleFeedbackQuestionDataDeletion(deletedQuestion.getId(), deletedQuestion.giverType,
+                                                            CascadeDeletionStage.first());
+        }
         statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_QUESTION_DELETED, StatusMessageColor.SUCCESS));
         statusToAdmin = "Feedback Question " + updatedQuestion.questionNumber + " for session:<span class=\"bold\">("
                         + updatedQuestion.feedbackSessionName + ")</span> for Course <span class=\"bold\">["
@@ -210,8 +216,11 @@ public class InstructorFeedbackQuestionEditAction extends Action {
         // Can be null
         String questionText = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_TEXT);
         if (questionText != null && !questionText.isEmpty()) {
+            String courseId = newQuestion.courseId;
+            FeedbackGeneratedOptionsResolver generatedOptionsResolver = new FeedbackGeneratedOptionsResolver(
+                    () -> logic.getStudentsForCourse(courseId), () -> logic.getInstructorsForCourse(courseId));
             FeedbackQuestionDetails questionDetails = FeedbackQuestionDetails.createQuestionDetails(
-                    requestParameters, newQuestion.questionType);
+                    requestParameters, newQuestion.questionType, generatedOptionsResolver);
             newQuestion.setQuestionDetails(questionDetails);
         }
 
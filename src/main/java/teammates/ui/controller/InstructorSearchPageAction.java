@@ -65,6 +65,9 @@ public class InstructorSearchPageAction extends Action {
             if (totalResultsSize == 0) {
                 statusToUser.add(new StatusMessage(Const.StatusMessages.INSTRUCTOR_SEARCH_NO_RESULTS,
                                                    StatusMessageColor.WARNING));
+            } else if (frCommentSearchResults.cursor != null || studentSearchResults.cursor != null) {
+                statusToUser.add(new StatusMessage(Const.StatusMessages.SEARCH_RESULTS_TRUNCATED,
+                                                   StatusMessageColor.WARNING));
             }
         }
 
@@ -8,6 +8,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.datatransfer.UserType;
 import teammates.common.util.Const;
+import teammates.logic.api.AppContext;
 import teammates.logic.api.GateKeeper;
 
 @SuppressWarnings("serial")
@@ -23,7 +24,7 @@ public class LoginServlet extends HttpServlet {
 
     @Override
     public final void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
-        GateKeeper gateKeeper = new GateKeeper();
+        GateKeeper gateKeeper = AppContext.getGateKeeper();
         UserType user = gateKeeper.getCurrentUser();
         boolean isInstructor = req.getParameter(Const.ParamsNames.LOGIN_INSTRUCTOR) != null;
         boolean isStudent = req.getParameter(Const.ParamsNames.LOGIN_STUDENT) != null;
@@ -18,7 +18,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
-import teammates.logic.api.GateKeeper;
+import teammates.logic.api.AppContext;
 
 /**
  * Serves the public image stored in google cloud storage using the blobkey.<br>
@@ -39,7 +39,7 @@ public class PublicImageServlet extends HttpServlet {
     public void doPost(HttpServletRequest req, HttpServletResponse resp) {
         String url = HttpRequestHelper.getRequestedUrl(req);
 
-        UserType userType = new GateKeeper().getCurrentUser();
+        UserType userType = AppContext.getGateKeeper().getCurrentUser();
         Map<String, String[]> requestParameters = req.getParameterMap();
         String blobKey = HttpRequestHelper.getValueFromParamMap(requestParameters, Const.ParamsNames.BLOB_KEY);
         Assumption.assertPostParamNotNull(Const.ParamsNames.BLOB_KEY, blobKey);
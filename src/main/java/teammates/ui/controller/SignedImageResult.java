@@ -0,0 +1,46 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.util.StatusMessage;
+
+/**
+ * An {@link ImageResult} that redirects the browser to a signed URL for the image
+ * served by {@link SignedImageServlet}, instead of serving the image directly.
+ * <br> The redirection itself may be reused by the browser for a short while, during which
+ * repeated views of the image skip the action, and hence the datastore, entirely.
+ */
+public class SignedImageResult extends ImageResult {
+
+    /**
+     * How long browsers may reuse the redirection.
+     * <br> Kept short so that changes of picture or of access rights take effect quickly.
+     */
+    private static final long REDIRECT_MAX_AGE_SECONDS = 60L * 5;
+
+    public SignedImageResult(String destination, String blobKey, AccountAttributes account,
+            List<StatusMessage> status) {
+        super(destination, blobKey, account, status);
+    }
+
+    @Override
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (blobKey.isEmpty()) {
+            super.send(req, resp);
+            return;
+        }
+
+        resp.setHeader("Cache-Control", "private, max-age=" + REDIRECT_MAX_AGE_SECONDS);
+        resp.sendRedirect(getSignedUrl(System.currentTimeMillis()));
+    }
+
+    public String getSignedUrl(long currentTimeMillis) {
+        return SignedImageServlet.createSignedUrl(blobKey, currentTimeMillis);
+    }
+
+}
@@ -0,0 +1,97 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.CryptoHelper;
+import teammates.common.util.Logger;
+import teammates.common.util.Url;
+
+/**
+ * Serves an image stored in Google Cloud Storage using a signed URL.<br>
+ * The URL is issued by {@link SignedImageResult} after access to the image has been verified,
+ * and is valid until its expiry time. As the signature alone grants access,
+ * serving the image requires neither the user's login state nor any datastore access.
+ */
+@SuppressWarnings("serial")
+public class SignedImageServlet extends HttpServlet {
+
+    /**
+     * Granularity of the expiry time of signed URLs.
+     * <br> All URLs for an image issued within the same period are identical, so that browsers can reuse
+     * the image fetched with an earlier URL.
+     */
+    private static final long EXPIRY_PERIOD_MILLIS = 1000L * 60 * 30;
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void doGet(HttpServletRequest req, HttpServletResponse resp) {
+        doPost(req, resp);
+    }
+
+    @Override
+    public void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        String blobKey = req.getParameter(Const.ParamsNames.BLOB_KEY);
+        String expiry = req.getParameter(Const.ParamsNames.SIGNED_URL_EXPIRY);
+        String signature = req.getParameter(Const.ParamsNames.SIGNED_URL_SIGNATURE);
+
+        try {
+            long currentTimeMillis = System.currentTimeMillis();
+            if (!isValidSignedUrl(blobKey, expiry, signature, currentTimeMillis)) {
+                log.info("Rejected signed image request for blob key: " + blobKey + ", expiry: " + expiry);
+                resp.sendError(HttpServletResponse.SC_FORBIDDEN);
+                return;
+            }
+
+            long secondsToExpiry = (Long.parseLong(expiry) - currentTimeMillis) / 1000;
+            ImageResult.serveImage(req, resp, blobKey, secondsToExpiry);
+        } catch (IOException ioe) {
+            log.warning("Failed to serve signed image with blob key " + blobKey + ": "
+                    + TeammatesException.toStringWithStackTrace(ioe));
+        }
+    }
+
+    /**
+     * Returns the URL to serve the image with the given {@code blobKey}, signed to be valid for
+     * at least one expiry period from {@code currentTimeMillis}.
+     */
+    public static String createSignedUrl(String blobKey, long currentTimeMillis) {
+        long expiryMillis = (currentTimeMillis / EXPIRY_PERIOD_MILLIS + 2) * EXPIRY_PERIOD_MILLIS;
+        String expiry = String.valueOf(expiryMillis);
+
+        String url = Const.ActionURIs.SIGNED_IMAGE_SERVE;
+        url = Url.addParamToUrl(url, Const.ParamsNames.BLOB_KEY, blobKey);
+        url = Url.addParamToUrl(url, Const.ParamsNames.SIGNED_URL_EXPIRY, expiry);
+        url = Url.addParamToUrl(url, Const.ParamsNames.SIGNED_URL_SIGNATURE,
+                                CryptoHelper.computeSignature(getSignedValue(blobKey, expiry)));
+        return url;
+    }
+
+    /**
+     * Returns true if the parameters of a signed URL are authentic and have not expired at {@code currentTimeMillis}.
+     */
+    public static boolean isValidSignedUrl(String blobKey, String expiry, String signature, long currentTimeMillis) {
+        if (blobKey == null || blobKey.isEmpty() || expiry == null) {
+            return false;
+        }
+        if (!CryptoHelper.isValidSignature(getSignedValue(blobKey, expiry), signature)) {
+            return false;
+        }
+        try {
+            return Long.parseLong(expiry) > currentTimeMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String getSignedValue(String blobKey, String expiry) {
+        return blobKey + "|" + expiry;
+    }
+
+}
@@ -41,6 +41,13 @@ public class StudentProfilePictureAction extends Action {
     private ActionResult handleRequestWithBlobKey() {
         String blobKey = getBlobKeyFromRequest();
         log.info("blob-key given: " + blobKey);
+        if (isThumbnailRequested() && account != null) {
+            // the thumbnail is only recorded for the student's own current picture
+            StudentProfileAttributes profile = logic.getStudentProfile(account.googleId);
+            if (profile != null && blobKey.equals(profile.pictureKey)) {
+                return createImageResult(getKeyOfRequestedVariant(profile));
+            }
+        }
         return createImageResult(blobKey);
     }
 
@@ -61,7 +68,25 @@ public class StudentProfilePictureAction extends Action {
         StudentAttributes student = getStudentForGivenParameters(courseId, email);
         gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(account, courseId, student.section, email);
 
-        return createImageResult(getPictureKeyForStudent(student));
+        // access has been verified; further views are served from a signed URL without repeating the checks
+        return createSignedImageResult(getPictureKeyForStudent(student));
+    }
+
+    private boolean isThumbnailRequested() {
+        String variant = getRequestParamValue(Const.ParamsNames.PROFILE_PICTURE_VARIANT);
+        return Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL.equals(variant);
+    }
+
+    /**
+     * Returns the key of the variant of the profile picture requested, e.g. its thumbnail.
+     * Falls back to the picture itself if the variant is not recorded, e.g. for pictures stored before
+     * thumbnails were generated.
+     */
+    private String getKeyOfRequestedVariant(StudentProfileAttributes profile) {
+        if (isThumbnailRequested() && !profile.thumbnailKey.isEmpty()) {
+            return profile.thumbnailKey;
+        }
+        return profile.pictureKey;
     }
 
     private StudentAttributes getStudentForGivenParameters(String courseId, String email)
@@ -100,7 +125,7 @@ public class StudentProfilePictureAction extends Action {
 
             // TODO: remove the null check once all legacy data has been ported
             if (profile != null) {
-                return profile.pictureKey;
+                return getKeyOfRequestedVariant(profile);
             }
         }
         return "";
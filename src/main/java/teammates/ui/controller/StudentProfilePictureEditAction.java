@@ -10,6 +10,7 @@ import com.google.appengine.api.images.ImagesServiceFactory;
 import com.google.appengine.api.images.OutputSettings;
 import com.google.appengine.api.images.Transform;
 
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
@@ -22,6 +23,8 @@ import teammates.common.util.StatusMessageColor;
  */
 public class StudentProfilePictureEditAction extends Action {
 
+    private static final int STANDARD_SIZE = 150;
+
     private BlobKey blobKey;
     private String widthString;
     private String heightString;
@@ -32,7 +35,7 @@ public class StudentProfilePictureEditAction extends Action {
     private String rotateString;
 
     @Override
-    protected ActionResult execute() {
+    protected ActionResult execute() throws EntityDoesNotExistException {
         gateKeeper.verifyLoggedInUserPrivileges();
         readAllPostParameterValuesToFields();
         if (!validatePostParameters()) {
@@ -43,7 +46,9 @@ public class StudentProfilePictureEditAction extends Action {
             byte[] transformedImage = this.transformImage();
             if (!isError) {
                 // this branch is covered in UiTests (look at todo in transformImage())
-                GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, transformedImage);
+                String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, transformedImage);
+                String thumbnailKey = GoogleCloudStorageHelper.writeThumbnailToGcs(pictureKey, transformedImage);
+                logic.updateStudentProfilePicture(account.googleId, pictureKey, thumbnailKey);
             }
         } catch (IOException e) {
             // Happens when GCS Service is down
@@ -64,8 +69,7 @@ public class StudentProfilePictureEditAction extends Action {
              * not behave the same in dev as in staging.
              * TODO: find a way to cover it in Action Tests.
              */
-            Image newImage = getTransformedImage();
-            return newImage.getImageData();
+            return getTransformedImage().getImageData();
         } catch (RuntimeException re) {
             isError = true;
             statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENT_PROFILE_PICTURE_EDIT_FAILED,
@@ -109,7 +113,7 @@ public class StudentProfilePictureEditAction extends Action {
     }
 
     private CompositeTransform getCompositeTransformToApply() {
-        Transform standardCompress = ImagesServiceFactory.makeResize(150, 150);
+        Transform standardCompress = ImagesServiceFactory.makeResize(STANDARD_SIZE, STANDARD_SIZE);
         return ImagesServiceFactory.makeCompositeTransform()
                 .concatenate(getScaleTransform())
                 .concatenate(getRotateTransform())
@@ -10,6 +10,7 @@ import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreFailureException;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
+import com.google.appengine.api.images.ImagesServiceFailureException;
 
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
@@ -41,8 +42,10 @@ public class StudentProfilePictureUploadAction extends Action {
             BlobInfo blobInfo = extractProfilePictureKey();
             if (!isError) {
                 blobKey = blobInfo.getBlobKey();
-                pictureKey = renameFileToGoogleId(blobInfo);
-                logic.updateStudentProfilePicture(account.googleId, pictureKey);
+                byte[] imageData = readAndDeleteUploadedFile(blobInfo);
+                pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+                String thumbnailKey = writeThumbnail(pictureKey, imageData);
+                logic.updateStudentProfilePicture(account.googleId, pictureKey, thumbnailKey);
                 statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENT_PROFILE_PICTURE_SAVED,
                                                    StatusMessageColor.SUCCESS));
                 r.addResponseParam(Const.ParamsNames.STUDENT_PROFILE_PHOTOEDIT, "true");
@@ -64,7 +67,7 @@ public class StudentProfilePictureUploadAction extends Action {
         return r;
     }
 
-    private String renameFileToGoogleId(BlobInfo blobInfo) throws IOException {
+    private byte[] readAndDeleteUploadedFile(BlobInfo blobInfo) throws IOException {
         Assumption.assertNotNull(blobInfo);
 
         BlobKey blobKey = blobInfo.getBlobKey();
@@ -74,7 +77,24 @@ public class StudentProfilePictureUploadAction extends Action {
         }
 
         deletePicture(blobKey);
-        return GoogleCloudStorageHelper.writeImageDataToGcs(account.googleId, imageData);
+        return imageData;
+    }
+
+    /**
+     * Writes the thumbnail of the uploaded picture.
+     *
+     * @return the key of the thumbnail, or an empty string if the picture cannot be resized,
+     *         in which case the full picture is served in place of the thumbnail
+     */
+    private String writeThumbnail(String pictureKey, byte[] imageData) throws IOException {
+        try {
+            return GoogleCloudStorageHelper.writeThumbnailToGcs(pictureKey, imageData);
+        } catch (IllegalArgumentException | ImagesServiceFailureException e) {
+            // the content type is checked on upload, but the file may still be in a format the images service rejects
+            statusToAdmin = Const.ACTION_RESULT_FAILURE + " : Unable to generate thumbnail for picture "
+                          + pictureKey + " || Error Message: " + e.getMessage() + Const.EOL;
+            return "";
+        }
     }
 
     private BlobInfo extractProfilePictureKey() {
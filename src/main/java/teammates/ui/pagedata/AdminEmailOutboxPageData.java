@@ -0,0 +1,22 @@
+package teammates.ui.pagedata;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.ui.template.AdminEmailOutboxTableRow;
+
+public class AdminEmailOutboxPageData extends PageData {
+
+    private List<AdminEmailOutboxTableRow> outboxTableRows;
+
+    public AdminEmailOutboxPageData(AccountAttributes account, String sessionToken,
+                                    List<AdminEmailOutboxTableRow> outboxTableRows) {
+        super(account, sessionToken);
+        this.outboxTableRows = outboxTableRows;
+    }
+
+    public List<AdminEmailOutboxTableRow> getOutboxTableRows() {
+        return outboxTableRows;
+    }
+
+}
@@ -0,0 +1,31 @@
+package teammates.ui.pagedata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.util.RequestMetricsAggregator;
+import teammates.common.util.RequestMetricsAggregator.ActionStats;
+import teammates.ui.template.AdminPerformanceTableRow;
+
+public class AdminPerformancePageData extends PageData {
+
+    private List<AdminPerformanceTableRow> performanceTableRows;
+
+    public AdminPerformancePageData(AccountAttributes account, String sessionToken, List<ActionStats> actionStats) {
+        super(account, sessionToken);
+        performanceTableRows = new ArrayList<>();
+        for (ActionStats stats : actionStats) {
+            performanceTableRows.add(new AdminPerformanceTableRow(stats));
+        }
+    }
+
+    public List<AdminPerformanceTableRow> getPerformanceTableRows() {
+        return performanceTableRows;
+    }
+
+    public int getSamplesPerAction() {
+        return RequestMetricsAggregator.SAMPLES_PER_ACTION;
+    }
+
+}
@@ -40,6 +40,7 @@ public class AdminSearchPageData extends PageData {
     public Map<String, String> studentIdToHomePageLinkMap = new HashMap<>();
     public Map<String, String> studentRecordsPageLinkMap = new HashMap<>();
     public Map<String, String> studentInstituteMap = new HashMap<>();
+    public String studentsNextPageLink;
 
     /*
      * Data related to searched instructors
@@ -48,6 +49,7 @@ public class AdminSearchPageData extends PageData {
     public Map<String, String> instructorInstituteMap = new HashMap<>();
     public Map<String, String> instructorHomePageLinkMap = new HashMap<>();
     public Map<String, String> instructorCourseJoinLinkMap = new HashMap<>();
+    public String instructorsNextPageLink;
 
     /*
      * Data related to both instructors and students
@@ -89,6 +91,20 @@ public class AdminSearchPageData extends PageData {
         return studentResultBundle.studentList;
     }
 
+    /**
+     * Returns the link to the matching students that are not shown, or null if all of them are shown.
+     */
+    public String getStudentsNextPageLink() {
+        return studentsNextPageLink;
+    }
+
+    /**
+     * Returns the link to the matching instructors that are not shown, or null if all of them are shown.
+     */
+    public String getInstructorsNextPageLink() {
+        return instructorsNextPageLink;
+    }
+
     private AdminSearchInstructorTable createInstructorTable() {
         List<AdminSearchInstructorRow> rows = new ArrayList<>();
 
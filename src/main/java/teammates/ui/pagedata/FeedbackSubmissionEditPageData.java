@@ -10,6 +10,7 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.SanitizationHelper;
@@ -205,6 +206,9 @@ public class FeedbackSubmissionEditPageData extends PageData {
         questionsWithResponses = new ArrayList<>();
         int qnIndx = 1;
 
+        // the options generated from the course roster are shared by all questions and response boxes
+        FeedbackGeneratedOptionsResolver generatedOptionsResolver = bundle.generatedOptionsResolver;
+
         for (FeedbackQuestionAttributes questionAttributes : bundle.getSortedQuestions()) {
             int numOfResponseBoxes = questionAttributes.numberOfEntitiesToGiveFeedbackTo;
             int maxResponsesPossible = bundle.recipientList.get(questionAttributes.getId()).size();
@@ -214,7 +218,7 @@ public class FeedbackSubmissionEditPageData extends PageData {
             }
             FeedbackSubmissionEditQuestion question = createQuestion(questionAttributes, qnIndx);
             List<FeedbackSubmissionEditResponse> responses =
-                    createResponses(questionAttributes, qnIndx, numOfResponseBoxes);
+                    createResponses(questionAttributes, qnIndx, numOfResponseBoxes, generatedOptionsResolver);
 
             questionsWithResponses.add(new StudentFeedbackSubmissionEditQuestionsWithResponses(
                     question, responses, numOfResponseBoxes, maxResponsesPossible));
@@ -229,7 +233,8 @@ public class FeedbackSubmissionEditPageData extends PageData {
     }
 
     private List<FeedbackSubmissionEditResponse> createResponses(
-                                    FeedbackQuestionAttributes questionAttributes, int qnIndx, int numOfResponseBoxes) {
+                                    FeedbackQuestionAttributes questionAttributes, int qnIndx, int numOfResponseBoxes,
+                                    FeedbackGeneratedOptionsResolver generatedOptionsResolver) {
         List<FeedbackSubmissionEditResponse> responses = new ArrayList<>();
 
         List<FeedbackResponseAttributes> existingResponses = bundle.questionResponseBundle.get(questionAttributes);
@@ -246,7 +251,7 @@ public class FeedbackSubmissionEditPageData extends PageData {
             String submissionFormHtml = questionAttributes.getQuestionDetails()
                                             .getQuestionWithExistingResponseSubmissionFormHtml(
                                                 isSessionOpenForSubmission, qnIndx, responseIndx,
-                                                questionAttributes.courseId, numOfResponseBoxes,
+                                                generatedOptionsResolver, numOfResponseBoxes,
                                                 existingResponse.getResponseDetails());
 
             responses.add(new FeedbackSubmissionEditResponse(responseIndx, true, recipientOptionsForQuestion,
@@ -259,7 +264,7 @@ public class FeedbackSubmissionEditPageData extends PageData {
             String submissionFormHtml = questionAttributes.getQuestionDetails()
                                             .getQuestionWithoutExistingResponseSubmissionFormHtml(
                                                 isSessionOpenForSubmission, qnIndx, responseIndx,
-                                                questionAttributes.courseId, numOfResponseBoxes);
+                                                generatedOptionsResolver, numOfResponseBoxes);
 
             responses.add(new FeedbackSubmissionEditResponse(responseIndx, false, recipientOptionsForQuestion,
                                                              submissionFormHtml, ""));
@@ -3,43 +3,49 @@ package teammates.ui.pagedata;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackQuestionSummary;
 import teammates.common.datatransfer.attributes.AccountAttributes;
-import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
-import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.ui.template.FeedbackQuestionCopyTable;
 import teammates.ui.template.FeedbackQuestionTableRow;
 
 public class InstructorFeedbackQuestionCopyPageData extends PageData {
 
-    private final List<FeedbackQuestionAttributes> questions;
-
+    private final List<FeedbackQuestionSummary> questions;
+    private final String filter;
+    private final FeedbackQuestionSummary.SortOrder sortOrder;
+    private final int pageNumber;
+    private final String nextPageCursor;
+
+    /**
+     * Creates the data for one page of the copy question modal.
+     *
+     * @param copiableQuestions the questions on the page
+     * @param nextPageCursor the cursor to read the next page from, or null if this is the last page
+     */
     public InstructorFeedbackQuestionCopyPageData(
-            AccountAttributes account, String sessionToken, List<FeedbackQuestionAttributes> copiableQuestions) {
+            AccountAttributes account, String sessionToken, List<FeedbackQuestionSummary> copiableQuestions,
+            String filter, FeedbackQuestionSummary.SortOrder sortOrder, int pageNumber, String nextPageCursor) {
         super(account, sessionToken);
-        questions = copiableQuestions;
+        this.questions = copiableQuestions;
+        this.filter = filter == null ? "" : filter;
+        this.sortOrder = sortOrder;
+        this.pageNumber = pageNumber;
+        this.nextPageCursor = nextPageCursor;
     }
 
     public FeedbackQuestionCopyTable getCopyQnForm() {
         List<FeedbackQuestionTableRow> copyQuestionRows = buildCopyQuestionsModalRows(questions);
-        return new FeedbackQuestionCopyTable(copyQuestionRows);
+        return new FeedbackQuestionCopyTable(copyQuestionRows, filter, sortOrder.name(), pageNumber, nextPageCursor);
     }
 
-    private List<FeedbackQuestionTableRow> buildCopyQuestionsModalRows(List<FeedbackQuestionAttributes> copiableQuestions) {
+    private List<FeedbackQuestionTableRow> buildCopyQuestionsModalRows(List<FeedbackQuestionSummary> copiableQuestions) {
         List<FeedbackQuestionTableRow> copyQuestionRows = new ArrayList<>();
 
-        for (FeedbackQuestionAttributes question : copiableQuestions) {
-            String courseId = question.courseId;
-            String fsName = question.feedbackSessionName;
-
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
-
-            String qnType = questionDetails.getQuestionTypeDisplayName();
-            String qnText = questionDetails.getQuestionText();
-
-            String qnId = question.getId();
-
-            FeedbackQuestionTableRow row =
-                    new FeedbackQuestionTableRow(courseId, fsName, qnType, qnText, qnId);
+        for (FeedbackQuestionSummary question : copiableQuestions) {
+            FeedbackQuestionTableRow row = new FeedbackQuestionTableRow(
+                    question.getCourseId(), question.getFeedbackSessionName(),
+                    question.getQuestionTypeDisplayName(), question.getQuestionTextSummary(),
+                    question.getFeedbackQuestionId());
             copyQuestionRows.add(row);
         }
 
@@ -279,10 +279,15 @@ public class PageData {
         return link;
     }
 
+    /**
+     * Returns the link to the thumbnail of the student's profile picture, as shown next to the student's name.
+     */
     public String getStudentProfilePictureLink(String studentEmail, String courseId) {
         String link = Const.ActionURIs.STUDENT_PROFILE_PICTURE;
         link = Url.addParamToUrl(link, Const.ParamsNames.STUDENT_EMAIL, studentEmail);
         link = Url.addParamToUrl(link, Const.ParamsNames.COURSE_ID, courseId);
+        link = Url.addParamToUrl(link, Const.ParamsNames.PROFILE_PICTURE_VARIANT,
+                                 Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL);
         link = addUserIdToUrl(link);
         return link;
     }
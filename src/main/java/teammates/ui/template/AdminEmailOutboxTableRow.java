@@ -0,0 +1,63 @@
+package teammates.ui.template;
+
+import java.util.Map;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.util.SanitizationHelper;
+
+public class AdminEmailOutboxTableRow {
+
+    private String batchId;
+    private String createdAt;
+    private String description;
+    private String senderEmail;
+    private int numberOfEmails;
+    private int pendingCount;
+    private int sentCount;
+    private int failedCount;
+
+    public AdminEmailOutboxTableRow(EmailOutboxBatchAttributes batch, Map<OutboxEmailStatus, Integer> counts) {
+        this.batchId = batch.getBatchId();
+        this.createdAt = batch.getCreatedAtForDisplay();
+        this.description = SanitizationHelper.sanitizeForHtml(batch.getDescription());
+        this.senderEmail = batch.getSenderEmail();
+        this.numberOfEmails = batch.getNumberOfEmails();
+        this.pendingCount = counts.get(OutboxEmailStatus.PENDING);
+        this.sentCount = counts.get(OutboxEmailStatus.SENT);
+        this.failedCount = counts.get(OutboxEmailStatus.FAILED);
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSenderEmail() {
+        return senderEmail;
+    }
+
+    public int getNumberOfEmails() {
+        return numberOfEmails;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+}
@@ -0,0 +1,71 @@
+package teammates.ui.template;
+
+import teammates.common.util.RequestMetricsAggregator.ActionStats;
+
+public class AdminPerformanceTableRow {
+
+    private String actionName;
+    private long totalRequests;
+    private int sampledRequests;
+    private long timeTakenMedian;
+    private long timeTaken90thPercentile;
+    private long timeTaken99thPercentile;
+    private long callCountMedian;
+    private long callCount90thPercentile;
+    private long datastoreCallCount90thPercentile;
+    private long maxCallCount;
+
+    public AdminPerformanceTableRow(ActionStats stats) {
+        this.actionName = stats.getActionName();
+        this.totalRequests = stats.getTotalRequests();
+        this.sampledRequests = stats.getSampledRequests();
+        this.timeTakenMedian = stats.getTimeTakenPercentile(50);
+        this.timeTaken90thPercentile = stats.getTimeTakenPercentile(90);
+        this.timeTaken99thPercentile = stats.getTimeTakenPercentile(99);
+        this.callCountMedian = stats.getCallCountPercentile(50);
+        this.callCount90thPercentile = stats.getCallCountPercentile(90);
+        this.datastoreCallCount90thPercentile = stats.getDatastoreCallCountPercentile(90);
+        this.maxCallCount = stats.getMaxCallCount();
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public long getTotalRequests() {
+        return totalRequests;
+    }
+
+    public int getSampledRequests() {
+        return sampledRequests;
+    }
+
+    public long getTimeTakenMedian() {
+        return timeTakenMedian;
+    }
+
+    public long getTimeTaken90thPercentile() {
+        return timeTaken90thPercentile;
+    }
+
+    public long getTimeTaken99thPercentile() {
+        return timeTaken99thPercentile;
+    }
+
+    public long getCallCountMedian() {
+        return callCountMedian;
+    }
+
+    public long getCallCount90thPercentile() {
+        return callCount90thPercentile;
+    }
+
+    public long getDatastoreCallCount90thPercentile() {
+        return datastoreCallCount90thPercentile;
+    }
+
+    public long getMaxCallCount() {
+        return maxCallCount;
+    }
+
+}
@@ -4,16 +4,53 @@ import java.util.List;
 
 /**
  * Data model for the copy question modal on instructorFeedbackEdit.jsp.
+ * The modal shows one page of the copiable questions at a time.
  */
 public class FeedbackQuestionCopyTable {
     private List<FeedbackQuestionTableRow> questionRows;
+    private String filter;
+    private String sortOrder;
+    private int pageNumber;
+    private String nextPageCursor;
 
-    public FeedbackQuestionCopyTable(List<FeedbackQuestionTableRow> questionRows) {
+    public FeedbackQuestionCopyTable(List<FeedbackQuestionTableRow> questionRows, String filter, String sortOrder,
+                                     int pageNumber, String nextPageCursor) {
         this.questionRows = questionRows;
+        this.filter = filter;
+        this.sortOrder = sortOrder;
+        this.pageNumber = pageNumber;
+        this.nextPageCursor = nextPageCursor;
     }
 
     public List<FeedbackQuestionTableRow> getQuestionRows() {
         return questionRows;
     }
 
+    public String getFilter() {
+        return filter;
+    }
+
+    public String getSortOrder() {
+        return sortOrder;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    /**
+     * Returns the cursor to read the next page from, or null if this is the last page.
+     */
+    public String getNextPageCursor() {
+        return nextPageCursor;
+    }
+
+    public boolean isHasPreviousPage() {
+        return pageNumber > 1;
+    }
+
+    public boolean isHasNextPage() {
+        return nextPageCursor != null;
+    }
+
 }
@@ -873,8 +873,64 @@ function formatQuestionNumbers() {
     });
 }
 
+let copyQuestionsUrl = '';
+let numRowsSelected = 0;
+
+/**
+ * The cursors of the pages of the 'copy question' modal up to the current page, the first page having none.
+ * Pages are read from their cursors, so pages before the current one are read again from the cursors kept here.
+ */
+let copyQuestionsPageCursors = [''];
+
 /**
- * Adds event handler to load 'copy question' modal contents by ajax.
+ * Loads one page of the 'copy question' modal contents by ajax.
+ * @param {Object} [params] the filter, sort order and page of the questions to load
+ */
+function loadCopiableQuestions(params) {
+    const $questionCopyStatusMessage = $('#question-copy-modal-status');
+    $.ajax({
+        type: 'GET',
+        url: params ? `${copyQuestionsUrl}&${$.param(params)}` : copyQuestionsUrl,
+        beforeSend() {
+            $('#button_copy_submit').prop('disabled', true);
+            $('#copyQuestionsPanel').remove();
+            numRowsSelected = 0;
+            $questionCopyStatusMessage.removeClass('alert alert-danger');
+            $questionCopyStatusMessage.html(
+                    'Loading possible questions to copy. Please wait ...<br>'
+                  + "<img class='margin-center-horizontal' src='/images/ajax-loader.gif'/>");
+        },
+        error() {
+            $questionCopyStatusMessage.html(
+                    'Error retrieving questions. Please close the dialog window and try again.');
+            $questionCopyStatusMessage.addClass('alert alert-danger');
+        },
+        success(data) {
+            const $questionRows = $(data).find('tbody > tr');
+            const isFiltered = $(data).find('#copyQuestionsFilter').val();
+            if ($questionRows.length || isFiltered) {
+                $('#copyModalForm').prepend(data);
+                $questionCopyStatusMessage.html('');
+            } else {
+                $questionCopyStatusMessage.addClass('alert alert-danger');
+                $questionCopyStatusMessage.prepend('<br>').html(DISPLAY_FEEDBACK_QUESTION_COPY_INVALID);
+            }
+        },
+    });
+}
+
+function getCopiableQuestionsParams() {
+    return {
+        copiablequestionsfilter: $('#copyQuestionsFilter').val(),
+        copiablequestionssortorder: $('#copyTableModal').data('sort-order'),
+        copiablequestionscursor: copyQuestionsPageCursors[copyQuestionsPageCursors.length - 1],
+        copiablequestionspage: copyQuestionsPageCursors.length,
+    };
+}
+
+/**
+ * Adds event handlers to load 'copy question' modal contents by ajax,
+ * and to filter, sort and page through them.
  */
 function setupQuestionCopyModal() {
     $('#copyModal').on('show.bs.modal', (event) => {
@@ -883,34 +939,41 @@ function setupQuestionCopyModal() {
         const courseid = button.data('courseid');
         const fsname = button.data('fsname');
 
-        const $questionCopyStatusMessage = $('#question-copy-modal-status');
-        $.ajax({
-            type: 'GET',
-            url: `${actionlink}&courseid=${encodeURIComponent(courseid)}&fsname=${encodeURIComponent(fsname)}`,
-            beforeSend() {
-                $('#button_copy_submit').prop('disabled', true);
-                $('#copyTableModal').remove();
-                $questionCopyStatusMessage.removeClass('alert alert-danger');
-                $questionCopyStatusMessage.html(
-                        'Loading possible questions to copy. Please wait ...<br>'
-                      + "<img class='margin-center-horizontal' src='/images/ajax-loader.gif'/>");
-            },
-            error() {
-                $questionCopyStatusMessage.html(
-                        'Error retrieving questions. Please close the dialog window and try again.');
-                $questionCopyStatusMessage.addClass('alert alert-danger');
-            },
-            success(data) {
-                const $questionRows = $(data).find('tbody > tr');
-                if ($questionRows.length) {
-                    $('#copyModalForm').prepend(data);
-                    $questionCopyStatusMessage.html('');
-                } else {
-                    $questionCopyStatusMessage.addClass('alert alert-danger');
-                    $questionCopyStatusMessage.prepend('<br>').html(DISPLAY_FEEDBACK_QUESTION_COPY_INVALID);
-                }
-            },
-        });
+        copyQuestionsUrl = `${actionlink}&courseid=${encodeURIComponent(courseid)}&fsname=${encodeURIComponent(fsname)}`;
+        copyQuestionsPageCursors = [''];
+        loadCopiableQuestions();
+    });
+
+    $('body').on('click', '#button_copy_questions_filter', () => {
+        copyQuestionsPageCursors = [''];
+        loadCopiableQuestions(getCopiableQuestionsParams());
+    });
+
+    $('body').on('keydown', '#copyQuestionsFilter', (e) => {
+        if (e.keyCode === 13) {
+            // prevents the enter key from submitting the copy form
+            e.preventDefault();
+            copyQuestionsPageCursors = [''];
+            loadCopiableQuestions(getCopiableQuestionsParams());
+        }
+    });
+
+    $('body').on('click', '#copyTableModal .copy-questions-sort', function () {
+        copyQuestionsPageCursors = [''];
+        const params = getCopiableQuestionsParams();
+        params.copiablequestionssortorder = $(this).data('sort-order');
+        loadCopiableQuestions(params);
+    });
+
+    $('body').on('click', '#copyQuestionsPanel .copy-questions-previous', () => {
+        copyQuestionsPageCursors.pop();
+        loadCopiableQuestions(getCopiableQuestionsParams());
+    });
+
+    $('body').on('click', '#copyQuestionsPanel .copy-questions-next', function () {
+        // read as a string, as the cursor is not to be parsed as JSON by jQuery
+        copyQuestionsPageCursors.push($(this).attr('data-cursor'));
+        loadCopiableQuestions(getCopiableQuestionsParams());
     });
 }
 
@@ -949,8 +1012,6 @@ function bindCopyButton() {
     });
 }
 
-let numRowsSelected = 0;
-
 function bindCopyEvents() {
     $('body').on('click', '#copyTableModal > tbody > tr', function (e) {
         e.preventDefault();
@@ -0,0 +1,39 @@
+<%@ page pageEncoding="UTF-8" %>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@ taglib tagdir="/WEB-INF/tags/admin" prefix="ta" %>
+
+<ta:adminPage title="Email Outbox">
+  <p class="text-muted">
+    Send status of the emails of the latest batches scheduled for sending, from the most recent.
+  </p>
+  <div class="panel panel-primary">
+    <div class="table-responsive">
+      <table class="table table-striped table-condensed" id="emailOutboxTable">
+        <thead>
+          <tr>
+            <th>Created</th>
+            <th>Subject</th>
+            <th>Sender</th>
+            <th>Emails</th>
+            <th>Pending</th>
+            <th>Sent</th>
+            <th>Failed</th>
+          </tr>
+        </thead>
+        <tbody>
+          <c:forEach items="${data.outboxTableRows}" var="row">
+            <tr id="batch-${row.batchId}">
+              <td>${row.createdAt}</td>
+              <td>${row.description}</td>
+              <td>${row.senderEmail}</td>
+              <td>${row.numberOfEmails}</td>
+              <td>${row.pendingCount}</td>
+              <td>${row.sentCount}</td>
+              <td <c:if test="${row.failedCount > 0}">class="danger"</c:if>>${row.failedCount}</td>
+            </tr>
+          </c:forEach>
+        </tbody>
+      </table>
+    </div>
+  </div>
+</ta:adminPage>
@@ -0,0 +1,46 @@
+<%@ page pageEncoding="UTF-8" %>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@ taglib tagdir="/WEB-INF/tags/admin" prefix="ta" %>
+
+<ta:adminPage title="Performance">
+  <p class="text-muted">
+    Time taken and API calls made by each action, over the latest ${data.samplesPerAction} requests
+    served by this instance.
+  </p>
+  <div class="panel panel-primary">
+    <div class="table-responsive">
+      <table class="table table-striped table-condensed" id="performanceTable">
+        <thead>
+          <tr>
+            <th>Action</th>
+            <th>Requests</th>
+            <th>Sampled</th>
+            <th>Time p50 (ms)</th>
+            <th>Time p90 (ms)</th>
+            <th>Time p99 (ms)</th>
+            <th>API calls p50</th>
+            <th>API calls p90</th>
+            <th>Datastore calls p90</th>
+            <th>API calls max</th>
+          </tr>
+        </thead>
+        <tbody>
+          <c:forEach items="${data.performanceTableRows}" var="row">
+            <tr>
+              <td>${row.actionName}</td>
+              <td>${row.totalRequests}</td>
+              <td>${row.sampledRequests}</td>
+              <td>${row.timeTakenMedian}</td>
+              <td>${row.timeTaken90thPercentile}</td>
+              <td>${row.timeTaken99thPercentile}</td>
+              <td>${row.callCountMedian}</td>
+              <td>${row.callCount90thPercentile}</td>
+              <td>${row.datastoreCallCount90thPercentile}</td>
+              <td>${row.maxCallCount}</td>
+            </tr>
+          </c:forEach>
+        </tbody>
+      </table>
+    </div>
+  </div>
+</ta:adminPage>
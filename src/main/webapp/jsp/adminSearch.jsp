@@ -17,9 +17,21 @@
     <adminSearch:instructorResultsTable instructorResultsTable="${data.instructorTable}"/>
   </c:if>
 
+  <c:if test="${not empty data.instructorsNextPageLink}">
+    <p class="text-center">
+      <a href="${data.instructorsNextPageLink}" id="show-more-instructors">Show more instructors</a>
+    </p>
+  </c:if>
+
   <c:if test="${not empty data.studentResultList}">
     <adminSearch:studentResultsTable studentResultsTable="${data.studentTable}"/>
   </c:if>
 
+  <c:if test="${not empty data.studentsNextPageLink}">
+    <p class="text-center">
+      <a href="${data.studentsNextPageLink}" id="show-more-students">Show more students</a>
+    </p>
+  </c:if>
+
   <t:statusMessage statusMessagesToUser="${data.statusMessagesToUser}" />
 </ta:adminPage>
@@ -2,34 +2,66 @@
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/functions" prefix="fn" %>
 
-<table class="table-responsive table table-hover table-bordered margin-0" id="copyTableModal">
-  <thead class="fill-primary">
-    <tr>
-      <th style="width:30px;">&nbsp;</th>
-      <th id="button_sortid" class="button-sort-ascending toggle-sort" style="width:100px">
-        Course ID <span class="icon-sort sorted-ascending"></span>
-      </th>
-      <th id="button_sortfsname" class="button-sort-none toggle-sort" style="width:17%;">
-        Session Name <span class="icon-sort unsorted"></span>
-      </th>
-      <th id="button_sortfqtype" class="button-sort-none toggle-sort">
-        Question Type <span class="icon-sort unsorted"></span>
-      </th>
-      <th id="button_sortfqtext" class="button-sort-none toggle-sort">
-        Question Text <span class="icon-sort unsorted"></span>
-      </th>
-    </tr>
-  </thead>
-  <c:forEach items="${data.copyQnForm.questionRows}" var="row">
-    <tr style="cursor:pointer;">
-      <td><input type="checkbox"></td>
-      <td>${row.courseId}</td>
-      <td>${row.fsName}</td>
-      <td>${row.qnType}</td>
-      <td>${fn:escapeXml(row.qnText)}</td>
-      <input type="hidden" value="${row.qnId}">
-      <input type="hidden" class="courseid" value="${row.courseId}">
-      <input type="hidden" class="fsname" value="${row.fsName}">
-    </tr>
-  </c:forEach>
-</table>
+<c:set var="sortOrder" value="${data.copyQnForm.sortOrder}" />
+<div id="copyQuestionsPanel">
+  <div class="input-group margin-bottom-15px">
+    <input type="text" class="form-control" id="copyQuestionsFilter"
+        placeholder="Filter by course ID, session name, question type or question text"
+        value="${fn:escapeXml(data.copyQnForm.filter)}">
+    <span class="input-group-btn">
+      <button type="button" class="btn btn-default" id="button_copy_questions_filter">Filter</button>
+    </span>
+  </div>
+  <table class="table-responsive table table-hover table-bordered margin-0" id="copyTableModal"
+      data-sort-order="${sortOrder}">
+    <thead class="fill-primary">
+      <tr>
+        <th style="width:30px;">&nbsp;</th>
+        <th id="button_sortid" class="copy-questions-sort" data-sort-order="COURSE" style="width:100px">
+          Course ID <span class="icon-sort ${sortOrder == 'COURSE' ? 'sorted-ascending' : 'unsorted'}"></span>
+        </th>
+        <th id="button_sortfsname" class="copy-questions-sort" data-sort-order="SESSION" style="width:17%;">
+          Session Name <span class="icon-sort ${sortOrder == 'SESSION' ? 'sorted-ascending' : 'unsorted'}"></span>
+        </th>
+        <th id="button_sortfqtype" class="copy-questions-sort" data-sort-order="TYPE">
+          Question Type <span class="icon-sort ${sortOrder == 'TYPE' ? 'sorted-ascending' : 'unsorted'}"></span>
+        </th>
+        <th id="button_sortfqtext" class="copy-questions-sort" data-sort-order="TEXT">
+          Question Text <span class="icon-sort ${sortOrder == 'TEXT' ? 'sorted-ascending' : 'unsorted'}"></span>
+        </th>
+      </tr>
+    </thead>
+    <c:forEach items="${data.copyQnForm.questionRows}" var="row">
+      <tr style="cursor:pointer;">
+        <td><input type="checkbox"></td>
+        <td>${row.courseId}</td>
+        <td>${row.fsName}</td>
+        <td>${row.qnType}</td>
+        <td>${fn:escapeXml(row.qnText)}</td>
+        <input type="hidden" value="${row.qnId}">
+        <input type="hidden" class="courseid" value="${row.courseId}">
+        <input type="hidden" class="fsname" value="${row.fsName}">
+      </tr>
+    </c:forEach>
+  </table>
+  <c:if test="${data.copyQnForm.hasPreviousPage || data.copyQnForm.hasNextPage}">
+    <ul class="pager margin-0">
+      <c:if test="${data.copyQnForm.hasPreviousPage}">
+        <li class="previous">
+          <a href="javascript:;" class="copy-questions-previous">
+            &larr; Previous
+          </a>
+        </li>
+      </c:if>
+      <li>Page ${data.copyQnForm.pageNumber}</li>
+      <c:if test="${data.copyQnForm.hasNextPage}">
+        <li class="next">
+          <a href="javascript:;" class="copy-questions-next"
+              data-cursor="${fn:escapeXml(data.copyQnForm.nextPageCursor)}">
+            Next &rarr;
+          </a>
+        </li>
+      </c:if>
+    </ul>
+  </c:if>
+</div>
@@ -190,6 +190,14 @@ public class BaseTestCase {
         AssertJUnit.assertNotNull(message, object);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        AssertJUnit.assertSame(expected, actual);
+    }
+
+    protected static void assertNotSame(Object unexpected, Object actual) {
+        AssertJUnit.assertNotSame(unexpected, actual);
+    }
+
     protected static void fail(String message) {
         AssertJUnit.fail(message);
     }
@@ -0,0 +1,80 @@
+package teammates.test.cases.action;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailOutboxBatchesLogic;
+import teammates.ui.controller.AdminEmailOutboxPageAction;
+import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.AdminEmailOutboxPageData;
+import teammates.ui.template.AdminEmailOutboxTableRow;
+
+/**
+ * SUT: {@link AdminEmailOutboxPageAction}.
+ */
+public class AdminEmailOutboxPageActionTest extends BaseActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.ADMIN_EMAIL_OUTBOX_PAGE;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() {
+
+        ______TS("Normal case: counts of the scheduled emails are shown");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("recipient" + i + "@email.tmt");
+            email.setSenderEmail("sender@email.tmt");
+            email.setSubject("AdminEmailOutboxPageActionTest");
+            email.setContent("<p>Content</p>");
+            emails.add(email);
+        }
+        List<EmailOutboxBatchAttributes> batches = EmailOutboxBatchesLogic.inst().createEmailOutboxBatches(emails);
+        assertEquals(1, batches.size());
+        String batchId = batches.get(0).getBatchId();
+
+        gaeSimulation.loginAsAdmin("admin.user");
+        AdminEmailOutboxPageAction a = getAction();
+
+        ShowPageResult result = getShowPageResult(a);
+        assertEquals(Const.ViewURIs.ADMIN_EMAIL_OUTBOX, result.destination);
+        assertEquals("", result.getStatusMessage());
+
+        AdminEmailOutboxPageData pageData = (AdminEmailOutboxPageData) result.data;
+        AdminEmailOutboxTableRow createdRow = null;
+        for (AdminEmailOutboxTableRow row : pageData.getOutboxTableRows()) {
+            if (batchId.equals(row.getBatchId())) {
+                createdRow = row;
+            }
+        }
+        assertNotNull(createdRow);
+        assertEquals("sender@email.tmt", createdRow.getSenderEmail());
+        assertEquals(3, createdRow.getNumberOfEmails());
+        assertEquals(3, createdRow.getPendingCount());
+        assertEquals(0, createdRow.getSentCount());
+        assertEquals(0, createdRow.getFailedCount());
+    }
+
+    @Override
+    protected AdminEmailOutboxPageAction getAction(String... params) {
+        return (AdminEmailOutboxPageAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {};
+        verifyOnlyAdminsCanAccess(submissionParams);
+    }
+
+}
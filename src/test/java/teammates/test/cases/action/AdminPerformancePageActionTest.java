@@ -0,0 +1,67 @@
+package teammates.test.cases.action;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetricsAggregator;
+import teammates.ui.controller.AdminPerformancePageAction;
+import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.AdminPerformancePageData;
+import teammates.ui.template.AdminPerformanceTableRow;
+
+/**
+ * SUT: {@link AdminPerformancePageAction}.
+ */
+public class AdminPerformancePageActionTest extends BaseActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.ADMIN_PERFORMANCE_PAGE;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() {
+
+        ______TS("Normal case: statistics of recorded requests are shown");
+
+        RequestMetrics metrics = RequestMetrics.start();
+        metrics.recordApiCall("datastore_v3.RunQuery", 10, 100, 1000);
+        metrics.stop();
+        RequestMetricsAggregator.record("AdminPerformancePageActionTestAction", 42, metrics);
+
+        gaeSimulation.loginAsAdmin("admin.user");
+        AdminPerformancePageAction a = getAction();
+
+        ShowPageResult result = getShowPageResult(a);
+        assertEquals(Const.ViewURIs.ADMIN_PERFORMANCE, result.destination);
+        assertEquals("", result.getStatusMessage());
+
+        AdminPerformancePageData pageData = (AdminPerformancePageData) result.data;
+        AdminPerformanceTableRow recordedRow = null;
+        for (AdminPerformanceTableRow row : pageData.getPerformanceTableRows()) {
+            if ("AdminPerformancePageActionTestAction".equals(row.getActionName())) {
+                recordedRow = row;
+            }
+        }
+        assertNotNull(recordedRow);
+        assertEquals(1, recordedRow.getTotalRequests());
+        assertEquals(42, recordedRow.getTimeTakenMedian());
+        assertEquals(1, recordedRow.getCallCountMedian());
+        assertEquals(1, recordedRow.getDatastoreCallCount90thPercentile());
+    }
+
+    @Override
+    protected AdminPerformancePageAction getAction(String... params) {
+        return (AdminPerformancePageAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {};
+        verifyOnlyAdminsCanAccess(submissionParams);
+    }
+
+}
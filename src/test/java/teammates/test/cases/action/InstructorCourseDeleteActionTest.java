@@ -49,6 +49,8 @@ public class InstructorCourseDeleteActionTest extends BaseActionTest {
                 redirectResult.getDestinationWithParams());
         assertFalse(redirectResult.isError);
         assertEquals("The course idOfTypicalCourse1 has been deleted.", redirectResult.getStatusMessage());
+        verifySpecifiedTasksAdded(deleteAction, Const.TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, 1);
+        assertFalse(CoursesLogic.inst().isCoursePresent(instructor1OfCourse1.courseId));
 
         List<CourseAttributes> courseList = CoursesLogic.inst().getCoursesForInstructor(instructorId);
         assertEquals(1, courseList.size());
@@ -8,6 +8,9 @@ import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.controller.InstructorFeedbackQuestionCopyPageAction;
 import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.InstructorFeedbackQuestionCopyPageData;
+import teammates.ui.template.FeedbackQuestionCopyTable;
+import teammates.ui.template.FeedbackQuestionTableRow;
 
 /**
  * SUT: {@link InstructorFeedbackQuestionCopyPageAction}.
@@ -44,6 +47,35 @@ public class InstructorFeedbackQuestionCopyPageActionTest extends BaseActionTest
 
         assertTrue(result.getStatusMessage().isEmpty());
 
+        InstructorFeedbackQuestionCopyPageData data = (InstructorFeedbackQuestionCopyPageData) result.data;
+        FeedbackQuestionCopyTable copyForm = data.getCopyQnForm();
+        assertFalse(copyForm.getQuestionRows().isEmpty());
+        assertEquals("COURSE", copyForm.getSortOrder());
+        assertEquals(1, copyForm.getPageNumber());
+        assertNull(copyForm.getNextPageCursor());
+
+        ______TS("filtered and sorted, with a page number but no cursor: first page");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, feedbackSessionAttributes.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionAttributes.getFeedbackSessionName(),
+                Const.ParamsNames.COPIABLE_QUESTIONS_FILTER, feedbackSessionAttributes.getFeedbackSessionName(),
+                Const.ParamsNames.COPIABLE_QUESTIONS_SORT_ORDER, "text",
+                Const.ParamsNames.COPIABLE_QUESTIONS_PAGE, "2"
+        };
+
+        action = getAction(submissionParams);
+        result = getShowPageResult(action);
+
+        copyForm = ((InstructorFeedbackQuestionCopyPageData) result.data).getCopyQnForm();
+        assertFalse(copyForm.getQuestionRows().isEmpty());
+        for (FeedbackQuestionTableRow row : copyForm.getQuestionRows()) {
+            assertEquals(feedbackSessionAttributes.getFeedbackSessionName(), row.getFsName());
+        }
+        assertEquals("TEXT", copyForm.getSortOrder());
+        assertEquals(1, copyForm.getPageNumber());
+        assertFalse(copyForm.isHasPreviousPage());
+
         ______TS("failure: non-existent feedback session");
 
         submissionParams = new String[] {
@@ -336,6 +336,8 @@ public class InstructorFeedbackQuestionEditActionTest extends BaseActionTest {
                 r.getDestinationWithParams());
         assertEquals(Const.StatusMessages.FEEDBACK_QUESTION_DELETED, r.getStatusMessage());
         assertFalse(r.isError);
+        assertNull(FeedbackQuestionsLogic.inst().getFeedbackQuestion(fq.getId()));
+        verifySpecifiedTasksAdded(a, Const.TaskQueue.FEEDBACK_QUESTION_DATA_DELETION_QUEUE_NAME, 1);
 
         ______TS("Unsuccessful case: test null course id parameter");
 
@@ -10,10 +10,14 @@ import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Url;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.ProfilesLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.ui.controller.ImageResult;
+import teammates.ui.controller.SignedImageResult;
+import teammates.ui.controller.SignedImageServlet;
 import teammates.ui.controller.StudentProfilePictureAction;
 
 /**
@@ -111,6 +115,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         gaeSimulation.loginAsInstructor("idOfInstructor1OfCourse1");
 
         testActionWithEmailAndCourseSuccessTypical(instructor);
+        testActionWithEmailAndCourseThumbnail();
         testActionWithEmailAndCourseNoStudent();
         testActionWithEmailAndCourseForUnregStudent();
     }
@@ -131,6 +136,45 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertEquals("", result.getStatusMessage());
         assertEquals("asdf34&hfn3!@", result.blobKey);
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
+
+        ______TS("Typical case: image is served from a signed URL");
+
+        assertTrue(result instanceof SignedImageResult);
+        long now = System.currentTimeMillis();
+        String signedUrl = ((SignedImageResult) result).getSignedUrl(now);
+        assertTrue(signedUrl.startsWith(Const.ActionURIs.SIGNED_IMAGE_SERVE));
+
+        Url parsedSignedUrl = new Url("http://localhost" + signedUrl);
+        String expiry = parsedSignedUrl.get(Const.ParamsNames.SIGNED_URL_EXPIRY);
+        String signature = parsedSignedUrl.get(Const.ParamsNames.SIGNED_URL_SIGNATURE);
+        assertTrue(SignedImageServlet.isValidSignedUrl(result.blobKey, expiry, signature, now));
+        assertFalse(SignedImageServlet.isValidSignedUrl("otherKey", expiry, signature, now));
+        assertFalse(SignedImageServlet.isValidSignedUrl(result.blobKey, expiry, signature, Long.parseLong(expiry)));
+        assertFalse(SignedImageServlet.isValidSignedUrl(result.blobKey, expiry, "invalidSignature", now));
+    }
+
+    private void testActionWithEmailAndCourseThumbnail() throws Exception {
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt(student.email),
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student.course),
+                Const.ParamsNames.PROFILE_PICTURE_VARIANT, Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL
+        };
+
+        ______TS("Typical case: thumbnail requested, but not recorded for the picture; picture served");
+
+        ImageResult result = getImageResult(getAction(submissionParams));
+
+        assertFalse(result.isError);
+        assertEquals(account.studentProfile.pictureKey, result.blobKey);
+
+        ______TS("Typical case: thumbnail requested and recorded; thumbnail served");
+
+        ProfilesLogic.inst().updateStudentProfilePicture(
+                account.googleId, account.studentProfile.pictureKey, "thumbnailKey");
+        result = getImageResult(getAction(submissionParams));
+
+        assertFalse(result.isError);
+        assertEquals("thumbnailKey", result.blobKey);
     }
 
     private void testActionWithEmailAndCourseNoStudent() {
@@ -0,0 +1,147 @@
+package teammates.test.cases.automated;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.attributes.AdminEmailAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.AdminEmailsLogic;
+import teammates.ui.automated.AdminPrepareEmailGroupModeWorkerAction;
+
+/**
+ * SUT: {@link AdminPrepareEmailGroupModeWorkerAction}.
+ */
+public class AdminPrepareEmailGroupModeWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String subject = "Group mode email subject";
+        AdminEmailAttributes adminEmail = AdminEmailAttributes
+                .builder(subject, new ArrayList<String>(), new ArrayList<String>(), new Text("Email content"))
+                .build();
+        adminEmailsLogic.createAdminEmail(adminEmail);
+        String emailId = adminEmailsLogic.getAdminEmailBySubject(subject).getEmailId();
+
+        // mix the supported separators and surrounding whitespace
+        String[] separators = new String[] { ",\r\n", ", ", "\n" };
+        List<String> receivers = new ArrayList<>();
+        StringBuilder receiverList = new StringBuilder();
+        for (int i = 0; i < 250; i++) {
+            String receiver = "receiver" + i + "@example.com";
+            receivers.add(receiver);
+            receiverList.append(receiver).append(separators[i % separators.length]);
+        }
+        String fileKey = GoogleCloudStorageHelper.writeImageDataToGcs(
+                "groupReceiverList", receiverList.toString().getBytes(StandardCharsets.UTF_8));
+
+        ______TS("typical case: all receivers in the list are scheduled");
+
+        AdminPrepareEmailGroupModeWorkerAction action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, fileKey);
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, 250);
+        assertEquals(receivers, getReceiversScheduled(action));
+
+        ______TS("resuming from an offset: only receivers after the offset are scheduled");
+
+        String firstReceivers = "receiver0@example.com,\r\nreceiver1@example.com, ";
+        int offset = firstReceivers.length();
+        assertTrue(receiverList.toString().startsWith(firstReceivers));
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, fileKey,
+                ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, String.valueOf(offset));
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, 248);
+        assertEquals(receivers.subList(2, receivers.size()), getReceiversScheduled(action));
+
+        ______TS("resuming at the end of the list: nothing is scheduled");
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, fileKey,
+                ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, String.valueOf(receiverList.length()));
+        action.execute();
+
+        verifyNoTasksAdded(action);
+
+        ______TS("receiver list without trailing separator");
+
+        String shortListKey = GoogleCloudStorageHelper.writeImageDataToGcs(
+                "groupReceiverList", "a@example.com,,b@example.com".getBytes(StandardCharsets.UTF_8));
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, shortListKey);
+        action.execute();
+
+        assertEquals(Arrays.asList("a@example.com", "b@example.com"), getReceiversScheduled(action));
+
+        ______TS("resuming past the end of the list: fails instead of scheduling nothing");
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, fileKey,
+                ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, String.valueOf(receiverList.length() + 1));
+        try {
+            action.execute();
+            signalFailureToDetectException();
+        } catch (IllegalArgumentException e) {
+            ignoreExpectedException();
+        }
+        verifyNoTasksAdded(action);
+
+        ______TS("resuming in a list that has been deleted: fails instead of scheduling nothing");
+
+        GoogleCloudStorageHelper.deleteFile(new BlobKey(shortListKey));
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, emailId,
+                ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, shortListKey,
+                ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, "14");
+        try {
+            action.execute();
+            signalFailureToDetectException();
+        } catch (IllegalArgumentException e) {
+            ignoreExpectedException();
+        }
+        verifyNoTasksAdded(action);
+    }
+
+    private List<String> getReceiversScheduled(AdminPrepareEmailGroupModeWorkerAction action) {
+        List<String> receivers = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            assertEquals(Const.TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, task.getQueueName());
+            receivers.add(task.getParamMap().get(ParamsNames.ADMIN_EMAIL_RECEIVER)[0]);
+        }
+        return receivers;
+    }
+
+    @Override
+    protected AdminPrepareEmailGroupModeWorkerAction getAction(String... params) {
+        return (AdminPrepareEmailGroupModeWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
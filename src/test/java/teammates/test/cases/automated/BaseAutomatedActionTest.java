@@ -1,12 +1,20 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailOutboxBatchesLogic;
+import teammates.logic.core.OutboxEmailsLogic;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +54,30 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the emails scheduled for sending by {@code action}, from the email outbox chunks
+     * referenced by all the send email tasks it added.
+     */
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                continue;
+            }
+            String batchId = task.getParamMap().get(ParamsNames.EMAIL_OUTBOX_BATCH_ID)[0];
+            int chunk = Integer.parseInt(task.getParamMap().get(ParamsNames.EMAIL_OUTBOX_CHUNK)[0]);
+            EmailOutboxBatchAttributes batch = EmailOutboxBatchesLogic.inst().getEmailOutboxBatch(batchId);
+            for (OutboxEmailAttributes outboxEmail : OutboxEmailsLogic.inst().getUnsentOutboxEmails(batch, chunk)) {
+                emails.add(outboxEmail.toEmailWrapper(batch));
+            }
+        }
+        return emails;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -0,0 +1,121 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.ThreadHelper;
+import teammates.logic.core.SevereLogsCheckpointsLogic;
+import teammates.ui.automated.CompileLogsAction;
+
+/**
+ * SUT: {@link CompileLogsAction}.
+ */
+public class CompileLogsActionTest extends BaseAutomatedActionTest {
+
+    private static final int LOG_LEVEL_INFO = 1;
+    private static final int LOG_LEVEL_ERROR = 3;
+    private static final int LOG_LEVEL_FATAL = 4;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_LOG_COMPILATION;
+    }
+
+    @Test
+    public void allTests() {
+
+        gaeSimulation.clearLogs();
+
+        ______TS("no severe logs: no email sent");
+
+        long now = System.currentTimeMillis();
+        addLogLine("request1", now - 60 * 1000, LOG_LEVEL_INFO, "Info log message");
+
+        CompileLogsAction action = getAction();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+
+        ______TS("identical severe logs are aggregated into one entry");
+
+        addLogLine("request2", now - 50 * 1000, LOG_LEVEL_ERROR, "Repeated error message");
+        addLogLine("request3", now - 40 * 1000, LOG_LEVEL_ERROR, "Repeated error message");
+        addLogLine("request4", now - 30 * 1000, LOG_LEVEL_ERROR, "Repeated error message");
+        addLogLine("request5", now - 20 * 1000, LOG_LEVEL_FATAL, "Fatal error message");
+
+        // the first compilation has no checkpoint and falls back to the default time range
+        SevereLogsCheckpointsLogic.inst().deleteCheckpoint();
+        action = getAction();
+        action.execute();
+
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        assertEquals(1, emailsSent.size());
+        String content = emailsSent.get(0).getContent();
+        assertTrue(content.contains("Occurrences: 3"));
+        assertTrue(content.contains("Repeated error message"));
+        assertTrue(content.contains("Occurrences: 1"));
+        assertTrue(content.contains("Fatal error message"));
+        assertFalse(content.contains("Info log message"));
+
+        ______TS("logs compiled previously are not compiled again");
+
+        ThreadHelper.waitBriefly();
+        action = getAction();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+
+        ______TS("only logs after the checkpoint are compiled");
+
+        ThreadHelper.waitBriefly();
+        addLogLine("request6", System.currentTimeMillis(), LOG_LEVEL_ERROR, "New error message");
+        ThreadHelper.waitBriefly();
+
+        action = getAction();
+        action.execute();
+
+        emailsSent = getEmailsSent(action);
+        assertEquals(1, emailsSent.size());
+        content = emailsSent.get(0).getContent();
+        assertTrue(content.contains("New error message"));
+        assertFalse(content.contains("Repeated error message"));
+
+        ______TS("logs arriving after their time range was compiled are still compiled, once");
+
+        addLogLine("request7", System.currentTimeMillis() - 10 * 1000, LOG_LEVEL_ERROR, "Late error message");
+        ThreadHelper.waitBriefly();
+
+        action = getAction();
+        action.execute();
+
+        emailsSent = getEmailsSent(action);
+        assertEquals(1, emailsSent.size());
+        content = emailsSent.get(0).getContent();
+        assertTrue(content.contains("Late error message"));
+        assertFalse(content.contains("New error message"));
+
+        ThreadHelper.waitBriefly();
+        action = getAction();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+    }
+
+    private void addLogLine(String requestId, long timeMillis, int level, String message) {
+        String testStr = "TEST";
+        String defaultVersion = "1";
+        gaeSimulation.addLogRequestInfo(testStr, defaultVersion, requestId, testStr,
+                testStr, timeMillis * 1000, timeMillis * 1000, testStr, testStr, testStr, testStr,
+                true, 200, testStr);
+        gaeSimulation.addAppLogLine(requestId, timeMillis * 1000, level, message);
+    }
+
+    @Override
+    protected CompileLogsAction getAction(String... params) {
+        return (CompileLogsAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CascadeDeletionStage;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.FeedbackQuestionsDb;
+import teammates.storage.api.FeedbackResponsesDb;
+import teammates.ui.automated.CourseDataDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDataDeletionWorkerAction}.
+ */
+public class CourseDataDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DATA_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+
+        ______TS("course marked for deletion: hidden, but its data is still there");
+
+        coursesLogic.markCourseForDeletion(courseId);
+
+        assertNull(coursesLogic.getCourse(courseId));
+        assertTrue(coursesLogic.isCourseBeingDeleted(courseId));
+        assertFalse(StudentsLogic.inst().getStudentsForCourse(courseId).isEmpty());
+
+        ______TS("typical case: data of the course is deleted, then the course itself");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.CASCADE_DELETION_STAGE, CascadeDeletionStage.first().name()
+        };
+
+        CourseDataDeletionWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertFalse(coursesLogic.isCourseBeingDeleted(courseId));
+        assertTrue(StudentsLogic.inst().getStudentsForCourse(courseId).isEmpty());
+        assertTrue(FeedbackResponseCommentsLogic.inst()
+                .getFeedbackResponseCommentForSession(courseId, session.getFeedbackSessionName()).isEmpty());
+        assertTrue(new FeedbackResponsesDb()
+                .getFeedbackResponsesForSession(session.getFeedbackSessionName(), courseId).isEmpty());
+        assertTrue(new FeedbackQuestionsDb()
+                .getFeedbackQuestionsForSession(session.getFeedbackSessionName(), courseId).isEmpty());
+
+        coursesLogic.createCourse(courseId, "Course reusing ID", "UTC");
+        assertNotNull(coursesLogic.getCourse(courseId));
+
+        ______TS("ID reused before the worker runs: deletion completed first, worker stops");
+
+        removeAndRestoreTypicalDataBundle();
+        coursesLogic.markCourseForDeletion(courseId);
+
+        coursesLogic.createCourse(courseId, "Course reusing ID", "UTC");
+
+        assertNotNull(coursesLogic.getCourse(courseId));
+        assertFalse(coursesLogic.isCourseBeingDeleted(courseId));
+        assertTrue(StudentsLogic.inst().getStudentsForCourse(courseId).isEmpty());
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNotNull(coursesLogic.getCourse(courseId));
+    }
+
+    @Override
+    protected CourseDataDeletionWorkerAction getAction(String... params) {
+        return (CourseDataDeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,82 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CascadeDeletionStage;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackQuestionDataDeletionWorkerAction;
+
+/**
+ * SUT: {@link FeedbackQuestionDataDeletionWorkerAction}.
+ */
+public class FeedbackQuestionDataDeletionWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_QUESTION_DATA_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        FeedbackQuestionAttributes typicalQuestion = dataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(
+                typicalQuestion.feedbackSessionName, typicalQuestion.courseId, typicalQuestion.questionNumber);
+
+        ______TS("question deleted without responses: responses are left behind");
+
+        FeedbackQuestionAttributes deletedQuestion = fqLogic.deleteFeedbackQuestionWithoutResponses(question.getId());
+
+        assertEquals(question.getId(), deletedQuestion.getId());
+        assertNull(fqLogic.getFeedbackQuestion(question.getId()));
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        assertTrue(getNumberOfCommentsForQuestion(question) > 0);
+
+        ______TS("typical case: responses and comments of the deleted question are deleted");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.FEEDBACK_QUESTION_ID, question.getId(),
+                ParamsNames.FEEDBACK_QUESTION_GIVERTYPE, question.giverType.name(),
+                ParamsNames.CASCADE_DELETION_STAGE, CascadeDeletionStage.first().name()
+        };
+
+        FeedbackQuestionDataDeletionWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertTrue(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        assertEquals(0, getNumberOfCommentsForQuestion(question));
+
+        ______TS("question already without responses: nothing to delete");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    private int getNumberOfCommentsForQuestion(FeedbackQuestionAttributes question) {
+        int numberOfComments = 0;
+        for (FeedbackResponseCommentAttributes comment : FeedbackResponseCommentsLogic.inst()
+                .getFeedbackResponseCommentForSession(question.courseId, question.feedbackSessionName)) {
+            if (comment.feedbackQuestionId.equals(question.getId())) {
+                numberOfComments++;
+            }
+        }
+        return numberOfComments;
+    }
+
+    @Override
+    protected FeedbackQuestionDataDeletionWorkerAction getAction(String... params) {
+        return (FeedbackQuestionDataDeletionWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -75,6 +75,32 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         List<FeedbackResponseAttributes> newResponsesForSession =
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
+        verifyNoTasksAdded(action);
+
+        ______TS("resumed task: enrollments before the offset are skipped");
+
+        student = dataBundle.students.get("student2InCourse1");
+        oldResponsesForSession = getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
+        assertFalse(oldResponsesForSession.isEmpty());
+
+        enrollDetails = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                 student.team, newTeam, student.section, newSection);
+        enrollList = new ArrayList<>();
+        enrollList.add(enrollDetails);
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList),
+                ParamsNames.ENROLLMENT_DETAILS_OFFSET, "1"
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        newResponsesForSession = getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
+        assertEquals(oldResponsesForSession.size(), newResponsesForSession.size());
+        verifyNoTasksAdded(action);
 
     }
 
@@ -0,0 +1,69 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackResponsesEmailUpdateWorkerAction;
+
+/**
+ * SUT: {@link FeedbackResponsesEmailUpdateWorkerAction}.
+ */
+public class FeedbackResponsesEmailUpdateWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_RESPONSES_EMAIL_UPDATE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        String newEmail = "new.email.of.student1@course1.tmt";
+
+        int numberOfResponsesFromStudent = frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email)
+                                                  .size();
+        int numberOfResponsesToStudent = frLogic.getFeedbackResponsesForReceiverForCourse(student.course, student.email)
+                                                .size();
+        assertTrue(numberOfResponsesFromStudent > 0);
+        assertTrue(numberOfResponsesToStudent > 0);
+
+        ______TS("typical case: responses left under the old email are updated");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.STUDENT_EMAIL, student.email,
+                ParamsNames.NEW_STUDENT_EMAIL, newEmail
+        };
+
+        FeedbackResponsesEmailUpdateWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesForReceiverForCourse(student.course, student.email).isEmpty());
+        assertEquals(numberOfResponsesFromStudent,
+                     frLogic.getFeedbackResponsesFromGiverForCourse(student.course, newEmail).size());
+        assertEquals(numberOfResponsesToStudent,
+                     frLogic.getFeedbackResponsesForReceiverForCourse(student.course, newEmail).size());
+
+        ______TS("no responses left under the old email: nothing to update");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(numberOfResponsesFromStudent,
+                     frLogic.getFeedbackResponsesFromGiverForCourse(student.course, newEmail).size());
+    }
+
+    @Override
+    protected FeedbackResponsesEmailUpdateWorkerAction getAction(String... params) {
+        return (FeedbackResponsesEmailUpdateWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,97 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.datatransfer.attributes.EmailOutboxBatchAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailOutboxBatchesLogic;
+import teammates.logic.core.OutboxEmailsLogic;
+import teammates.ui.automated.SendEmailWorkerAction;
+
+/**
+ * SUT: {@link SendEmailWorkerAction}.
+ */
+public class SendEmailWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final EmailOutboxBatchesLogic emailOutboxBatchesLogic = EmailOutboxBatchesLogic.inst();
+    private static final OutboxEmailsLogic outboxEmailsLogic = OutboxEmailsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: chunk of emails in the outbox sent together");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setSenderEmail("sender@email.tmt");
+            email.setSenderName("Sender");
+            email.setReplyTo("replyto@email.tmt");
+            email.setRecipient("recipient" + i + "@email.tmt");
+            email.setSubject("Subject " + i);
+            email.setContent("<p>Content " + i + "</p>");
+            emails.add(email);
+        }
+
+        List<EmailOutboxBatchAttributes> batches = emailOutboxBatchesLogic.createEmailOutboxBatches(emails);
+        assertEquals(1, batches.size());
+        String batchId = batches.get(0).getBatchId();
+
+        String[] submissionParams = new String[] {
+                ParamsNames.EMAIL_OUTBOX_BATCH_ID, batchId,
+                ParamsNames.EMAIL_OUTBOX_CHUNK, "0"
+        };
+
+        SendEmailWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 3);
+
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(emails.get(i).getSenderEmail(), emailsSent.get(i).getSenderEmail());
+            assertEquals(emails.get(i).getReplyTo(), emailsSent.get(i).getReplyTo());
+            assertEquals(emails.get(i).getRecipient(), emailsSent.get(i).getRecipient());
+            assertEquals(emails.get(i).getSubject(), emailsSent.get(i).getSubject());
+            assertEquals(emails.get(i).getContent(), emailsSent.get(i).getContent());
+        }
+
+        Map<OutboxEmailStatus, Integer> counts = outboxEmailsLogic.getOutboxEmailCounts(batchId);
+        assertEquals(0, counts.get(OutboxEmailStatus.PENDING).intValue());
+        assertEquals(3, counts.get(OutboxEmailStatus.SENT).intValue());
+        assertEquals(0, counts.get(OutboxEmailStatus.FAILED).intValue());
+
+        ______TS("retried task: emails already sent are not sent again");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoEmailsSent(action);
+
+        ______TS("non-existent batch: nothing sent");
+
+        action = getAction(ParamsNames.EMAIL_OUTBOX_BATCH_ID, "non-existent-batch",
+                           ParamsNames.EMAIL_OUTBOX_CHUNK, "0");
+        action.execute();
+
+        verifyNoEmailsSent(action);
+    }
+
+    @Override
+    protected SendEmailWorkerAction getAction(String... params) {
+        return (SendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
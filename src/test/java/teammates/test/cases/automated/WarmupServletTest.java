@@ -0,0 +1,48 @@
+package teammates.test.cases.automated;
+
+import java.util.TimeZone;
+
+import org.testng.annotations.Test;
+
+import com.google.apphosting.api.ApiProxy;
+import com.google.apphosting.api.ApiProxy.Delegate;
+import com.google.apphosting.api.ApiProxy.Environment;
+
+import teammates.common.util.Const.SystemParams;
+import teammates.common.util.ProfilingApiProxyDelegate;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.automated.WarmupServlet;
+
+/**
+ * SUT: {@link WarmupServlet}.
+ */
+public class WarmupServletTest extends BaseComponentTestCase {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDoGet() {
+        TimeZone originalTimeZone = TimeZone.getDefault();
+        Delegate<Environment> originalDelegate = ApiProxy.getDelegate();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Singapore"));
+
+        try {
+            ______TS("warmup does the setup of the controller servlet");
+
+            new WarmupServlet().doGet(null, null);
+
+            assertEquals(SystemParams.TIME_ZONE, TimeZone.getDefault());
+            assertTrue(ApiProxy.getDelegate() instanceof ProfilingApiProxyDelegate);
+
+            ______TS("warmup can be repeated");
+
+            Delegate<Environment> installedDelegate = ApiProxy.getDelegate();
+            new WarmupServlet().doGet(null, null);
+
+            assertSame(installedDelegate, ApiProxy.getDelegate());
+        } finally {
+            TimeZone.setDefault(originalTimeZone);
+            ApiProxy.setDelegate(originalDelegate);
+        }
+    }
+
+}
@@ -386,7 +386,7 @@ public class InstructorFeedbackResultsPageUiTest extends BaseUiTestCase {
 
         resultsPage.removeNavBar();
         resultsPage.hoverClickAndViewGiverPhotoOnTableCell(
-                0, 0, "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                0, 0, "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.hoverClickAndViewRecipientPhotoOnTableCell(0, 0, Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
 
         ______TS("Typical case: ajax for view by question for helper 1");
@@ -415,9 +415,9 @@ public class InstructorFeedbackResultsPageUiTest extends BaseUiTestCase {
 
         resultsPage.removeNavBar();
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.hoverAndViewStudentPhotoOnBody("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-2", Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
 
         ______TS("Typical case: ajax for view by giver > question > recipient");
@@ -431,7 +431,7 @@ public class InstructorFeedbackResultsPageUiTest extends BaseUiTestCase {
 
         resultsPage.removeNavBar();
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.clickViewPhotoLink("1-2", Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
 
         ______TS("Typical case: ajax for view by recipient > question > giver");
@@ -445,8 +445,9 @@ public class InstructorFeedbackResultsPageUiTest extends BaseUiTestCase {
 
         resultsPage.removeNavBar();
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
-        resultsPage.clickViewPhotoLink("1-2", "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
+        resultsPage.clickViewPhotoLink("1-2",
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
 
         ______TS("Typical case: ajax for view by recipient > giver > question");
 
@@ -459,9 +460,9 @@ public class InstructorFeedbackResultsPageUiTest extends BaseUiTestCase {
 
         resultsPage.removeNavBar();
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.hoverAndViewStudentPhotoOnBody("1-1",
-                "studentProfilePic?studentemail={*}&courseid={*}&user=CFResultsUiT.instr");
+                "studentProfilePic?studentemail={*}&courseid={*}&picturevariant=thumbnail&user=CFResultsUiT.instr");
         resultsPage.hoverClickAndViewStudentPhotoOnHeading("1-2", Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
     }
 
@@ -183,6 +183,7 @@ public class InstructorStudentListPageUiTest extends BaseUiTestCase {
         String photoUrl = createUrl(Const.ActionURIs.STUDENT_PROFILE_PICTURE)
                                         .withStudentEmail(StringHelper.encrypt(student2.email))
                                         .withCourseId(StringHelper.encrypt(student2.course))
+                                        .withProfilePictureVariant(Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL)
                                         .withUserId(instructorId)
                                         .toAbsoluteString();
         viewPage.verifyProfilePhoto(student2.course, student2.name, photoUrl);
@@ -1,6 +1,7 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -75,6 +76,13 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(roster.getInstructorForEmail("ins2@email.com").email, "ins2@email.com");
         assertEquals(roster.getInstructorForEmail("ins2@email.com").name, "Jean");
 
+        ______TS("teams of multiple students");
+
+        assertEquals(2, roster.getStudentsForTeam("team 1").size());
+        assertEquals("s3@gmail.com", roster.getStudentsForTeam("team 2").get(0).email);
+        assertTrue(roster.getStudentsForTeam("team 123").isEmpty());
+        assertEquals(Arrays.asList("team 1", "team 2"), roster.getTeamNames());
+
     }
 
     private List<StudentAttributes> createStudentList(String... studentData) {
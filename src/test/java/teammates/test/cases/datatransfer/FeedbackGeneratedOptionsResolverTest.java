@@ -0,0 +1,128 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackGeneratedOptionsResolver;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackGeneratedOptionsResolver}.
+ */
+public class FeedbackGeneratedOptionsResolverTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "idOfTypicalCourse1";
+
+    private DataBundle typicalBundle = getTypicalDataBundle();
+
+    @Test
+    public void testGetOptions() {
+        List<StudentAttributes> students = getStudentsForCourse();
+        List<InstructorAttributes> instructors = getInstructorsForCourse();
+        FeedbackGeneratedOptionsResolver resolver = new FeedbackGeneratedOptionsResolver(() -> students, () -> instructors);
+
+        ______TS("students: sorted names with teams");
+
+        List<String> expected = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            expected.add(student.name + " (" + student.team + ")");
+        }
+        expected.sort(null);
+        assertEquals(expected, resolver.getOptions(FeedbackParticipantType.STUDENTS));
+
+        ______TS("teams: sorted team names");
+
+        TreeSet<String> teamNames = new TreeSet<>();
+        for (StudentAttributes student : students) {
+            teamNames.add(student.team);
+        }
+        assertEquals(new ArrayList<>(teamNames), resolver.getOptions(FeedbackParticipantType.TEAMS));
+
+        ______TS("instructors: sorted instructor names");
+
+        expected = new ArrayList<>();
+        for (InstructorAttributes instructor : instructors) {
+            expected.add(instructor.name);
+        }
+        expected.sort(null);
+        assertEquals(expected, resolver.getOptions(FeedbackParticipantType.INSTRUCTORS));
+
+        ______TS("course without roster: no options");
+
+        resolver = new FeedbackGeneratedOptionsResolver(() -> new ArrayList<>(), () -> new ArrayList<>());
+        assertTrue(resolver.getOptions(FeedbackParticipantType.STUDENTS).isEmpty());
+        assertTrue(resolver.getOptions(FeedbackParticipantType.TEAMS).isEmpty());
+        assertTrue(resolver.getOptions(FeedbackParticipantType.INSTRUCTORS).isEmpty());
+    }
+
+    @Test
+    public void testRosterLoading() {
+        List<StudentAttributes> students = getStudentsForCourse();
+        List<InstructorAttributes> instructors = getInstructorsForCourse();
+        int[] numberOfLoads = new int[2];
+        FeedbackGeneratedOptionsResolver resolver = new FeedbackGeneratedOptionsResolver(
+                () -> {
+                    numberOfLoads[0]++;
+                    return students;
+                },
+                () -> {
+                    numberOfLoads[1]++;
+                    return instructors;
+                });
+
+        ______TS("the roster is not loaded until options are needed");
+
+        assertEquals(Arrays.asList(0, 0), Arrays.asList(numberOfLoads[0], numberOfLoads[1]));
+
+        ______TS("students are loaded once for both student and team options");
+
+        List<String> studentOptions = resolver.getOptions(FeedbackParticipantType.STUDENTS);
+        resolver.getOptions(FeedbackParticipantType.TEAMS);
+        assertEquals(Arrays.asList(1, 0), Arrays.asList(numberOfLoads[0], numberOfLoads[1]));
+
+        ______TS("options are computed once for each participant type");
+
+        assertSame(studentOptions, resolver.getOptions(FeedbackParticipantType.STUDENTS));
+        resolver.getOptions(FeedbackParticipantType.INSTRUCTORS);
+        resolver.getOptions(FeedbackParticipantType.INSTRUCTORS);
+        assertEquals(Arrays.asList(1, 1), Arrays.asList(numberOfLoads[0], numberOfLoads[1]));
+
+        ______TS("the options cannot be modified");
+
+        try {
+            studentOptions.add("new option");
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+    }
+
+    private List<StudentAttributes> getStudentsForCourse() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (StudentAttributes student : typicalBundle.students.values()) {
+            if (student.course.equals(COURSE_ID)) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    private List<InstructorAttributes> getInstructorsForCourse() {
+        List<InstructorAttributes> instructors = new ArrayList<>();
+        for (InstructorAttributes instructor : typicalBundle.instructors.values()) {
+            if (instructor.courseId.equals(COURSE_ID)) {
+                instructors.add(instructor);
+            }
+        }
+        return instructors;
+    }
+
+}
@@ -13,6 +13,7 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.util.Const;
@@ -194,6 +195,29 @@ public class FeedbackQuestionAttributesTest extends BaseTestCase {
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
     }
 
+    @Test
+    public void testGetQuestionDetails_parsedOnce() {
+        FeedbackQuestionAttributes fq = typicalBundle.feedbackQuestions.get("qn1InSession1InCourse1").getCopy();
+        FeedbackQuestionDetails questionDetails = fq.getQuestionDetails();
+
+        ______TS("details are kept by the question, but not shared with its copies");
+
+        assertSame(questionDetails, fq.getQuestionDetails());
+        FeedbackQuestionAttributes copy = fq.getCopy();
+        FeedbackQuestionDetails copyDetails = copy.getQuestionDetails();
+        assertNotSame(questionDetails, copyDetails);
+        assertEquals(questionDetails.getQuestionText(), copyDetails.getQuestionText());
+
+        ______TS("details are parsed again after the meta data is changed");
+
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Changed question text"));
+        assertEquals("Changed question text", fq.getQuestionDetails().getQuestionText());
+        assertSame(copyDetails, copy.getQuestionDetails());
+
+        fq.questionMetaData = copy.questionMetaData;
+        assertEquals(questionDetails.getQuestionText(), fq.getQuestionDetails().getQuestionText());
+    }
+
     @Test
     public void testRemoveIrrelevantVisibilityOptions() {
 
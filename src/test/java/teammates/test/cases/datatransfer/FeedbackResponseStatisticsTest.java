@@ -0,0 +1,107 @@
+package teammates.test.cases.datatransfer;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics.Accumulator;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackResponseStatistics}.
+ */
+public class FeedbackResponseStatisticsTest extends BaseTestCase {
+
+    @Test
+    public void testAccumulatorFor() {
+        FeedbackResponseStatistics statistics = new FeedbackResponseStatistics();
+        assertTrue(statistics.isEmpty());
+        assertNull(statistics.get("recipient"));
+
+        ______TS("accumulator is created once per key");
+
+        Accumulator accumulator = statistics.accumulatorFor("recipient");
+        assertSame(accumulator, statistics.accumulatorFor("recipient"));
+        assertSame(accumulator, statistics.get("recipient"));
+        assertFalse(statistics.isEmpty());
+
+        statistics.accumulatorFor("another recipient");
+        assertEquals(2, statistics.getKeys().size());
+        assertTrue(statistics.getKeys().contains("another recipient"));
+    }
+
+    @Test
+    public void testAdd() {
+        Accumulator accumulator = new FeedbackResponseStatistics().accumulatorFor("recipient");
+        accumulator.add(2);
+        accumulator.add(4);
+        accumulator.add(4.5);
+
+        assertEquals(3, accumulator.getCount());
+        assertEquals(10.5, accumulator.getSum(), 0.0001);
+        assertEquals(40.25, accumulator.getSumOfSquares(), 0.0001);
+        assertEquals(3.5, accumulator.getAverage(), 0.0001);
+        assertEquals(2, accumulator.getMin(), 0.0001);
+        assertEquals(4.5, accumulator.getMax(), 0.0001);
+        assertEquals(Math.sqrt(7.0 / 6), accumulator.getStandardDeviation(), 0.0001);
+
+        ______TS("values are only kept by addValue");
+
+        assertEquals(0, accumulator.getValues().length);
+    }
+
+    @Test
+    public void testAddValue() {
+        Accumulator accumulator = new FeedbackResponseStatistics().accumulatorFor("option");
+        int[] values = { 30, 10, 20, 10, 50, 40, 0, 60, 70, 80 };
+        for (int value : values) {
+            accumulator.addValue(value);
+        }
+
+        assertEquals(10, accumulator.getCount());
+        assertEquals(370, accumulator.getSum(), 0.0001);
+        assertEquals(0, accumulator.getMin(), 0.0001);
+        assertEquals(80, accumulator.getMax(), 0.0001);
+
+        ______TS("values in insertion order and in ascending order");
+
+        assertArrayEquals(values, accumulator.getValues());
+        assertArrayEquals(new int[] { 0, 10, 10, 20, 30, 40, 50, 60, 70, 80 }, accumulator.getSortedValues());
+        assertArrayEquals(values, accumulator.getValues());
+    }
+
+    @Test
+    public void testExcludingSelf() {
+        Accumulator accumulator = new FeedbackResponseStatistics().accumulatorFor("recipient");
+
+        ______TS("only self responses: no average excluding self");
+
+        accumulator.addValue(1);
+        accumulator.setSelfValue(1);
+        assertEquals(0, accumulator.getCountExcludingSelf());
+        assertNull(accumulator.getAverageExcludingSelf());
+        assertTrue(accumulator.hasSelfValue());
+        assertEquals(1, accumulator.getSelfValue());
+
+        ______TS("responses by others are averaged separately");
+
+        accumulator.addValue(2);
+        accumulator.addExcludingSelf(2);
+        accumulator.addValue(3);
+        accumulator.addExcludingSelf(3);
+        assertEquals(3, accumulator.getCount());
+        assertEquals(2, accumulator.getAverage(), 0.0001);
+        assertEquals(2, accumulator.getCountExcludingSelf());
+        assertEquals(2.5, accumulator.getAverageExcludingSelf(), 0.0001);
+
+        ______TS("no self response");
+
+        Accumulator withoutSelf = new FeedbackResponseStatistics().accumulatorFor("recipient");
+        withoutSelf.addValue(4);
+        withoutSelf.addExcludingSelf(4);
+        assertFalse(withoutSelf.hasSelfValue());
+        assertEquals(4, withoutSelf.getAverageExcludingSelf(), 0.0001);
+    }
+
+}
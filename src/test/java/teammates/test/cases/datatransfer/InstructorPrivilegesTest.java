@@ -7,6 +7,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -379,6 +380,52 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAfterChanges() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        String sectionId = "sectionId";
+        String sessionId = "sessionId";
+
+        ______TS("checks reflect changes made after earlier checks");
+
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        privileges.updatePrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                "anotherSessionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        privileges.removeSectionLevelPrivileges(sectionId);
+        assertTrue(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        privileges.setDefaultPrivilegesForObserver();
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("privileges loaded from JSON are checked like the original privileges");
+
+        privileges.updatePrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        InstructorPrivileges loadedPrivileges =
+                JsonUtils.fromJson(JsonUtils.toJson(privileges, InstructorPrivileges.class), InstructorPrivileges.class);
+        assertEquals(privileges, loadedPrivileges);
+        assertTrue(loadedPrivileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(loadedPrivileges.isAllowedForPrivilege(
+                sectionId, "anotherSessionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
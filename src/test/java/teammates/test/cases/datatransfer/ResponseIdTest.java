@@ -0,0 +1,73 @@
+package teammates.test.cases.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ResponseId;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link ResponseId}.
+ */
+public class ResponseIdTest extends BaseTestCase {
+
+    @Test
+    public void testOf() {
+        ResponseId responseId = ResponseId.of("123", "giver@example.com", "recipient@example.com");
+
+        assertEquals("123", responseId.getFeedbackQuestionId());
+        assertEquals("giver@example.com", responseId.getGiver());
+        assertEquals("recipient@example.com", responseId.getRecipient());
+        assertEquals("123%giver@example.com%recipient@example.com", responseId.toString());
+
+        ______TS("components are interned");
+
+        assertSame("giver@example.com".intern(), responseId.getGiver());
+    }
+
+    @Test
+    public void testParse() {
+
+        ______TS("typical case");
+
+        ResponseId responseId = ResponseId.parse("123%giver@example.com%Team 1");
+        assertEquals("123", responseId.getFeedbackQuestionId());
+        assertEquals("giver@example.com", responseId.getGiver());
+        assertEquals("Team 1", responseId.getRecipient());
+        assertEquals(ResponseId.of("123", "giver@example.com", "Team 1"), responseId);
+
+        ______TS("recipient containing the separator");
+
+        responseId = ResponseId.parse("123%giver@example.com%" + Const.GENERAL_QUESTION);
+        assertEquals("giver@example.com", responseId.getGiver());
+        assertEquals(Const.GENERAL_QUESTION, responseId.getRecipient());
+        assertEquals("123%giver@example.com%" + Const.GENERAL_QUESTION, responseId.toString());
+
+        ______TS("not a response ID");
+
+        assertNull(ResponseId.parse(null));
+        assertNull(ResponseId.parse("123"));
+        assertNull(ResponseId.parse("123%giver@example.com"));
+    }
+
+    @Test
+    public void testWithFeedbackQuestionId() {
+        ResponseId responseId = ResponseId.parse("1%giver@example.com%recipient@example.com");
+
+        assertEquals("456%giver@example.com%recipient@example.com",
+                responseId.withFeedbackQuestionId("456").toString());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        ResponseId responseId = ResponseId.of("123", "giver@example.com", "recipient@example.com");
+        ResponseId sameResponseId = ResponseId.parse("123%giver@example.com%recipient@example.com");
+        ResponseId otherResponseId = ResponseId.of("123", "recipient@example.com", "giver@example.com");
+
+        assertEquals(responseId, sameResponseId);
+        assertEquals(responseId.hashCode(), sameResponseId.hashCode());
+        assertFalse(responseId.equals(otherResponseId));
+        assertFalse(responseId.equals("123%giver@example.com%recipient@example.com"));
+    }
+
+}
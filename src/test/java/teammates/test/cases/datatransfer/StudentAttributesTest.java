@@ -461,6 +461,7 @@ public class StudentAttributesTest extends BaseTestCase {
         String profilePicUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_PROFILE_PICTURE)
                                        .withStudentEmail(StringHelper.encrypt("email@email.com"))
                                        .withCourseId(StringHelper.encrypt("course1"))
+                                       .withProfilePictureVariant(Const.SystemParams.PROFILE_PICTURE_VARIANT_THUMBNAIL)
                                        .toString();
         assertEquals(profilePicUrl, studentAttributes.getPublicProfilePictureUrl());
     }
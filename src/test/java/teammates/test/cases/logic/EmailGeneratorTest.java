@@ -13,6 +13,7 @@ import org.testng.annotations.Test;
 import com.google.appengine.api.log.AppLogLine;
 import com.google.appengine.api.log.LogService.LogLevel;
 
+import teammates.common.datatransfer.SevereLogsCompilation;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -426,16 +427,35 @@ public class EmailGeneratorTest extends BaseLogicTest {
 
     @Test
     public void testGenerateCompiledLogsEmail() throws IOException {
+        long logTimeMillis = 1514764800000L;
+
         AppLogLine typicalLogLine = new AppLogLine();
         typicalLogLine.setLogLevel(LogLevel.ERROR);
         typicalLogLine.setLogMessage("Typical log message");
+        typicalLogLine.setTimeUsec(logTimeMillis * 1000);
+
+        AppLogLine repeatedTypicalLogLine = new AppLogLine();
+        repeatedTypicalLogLine.setLogLevel(LogLevel.ERROR);
+        repeatedTypicalLogLine.setLogMessage("Typical log message");
+        repeatedTypicalLogLine.setTimeUsec((logTimeMillis + 60 * 1000) * 1000);
 
         AppLogLine logLineWithLineBreak = new AppLogLine();
         logLineWithLineBreak.setLogLevel(LogLevel.ERROR);
         logLineWithLineBreak.setLogMessage("Log line \n with line break <br> and also HTML br tag");
+        logLineWithLineBreak.setTimeUsec((logTimeMillis + 30 * 1000) * 1000);
+
+        AppLogLine omittedLogLine = new AppLogLine();
+        omittedLogLine.setLogLevel(LogLevel.FATAL);
+        omittedLogLine.setLogMessage("Log line beyond the limit of distinct entries");
+        omittedLogLine.setTimeUsec((logTimeMillis + 90 * 1000) * 1000);
+
+        SevereLogsCompilation compilation = new SevereLogsCompilation(logTimeMillis, logTimeMillis + 5 * 60 * 1000, 2, 100);
+        for (AppLogLine logLine : Arrays.asList(typicalLogLine, logLineWithLineBreak, repeatedTypicalLogLine,
+                                                omittedLogLine)) {
+            compilation.add(logLine);
+        }
 
-        EmailWrapper email = new EmailGenerator().generateCompiledLogsEmail(
-                Arrays.asList(typicalLogLine, logLineWithLineBreak));
+        EmailWrapper email = new EmailGenerator().generateCompiledLogsEmail(compilation);
 
         String subject = String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(),
                                        Config.getAppVersion());
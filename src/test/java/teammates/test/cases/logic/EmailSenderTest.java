@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -14,13 +17,15 @@ import com.sendgrid.SendGrid;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
 
 /**
- * SUT: {@link JavamailService},
+ * SUT: {@link EmailSenderService},
+ *      {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
  *      {@link MailjetService}.
@@ -52,6 +57,49 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private List<EmailWrapper> getTypicalEmailBatch() {
+        List<EmailWrapper> batch = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setBcc(null);
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setSubject("Test subject " + i);
+            wrapper.setContent("<p>This is test content " + i + "</p>");
+            batch.add(wrapper);
+        }
+        return batch;
+    }
+
+    @Test
+    public void testGroupIntoBatches() {
+        List<EmailWrapper> emails = getTypicalEmailBatch();
+
+        ______TS("emails with the same sender are batched up to the maximum batch size");
+
+        List<List<EmailWrapper>> batches = EmailSenderService.groupIntoBatches(emails, 2);
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(1).size());
+        assertEquals(emails.get(2), batches.get(1).get(0));
+
+        ______TS("emails with bcc, other senders or repeated recipients are not batched together");
+
+        EmailWrapper withBcc = getTypicalEmailWrapper();
+        EmailWrapper otherSender = getTypicalEmailBatch().get(0);
+        otherSender.setSenderEmail("other.sender@email.com");
+        EmailWrapper repeatedRecipient = getTypicalEmailBatch().get(0);
+        emails.add(withBcc);
+        emails.add(otherSender);
+        emails.add(repeatedRecipient);
+
+        batches = EmailSenderService.groupIntoBatches(emails, 10);
+        assertEquals(4, batches.size());
+        assertEquals(emails.subList(0, 3), batches.get(0));
+        assertEquals(withBcc, batches.get(1).get(0));
+        assertEquals(otherSender, batches.get(2).get(0));
+        assertEquals(repeatedRecipient, batches.get(3).get(0));
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -111,4 +159,65 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertBatchToSendgrid() {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        SendGrid.Email email = new SendgridService().parseToBatchEmail(batch);
+
+        assertEquals(batch.get(0).getSenderEmail(), email.getFrom());
+        assertEquals(batch.get(0).getSenderName(), email.getFromName());
+        assertEquals(batch.get(0).getReplyTo(), email.getReplyTo());
+
+        JSONObject smtpApi = new JSONObject(email.getSMTPAPI().jsonString());
+        JSONArray recipients = smtpApi.getJSONArray("to");
+        JSONArray subjects = smtpApi.getJSONObject("sub").getJSONArray(email.getSubject());
+        JSONArray contents = smtpApi.getJSONObject("sub").getJSONArray(email.getHtml());
+        assertEquals(batch.size(), recipients.length());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).getRecipient(), recipients.getString(i));
+            assertEquals(batch.get(i).getSubject(), subjects.getString(i));
+            assertEquals(batch.get(i).getContent(), contents.getString(i));
+        }
+    }
+
+    @Test
+    public void testConvertBatchToMailgun() {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        FormDataMultiPart formData = new MailgunService().parseToBatchEmail(batch);
+
+        assertEquals(batch.get(0).getSenderName() + " <" + batch.get(0).getSenderEmail() + ">",
+                     formData.getField("from").getValue());
+        assertEquals(batch.get(0).getReplyTo(), formData.getField("h:Reply-To").getValue());
+        assertEquals("%recipient.subject%", formData.getField("subject").getValue());
+        assertEquals("%recipient.html%", formData.getField("html").getValue());
+
+        JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+        assertEquals(batch.size(), formData.getFields("to").size());
+        for (int i = 0; i < batch.size(); i++) {
+            EmailWrapper wrapper = batch.get(i);
+            assertEquals(wrapper.getRecipient(), formData.getFields("to").get(i).getValue());
+            JSONObject variables = recipientVariables.getJSONObject(wrapper.getRecipient());
+            assertEquals(wrapper.getSubject(), variables.getString("subject"));
+            assertEquals(wrapper.getContent(), variables.getString("html"));
+        }
+    }
+
+    @Test
+    public void testConvertBatchToMailjet() {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        MailjetRequest request = new MailjetService().parseToBatchEmail(batch);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray("Messages");
+
+        assertEquals(batch.size(), messages.length());
+        for (int i = 0; i < batch.size(); i++) {
+            EmailWrapper wrapper = batch.get(i);
+            JSONObject email = messages.getJSONObject(i);
+            assertEquals(wrapper.getSenderEmail(), email.get(Email.FROMEMAIL));
+            assertEquals(wrapper.getRecipient(),
+                         ((JSONArray) email.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrapper.getSubject(), email.get(Email.SUBJECT));
+            assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
+        }
+    }
+
 }
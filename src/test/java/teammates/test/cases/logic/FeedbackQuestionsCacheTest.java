@@ -0,0 +1,197 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.logic.core.FeedbackQuestionsCache;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionsCache}.
+ */
+public class FeedbackQuestionsCacheTest extends BaseComponentTestCase {
+
+    private static final String COURSE_ID = "FQCacheT.course";
+    private static final String SESSION_NAME = "FQCacheT session";
+
+    private MemcacheService versionStore;
+    private long currentTime;
+    private int numberOfLoads;
+
+    @BeforeMethod
+    public void setUp() {
+        versionStore = MemcacheServiceFactory.getMemcacheService("feedbackQuestionsCacheTest");
+        versionStore.clearAll();
+        currentTime = 1_000_000L;
+        numberOfLoads = 0;
+    }
+
+    @Test
+    public void testGetQuestionsForSession_versions() {
+        FeedbackQuestionsCache cache = new FeedbackQuestionsCache(versionStore, () -> currentTime);
+
+        ______TS("missing versions: questions are read, and not cached as a change may have been missed");
+
+        List<FeedbackQuestionAttributes> questions = getQuestions(cache, SESSION_NAME);
+        assertEquals(1, numberOfLoads);
+        assertEquals("Question 1", questions.get(0).getQuestionDetails().getQuestionText());
+        assertEquals(Long.valueOf(currentTime), versionStore.get(COURSE_ID));
+
+        ______TS("within the consistency window: questions are read again and not cached");
+
+        currentTime += FeedbackQuestionsCache.QUERY_CONSISTENCY_DELAY_MILLIS - 1;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(2, numberOfLoads);
+
+        ______TS("after the consistency window: questions are read once and cached");
+
+        currentTime += 1;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(3, numberOfLoads);
+        questions = getQuestions(cache, SESSION_NAME);
+        assertEquals(3, numberOfLoads);
+
+        ______TS("version match: copies of the cached questions are returned");
+
+        questions.get(0).questionNumber = 100;
+        List<FeedbackQuestionAttributes> otherQuestions = getQuestions(cache, SESSION_NAME);
+        assertEquals(3, numberOfLoads);
+        assertNotSame(questions.get(0), otherQuestions.get(0));
+        assertEquals(1, otherQuestions.get(0).questionNumber);
+        assertNotSame(questions.get(0).getQuestionDetails(), otherQuestions.get(0).getQuestionDetails());
+
+        ______TS("version mismatch after a session change on another instance: questions are read again");
+
+        FeedbackQuestionsCache otherInstanceCache = new FeedbackQuestionsCache(versionStore, () -> currentTime);
+        otherInstanceCache.bumpVersion(COURSE_ID, SESSION_NAME);
+        currentTime += FeedbackQuestionsCache.QUERY_CONSISTENCY_DELAY_MILLIS;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(4, numberOfLoads);
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(4, numberOfLoads);
+
+        ______TS("version mismatch after a course change: questions are read again");
+
+        otherInstanceCache.bumpVersionForCourse(COURSE_ID);
+        currentTime += FeedbackQuestionsCache.QUERY_CONSISTENCY_DELAY_MILLIS;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(5, numberOfLoads);
+
+        ______TS("change in another session of the course: cached questions are still used");
+
+        otherInstanceCache.bumpVersion(COURSE_ID, "Other session");
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(5, numberOfLoads);
+
+        ______TS("versions evicted from memcache: questions are read again");
+
+        versionStore.clearAll();
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(6, numberOfLoads);
+    }
+
+    @Test
+    public void testGetQuestionsForSession_maximumAge() {
+        FeedbackQuestionsCache cache = new FeedbackQuestionsCache(versionStore, () -> currentTime);
+        putOldVersions(SESSION_NAME);
+
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(1, numberOfLoads);
+
+        ______TS("cached questions are used until their maximum age");
+
+        currentTime += FeedbackQuestionsCache.MAX_AGE_MILLIS - 1;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(1, numberOfLoads);
+
+        ______TS("cached questions are read again after their maximum age, although the versions are the same");
+
+        currentTime += 1;
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(2, numberOfLoads);
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(2, numberOfLoads);
+    }
+
+    @Test
+    public void testGetQuestionsForSession_leastRecentlyUsedEvicted() {
+        FeedbackQuestionsCache cache = new FeedbackQuestionsCache(versionStore, () -> currentTime);
+        String firstSession = SESSION_NAME + " read first";
+        putOldVersions(SESSION_NAME);
+        putOldVersions(firstSession);
+
+        getQuestions(cache, firstSession);
+        getQuestions(cache, SESSION_NAME);
+        for (int i = 2; i < FeedbackQuestionsCache.MAX_CACHED_SESSIONS; i++) {
+            putOldVersions(SESSION_NAME + i);
+            getQuestions(cache, SESSION_NAME + i);
+        }
+        assertEquals(FeedbackQuestionsCache.MAX_CACHED_SESSIONS, numberOfLoads);
+
+        ______TS("all sessions are cached while there are at most the maximum number of them");
+
+        // the session read first is now the most recently used one, and the session read second the least
+        getQuestions(cache, firstSession);
+        assertEquals(FeedbackQuestionsCache.MAX_CACHED_SESSIONS, numberOfLoads);
+
+        ______TS("one more session: the least recently used session is removed");
+
+        putOldVersions(SESSION_NAME + " one more");
+        getQuestions(cache, SESSION_NAME + " one more");
+        assertEquals(FeedbackQuestionsCache.MAX_CACHED_SESSIONS + 1, numberOfLoads);
+
+        getQuestions(cache, firstSession);
+        assertEquals(FeedbackQuestionsCache.MAX_CACHED_SESSIONS + 1, numberOfLoads);
+        getQuestions(cache, SESSION_NAME);
+        assertEquals(FeedbackQuestionsCache.MAX_CACHED_SESSIONS + 2, numberOfLoads);
+    }
+
+    /**
+     * Sets the versions of the session and its course to a time outside the consistency window,
+     * so that the questions of the session are cached when they are first read.
+     */
+    private void putOldVersions(String feedbackSessionName) {
+        long oldVersion = currentTime - FeedbackQuestionsCache.QUERY_CONSISTENCY_DELAY_MILLIS;
+        versionStore.put(COURSE_ID, oldVersion);
+        versionStore.put(COURSE_ID + "%" + feedbackSessionName, oldVersion);
+    }
+
+    private List<FeedbackQuestionAttributes> getQuestions(FeedbackQuestionsCache cache, String feedbackSessionName) {
+        Supplier<List<FeedbackQuestionAttributes>> questionsLoader = () -> {
+            numberOfLoads++;
+            List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+            questions.add(createQuestion(feedbackSessionName));
+            return questions;
+        };
+        return cache.getQuestionsForSession(COURSE_ID, feedbackSessionName, questionsLoader);
+    }
+
+    private FeedbackQuestionAttributes createQuestion(String feedbackSessionName) {
+        FeedbackQuestionAttributes question = new FeedbackQuestionAttributes();
+        question.courseId = COURSE_ID;
+        question.feedbackSessionName = feedbackSessionName;
+        question.creatorEmail = "instructor@fqcachet.tmt";
+        question.questionNumber = 1;
+        question.questionType = FeedbackQuestionType.TEXT;
+        question.setQuestionDetails(new FeedbackTextQuestionDetails("Question 1"));
+        question.giverType = FeedbackParticipantType.STUDENTS;
+        question.recipientType = FeedbackParticipantType.SELF;
+        question.numberOfEntitiesToGiveFeedbackTo = 1;
+        question.showResponsesTo = new ArrayList<>();
+        question.showGiverNameTo = new ArrayList<>();
+        question.showRecipientNameTo = new ArrayList<>();
+        return question;
+    }
+
+}
@@ -10,6 +10,8 @@ import org.testng.annotations.Test;
 import com.google.appengine.api.datastore.Text;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -33,6 +35,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     public void allTests() throws Exception {
         testGetRecipientsForQuestion();
         testGetFeedbackQuestionsForInstructor();
+        testGetCopiableFeedbackQuestionSummariesForInstructor();
         testGetFeedbackQuestionsForStudents();
         testIsQuestionHasResponses();
         testIsQuestionAnswered();
@@ -428,6 +431,89 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         assertNotNull(getQuestionFromDatastore("qn1InSession4InCourse1"));
     }
 
+    private void testGetCopiableFeedbackQuestionSummariesForInstructor() {
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        List<String> courseIds = new ArrayList<>();
+        for (InstructorAttributes otherInstructor : dataBundle.instructors.values()) {
+            if (instructor.googleId.equals(otherInstructor.googleId)) {
+                courseIds.add(otherInstructor.courseId);
+            }
+        }
+
+        ______TS("all questions in the courses of the instructor, sorted by course by default");
+
+        FeedbackQuestionSummaryPage page = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, null, FeedbackQuestionSummary.SortOrder.COURSE, null, 1000);
+        assertNull(page.getNextPageCursor());
+        List<FeedbackQuestionSummary> summaries = page.getSummaries();
+
+        int expectedCount = 0;
+        for (FeedbackQuestionAttributes question : dataBundle.feedbackQuestions.values()) {
+            if (courseIds.contains(question.courseId)) {
+                expectedCount++;
+            }
+        }
+        assertEquals(expectedCount, summaries.size());
+        for (int i = 1; i < summaries.size(); i++) {
+            assertTrue(summaries.get(i - 1).getCourseId().compareTo(summaries.get(i).getCourseId()) <= 0);
+        }
+
+        ______TS("summaries match the stored questions");
+
+        FeedbackQuestionAttributes question = getQuestionFromDatastore("qn1InSession1InCourse1");
+        FeedbackQuestionSummary summary = null;
+        for (FeedbackQuestionSummary candidate : summaries) {
+            if (candidate.getFeedbackQuestionId().equals(question.getId())) {
+                summary = candidate;
+            }
+        }
+        assertNotNull(summary);
+        assertEquals(question.courseId, summary.getCourseId());
+        assertEquals(question.feedbackSessionName, summary.getFeedbackSessionName());
+        assertEquals(question.questionType, summary.getQuestionType());
+        assertEquals(question.getQuestionDetails().getQuestionTypeDisplayName(), summary.getQuestionTypeDisplayName());
+        assertEquals(question.getQuestionDetails().getQuestionText(), summary.getQuestionTextSummary());
+
+        ______TS("sorted by question text");
+
+        summaries = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, null, FeedbackQuestionSummary.SortOrder.TEXT, null, 1000).getSummaries();
+        assertEquals(expectedCount, summaries.size());
+        for (int i = 1; i < summaries.size(); i++) {
+            assertTrue(summaries.get(i - 1).getQuestionTextSummary()
+                    .compareTo(summaries.get(i).getQuestionTextSummary()) <= 0);
+        }
+
+        ______TS("filtered by session name, ignoring case");
+
+        summaries = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, question.feedbackSessionName.toUpperCase(),
+                FeedbackQuestionSummary.SortOrder.COURSE, null, 1000).getSummaries();
+        assertFalse(summaries.isEmpty());
+        for (FeedbackQuestionSummary filteredSummary : summaries) {
+            assertTrue(filteredSummary.matches(question.feedbackSessionName.toLowerCase()));
+        }
+
+        ______TS("filter matching nothing");
+
+        page = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, "no question has this text", FeedbackQuestionSummary.SortOrder.COURSE, null, 1000);
+        assertTrue(page.getSummaries().isEmpty());
+        assertNull(page.getNextPageCursor());
+
+        ______TS("one page at a time");
+
+        page = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, null, FeedbackQuestionSummary.SortOrder.COURSE, null, 2);
+        assertEquals(2, page.getSummaries().size());
+        assertNotNull(page.getNextPageCursor());
+        FeedbackQuestionSummaryPage nextPage = fqLogic.getCopiableFeedbackQuestionSummariesForInstructor(
+                instructor.googleId, null, FeedbackQuestionSummary.SortOrder.COURSE, page.getNextPageCursor(), 2);
+        assertFalse(nextPage.getSummaries().isEmpty());
+        assertFalse(page.getSummaries().get(0).getFeedbackQuestionId()
+                .equals(nextPage.getSummaries().get(0).getFeedbackQuestionId()));
+    }
+
     private void testGetFeedbackQuestionsForInstructor() throws Exception {
         List<FeedbackQuestionAttributes> expectedQuestions;
         List<FeedbackQuestionAttributes> actualQuestions;
@@ -1,6 +1,7 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
@@ -267,7 +268,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                             getQuestionFromDatastore("qn1InSession1InCourse1").getId(),
                             studentToUpdate.email).size(), 1);
 
-        ______TS("test updateFeedbackResponseForChangingTeam for recipient type = giver's team members including giver");
+        ______TS("test adjustFeedbackResponsesForEnrollments for recipient type = giver's team members including giver");
         FeedbackQuestionAttributes questionToTeamMembersAndSelf =
                                         getQuestionFromDatastore(questionTypeBundle, "qn1InContribSession2InCourse2");
         studentToUpdate = questionTypeBundle.students.get("student2InCourse2");
@@ -282,7 +283,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertNotNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                   responseToBeDeleted.giver,
                                                   responseToBeDeleted.recipient));
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(studentDetails1, responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(studentToUpdate.course, responseToBeDeleted.feedbackSessionName,
+                Arrays.asList(studentDetails1));
         assertNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                responseToBeDeleted.giver,
                                                responseToBeDeleted.recipient));
@@ -307,8 +309,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(student.course, responseToBeDeleted.feedbackSessionName,
+                Arrays.asList(enrollmentDetailsToTriggerDeletion));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate - 1, responseRateAfterDeletion);
@@ -320,12 +322,13 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     private void testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate()
             throws Exception {
         FeedbackResponseAttributes responseToBeDeleted =
-                getResponseFromDatastore(questionTypeBundle, "response1ForQ1S5C1");
+                getResponseFromDatastore(questionTypeBundle, "response2ForQ1S5C1");
         // make sure it's not the last response by the student
         assertTrue(1 < numResponsesFromGiverInSession(responseToBeDeleted.giver,
                                                       responseToBeDeleted.feedbackSessionName,
                                                       responseToBeDeleted.courseId));
-        StudentAttributes student = questionTypeBundle.students.get("student1InCourse1");
+        // the change of team of the recipient invalidates the response
+        StudentAttributes student = questionTypeBundle.students.get("student2InCourse1");
         StudentEnrollDetails enrollmentDetailsToTriggerDeletion =
                 new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course,
                                          student.email, student.team, student.team + "tmp", student.section,
@@ -333,8 +336,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(student.course, responseToBeDeleted.feedbackSessionName,
+                Arrays.asList(enrollmentDetailsToTriggerDeletion));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate, responseRateAfterDeletion);
@@ -420,8 +423,53 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(responsesFromGiver.size(), 2);
         assertEquals(responseCommentsForStudent.size(), 2);
 
-        frLogic.updateFeedbackResponsesForChangingEmail(
-                studentToUpdate.course, "new@email.tmt", studentToUpdate.email);
+        ______TS("limited update: stops after the first batch, the rest is done batch by batch");
+
+        assertFalse(frLogic.updateFeedbackResponsesForChangingEmail(
+                studentToUpdate.course, "new@email.tmt", studentToUpdate.email, 1));
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(studentToUpdate.course, "new@email.tmt").isEmpty());
+        assertEquals(0, frLogic.updateFeedbackResponsesForChangingEmailInBatch(
+                studentToUpdate.course, "new@email.tmt", studentToUpdate.email));
+        assertTrue(frLogic.updateFeedbackResponsesForChangingEmail(
+                studentToUpdate.course, "new@email.tmt", studentToUpdate.email, 1));
+
+        responsesForReceiver = frLogic.getFeedbackResponsesForReceiverForCourse(
+                studentToUpdate.course, studentToUpdate.email);
+        responsesFromGiver = frLogic.getFeedbackResponsesFromGiverForCourse(
+                studentToUpdate.course, studentToUpdate.email);
+        responsesToAndFromStudent = new ArrayList<>();
+        responsesToAndFromStudent.addAll(responsesForReceiver);
+        responsesToAndFromStudent.addAll(responsesFromGiver);
+
+        assertEquals(2, responsesForReceiver.size());
+        assertEquals(2, responsesFromGiver.size());
+        assertEquals(2, getFeedbackResponseCommentsForResponsesFromDatastore(responsesToAndFromStudent).size());
+
+        ______TS("responses already given by the new email are not overwritten");
+
+        FeedbackResponseAttributes responseToOther = null;
+        for (FeedbackResponseAttributes response : responsesFromGiver) {
+            if (!response.recipient.equals(studentToUpdate.email)) {
+                responseToOther = response;
+            }
+        }
+        assertNotNull(responseToOther);
+
+        FeedbackResponseAttributes newerResponse = new FeedbackResponseAttributes(responseToOther);
+        newerResponse.giver = "newer@email.tmt";
+        newerResponse.responseMetaData = new Text("Newer answer");
+        frLogic.createFeedbackResponse(newerResponse);
+
+        frLogic.updateFeedbackResponsesForChangingEmail(studentToUpdate.course, studentToUpdate.email, "newer@email.tmt");
+
+        assertNull(frLogic.getFeedbackResponse(responseToOther.getId()));
+        FeedbackResponseAttributes keptResponse = frLogic.getFeedbackResponse(
+                newerResponse.feedbackQuestionId, "newer@email.tmt", newerResponse.recipient);
+        assertEquals("Newer answer", keptResponse.responseMetaData.getValue());
+        assertEquals(2, frLogic.getFeedbackResponsesFromGiverForCourse(studentToUpdate.course, "newer@email.tmt").size());
+
+        // restore the email of the student for the remaining tests
+        frLogic.updateFeedbackResponsesForChangingEmail(studentToUpdate.course, "newer@email.tmt", studentToUpdate.email);
     }
 
     private void testGetViewableResponsesForQuestionInSection() throws Exception {
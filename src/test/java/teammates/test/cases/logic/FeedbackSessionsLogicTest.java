@@ -1,6 +1,7 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -20,12 +21,15 @@ import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionStats;
 import teammates.common.datatransfer.FeedbackSessionType;
+import teammates.common.datatransfer.StudentResultSummary;
+import teammates.common.datatransfer.TeamEvalResult;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -67,6 +71,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testGetContributionQuestionResults();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -353,6 +358,47 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
 
         fsLogic.deleteFeedbackSessionCascade(copiedSession.getFeedbackSessionName(), copiedSession.getCourseId());
+
+        ______TS("Test copy to multiple courses");
+
+        CourseAttributes typicalCourse1 = dataBundle.courses.get("typicalCourse1");
+        List<FeedbackSessionAttributes> copiedSessions = fsLogic.copyFeedbackSessionToCourses(
+                "Copied Session", Arrays.asList(typicalCourse1.getId(), typicalCourse2.getId()),
+                session1InCourse1.getFeedbackSessionName(),
+                session1InCourse1.getCourseId(), instructor2OfCourse1.email);
+
+        assertEquals(2, copiedSessions.size());
+        assertEquals(typicalCourse1.getId(), copiedSessions.get(0).getCourseId());
+        assertEquals(typicalCourse2.getId(), copiedSessions.get(1).getCourseId());
+        for (FeedbackSessionAttributes session : copiedSessions) {
+            verifyPresentInDatastore(session);
+            assertEquals("Copied Session", session.getFeedbackSessionName());
+            questions2 = fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+            assertEquals(questions1.size(), questions2.size());
+            for (int i = 0; i < questions1.size(); i++) {
+                assertEquals(questions1.get(i).questionNumber, questions2.get(i).questionNumber);
+                assertEquals(questions1.get(i).getQuestionDetails().getQuestionText(),
+                             questions2.get(i).getQuestionDetails().getQuestionText());
+            }
+        }
+
+        ______TS("Failure case: duplicate session in one of the courses");
+
+        try {
+            fsLogic.copyFeedbackSessionToCourses(
+                    session1InCourse1.getFeedbackSessionName(),
+                    Arrays.asList(typicalCourse2.getId(), session1InCourse1.getCourseId()),
+                    session1InCourse1.getFeedbackSessionName(),
+                    session1InCourse1.getCourseId(), instructor2OfCourse1.email);
+            signalFailureToDetectException();
+        } catch (EntityAlreadyExistsException e) {
+            ignoreExpectedException();
+        }
+        assertNull(fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), typicalCourse2.getId()));
+
+        for (FeedbackSessionAttributes session : copiedSessions) {
+            fsLogic.deleteFeedbackSessionCascade(session.getFeedbackSessionName(), session.getCourseId());
+        }
     }
 
     private void testGetFeedbackSessionDetailsForInstructor() throws Exception {
@@ -671,6 +717,18 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(actual.questionResponseBundle.containsKey(expectedQuestion));
         assertTrue(actual.questionResponseBundle.get(expectedQuestion).isEmpty());
 
+        ______TS("roster loaded once: same recipients and responses as loading each question separately");
+
+        assertNotNull(actual.roster);
+        for (FeedbackQuestionAttributes question : actual.questionResponseBundle.keySet()) {
+            FeedbackSessionQuestionsBundle singleQuestionBundle = fsLogic.getFeedbackSessionQuestionsForStudent(
+                    "Second feedback session", "idOfTypicalCourse1", question.getId(), "student3InCourse1@gmail.tmt");
+            assertEquals(singleQuestionBundle.recipientList.get(question.getId()),
+                         actual.recipientList.get(question.getId()));
+            assertEquals(singleQuestionBundle.questionResponseBundle.get(question).size(),
+                         actual.questionResponseBundle.get(question).size());
+        }
+
         ______TS("failure: invalid session");
 
         try {
@@ -1904,6 +1962,59 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetContributionQuestionResults() throws Exception {
+
+        DataBundle newDataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(newDataBundle);
+        FeedbackSessionAttributes session = newDataBundle.feedbackSessions.get("contribSession");
+        InstructorAttributes instructor = newDataBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student1 = newDataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = newDataBundle.students.get("student2InCourse1");
+
+        ______TS("CONTRIB results: the results of each team are computed once for a results bundle");
+
+        FeedbackSessionResultsBundle bundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        FeedbackQuestionAttributes question = bundle.questions.values().iterator().next();
+        FeedbackResponseAttributes response = getResponse(bundle, student1.email, student2.email);
+
+        Map<String, StudentResultSummary> studentResults =
+                FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, bundle);
+
+        assertEquals(95, studentResults.get(student1.email).claimedToInstructor);
+        assertEquals(75, studentResults.get(student2.email).perceivedToInstructor);
+
+        TeamEvalResult teamResult = bundle.contributionQuestionTeamResults.get(question.getId()).get(student1.team);
+        Map<String, TeamEvalResult> teamResults = ((FeedbackContributionResponseDetails) response.getResponseDetails())
+                .getContribQnTeamEvalResult(question, bundle);
+
+        assertSame(teamResult, teamResults.get(student1.team));
+
+        ______TS("CONTRIB results: the results of a new results bundle reflect changed responses");
+
+        FeedbackResponseAttributes updatedResponse = new FeedbackResponseAttributes(response);
+        updatedResponse.setResponseDetails(new FeedbackContributionResponseDetails(120));
+        frLogic.updateFeedbackResponse(updatedResponse);
+
+        FeedbackSessionResultsBundle newBundle = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        studentResults = FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, newBundle);
+
+        assertTrue(studentResults.get(student2.email).perceivedToInstructor > 75);
+        assertNotSame(teamResult, newBundle.contributionQuestionTeamResults.get(question.getId()).get(student1.team));
+        assertEquals(75, FeedbackContributionResponseDetails.getContribQnStudentResultSummary(question, bundle)
+                .get(student2.email).perceivedToInstructor);
+    }
+
+    private FeedbackResponseAttributes getResponse(FeedbackSessionResultsBundle bundle, String giver, String recipient) {
+        for (FeedbackResponseAttributes response : bundle.responses) {
+            if (response.giver.equals(giver) && response.recipient.equals(recipient)) {
+                return response;
+            }
+        }
+        return null;
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -385,7 +385,8 @@ public class StudentsLogicTest extends BaseLogicTest {
                                             feedbackResponse1InBundle.giver,
                                             feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        assertEquals(enrollmentList.size(), studentsLogic.adjustFeedbackResponsesForEnrollmentsInBatch(
+                course1Id, feedbackResponse1InBundle.feedbackSessionName, enrollmentList, 0));
 
         FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
@@ -408,7 +409,8 @@ public class StudentsLogicTest extends BaseLogicTest {
         responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        assertEquals(enrollmentList.size(), studentsLogic.adjustFeedbackResponsesForEnrollmentsInBatch(
+                course1Id, feedbackResponse1InBundle.feedbackSessionName, enrollmentList, 0));
 
         responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
@@ -432,7 +434,8 @@ public class StudentsLogicTest extends BaseLogicTest {
         responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        assertEquals(enrollmentList.size(), studentsLogic.adjustFeedbackResponsesForEnrollmentsInBatch(
+                course1Id, feedbackResponse1InBundle.feedbackSessionName, enrollmentList, 0));
 
         responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
                 feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
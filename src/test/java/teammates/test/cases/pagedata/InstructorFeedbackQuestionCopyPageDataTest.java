@@ -6,6 +6,7 @@ import java.util.List;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.test.cases.BaseTestCase;
 import teammates.ui.pagedata.InstructorFeedbackQuestionCopyPageData;
@@ -22,13 +23,32 @@ public class InstructorFeedbackQuestionCopyPageDataTest extends BaseTestCase {
     public void allTests() {
         ______TS("Typical case");
 
-        List<FeedbackQuestionAttributes> copiableQuestions = new ArrayList<>();
-        copiableQuestions.addAll(dataBundle.feedbackQuestions.values());
+        List<FeedbackQuestionSummary> copiableQuestions = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : dataBundle.feedbackQuestions.values()) {
+            copiableQuestions.add(new FeedbackQuestionSummary(question.getId(), question.courseId,
+                    question.feedbackSessionName, question.questionType, question.getQuestionTextSummary()));
+        }
 
         InstructorFeedbackQuestionCopyPageData data = new InstructorFeedbackQuestionCopyPageData(
-                dataBundle.accounts.get("instructor1OfCourse1"), dummySessionToken, copiableQuestions);
+                dataBundle.accounts.get("instructor1OfCourse1"), dummySessionToken, copiableQuestions,
+                null, FeedbackQuestionSummary.SortOrder.SESSION, 2, "nextPageCursor");
         FeedbackQuestionCopyTable copyForm = data.getCopyQnForm();
         assertEquals(dataBundle.feedbackQuestions.size(), copyForm.getQuestionRows().size());
+        assertEquals("", copyForm.getFilter());
+        assertEquals("SESSION", copyForm.getSortOrder());
+        assertTrue(copyForm.isHasPreviousPage());
+        assertEquals("nextPageCursor", copyForm.getNextPageCursor());
+        assertTrue(copyForm.isHasNextPage());
+
+        ______TS("Last page");
+
+        data = new InstructorFeedbackQuestionCopyPageData(
+                dataBundle.accounts.get("instructor1OfCourse1"), dummySessionToken, copiableQuestions,
+                "session", FeedbackQuestionSummary.SortOrder.COURSE, 3, null);
+        copyForm = data.getCopyQnForm();
+        assertEquals("session", copyForm.getFilter());
+        assertTrue(copyForm.isHasPreviousPage());
+        assertFalse(copyForm.isHasNextPage());
     }
 
 }
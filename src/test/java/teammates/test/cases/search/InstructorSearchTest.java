@@ -34,62 +34,62 @@ public class InstructorSearchTest extends BaseSearchTest {
         ______TS("success: search for instructors in whole system; query string does not match anyone");
 
         InstructorSearchResultBundle results =
-                instructorsDb.searchInstructorsInWholeSystem("non-existent");
+                instructorsDb.searchInstructorsInWholeSystem("non-existent", null);
         verifySearchResults(results);
 
         ______TS("success: search for instructors in whole system; empty query string does not match anyone");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("");
+        results = instructorsDb.searchInstructorsInWholeSystem("", null);
         verifySearchResults(results);
 
         ______TS("success: search for instructors in whole system; query string matches some instructors");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor1");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor1", null);
         verifySearchResults(results, ins1InCourse1, ins1InCourse2, ins1InTestingSanitizationCourse);
 
         ______TS("success: search for instructors in whole system; query string should be case-insensitive");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("InStRuCtOr2");
+        results = instructorsDb.searchInstructorsInWholeSystem("InStRuCtOr2", null);
         verifySearchResults(results, ins2InCourse1, ins2InCourse2);
 
         ______TS("success: search for instructors in whole system; instructors in archived courses should be included");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("archived");
+        results = instructorsDb.searchInstructorsInWholeSystem("archived", null);
         verifySearchResults(results, insInArchivedCourse);
 
         ______TS("success: search for instructors in whole system; instructors in unregistered course should be included");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor5");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor5", null);
         verifySearchResults(results, insInUnregCourse);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by course id");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("idOfUnregisteredCourse");
+        results = instructorsDb.searchInstructorsInWholeSystem("idOfUnregisteredCourse", null);
         verifySearchResults(results, insInUnregCourse);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by course name");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("idOfTypicalCourse2");
+        results = instructorsDb.searchInstructorsInWholeSystem("idOfTypicalCourse2", null);
         verifySearchResults(results, ins1InCourse2, ins2InCourse2, ins3InCourse2);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by their name");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("\"Instructor 5 of CourseNoRegister\"");
+        results = instructorsDb.searchInstructorsInWholeSystem("\"Instructor 5 of CourseNoRegister\"", null);
         verifySearchResults(results, insInUnregCourse);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by their email");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor2@course2.tmt");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor2@course2.tmt", null);
         verifySearchResults(results, ins2InCourse2);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by their google id");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("idOfInstructor5");
+        results = instructorsDb.searchInstructorsInWholeSystem("idOfInstructor5", null);
         verifySearchResults(results, insInUnregCourse);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by their role");
 
-        results = instructorsDb.searchInstructorsInWholeSystem("Custom");
+        results = instructorsDb.searchInstructorsInWholeSystem("Custom", null);
         verifySearchResults(results, helperInCourse1);
 
         ______TS("success: search for instructors in whole system; instructors should be searchable by displayed name");
@@ -100,26 +100,26 @@ public class InstructorSearchTest extends BaseSearchTest {
         String displayedName = "Assistant Prof Smith";
         assistantProf.displayedName = displayedName;
         instructorsDb.updateInstructorByEmail(assistantProf);
-        results = instructorsDb.searchInstructorsInWholeSystem(displayedName);
+        results = instructorsDb.searchInstructorsInWholeSystem(displayedName, null);
         verifySearchResults(results, assistantProf);
 
         ______TS("success: search for instructors in whole system; deleted instructors no longer searchable");
 
         instructorsDb.deleteInstructor(ins1InCourse1.courseId, ins1InCourse1.email);
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor1");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor1", null);
         verifySearchResults(results, ins1InCourse2, ins1InTestingSanitizationCourse);
 
         ______TS("success: search for instructors in whole system; instructors created without searchability unsearchable");
 
         instructorsDb.createEntitiesWithoutExistenceCheck(Arrays.asList(ins1InCourse1));
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor1");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor1", null);
         verifySearchResults(results, ins1InCourse2, ins1InTestingSanitizationCourse);
 
         ______TS("success: search for instructors in whole system; deleting instructor without deleting document:"
                 + "document deleted during search, instructor unsearchable");
 
         instructorsDb.deleteEntity(ins2InCourse1);
-        results = instructorsDb.searchInstructorsInWholeSystem("instructor2");
+        results = instructorsDb.searchInstructorsInWholeSystem("instructor2", null);
         verifySearchResults(results, ins2InCourse2);
     }
 
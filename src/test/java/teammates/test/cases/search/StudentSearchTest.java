@@ -1,7 +1,9 @@
 package teammates.test.cases.search;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.testng.annotations.Test;
 
@@ -9,6 +11,7 @@ import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.storage.api.StudentsDb;
+import teammates.storage.search.SearchQuery;
 import teammates.test.driver.AssertHelper;
 
 /**
@@ -19,7 +22,7 @@ import teammates.test.driver.AssertHelper;
 public class StudentSearchTest extends BaseSearchTest {
 
     @Test
-    public void allTests() {
+    public void allTests() throws Exception {
 
         StudentsDb studentsDb = new StudentsDb();
 
@@ -34,14 +37,14 @@ public class StudentSearchTest extends BaseSearchTest {
         ______TS("success: search for students in whole system; query string does not match any student");
 
         StudentSearchResultBundle bundle =
-                studentsDb.searchStudentsInWholeSystem("non-existent");
+                studentsDb.searchStudentsInWholeSystem("non-existent", null);
 
         assertEquals(0, bundle.numberOfResults);
         assertTrue(bundle.studentList.isEmpty());
 
         ______TS("success: search for students in whole system; query string matches some students");
 
-        bundle = studentsDb.searchStudentsInWholeSystem("student1");
+        bundle = studentsDb.searchStudentsInWholeSystem("student1", null);
 
         assertEquals(4, bundle.numberOfResults);
         AssertHelper.assertSameContentIgnoreOrder(
@@ -50,7 +53,7 @@ public class StudentSearchTest extends BaseSearchTest {
 
         ______TS("success: search for students in whole system; query string should be case-insensitive");
 
-        bundle = studentsDb.searchStudentsInWholeSystem("stUdeNt2");
+        bundle = studentsDb.searchStudentsInWholeSystem("stUdeNt2", null);
 
         assertEquals(3, bundle.numberOfResults);
         AssertHelper.assertSameContentIgnoreOrder(
@@ -96,13 +99,55 @@ public class StudentSearchTest extends BaseSearchTest {
 
         studentsDb.deleteStudentWithoutDocument(stu2InCourse1.course, stu2InCourse1.email);
 
-        bundle = studentsDb.searchStudentsInWholeSystem("student2");
+        bundle = studentsDb.searchStudentsInWholeSystem("student2", null);
 
         assertEquals(2, bundle.numberOfResults);
         AssertHelper.assertSameContentIgnoreOrder(
                      Arrays.asList(stu2InCourse2, stu2InUnregCourse),
                      bundle.studentList);
 
+        ______TS("success: search for students; results up to the maximum are retrieved, and the rest truncated");
+
+        String courseId = ins1OfCourse1.get(0).courseId;
+        int numberOfStudents = SearchQuery.MAX_RESULTS_IN_WHOLE_SYSTEM + 10;
+        for (int i = 0; i < numberOfStudents; i++) {
+            studentsDb.createStudent(StudentAttributes.builder(courseId, "Paged Student " + i, "paged" + i + "@email.tmt")
+                    .withTeam("Paged Team").withSection("Paged Section").withComments("").build(), true);
+        }
+
+        // the maximum numbers of results are more than one page
+        bundle = studentsDb.search("paged", ins1OfCourse1);
+
+        assertEquals(SearchQuery.MAX_RESULTS_FOR_INSTRUCTOR, bundle.numberOfResults);
+        assertNotNull(bundle.cursor);
+
+        bundle = studentsDb.searchStudentsInWholeSystem("paged", null);
+
+        assertEquals(SearchQuery.MAX_RESULTS_IN_WHOLE_SYSTEM, bundle.numberOfResults);
+        assertNotNull(bundle.cursor);
+
+        ______TS("success: search for students in whole system; the truncated results are retrieved from the cursor");
+
+        Set<String> retrievedEmails = new HashSet<>();
+        for (StudentAttributes student : bundle.studentList) {
+            retrievedEmails.add(student.email);
+        }
+        bundle = studentsDb.searchStudentsInWholeSystem("paged", bundle.cursor);
+
+        assertEquals(10, bundle.numberOfResults);
+        assertNull(bundle.cursor);
+        for (StudentAttributes student : bundle.studentList) {
+            assertTrue(retrievedEmails.add(student.email));
+        }
+        assertEquals(numberOfStudents, retrievedEmails.size());
+
+        ______TS("success: search for students in whole system; an invalid cursor retrieves the results from the start");
+
+        bundle = studentsDb.searchStudentsInWholeSystem("paged", "invalid cursor");
+
+        assertEquals(SearchQuery.MAX_RESULTS_IN_WHOLE_SYSTEM, bundle.numberOfResults);
+        assertNotNull(bundle.cursor);
+
     }
 
 }
@@ -1,11 +1,21 @@
 package teammates.test.cases.storage;
 
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.KeyFactory;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionSummary;
+import teammates.common.datatransfer.FeedbackQuestionSummaryPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
@@ -346,6 +356,105 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
         fqDb.deleteEntity(modifiedQuestion);
     }
 
+    @Test
+    public void testGetFeedbackQuestionSummaryPage() throws Exception {
+        List<String> courseIds = Arrays.asList("summaryPageCourse1", "summaryPageCourse2");
+        String[] questionTexts = {"Echo", "alpha", "Delta", "charlie", "Bravo"};
+        for (int i = 0; i < questionTexts.length; i++) {
+            FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
+            fqa.courseId = courseIds.get(i % 2);
+            fqa.feedbackSessionName = "session" + (i % 3);
+            fqa.questionNumber = i + 1;
+            fqa.setQuestionDetails(new FeedbackTextQuestionDetails(questionTexts[i]));
+            fqDb.createEntity(fqa);
+        }
+
+        ______TS("all questions on one page, sorted");
+
+        FeedbackQuestionSummaryPage page = fqDb.getFeedbackQuestionSummaryPage(
+                courseIds, FeedbackQuestionSummary.SortOrder.TEXT, summary -> true, null, 100);
+        List<FeedbackQuestionSummary> allSummaries = page.getSummaries();
+        assertEquals(questionTexts.length, allSummaries.size());
+        assertNull(page.getNextPageCursor());
+        List<FeedbackQuestionSummary> sortedSummaries = new ArrayList<>(allSummaries);
+        sortedSummaries.sort(FeedbackQuestionSummary.SortOrder.TEXT.getComparator());
+        assertEquals(getQuestionIds(sortedSummaries), getQuestionIds(allSummaries));
+
+        ______TS("the same questions across pages read from cursors");
+
+        for (FeedbackQuestionSummary.SortOrder sortOrder : FeedbackQuestionSummary.SortOrder.values()) {
+            List<FeedbackQuestionSummary> expectedSummaries = fqDb.getFeedbackQuestionSummaryPage(
+                    courseIds, sortOrder, summary -> true, null, 100).getSummaries();
+            assertEquals(getQuestionIds(expectedSummaries), getQuestionIds(getAllPages(courseIds, sortOrder, 2)));
+        }
+
+        ______TS("filtered questions across pages");
+
+        List<FeedbackQuestionSummary> filteredSummaries = new ArrayList<>();
+        String cursor = null;
+        do {
+            page = fqDb.getFeedbackQuestionSummaryPage(courseIds, FeedbackQuestionSummary.SortOrder.COURSE,
+                    summary -> summary.matches("session0"), cursor, 1);
+            filteredSummaries.addAll(page.getSummaries());
+            cursor = page.getNextPageCursor();
+        } while (cursor != null);
+        assertEquals(2, filteredSummaries.size());
+        for (FeedbackQuestionSummary summary : filteredSummaries) {
+            assertEquals("session0", summary.getFeedbackSessionName());
+        }
+
+        ______TS("invalid cursor: first page");
+
+        page = fqDb.getFeedbackQuestionSummaryPage(
+                courseIds, FeedbackQuestionSummary.SortOrder.TEXT, summary -> true, "not a cursor", 100);
+        assertEquals(getQuestionIds(allSummaries), getQuestionIds(page.getSummaries()));
+
+        ______TS("questions stored without a summary are left out until they are saved again");
+
+        DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+        FeedbackQuestionAttributes legacyQuestion = fqDb.getFeedbackQuestion("session0", courseIds.get(0), 1);
+        Entity legacyEntity = datastore.get(KeyFactory.stringToKey(legacyQuestion.getId()));
+        legacyEntity.removeProperty("questionTextSummary");
+        datastore.put(legacyEntity);
+        // the session cache of Objectify still holds the question as it was before the direct write
+        ofy().clear();
+
+        List<String> expectedQuestionIds = getQuestionIds(allSummaries);
+        expectedQuestionIds.remove(legacyQuestion.getId());
+        assertEquals(expectedQuestionIds, getQuestionIds(getAllPages(
+                courseIds, FeedbackQuestionSummary.SortOrder.TEXT, 2)));
+
+        // as done by DataMigrationForQuestionTextSummaryInFeedbackQuestions
+        fqDb.updateFeedbackQuestion(legacyQuestion, true);
+
+        assertEquals(getQuestionIds(allSummaries), getQuestionIds(getAllPages(
+                courseIds, FeedbackQuestionSummary.SortOrder.TEXT, 2)));
+
+        fqDb.deleteFeedbackQuestionsForCourses(courseIds);
+    }
+
+    private List<FeedbackQuestionSummary> getAllPages(
+            List<String> courseIds, FeedbackQuestionSummary.SortOrder sortOrder, int pageSize) {
+        List<FeedbackQuestionSummary> summaries = new ArrayList<>();
+        String cursor = null;
+        do {
+            FeedbackQuestionSummaryPage page =
+                    fqDb.getFeedbackQuestionSummaryPage(courseIds, sortOrder, summary -> true, cursor, pageSize);
+            assertTrue(page.getSummaries().size() <= pageSize);
+            summaries.addAll(page.getSummaries());
+            cursor = page.getNextPageCursor();
+        } while (cursor != null);
+        return summaries;
+    }
+
+    private List<String> getQuestionIds(List<FeedbackQuestionSummary> summaries) {
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionSummary summary : summaries) {
+            questionIds.add(summary.getFeedbackQuestionId());
+        }
+        return questionIds;
+    }
+
     private FeedbackQuestionAttributes getNewFeedbackQuestionAttributes() {
         FeedbackQuestionAttributes fqa = new FeedbackQuestionAttributes();
 
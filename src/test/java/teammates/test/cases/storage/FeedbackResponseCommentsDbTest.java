@@ -1,8 +1,10 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -65,6 +67,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackResponseCommentsForSession();
 
+        testGetFeedbackResponseCommentsForResponses();
+
         testUpdateFeedbackResponseCommentsGiverEmail();
 
         testDeleteFeedbackResponseCommentsForResponse();
@@ -302,6 +306,60 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         verifyListsContainSameResponseCommentAttributes(expectedFrcas, actualFrcas);
     }
 
+    private void testGetFeedbackResponseCommentsForResponses() {
+
+        ______TS("null parameter");
+
+        try {
+            frcDb.getFeedbackResponseCommentsForResponses(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        ______TS("typical success case: comments keyed by response");
+
+        // fresh copies, as the shared ones have their response IDs cleared by earlier verifications
+        FeedbackResponseCommentAttributes frca =
+                frcDb.getFeedbackResponseComment(frcaData.courseId, frcaData.createdAt, frcaData.giverEmail);
+        FeedbackResponseCommentAttributes anotherFrca = frcDb.getFeedbackResponseComment(
+                anotherFrcaData.courseId, anotherFrcaData.createdAt, anotherFrcaData.giverEmail);
+        String responseId = frca.feedbackResponseId;
+        String anotherResponseId = anotherFrca.feedbackResponseId;
+
+        Map<String, List<FeedbackResponseCommentAttributes>> actualFrcas =
+                frcDb.getFeedbackResponseCommentsForResponses(Arrays.asList(responseId, anotherResponseId));
+        assertEquals(2, actualFrcas.size());
+        verifyListsContainSameResponseCommentAttributes(
+                new ArrayList<>(Arrays.asList(frca)), actualFrcas.get(responseId));
+        verifyListsContainSameResponseCommentAttributes(
+                new ArrayList<>(Arrays.asList(anotherFrca)), actualFrcas.get(anotherResponseId));
+
+        ______TS("only the comments on the given responses");
+
+        actualFrcas = frcDb.getFeedbackResponseCommentsForResponses(Arrays.asList(responseId));
+        assertEquals(1, actualFrcas.size());
+        assertFalse(actualFrcas.containsKey(anotherResponseId));
+
+        ______TS("responses without comments");
+
+        List<String> responseIdsWithoutComments = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            responseIdsWithoutComments.add("nonExistentResponseId" + i);
+        }
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponses(responseIdsWithoutComments).isEmpty());
+
+        ______TS("responses in different batches of an \"in\" filter");
+
+        List<String> responseIds = new ArrayList<>(responseIdsWithoutComments);
+        responseIds.add(0, responseId);
+        responseIds.add(anotherResponseId);
+        actualFrcas = frcDb.getFeedbackResponseCommentsForResponses(responseIds);
+        assertEquals(2, actualFrcas.size());
+        assertTrue(actualFrcas.containsKey(responseId));
+        assertTrue(actualFrcas.containsKey(anotherResponseId));
+    }
+
     private void testUpdateFeedbackResponseCommentsGiverEmail()
             throws InvalidParametersException, EntityAlreadyExistsException {
         FeedbackResponseCommentAttributes frcaDataOfNewGiver =
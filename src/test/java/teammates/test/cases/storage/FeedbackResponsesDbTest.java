@@ -1,5 +1,7 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +12,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.ResponseId;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -309,6 +312,77 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetFeedbackResponseIdsForSession() {
+
+        ______TS("standard success case");
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        List<ResponseId> responseIds = frDb.getFeedbackResponseIdsForSession(feedbackSessionName, courseId);
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+
+        assertEquals(responses.size(), responseIds.size());
+        for (FeedbackResponseAttributes response : responses) {
+            assertTrue(responseIds.contains(ResponseId.parse(response.getId())));
+        }
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponseIdsForSession(null, courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("non-existent feedback session");
+
+        assertTrue(frDb.getFeedbackResponseIdsForSession("non-existent feedback session", courseId).isEmpty());
+    }
+
+    @Test
+    public void testHasFeedbackResponseFromGiverForSession() {
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+
+        ______TS("giver with responses");
+
+        assertTrue(frDb.hasFeedbackResponseFromGiverForSession(
+                response.giver, response.feedbackSessionName, response.courseId));
+
+        ______TS("giver without responses");
+
+        assertFalse(frDb.hasFeedbackResponseFromGiverForSession(
+                "non-existentStudentInCourse1@gmail.tmt", response.feedbackSessionName, response.courseId));
+        assertFalse(frDb.hasFeedbackResponseFromGiverForSession(
+                response.giver, "non-existent feedback session", response.courseId));
+
+        ______TS("null params");
+
+        try {
+            frDb.hasFeedbackResponseFromGiverForSession(response.giver, null, response.courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+    }
+
+    @Test
+    public void testGetFeedbackResponseCountFromGiverForQuestion() {
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+
+        ______TS("standard success case");
+
+        assertEquals(frDb.getFeedbackResponsesFromGiverForQuestion(response.feedbackQuestionId, response.giver).size(),
+                frDb.getFeedbackResponseCountFromGiverForQuestion(response.feedbackQuestionId, response.giver));
+
+        ______TS("giver without responses");
+
+        assertEquals(0, frDb.getFeedbackResponseCountFromGiverForQuestion(
+                response.feedbackQuestionId, "non-existentStudentInCourse1@gmail.tmt"));
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForQuestion() {
 
@@ -583,6 +657,40 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiversForSession() {
+
+        ______TS("standard success case");
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+        List<String> givers = Arrays.asList(response.giver, "non-existentStudentInCourse1@gmail.tmt");
+
+        List<FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesFromGiversForSession(
+                response.feedbackSessionName, response.courseId, givers);
+
+        assertFalse(responses.isEmpty());
+        for (FeedbackResponseAttributes responseFromGivers : responses) {
+            assertEquals(response.giver, responseFromGivers.giver);
+            assertEquals(response.feedbackSessionName, responseFromGivers.feedbackSessionName);
+        }
+        assertEquals(frDb.getFeedbackResponsesFromGiverForSessionWithinRange(
+                response.giver, response.feedbackSessionName, response.courseId, 100).size(), responses.size());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesFromGiversForSession(null, response.courseId, givers);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("no givers");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiversForSession(
+                response.feedbackSessionName, response.courseId, new ArrayList<String>()).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionWithinRange() {
 
@@ -821,6 +929,56 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testCreateOrUpdateFeedbackResponses() throws Exception {
+
+        ______TS("null params");
+
+        try {
+            frDb.createOrUpdateFeedbackResponses(null);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("invalid response: nothing is written");
+
+        FeedbackResponseAttributes newResponse = getNewFeedbackResponseAttributes();
+        newResponse.recipient = "batchRecipient@email.tmt";
+        FeedbackResponseAttributes invalidResponse = getResponseAttributes("response3ForQ2S1C1");
+        invalidResponse.courseId = "invalid course_";
+        try {
+            frDb.createOrUpdateFeedbackResponses(Arrays.asList(newResponse, invalidResponse));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains(
+                    getPopulatedErrorMessage(
+                        FieldValidator.COURSE_ID_ERROR_MESSAGE, "invalid course_",
+                        FieldValidator.COURSE_ID_FIELD_NAME, FieldValidator.REASON_INCORRECT_FORMAT,
+                        FieldValidator.COURSE_ID_MAX_LENGTH),
+                    e.getLocalizedMessage());
+        }
+        assertNull(frDb.getFeedbackResponse(newResponse.feedbackQuestionId, newResponse.giver, newResponse.recipient));
+
+        ______TS("new and existing responses: new ones created, existing ones updated");
+
+        FeedbackResponseAttributes existingResponse = getResponseAttributes("response3ForQ2S1C1");
+        existingResponse.setResponseDetails(new FeedbackTextResponseDetails("Answer written in batch"));
+        frDb.createOrUpdateFeedbackResponses(Arrays.asList(newResponse, existingResponse));
+
+        verifyPresentInDatastore(newResponse);
+        assertEquals("Answer written in batch",
+                     frDb.getFeedbackResponse(existingResponse.feedbackQuestionId, existingResponse.giver,
+                                              existingResponse.recipient).getResponseDetails().getAnswerString());
+
+        ______TS("no responses: nothing happens");
+
+        frDb.createOrUpdateFeedbackResponses(new ArrayList<FeedbackResponseAttributes>());
+
+        frDb.deleteEntity(newResponse);
+        verifyAbsentInDatastore(newResponse);
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
 
@@ -0,0 +1,109 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.OutboxEmailStatus;
+import teammates.common.datatransfer.attributes.OutboxEmailAttributes;
+import teammates.common.util.EmailWrapper;
+import teammates.storage.api.OutboxEmailsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link OutboxEmailsDb}.
+ */
+public class OutboxEmailsDbTest extends BaseComponentTestCase {
+
+    private static final String BATCH_ID = "OutboxEmailsDbTest.batch";
+
+    private OutboxEmailsDb outboxEmailsDb = new OutboxEmailsDb();
+
+    private List<OutboxEmailAttributes> createOutboxEmails() throws Exception {
+        List<OutboxEmailAttributes> outboxEmails = new ArrayList<>();
+        for (int position = 0; position < 5; position++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("recipient" + position + "@email.tmt");
+            email.setSubject("Subject " + position);
+            email.setContent("<p>Content " + position + "</p>");
+            int chunk = position < 3 ? 0 : 1;
+            outboxEmails.add(OutboxEmailAttributes.builder(BATCH_ID, position, chunk, email).build());
+        }
+        outboxEmailsDb.createOutboxEmails(outboxEmails);
+        return outboxEmails;
+    }
+
+    @Test
+    public void testCreateAndUpdateOutboxEmails() throws Exception {
+
+        List<OutboxEmailAttributes> created = createOutboxEmails();
+
+        ______TS("emails are retrieved by position, as created");
+
+        List<OutboxEmailAttributes> firstChunk = outboxEmailsDb.getOutboxEmails(BATCH_ID, 0, 3);
+        assertEquals(3, firstChunk.size());
+        assertEquals(2, outboxEmailsDb.getOutboxEmails(BATCH_ID, 3, 5).size());
+        assertEquals(0, outboxEmailsDb.getOutboxEmails(BATCH_ID, 5, 7).size());
+        for (OutboxEmailAttributes outboxEmail : firstChunk) {
+            assertEquals(OutboxEmailStatus.PENDING, outboxEmail.getStatus());
+            assertEquals(0, outboxEmail.getAttempts());
+        }
+        OutboxEmailAttributes first = firstChunk.get(0);
+        assertEquals(OutboxEmailAttributes.generateId(BATCH_ID, 0), first.getOutboxEmailId());
+        assertEquals(created.get(0).getRecipient(), first.getRecipient());
+        assertEquals(created.get(0).getSubject(), first.getSubject());
+        assertEquals(created.get(0).getContent(), first.getContent());
+        for (int position = 0; position < 3; position++) {
+            assertEquals(OutboxEmailAttributes.generateId(BATCH_ID, position), firstChunk.get(position).getOutboxEmailId());
+        }
+
+        assertEquals(5, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.PENDING));
+        assertEquals(0, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.SENT));
+
+        ______TS("send status of the emails is updated");
+
+        firstChunk.get(0).recordSendingAttempt(true);
+        firstChunk.get(1).recordSendingAttempt(true);
+        firstChunk.get(2).recordSendingAttempt(false);
+        outboxEmailsDb.updateOutboxEmails(firstChunk);
+
+        assertEquals(2, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.PENDING));
+        assertEquals(2, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.SENT));
+        assertEquals(1, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.FAILED));
+
+        for (OutboxEmailAttributes outboxEmail : outboxEmailsDb.getOutboxEmails(BATCH_ID, 0, 3)) {
+            assertEquals(1, outboxEmail.getAttempts());
+            assertEquals(outboxEmail.getOutboxEmailId().equals(OutboxEmailAttributes.generateId(BATCH_ID, 2))
+                         ? OutboxEmailStatus.FAILED : OutboxEmailStatus.SENT,
+                         outboxEmail.getStatus());
+        }
+
+        ______TS("failure: null parameter");
+
+        try {
+            outboxEmailsDb.getOutboxEmails(null, 0, 3);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals("Supplied parameter was null", ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetOutboxEmails_queriesLagBehindWrites_allEmailsFound() throws Exception {
+        gaeSimulation.tearDown();
+        gaeSimulation.setupWithLaggingQueries();
+
+        createOutboxEmails();
+
+        ______TS("emails not yet seen by queries are found by position");
+
+        assertEquals(0, outboxEmailsDb.countOutboxEmails(BATCH_ID, OutboxEmailStatus.PENDING));
+        assertEquals(3, outboxEmailsDb.getOutboxEmails(BATCH_ID, 0, 3).size());
+        assertEquals(2, outboxEmailsDb.getOutboxEmails(BATCH_ID, 3, 5).size());
+
+        gaeSimulation.tearDown();
+        gaeSimulation.setup();
+    }
+
+}
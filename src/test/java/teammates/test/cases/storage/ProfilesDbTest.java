@@ -149,6 +149,8 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         // success test cases
         testUpdateProfilePictureSuccessInitiallyEmpty(a);
         testUpdateProfilePictureSuccessSamePictureKey(a);
+        testUpdateProfilePictureSuccessDifferentPictureKey(a);
+        testUpdateProfilePictureSuccessWithThumbnail(a);
     }
 
     private void testUpdateProfilePictureWithNullParameters()
@@ -223,10 +225,55 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
     }
 
+    private void testUpdateProfilePictureSuccessDifferentPictureKey(
+            AccountAttributes a) throws IOException, EntityDoesNotExistException {
+        ______TS("update picture key - different key; old picture deleted");
+
+        String oldPictureKey = a.studentProfile.pictureKey;
+        String newPictureKey = writeFileToGcs(a.googleId, "src/test/resources/images/profile_pic_default.png");
+        assertFalse(oldPictureKey.equals(newPictureKey));
+
+        profilesDb.updateStudentProfilePicture(a.googleId, newPictureKey);
+
+        StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+        assertEquals(newPictureKey, updatedProfile.pictureKey);
+        assertTrue(doesFileExistInGcs(new BlobKey(newPictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(oldPictureKey)));
+
+        a.studentProfile.pictureKey = newPictureKey;
+    }
+
+    private void testUpdateProfilePictureSuccessWithThumbnail(
+            AccountAttributes a) throws IOException, EntityDoesNotExistException {
+        ______TS("update picture key with thumbnail - thumbnail recorded; old thumbnail deleted with its picture");
+
+        // the files are named after their content, so each key needs different content
+        String pictureKey = writeFileToGcs(a.googleId, "src/test/resources/images/profile_pic.png");
+        String thumbnailKey = writeFileToGcs(a.googleId, "src/test/resources/images/profile_pic_updated.png");
+        profilesDb.updateStudentProfilePicture(a.googleId, pictureKey, thumbnailKey);
+
+        StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+        assertEquals(pictureKey, updatedProfile.pictureKey);
+        assertEquals(thumbnailKey, updatedProfile.thumbnailKey);
+
+        String newPictureKey = writeFileToGcs(a.googleId, "src/test/resources/images/image_tall.jpg");
+        profilesDb.updateStudentProfilePicture(a.googleId, newPictureKey);
+
+        updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+        assertEquals(newPictureKey, updatedProfile.pictureKey);
+        assertEquals("", updatedProfile.thumbnailKey);
+        assertFalse(doesFileExistInGcs(new BlobKey(pictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(thumbnailKey)));
+
+        a.studentProfile.pictureKey = newPictureKey;
+    }
+
     @Test
     public void testDeleteProfilePicture() throws Exception {
         AccountAttributes a = createNewAccount();
         a.studentProfile.pictureKey = uploadDefaultPictureForProfile(a.googleId);
+        a.studentProfile.thumbnailKey = writeFileToGcs(a.googleId, "src/test/resources/images/profile_pic.png");
+        profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey, a.studentProfile.thumbnailKey);
         testDeletePictureSuccess(a);
         testDeleteProfilePictureForProfileWithNoPicture(a);
     }
@@ -244,8 +291,10 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         profilesDb.deleteStudentProfilePicture(a.googleId);
         StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
 
-        assertFalse(doesFileExistInGcs(new BlobKey(updatedProfile.pictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(a.studentProfile.pictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(a.studentProfile.thumbnailKey)));
         assertEquals("", updatedProfile.pictureKey);
+        assertEquals("", updatedProfile.thumbnailKey);
     }
 
     //-------------------------------------------------------------------------------------------------------
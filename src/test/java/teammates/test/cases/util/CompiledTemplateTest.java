@@ -0,0 +1,78 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    @Test
+    public void testPopulate() {
+
+        ______TS("template without placeholders");
+
+        assertEquals("", CompiledTemplate.compile("").populate());
+        assertEquals("plain text", CompiledTemplate.compile("plain text").populate("${key}", "value"));
+
+        ______TS("typical case: same result as populating the template directly");
+
+        String template = "${greeting} ${userName},<br>${userName} is enrolled in ${courseName}.${end}";
+        String[] keyValuePairs = new String[] {
+                "${greeting}", "Hello",
+                "${userName}", "Alice",
+                "${courseName}", "CS1101",
+                "${end}", "",
+        };
+        String expected = "Hello Alice,<br>Alice is enrolled in CS1101.";
+        assertEquals(expected, CompiledTemplate.compile(template).populate(keyValuePairs));
+        assertEquals(expected, Templates.populateTemplate(template, keyValuePairs));
+
+        ______TS("placeholders without values are kept");
+
+        assertEquals("Hello ${userName}!", CompiledTemplate.compile("${greeting} ${userName}!")
+                                                           .populate("${greeting}", "Hello", "${unused}", "x"));
+
+        ______TS("values are not searched for placeholders");
+
+        assertEquals("Course ${userName} by Bob", CompiledTemplate.compile("Course ${courseName} by ${userName}")
+                .populate("${courseName}", "${userName}", "${userName}", "Bob"));
+
+        ______TS("unclosed placeholder is treated as literal text");
+
+        assertEquals("Hi Bob, cost: ${price", CompiledTemplate.compile("Hi ${userName}, cost: ${price")
+                                                              .populate("${userName}", "Bob", "${price", "5"));
+    }
+
+    @Test
+    public void testBind() {
+        CompiledTemplate template = CompiledTemplate.compile("[${courseId}] ${userName}: ${status} ${userName}");
+
+        ______TS("binding some placeholders keeps the others");
+
+        CompiledTemplate bound = template.bind("${courseId}", "CS1101", "${status}", "open");
+        assertEquals("[CS1101] ${userName}: open ${userName}", bound.populate());
+        assertEquals("[CS1101] Alice: open Alice", bound.populate("${userName}", "Alice"));
+        assertEquals("[CS1101] Bob: open Bob", bound.populate("${userName}", "Bob"));
+
+        ______TS("the original template is unchanged");
+
+        assertEquals("[CS2103] Alice: closed Alice", template.populate(
+                "${courseId}", "CS2103", "${userName}", "Alice", "${status}", "closed"));
+
+        ______TS("bound values are not searched for placeholders");
+
+        bound = template.bind("${courseId}", "${userName}");
+        assertEquals("[${userName}] Alice: ${status} Alice", bound.populate("${userName}", "Alice"));
+
+        ______TS("binding all placeholders");
+
+        bound = template.bind("${courseId}", "CS1101", "${status}", "open", "${userName}", "Alice");
+        assertEquals("[CS1101] Alice: open Alice", bound.populate("${userName}", "Bob"));
+    }
+
+}
@@ -0,0 +1,112 @@
+package teammates.test.cases.util;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.RequestMetrics;
+import teammates.common.util.RequestMetrics.ApiCallStats;
+import teammates.common.util.RequestMetricsAggregator;
+import teammates.common.util.RequestMetricsAggregator.ActionStats;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link RequestMetrics}, {@link RequestMetricsAggregator}.
+ */
+public class RequestMetricsTest extends BaseTestCase {
+
+    @Test
+    public void testStartAndStop() {
+        RequestMetrics metrics = RequestMetrics.start();
+        assertSame(metrics, RequestMetrics.getCurrent());
+
+        metrics.stop();
+        assertNull(RequestMetrics.getCurrent());
+    }
+
+    @Test
+    public void testRecordApiCall() {
+        RequestMetrics metrics = RequestMetrics.start();
+        try {
+            ______TS("no calls");
+
+            assertEquals(0, metrics.getTotalCallCount());
+            assertEquals("calls=0 []", metrics.toSummaryString());
+
+            ______TS("calls to several APIs");
+
+            metrics.recordApiCall("datastore_v3.RunQuery", 20, 100, 2000);
+            metrics.recordApiCall("datastore_v3.Get", 5, 50, 300);
+            metrics.recordApiCall("datastore_v3.Get", 7, 60, 0);
+            metrics.recordApiCall("memcache.Get", 1, 10, 0);
+
+            assertEquals(4, metrics.getTotalCallCount());
+            assertEquals(3, metrics.getCallCount("datastore_v3"));
+            assertEquals(1, metrics.getCallCount("memcache"));
+            assertEquals(0, metrics.getCallCount("search"));
+
+            Map<String, ApiCallStats> statsByApiCall = metrics.getStatsByApiCall();
+            ApiCallStats getStats = statsByApiCall.get("datastore_v3.Get");
+            assertEquals(2, getStats.getCount());
+            assertEquals(12, getStats.getTotalLatencyMillis());
+            assertEquals(110, getStats.getTotalRequestBytes());
+            assertEquals(300, getStats.getTotalResponseBytes());
+
+            assertEquals("calls=4 [datastore_v3.Get x2 12ms 110B/300B; datastore_v3.RunQuery x1 20ms 100B/2000B; "
+                         + "memcache.Get x1 1ms 10B/0B]",
+                         metrics.toSummaryString());
+        } finally {
+            metrics.stop();
+        }
+    }
+
+    @Test
+    public void testAggregator() {
+        String actionName = "RequestMetricsTestAction";
+
+        for (int i = 1; i <= 100; i++) {
+            RequestMetrics metrics = RequestMetrics.start();
+            for (int j = 0; j < i % 10; j++) {
+                metrics.recordApiCall("datastore_v3.Get", 1, 1, 1);
+            }
+            metrics.recordApiCall("memcache.Get", 1, 1, 1);
+            metrics.stop();
+            RequestMetricsAggregator.record(actionName, i, metrics);
+        }
+
+        ActionStats stats = getActionStats(actionName);
+        assertEquals(100, stats.getTotalRequests());
+        assertEquals(100, stats.getSampledRequests());
+        assertEquals(50, stats.getTimeTakenPercentile(50));
+        assertEquals(90, stats.getTimeTakenPercentile(90));
+        assertEquals(99, stats.getTimeTakenPercentile(99));
+        assertEquals(5, stats.getCallCountPercentile(50));
+        assertEquals(8, stats.getDatastoreCallCountPercentile(90));
+        assertEquals(10, stats.getMaxCallCount());
+
+        ______TS("only the latest requests are sampled");
+
+        RequestMetrics metrics = RequestMetrics.start();
+        metrics.stop();
+        for (int i = 0; i < RequestMetricsAggregator.SAMPLES_PER_ACTION; i++) {
+            RequestMetricsAggregator.record(actionName, 1000, metrics);
+        }
+
+        stats = getActionStats(actionName);
+        assertEquals(100 + RequestMetricsAggregator.SAMPLES_PER_ACTION, stats.getTotalRequests());
+        assertEquals(RequestMetricsAggregator.SAMPLES_PER_ACTION, stats.getSampledRequests());
+        assertEquals(1000, stats.getTimeTakenPercentile(50));
+        assertEquals(0, stats.getMaxCallCount());
+    }
+
+    private ActionStats getActionStats(String actionName) {
+        for (ActionStats stats : RequestMetricsAggregator.getActionStats()) {
+            if (stats.getActionName().equals(actionName)) {
+                return stats;
+            }
+        }
+        fail("No statistics for " + actionName);
+        return null;
+    }
+
+}
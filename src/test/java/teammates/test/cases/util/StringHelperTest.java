@@ -452,6 +452,13 @@ public class StringHelperTest extends BaseTestCase {
         assertEquals("5||14||null", StringHelper.join("||", Arrays.asList(5, 14, null)));
     }
 
+    @Test
+    public void testJoinWithArrayOfInts() {
+        assertEquals("", StringHelper.join(",", new int[0]));
+        assertEquals("5", StringHelper.join(",", 5));
+        assertEquals("5, 14", StringHelper.join(", ", 5, 14));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void testJoinWithNullElements() {
         StringHelper.join(",", (List<Integer>) null);
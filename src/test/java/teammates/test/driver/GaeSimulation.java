@@ -14,6 +14,7 @@ import com.google.appengine.api.log.dev.LocalLogService;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -65,20 +66,35 @@ public class GaeSimulation {
      * Sets up the GAE simulation.
      */
     public synchronized void setup() {
+        setup(new LocalDatastoreServiceTestConfig());
+    }
+
+    /**
+     * Sets up the GAE simulation with a datastore in which queries outside of an entity group
+     * do not see any of the writes, as on the production datastore before the writes are applied.
+     * Entities can still be read by key.
+     */
+    public synchronized void setupWithLaggingQueries() {
+        LocalDatastoreServiceTestConfig localDatastore = new LocalDatastoreServiceTestConfig();
+        localDatastore.setDefaultHighRepJobPolicyUnappliedJobPercentage(100);
+        setup(localDatastore);
+    }
+
+    private void setup(LocalDatastoreServiceTestConfig localDatastore) {
         System.out.println("Setting up GAE simulation");
 
         LocalTaskQueueTestConfig localTasks = new LocalTaskQueueTestConfig();
         localTasks.setQueueXmlPath(QUEUE_XML_PATH);
 
         LocalUserServiceTestConfig localUserServices = new LocalUserServiceTestConfig();
-        LocalDatastoreServiceTestConfig localDatastore = new LocalDatastoreServiceTestConfig();
         LocalMailServiceTestConfig localMail = new LocalMailServiceTestConfig();
         LocalSearchServiceTestConfig localSearch = new LocalSearchServiceTestConfig();
         localSearch.setPersistent(false);
         LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
         LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
+        LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
         helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
-                                            localTasks, localSearch, localModules, localLog);
+                                            localTasks, localSearch, localModules, localLog, localMemcache);
         helper.setUp();
 
         sc = new ServletRunner().newClient();
@@ -39,6 +39,13 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    protected void addTasks(String queueName, String workerUrl, List<Map<String, String>> paramMaps) {
+        for (Map<String, String> paramMap : paramMaps) {
+            addTask(queueName, workerUrl, paramMap);
+        }
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;